@@ -0,0 +1,216 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.data.aggregation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.knime.base.data.aggregation.GlobalSettings.AggregationContext;
+import org.knime.base.data.aggregation.general.ConcatenateOperator;
+import org.knime.base.data.aggregation.general.CountOperator;
+import org.knime.base.data.aggregation.general.FirstOperator;
+import org.knime.base.data.aggregation.general.LastOperator;
+import org.knime.base.data.aggregation.general.ListCellOperator;
+import org.knime.base.data.aggregation.general.MaxOperator;
+import org.knime.base.data.aggregation.general.MinOperator;
+import org.knime.base.data.aggregation.general.ModeOperator;
+import org.knime.base.data.aggregation.general.PercentOperator;
+import org.knime.base.data.aggregation.general.SetCellOperator;
+import org.knime.base.data.aggregation.general.SortedListCellOperator;
+import org.knime.base.data.aggregation.general.UniqueCountOperator;
+import org.knime.base.data.aggregation.numerical.MeanAbsoluteDeviationOperator;
+import org.knime.base.data.aggregation.numerical.MeanOperator;
+import org.knime.base.data.aggregation.numerical.MedianAbsoluteDeviationOperator;
+import org.knime.base.data.aggregation.numerical.RangeOperator;
+import org.knime.base.data.aggregation.numerical.StdDeviationOperator;
+import org.knime.base.data.aggregation.numerical.SumOperator;
+import org.knime.base.data.aggregation.numerical.VarianceOperator;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.def.DoubleCell;
+
+/**
+ * Tests that merging the partial aggregates of {@link AggregationOperator}s gives the same result as aggregating
+ * all values with a single operator.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class AggregationOperatorMergeTest {
+
+    private static final DataColumnSpec SPEC = new DataColumnSpecCreator("value", DoubleCell.TYPE).createSpec();
+
+    private static DataCell[] createValues(final int count) {
+        final Random random = new Random(42);
+        final DataCell[] values = new DataCell[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = i % 17 == 0 ? DataType.getMissingCell() : new DoubleCell(random.nextInt(50) - 25.5);
+        }
+        return values;
+    }
+
+    private static AggregationOperator create(final AggregationOperator template) {
+        return template.createInstance(template.getGlobalSettings(), new OperatorColumnSettings(false, SPEC));
+    }
+
+    private static void checkMerge(final AggregationOperator template) {
+        final DataCell[] values = createValues(1000);
+        final AggregationOperator all = create(template);
+        for (final DataCell value : values) {
+            all.compute(value);
+        }
+        final AggregationOperator merged = create(template);
+        assertTrue(template.getLabel() + " not mergeable", merged.isMergeable());
+        for (int i = 0; i < 300; i++) {
+            merged.compute(values[i]);
+        }
+        //merge an empty operator and two chunks
+        merged.merge(create(template));
+        final AggregationOperator second = create(template);
+        for (int i = 300; i < 750; i++) {
+            second.compute(values[i]);
+        }
+        final AggregationOperator third = create(template);
+        for (int i = 750; i < values.length; i++) {
+            third.compute(values[i]);
+        }
+        second.merge(third);
+        merged.merge(second);
+
+        final DataCell expected = all.getResult();
+        final DataCell actual = merged.getResult();
+        if (expected instanceof DoubleValue && actual instanceof DoubleValue) {
+            assertEquals(template.getLabel(), ((DoubleValue)expected).getDoubleValue(),
+                ((DoubleValue)actual).getDoubleValue(), 1e-9);
+        } else {
+            assertEquals(template.getLabel(), expected, actual);
+        }
+    }
+
+    /** Tests the numerical operators. */
+    @Test
+    public void testNumericalOperators() {
+        checkMerge(new SumOperator(GlobalSettings.DEFAULT, new OperatorColumnSettings(false, SPEC)));
+        checkMerge(new MeanOperator(GlobalSettings.DEFAULT, new OperatorColumnSettings(false, SPEC)));
+        checkMerge(new VarianceOperator(GlobalSettings.DEFAULT, new OperatorColumnSettings(false, SPEC)));
+    }
+
+    /** Tests the general operators including the order dependent ones. */
+    @Test
+    public void testGeneralOperators() {
+        checkMerge(new CountOperator(GlobalSettings.DEFAULT, new OperatorColumnSettings(false, SPEC)));
+        checkMerge(new FirstOperator(GlobalSettings.DEFAULT, new OperatorColumnSettings(false, SPEC)));
+        checkMerge(new LastOperator(GlobalSettings.DEFAULT, new OperatorColumnSettings(false, SPEC)));
+        checkMerge(new MinOperator(GlobalSettings.DEFAULT, new OperatorColumnSettings(false, SPEC)));
+        checkMerge(new MaxOperator(GlobalSettings.DEFAULT, new OperatorColumnSettings(false, SPEC)));
+        checkMerge(new ListCellOperator(GlobalSettings.DEFAULT, new OperatorColumnSettings(false, SPEC)));
+        checkMerge(new SetCellOperator(GlobalSettings.DEFAULT, new OperatorColumnSettings(false, SPEC)));
+        checkMerge(new ConcatenateOperator(GlobalSettings.DEFAULT, new OperatorColumnSettings(false, SPEC)));
+    }
+
+    /** Tests the operators that only derive their result from the state of a mergeable super class. */
+    @Test
+    public void testDerivedOperators() {
+        checkMerge(new RangeOperator(GlobalSettings.DEFAULT, new OperatorColumnSettings(false, SPEC)));
+        checkMerge(
+            new MeanAbsoluteDeviationOperator(GlobalSettings.DEFAULT, new OperatorColumnSettings(false, SPEC)));
+        checkMerge(
+            new MedianAbsoluteDeviationOperator(GlobalSettings.DEFAULT, new OperatorColumnSettings(false, SPEC)));
+    }
+
+    /** The percentage is computed from the merged count and the number of rows of the global settings. */
+    @Test
+    public void testPercentOperator() {
+        final GlobalSettings globalSettings = GlobalSettings.builder().setNoOfRows(1000)
+            .setAggregationContext(AggregationContext.ROW_AGGREGATION).build();
+        checkMerge(new PercentOperator(globalSettings, new OperatorColumnSettings(false, SPEC)));
+    }
+
+    /** The standard deviation is the square root of the merged variance. */
+    @Test
+    public void testStdDeviationOperator() {
+        checkMerge(new StdDeviationOperator(GlobalSettings.DEFAULT, new OperatorColumnSettings(false, SPEC)));
+    }
+
+    /** The merged list is only sorted when the result is created. */
+    @Test
+    public void testSortedListCellOperator() {
+        checkMerge(new SortedListCellOperator(GlobalSettings.DEFAULT, new OperatorColumnSettings(false, SPEC)));
+    }
+
+    /** The unique count is the size of the merged set, values contained in several chunks are counted once. */
+    @Test
+    public void testUniqueCountOperator() {
+        checkMerge(new UniqueCountOperator(GlobalSettings.DEFAULT, new OperatorColumnSettings(false, SPEC)));
+    }
+
+    /** Tests that subclasses of mergeable operators are not mergeable unless they opt in. */
+    @Test
+    public void testSubclassNotMergeable() {
+        final AggregationOperator sum =
+            new SumOperator(GlobalSettings.DEFAULT, new OperatorColumnSettings(false, SPEC)) {
+                //a subclass that might add its own state
+            };
+        assertFalse(sum.isMergeable());
+    }
+
+    /** Tests that operators without merge support reject merging. */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testNotMergeable() {
+        final AggregationOperator mode =
+            new ModeOperator(GlobalSettings.DEFAULT, new OperatorColumnSettings(false, SPEC));
+        assertFalse(mode.isMergeable());
+        mode.merge(create(mode));
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.meta.looper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.base.node.meta.looper.AbstractLoopEndNodeSettings.RowKeyPolicy;
+import org.knime.core.data.DataRow;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.NodeMessage;
+import org.knime.core.node.workflow.WorkflowContext;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Runs loops whose body produces the same row keys in every iteration with each {@link RowKeyPolicy} of the Loop End
+ * and the Loop End (2 ports). Suffixed and generated keys are not checked for duplicates, unmodified keys are.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class LoopEndRowKeyPolicyTest {
+    private static final int LOOPS = 3;
+
+    private File m_wfmDir;
+
+    private WorkflowManager m_flow;
+
+    private NodeID m_startID;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception {
+        m_wfmDir = FileUtil.createTempDir(getClass().getSimpleName());
+        WorkflowCreationHelper creationHelper = new WorkflowCreationHelper();
+        creationHelper.setWorkflowContext(new WorkflowContext.Factory(m_wfmDir).createContext());
+        m_flow = WorkflowManager.ROOT.createAndAddProject("Loop end row key test", creationHelper);
+        final NodeID sourceID = m_flow.createAndAddNode(LoopTestNodeFactory.createSource());
+        m_startID = m_flow.createAndAddNode(new LoopStartCountNodeFactory());
+        m_flow.addConnection(sourceID, 1, m_startID, 1);
+    }
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @After
+    public void tearDown() throws Exception {
+        if (m_flow != null) {
+            WorkflowManager.ROOT.cancelExecution(m_flow);
+            m_flow.waitWhileInExecution(10, TimeUnit.SECONDS);
+            WorkflowManager.ROOT.removeProject(m_flow.getID());
+        }
+        if (m_wfmDir != null) {
+            FileUtil.deleteRecursively(m_wfmDir);
+        }
+    }
+
+    /**
+     * The iteration is appended to the keys of the loop body.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testAppendSuffix() throws Exception {
+        final List<String> expected = new ArrayList<>();
+        for (int i = 0; i < LOOPS; i++) {
+            for (int r = 0; r < LoopTestNodeFactory.ROW_COUNT; r++) {
+                expected.add("Row" + r + "#" + i);
+            }
+        }
+        for (int parallelIterations : new int[]{1, 2}) {
+            checkRowKeys(new LoopEndNodeFactory(), RowKeyPolicy.APPEND_SUFFIX, parallelIterations, expected);
+            checkRowKeys(new LoopEnd2NodeFactory(), RowKeyPolicy.APPEND_SUFFIX, parallelIterations, expected);
+        }
+    }
+
+    /**
+     * New keys are generated, the keys of the loop body are ignored.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testGenerateNew() throws Exception {
+        final List<String> expected = new ArrayList<>();
+        for (int r = 0; r < LOOPS * LoopTestNodeFactory.ROW_COUNT; r++) {
+            expected.add("Row" + r);
+        }
+        for (int parallelIterations : new int[]{1, 2}) {
+            checkRowKeys(new LoopEndNodeFactory(), RowKeyPolicy.GENERATE_NEW, parallelIterations, expected);
+            checkRowKeys(new LoopEnd2NodeFactory(), RowKeyPolicy.GENERATE_NEW, parallelIterations, expected);
+        }
+    }
+
+    /**
+     * The keys of the loop body are kept, the loop end fails on the duplicates.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testUnmodified() throws Exception {
+        for (int parallelIterations : new int[]{1, 2}) {
+            checkDuplicatesFail(new LoopEndNodeFactory(), parallelIterations);
+            checkDuplicatesFail(new LoopEnd2NodeFactory(), parallelIterations);
+        }
+    }
+
+    private void checkRowKeys(final NodeFactory<?> endFactory, final RowKeyPolicy policy,
+        final int parallelIterations, final List<String> expected) throws InvalidSettingsException {
+        final NodeContainer end = createLoopEnd(endFactory, policy, parallelIterations);
+        try {
+            assertTrue("Loop with " + policy + " failed", m_flow.executeAllAndWaitUntilDone());
+            for (int p = 1; p < end.getNrOutPorts(); p++) {
+                final List<String> keys = new ArrayList<>();
+                for (DataRow row : (BufferedDataTable)end.getOutPort(p).getPortObject()) {
+                    keys.add(row.getKey().getString());
+                }
+                assertEquals("Unexpected row keys with " + policy + " at port " + p, expected, keys);
+            }
+        } finally {
+            removeLoopEnd(end);
+        }
+    }
+
+    private void checkDuplicatesFail(final NodeFactory<?> endFactory, final int parallelIterations)
+        throws InvalidSettingsException {
+        final NodeContainer end = createLoopEnd(endFactory, RowKeyPolicy.UNMODIFIED, parallelIterations);
+        try {
+            assertFalse("Duplicate row keys not detected", m_flow.executeAllAndWaitUntilDone());
+            assertFalse("Loop end must not be executed", end.getNodeContainerState().isExecuted());
+            assertEquals("Loop end must report the duplicates", NodeMessage.Type.ERROR,
+                end.getNodeMessage().getMessageType());
+        } finally {
+            removeLoopEnd(end);
+        }
+    }
+
+    /** Connects all inputs of a new loop end directly to the loop start, sets the row key policy. */
+    private NodeContainer createLoopEnd(final NodeFactory<?> endFactory, final RowKeyPolicy policy,
+        final int parallelIterations) throws InvalidSettingsException {
+        final NodeSettings startSettings = new NodeSettings("start");
+        m_flow.saveNodeSettings(m_startID, startSettings);
+        final NodeSettings startModel = startSettings.getNodeSettings("model");
+        startModel.addInt("loops", LOOPS);
+        ParallelLoopIterations.saveParallelIterations(startModel, parallelIterations);
+        m_flow.loadNodeSettings(m_startID, startSettings);
+
+        final NodeID endID = m_flow.createAndAddNode(endFactory);
+        final NodeContainer end = m_flow.getNodeContainer(endID);
+        for (int p = 1; p < end.getNrInPorts(); p++) {
+            m_flow.addConnection(m_startID, 1, endID, p);
+        }
+        final NodeSettings endSettings = new NodeSettings("end");
+        m_flow.saveNodeSettings(endID, endSettings);
+        endSettings.getNodeSettings("model").addString("rowKeyPolicy", policy.name());
+        m_flow.loadNodeSettings(endID, endSettings);
+        return end;
+    }
+
+    private void removeLoopEnd(final NodeContainer end) {
+        m_flow.resetAndConfigureNode(m_startID);
+        m_flow.removeNode(end.getID());
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.meta.looper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NoDescriptionProxy;
+import org.knime.core.node.NodeDescription;
+import org.knime.core.node.NodeDialogPane;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.NodeView;
+
+/**
+ * Factory for nodes used in the loop tests, the node description is not needed there. The node models are created by
+ * a supplier, a new one for each node, so the nodes can also be copied into the "Parallel Chunks" metanode.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class LoopTestNodeFactory extends NodeFactory<NodeModel> {
+
+    /** Number of rows of the table created by the {@link #createSource() source}. */
+    static final int ROW_COUNT = 5;
+
+    private final Supplier<NodeModel> m_modelSupplier;
+
+    /** @param modelSupplier creates the node models */
+    LoopTestNodeFactory(final Supplier<NodeModel> modelSupplier) {
+        m_modelSupplier = modelSupplier;
+    }
+
+    /** @return a factory for a node creating a table with one int column and {@link #ROW_COUNT} rows Row0, Row1, ... */
+    static LoopTestNodeFactory createSource() {
+        return new LoopTestNodeFactory(SourceNodeModel::new);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected NodeDescription createNodeDescription() {
+        return new NoDescriptionProxy(getClass());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NodeModel createNodeModel() {
+        return m_modelSupplier.get();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int getNrNodeViews() {
+        return 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NodeView<NodeModel> createNodeView(final int viewIndex, final NodeModel nodeModel) {
+        throw new IllegalStateException("No view");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean hasDialog() {
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected NodeDialogPane createNodeDialogPane() {
+        throw new IllegalStateException("No dialog");
+    }
+
+    /** Creates a table with one int column and {@link #ROW_COUNT} rows. */
+    private static final class SourceNodeModel extends AbstractTestNodeModel {
+        private static final DataTableSpec SPEC =
+            new DataTableSpec(new DataColumnSpecCreator("Value", IntCell.TYPE).createSpec());
+
+        SourceNodeModel() {
+            super(0, 1);
+        }
+
+        @Override
+        protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws InvalidSettingsException {
+            return new DataTableSpec[]{SPEC};
+        }
+
+        @Override
+        protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
+            throws Exception {
+            final BufferedDataContainer cont = exec.createDataContainer(SPEC);
+            for (int i = 0; i < ROW_COUNT; i++) {
+                cont.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i)));
+            }
+            cont.close();
+            return new BufferedDataTable[]{cont.getTable()};
+        }
+    }
+
+    /** Node model without settings and internals. */
+    abstract static class AbstractTestNodeModel extends NodeModel {
+        /**
+         * @param nrInDataPorts number of table inputs
+         * @param nrOutDataPorts number of table outputs
+         */
+        AbstractTestNodeModel(final int nrInDataPorts, final int nrOutDataPorts) {
+            super(nrInDataPorts, nrOutDataPorts);
+        }
+
+        @Override
+        protected void reset() {
+        }
+
+        @Override
+        protected void saveSettingsTo(final NodeSettingsWO settings) {
+        }
+
+        @Override
+        protected void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+        }
+
+        @Override
+        protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
+        }
+
+        @Override
+        protected void loadInternals(final File nodeInternDir, final ExecutionMonitor exec)
+            throws IOException, CanceledExecutionException {
+        }
+
+        @Override
+        protected void saveInternals(final File nodeInternDir, final ExecutionMonitor exec)
+            throws IOException, CanceledExecutionException {
+        }
+    }
+}
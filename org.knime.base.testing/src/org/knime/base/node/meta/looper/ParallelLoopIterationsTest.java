@@ -0,0 +1,344 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.meta.looper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.base.node.meta.looper.chunk.LoopStartChunkNodeFactory;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.NodeMessage;
+import org.knime.core.node.workflow.WorkflowContext;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Runs Counting Loop Start and Chunk Loop Start loops with several iterations per round on copies of the loop body
+ * and compares them to the sequential run, see {@link ParallelLoopIterations}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ParallelLoopIterationsTest {
+    private static final String PARALLEL_CHUNKS = "Parallel Chunks";
+
+    /** Iteration in which the loop body fails, -1 if it never fails. */
+    private static volatile int failIteration = -1;
+
+    /** Whether the loop body blocks in iterations running on copies until canceled. */
+    private static volatile boolean blockCopies;
+
+    private File m_wfmDir;
+
+    private WorkflowManager m_flow;
+
+    private NodeID m_sourceID;
+
+    private NodeID m_startID;
+
+    private NodeID m_endID;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception {
+        m_wfmDir = FileUtil.createTempDir(getClass().getSimpleName());
+        WorkflowCreationHelper creationHelper = new WorkflowCreationHelper();
+        creationHelper.setWorkflowContext(new WorkflowContext.Factory(m_wfmDir).createContext());
+        m_flow = WorkflowManager.ROOT.createAndAddProject("Parallel loop test", creationHelper);
+        m_sourceID = m_flow.createAndAddNode(LoopTestNodeFactory.createSource());
+    }
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @After
+    public void tearDown() throws Exception {
+        failIteration = -1;
+        blockCopies = false;
+        if (m_flow != null) {
+            WorkflowManager.ROOT.cancelExecution(m_flow);
+            m_flow.waitWhileInExecution(10, TimeUnit.SECONDS);
+            WorkflowManager.ROOT.removeProject(m_flow.getID());
+        }
+        if (m_wfmDir != null) {
+            FileUtil.deleteRecursively(m_wfmDir);
+        }
+    }
+
+    /**
+     * Counting loop whose last round has no further iterations: same rows, row keys and iteration column as the
+     * sequential run, the copies are removed when the loop start is reset.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testCountingLoop() throws Exception {
+        createLoop(new LoopStartCountNodeFactory());
+        setStartSettings(s -> {
+            s.addInt("loops", 7);
+            ParallelLoopIterations.saveParallelIterations(s, 1);
+        });
+        final List<String> expected = executeLoop();
+        assertEquals("Unexpected number of rows", 7 * LoopTestNodeFactory.ROW_COUNT, expected.size());
+        assertFalse("No copies expected for sequential iterations", hasParallelChunks());
+
+        m_flow.resetAndConfigureNode(m_startID);
+        setStartSettings(s -> {
+            s.addInt("loops", 7);
+            ParallelLoopIterations.saveParallelIterations(s, 3);
+        });
+        assertEquals("Parallel iterations differ from sequential ones", expected, executeLoop());
+        assertTrue("Copies of the loop body expected", hasParallelChunks());
+
+        m_flow.resetAndConfigureNode(m_startID);
+        assertFalse("Copies not removed on reset", hasParallelChunks());
+    }
+
+    /**
+     * Chunk loop with one row per chunk: same rows, row keys and iteration column as the sequential run, the copies
+     * are removed when the loop start is reset.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testChunkLoop() throws Exception {
+        createLoop(new LoopStartChunkNodeFactory());
+        setStartSettings(s -> saveChunkSettings(s, 1));
+        final List<String> expected = executeLoop();
+        assertEquals("Unexpected number of rows", LoopTestNodeFactory.ROW_COUNT, expected.size());
+
+        m_flow.resetAndConfigureNode(m_startID);
+        setStartSettings(s -> saveChunkSettings(s, 3));
+        assertEquals("Parallel iterations differ from sequential ones", expected, executeLoop());
+        assertTrue("Copies of the loop body expected", hasParallelChunks());
+
+        m_flow.resetAndConfigureNode(m_startID);
+        assertFalse("Copies not removed on reset", hasParallelChunks());
+    }
+
+    /**
+     * A failing iteration on a copy of the loop body fails the loop end.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testFailingCopy() throws Exception {
+        createLoop(new LoopStartCountNodeFactory());
+        setStartSettings(s -> {
+            s.addInt("loops", 7);
+            ParallelLoopIterations.saveParallelIterations(s, 3);
+        });
+        failIteration = 2;
+        assertFalse("Loop must fail", m_flow.executeAllAndWaitUntilDone());
+        final NodeContainer end = m_flow.getNodeContainer(m_endID);
+        assertFalse("Loop end must not be executed", end.getNodeContainerState().isExecuted());
+        assertEquals("Loop end must report the failed iteration", NodeMessage.Type.ERROR,
+            end.getNodeMessage().getMessageType());
+        assertTrue("Failed copies are kept for inspection", hasParallelChunks());
+
+        m_flow.resetAndConfigureNode(m_startID);
+        assertFalse("Copies not removed on reset", hasParallelChunks());
+    }
+
+    /**
+     * Canceling the loop end while it waits for the copies cancels and removes them.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testCancel() throws Exception {
+        createLoop(new LoopStartCountNodeFactory());
+        setStartSettings(s -> {
+            s.addInt("loops", 7);
+            ParallelLoopIterations.saveParallelIterations(s, 3);
+        });
+        blockCopies = true;
+        m_flow.executeAll();
+        final NodeContainer end = m_flow.getNodeContainer(m_endID);
+        final long timeout = System.currentTimeMillis() + 10000;
+        while (!String.valueOf(end.getProgressMonitor().getMessage()).contains("parallel iteration")) {
+            if (System.currentTimeMillis() > timeout) {
+                fail("Loop end doesn't wait for the copies of the loop body");
+            }
+            Thread.sleep(20);
+        }
+        assertTrue("Copies of the loop body expected", hasParallelChunks());
+
+        m_flow.cancelExecution(end);
+        assertTrue("Loop not canceled", m_flow.waitWhileInExecution(10, TimeUnit.SECONDS));
+        assertFalse("Loop end must not be executed", end.getNodeContainerState().isExecuted());
+        assertFalse("Copies not removed on cancel", hasParallelChunks());
+    }
+
+    /**
+     * Settings of older versions don't contain the number of parallel iterations, these loops run sequentially.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSettingsWithoutParallelIterations() throws Exception {
+        assertEquals(1, ParallelLoopIterations.loadParallelIterations(new NodeSettings("empty")));
+
+        createLoop(new LoopStartCountNodeFactory());
+        setStartSettings(s -> s.addInt("loops", 3));
+        assertEquals("Unexpected number of rows", 3 * LoopTestNodeFactory.ROW_COUNT, executeLoop().size());
+        assertFalse("No copies expected for sequential iterations", hasParallelChunks());
+    }
+
+    /**
+     * Settings of older versions of the Chunk Loop Start, which run sequentially.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testChunkSettingsWithoutParallelIterations() throws Exception {
+        createLoop(new LoopStartChunkNodeFactory());
+        setStartSettings(s -> {
+            s.addString("mode", "RowsPerChunk");
+            s.addInt("nrRowsPerChunk", 1);
+            s.addInt("nrOfChunks", 1);
+        });
+        assertEquals("Unexpected number of rows", LoopTestNodeFactory.ROW_COUNT, executeLoop().size());
+        assertFalse("No copies expected for sequential iterations", hasParallelChunks());
+    }
+
+    /** Source -> loop start -> loop body -> Loop End. */
+    private void createLoop(final NodeFactory<? extends NodeModel> startFactory) {
+        m_startID = m_flow.createAndAddNode(startFactory);
+        final NodeID bodyID = m_flow.createAndAddNode(new LoopTestNodeFactory(BodyNodeModel::new));
+        m_endID = m_flow.createAndAddNode(new LoopEndNodeFactory());
+        m_flow.addConnection(m_sourceID, 1, m_startID, 1);
+        m_flow.addConnection(m_startID, 1, bodyID, 1);
+        m_flow.addConnection(bodyID, 1, m_endID, 1);
+    }
+
+    private static void saveChunkSettings(final NodeSettingsWO settings, final int parallelIterations) {
+        settings.addString("mode", "RowsPerChunk");
+        settings.addInt("nrRowsPerChunk", 1);
+        settings.addInt("nrOfChunks", 1);
+        ParallelLoopIterations.saveParallelIterations(settings, parallelIterations);
+    }
+
+    /** Replaces the model settings of the loop start. */
+    private void setStartSettings(final Consumer<NodeSettingsWO> modelSettings) throws InvalidSettingsException {
+        final NodeSettings settings = new NodeSettings("start");
+        m_flow.saveNodeSettings(m_startID, settings);
+        modelSettings.accept(settings.addNodeSettings("model"));
+        m_flow.loadNodeSettings(m_startID, settings);
+    }
+
+    /** Executes the loop and returns the rows of the loop end's output as "key: cells". */
+    private List<String> executeLoop() {
+        assertTrue("Loop failed", m_flow.executeAllAndWaitUntilDone());
+        final BufferedDataTable table =
+            (BufferedDataTable)m_flow.getNodeContainer(m_endID).getOutPort(1).getPortObject();
+        final List<String> rows = new ArrayList<>();
+        for (DataRow row : table) {
+            final StringBuilder b = new StringBuilder(row.getKey().getString()).append(':');
+            for (int i = 0; i < row.getNumCells(); i++) {
+                b.append(' ').append(row.getCell(i));
+            }
+            rows.add(b.toString());
+        }
+        return rows;
+    }
+
+    private boolean hasParallelChunks() {
+        return m_flow.getNodeContainers().stream()
+            .anyMatch(nc -> nc instanceof WorkflowManager && PARALLEL_CHUNKS.equals(nc.getName()));
+    }
+
+    /** Passes its input through, fails in or blocks iterations according to the static test flags. */
+    private static final class BodyNodeModel extends LoopTestNodeFactory.AbstractTestNodeModel {
+        BodyNodeModel() {
+            super(1, 1);
+        }
+
+        @Override
+        protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws InvalidSettingsException {
+            return inSpecs;
+        }
+
+        @Override
+        protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
+            throws Exception {
+            final int iteration = peekFlowVariableInt("currentIteration");
+            if (iteration == failIteration) {
+                throw new Exception("Failing in iteration " + iteration);
+            }
+            while (blockCopies && iteration > 0) {
+                exec.checkCanceled();
+                Thread.sleep(20);
+            }
+            return inData;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.meta.looper.group;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Tests {@link HashGroupIterator}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class HashGroupIteratorTest {
+    private ExecutionContext m_exec;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception {
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheOnDisc, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * Checks that each group is returned exactly once with all its rows in input order, when grouping in memory,
+     * when partitioning and when sorting oversized partitions.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testGroups() throws Exception {
+        BufferedDataTable table = createTable(500);
+        Map<List<DataCell>, List<RowKey>> expected = new LinkedHashMap<>();
+        for (DataRow row : table) {
+            expected.computeIfAbsent(getGroup(row), k -> new ArrayList<>()).add(row.getKey());
+        }
+        for (long maxRowsInMemory : new long[]{Long.MAX_VALUE, 100, 20}) {
+            HashGroupIterator groups = new HashGroupIterator(table, new int[]{0, 1}, maxRowsInMemory, m_exec);
+            Map<List<DataCell>, List<RowKey>> actual = new HashMap<>();
+            while (groups.hasNext(m_exec)) {
+                BufferedDataContainer cont = m_exec.createDataContainer(table.getDataTableSpec());
+                DataCell[] groupCells = groups.next(cont);
+                cont.close();
+                List<RowKey> keys = new ArrayList<>();
+                for (DataRow row : cont.getTable()) {
+                    assertEquals("Row of other group", getGroup(row), Arrays.asList(groupCells));
+                    keys.add(row.getKey());
+                }
+                assertFalse("Empty group", keys.isEmpty());
+                assertEquals("Duplicate group", null, actual.put(Arrays.asList(groupCells), keys));
+            }
+            groups.close();
+            assertEquals("Max rows in memory: " + maxRowsInMemory, expected, actual);
+        }
+    }
+
+    /**
+     * Checks an empty table.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testEmptyTable() throws Exception {
+        HashGroupIterator groups = new HashGroupIterator(createTable(0), new int[]{0, 1}, 20, m_exec);
+        assertFalse(groups.hasNext(m_exec));
+        assertEquals(0, groups.getTables().length);
+    }
+
+    /**
+     * Checks that the partition grouped in memory is reported as needed until its last group has been returned.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testTablesWhileGroupingInMemory() throws Exception {
+        BufferedDataTable table = createTable(100);
+        HashGroupIterator groups = new HashGroupIterator(table, new int[]{0, 1}, Long.MAX_VALUE, m_exec);
+        assertTrue(groups.hasNext(m_exec));
+        while (groups.hasNext(m_exec)) {
+            BufferedDataTable[] tables = groups.getTables();
+            assertEquals("Partition in memory not reported", 1, tables.length);
+            assertSame(table, tables[0]);
+            BufferedDataContainer cont = m_exec.createDataContainer(table.getDataTableSpec());
+            groups.next(cont);
+            cont.close();
+        }
+        assertEquals(0, groups.getTables().length);
+        groups.close();
+    }
+
+    private static List<DataCell> getGroup(final DataRow row) {
+        List<DataCell> group = new ArrayList<>();
+        group.add(row.getCell(0));
+        group.add(row.getCell(1));
+        return group;
+    }
+
+    /** Creates a table with two group columns, including missing values and one very large group. */
+    private BufferedDataTable createTable(final int size) {
+        BufferedDataContainer cont = m_exec.createDataContainer(new DataTableSpec(
+            new DataColumnSpecCreator("Group1", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Group2", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Value", IntCell.TYPE).createSpec()));
+        Random rand = new Random(1);
+        for (int i = 0; i < size; i++) {
+            DataCell group1;
+            DataCell group2;
+            if (rand.nextInt(4) == 0) {
+                group1 = new IntCell(0);
+                group2 = new StringCell("large");
+            } else {
+                int value = rand.nextInt(30);
+                group1 = value == 1 ? DataType.getMissingCell() : new IntCell(value);
+                group2 = new StringCell(Integer.toString(rand.nextInt(3)));
+            }
+            cont.addRowToTable(new DefaultRow("Row" + i, group1, group2, new IntCell(i)));
+        }
+        cont.close();
+        return cont.getTable();
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.preproc.groupby;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.base.data.aggregation.AggregationOperator;
+import org.knime.base.data.aggregation.ColumnAggregator;
+import org.knime.base.data.aggregation.GlobalSettings;
+import org.knime.base.data.aggregation.GlobalSettings.AggregationContext;
+import org.knime.base.data.aggregation.OperatorColumnSettings;
+import org.knime.base.data.aggregation.general.CountOperator;
+import org.knime.base.data.aggregation.general.ListCellOperator;
+import org.knime.base.data.aggregation.numerical.SumOperator;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+import org.knime.core.util.Pair;
+
+/**
+ * Tests that the {@link HashGroupByTable} creates the same result as the {@link BigGroupByTable}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class HashGroupByTableTest {
+    private static final List<String> GROUP_COLS = Arrays.asList("Group1", "Group2");
+
+    private ExecutionContext m_exec;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception {
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheOnDisc, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * Resets the forced spilling.
+     */
+    @After
+    public void tearDown() {
+        HashGroupByTable.forceSpillGroupCount = 0;
+    }
+
+    /**
+     * Compares the results without spilling.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testInMemory() throws Exception {
+        compareWithBigGroupByTable(0);
+    }
+
+    /**
+     * Compares the results if some partitions are spilled on each level.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSpilling() throws Exception {
+        compareWithBigGroupByTable(7);
+        compareWithBigGroupByTable(2);
+    }
+
+    /**
+     * Compares the results if all partitions are spilled before the first group is created, i.e. all groups are
+     * aggregated by the sorted fallback of the last level.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSortedFallback() throws Exception {
+        compareWithBigGroupByTable(1);
+    }
+
+    private void compareWithBigGroupByTable(final int forceSpillGroupCount) throws Exception {
+        final BufferedDataTable table = createTable(3000);
+        for (boolean retainOrder : new boolean[]{false, true}) {
+            final String msg = "Forced spilling after " + forceSpillGroupCount + " groups, retain order " + retainOrder;
+            HashGroupByTable.forceSpillGroupCount = 0;
+            final GroupByTable expected = new BigGroupByTable(m_exec, table, GROUP_COLS,
+                createAggregators(table.getDataTableSpec()), createGlobalSettings(table), true,
+                ColumnNamePolicy.AGGREGATION_METHOD_COLUMN_NAME, retainOrder);
+            HashGroupByTable.forceSpillGroupCount = forceSpillGroupCount;
+            final GroupByTable actual = new HashGroupByTable(m_exec, table, GROUP_COLS,
+                createAggregators(table.getDataTableSpec()), createGlobalSettings(table), true,
+                ColumnNamePolicy.AGGREGATION_METHOD_COLUMN_NAME, retainOrder);
+            assertEquals(msg, expected.getBufferedTable().getDataTableSpec(),
+                actual.getBufferedTable().getDataTableSpec());
+            assertEquals(msg, getRows(expected.getBufferedTable()), getRows(actual.getBufferedTable()));
+            assertEquals(msg, expected.getHiliteMapping(), actual.getHiliteMapping());
+            assertEquals(msg, expected.getMissingValuesMap(), actual.getMissingValuesMap());
+            assertEquals(msg, getSkippedGroups(expected), getSkippedGroups(actual));
+        }
+    }
+
+    private static List<List<Object>> getRows(final BufferedDataTable table) {
+        final List<List<Object>> rows = new ArrayList<>();
+        for (DataRow row : table) {
+            final List<Object> values = new ArrayList<>();
+            values.add(row.getKey());
+            for (DataCell cell : row) {
+                values.add(cell);
+            }
+            rows.add(values);
+        }
+        return rows;
+    }
+
+    private static Map<String, Set<Pair<String, String>>> getSkippedGroups(final GroupByTable table) {
+        final Map<String, Set<Pair<String, String>>> skipped = new HashMap<>();
+        for (Entry<String, Collection<Pair<String, String>>> e : table.getSkippedGroupsByColName().entrySet()) {
+            skipped.put(e.getKey(), new HashSet<>(e.getValue()));
+        }
+        return skipped;
+    }
+
+    /** Sum without missing values, the list of all values (to check the row order per group) and the count. */
+    private static ColumnAggregator[] createAggregators(final DataTableSpec spec) {
+        final AggregationOperator sum =
+            new SumOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_EXCL_MISSING);
+        final AggregationOperator list =
+            new ListCellOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_INCL_MISSING);
+        final AggregationOperator count =
+            new CountOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_INCL_MISSING);
+        return new ColumnAggregator[]{new ColumnAggregator(spec.getColumnSpec("Value"), sum, false),
+            new ColumnAggregator(spec.getColumnSpec("Value"), list, true),
+            new ColumnAggregator(spec.getColumnSpec("Value"), count, true)};
+    }
+
+    /** The large group exceeds the maximum number of unique values and is skipped by the list operator. */
+    private static GlobalSettings createGlobalSettings(final BufferedDataTable table) {
+        return GlobalSettings.builder().setGroupColNames(GROUP_COLS).setMaxUniqueValues(500)
+            .setDataTableSpec(table.getDataTableSpec()).setNoOfRows(table.size())
+            .setAggregationContext(AggregationContext.ROW_AGGREGATION).build();
+    }
+
+    /** Creates a table with two group columns and a value column, including missing values and one large group. */
+    private BufferedDataTable createTable(final int size) {
+        BufferedDataContainer cont = m_exec.createDataContainer(new DataTableSpec(
+            new DataColumnSpecCreator("Group1", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Group2", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Value", IntCell.TYPE).createSpec()));
+        Random rand = new Random(1);
+        for (int i = 0; i < size; i++) {
+            DataCell group1;
+            DataCell group2;
+            if (rand.nextInt(4) == 0) {
+                group1 = new IntCell(0);
+                group2 = new StringCell("large");
+            } else {
+                int value = rand.nextInt(100);
+                group1 = value == 1 ? DataType.getMissingCell() : new IntCell(value);
+                group2 = value == 2 ? DataType.getMissingCell() : new StringCell(Integer.toString(rand.nextInt(3)));
+            }
+            DataCell value = i % 10 == 0 ? DataType.getMissingCell() : new IntCell(i);
+            cont.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), group1, group2, value));
+        }
+        cont.close();
+        return cont.getTable();
+    }
+}
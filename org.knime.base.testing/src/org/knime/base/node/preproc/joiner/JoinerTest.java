@@ -49,6 +49,7 @@
 
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 import java.util.HashMap;
 import java.util.Iterator;
@@ -56,6 +57,7 @@
 
 import org.junit.Before;
 import org.junit.Test;
+import org.knime.base.node.preproc.joiner.Joiner2Settings.JoinAlgorithm;
 import org.knime.base.node.preproc.joiner.Joiner2Settings.JoinMode;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
@@ -70,9 +72,11 @@
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.DefaultNodeProgressMonitor;
 import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.Node;
 import org.knime.core.node.NodeFactory;
 import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettings;
 import org.knime.core.node.port.PortType;
 import org.knime.core.node.workflow.SingleNodeContainer;
 import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
@@ -304,6 +308,130 @@ public final void testSkipPartitionsFullOuterJoin() throws Exception {
         compareTables(reference, test);
     }
 
+    /**
+     * Checks whether the joins give the same result when the outer table is joined on multiple threads.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public final void testParallelJoin() throws Exception {
+        for (JoinMode mode : new JoinMode[]{JoinMode.InnerJoin, JoinMode.LeftOuterJoin, JoinMode.RightOuterJoin,
+            JoinMode.FullOuterJoin}) {
+            Joiner2Settings settingsRef = createReferenceSettings("Data");
+            settingsRef.setJoinMode(mode);
+
+            Joiner2Settings settingsTest = createReferenceSettings("Data");
+            settingsTest.setJoinMode(mode);
+
+            BufferedDataTable leftTable = m_exec.createBufferedDataTable(new TestData(100, 1), m_exec);
+            BufferedDataTable rightTable = m_exec.createBufferedDataTable(new TestData(200, 1), m_exec);
+
+            // run joiner with reference settings on a single thread
+            Joiner joinerRef = new Joiner(leftTable.getDataTableSpec(), rightTable.getDataTableSpec(), settingsRef);
+            joinerRef.setMaxThreads(1);
+            BufferedDataTable reference = joinerRef.computeJoinTable(leftTable, rightTable, m_exec);
+
+            // run joiner with test settings on four threads
+            Joiner joinerTest = new Joiner(leftTable.getDataTableSpec(), rightTable.getDataTableSpec(), settingsTest);
+            joinerTest.setMaxThreads(4);
+            joinerTest.setMinRowsPerThread(10);
+            joinerTest.setRowsAddedBeforeOOM(10);
+            BufferedDataTable test = joinerTest.computeJoinTable(leftTable, rightTable, m_exec);
+            compareTables(reference, test);
+        }
+    }
+
+    /**
+     * Checks whether the sort-merge join gives the same result as the hash join, joining on a column and on the row
+     * IDs.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public final void testSortMergeJoin() throws Exception {
+        for (String joinColumn : new String[]{"Data", Joiner2Settings.ROW_KEY_IDENTIFIER}) {
+            for (JoinMode mode : new JoinMode[]{JoinMode.InnerJoin, JoinMode.LeftOuterJoin,
+                JoinMode.RightOuterJoin, JoinMode.FullOuterJoin}) {
+                Joiner2Settings settingsRef = createReferenceSettings(joinColumn);
+                settingsRef.setJoinMode(mode);
+                settingsRef.setJoinAlgorithm(JoinAlgorithm.HashJoin);
+
+                Joiner2Settings settingsTest = createReferenceSettings(joinColumn);
+                settingsTest.setJoinMode(mode);
+                settingsTest.setJoinAlgorithm(JoinAlgorithm.SortMergeJoin);
+
+                BufferedDataTable leftTable = m_exec.createBufferedDataTable(new TestData(100, 1), m_exec);
+                BufferedDataTable rightTable = m_exec.createBufferedDataTable(new TestData(200, 1), m_exec);
+
+                Joiner joinerRef =
+                    new Joiner(leftTable.getDataTableSpec(), rightTable.getDataTableSpec(), settingsRef);
+                BufferedDataTable reference = joinerRef.computeJoinTable(leftTable, rightTable, m_exec);
+
+                Joiner joinerTest =
+                    new Joiner(leftTable.getDataTableSpec(), rightTable.getDataTableSpec(), settingsTest);
+                BufferedDataTable test = joinerTest.computeJoinTable(leftTable, rightTable, m_exec);
+                compareTables(reference, test);
+            }
+        }
+    }
+
+    /**
+     * Checks that an unknown join algorithm is rejected with an {@link InvalidSettingsException} when loading the
+     * settings and replaced by the default when loading them for the dialog.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public final void testUnknownJoinAlgorithm() throws Exception {
+        NodeSettings nodeSettings = new NodeSettings("joiner");
+        createReferenceSettings("Data").saveSettings(nodeSettings);
+        nodeSettings.addString("joinAlgorithm", "Unknown");
+
+        Joiner2Settings dialogSettings = new Joiner2Settings();
+        dialogSettings.loadSettingsForDialog(nodeSettings);
+        assertThat(dialogSettings.getJoinAlgorithm(), is(JoinAlgorithm.Auto));
+        try {
+            new Joiner2Settings().loadSettings(nodeSettings);
+            fail("Unknown join algorithm not rejected");
+        } catch (InvalidSettingsException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Checks whether filtering the rows of the outer table by the keys of the inner table gives the same result as
+     * joining without the filter, for the hash join and the sort-merge join.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public final void testOuterKeyFilter() throws Exception {
+        for (JoinAlgorithm algorithm : new JoinAlgorithm[]{JoinAlgorithm.HashJoin, JoinAlgorithm.SortMergeJoin}) {
+            for (JoinMode mode : new JoinMode[]{JoinMode.InnerJoin, JoinMode.RightOuterJoin}) {
+                Joiner2Settings settings = createReferenceSettings("Data");
+                settings.setJoinMode(mode);
+                settings.setJoinAlgorithm(algorithm);
+
+                // the left table is much larger, most of its rows have no partner
+                BufferedDataTable leftTable = m_exec.createBufferedDataTable(new TestData(1000, 1), m_exec);
+                BufferedDataTable rightTable = m_exec.createBufferedDataTable(new TestData(20, 2), m_exec);
+
+                Joiner joinerRef =
+                    new Joiner(leftTable.getDataTableSpec(), rightTable.getDataTableSpec(), settings);
+                BufferedDataTable reference = joinerRef.computeJoinTable(leftTable, rightTable, m_exec);
+
+                Joiner joinerTest =
+                    new Joiner(leftTable.getDataTableSpec(), rightTable.getDataTableSpec(), settings);
+                joinerTest.setForceOuterKeyFilter(true);
+                joinerTest.setRowsAddedBeforeOOM(10);
+                joinerTest.setNumBitsInitial(0);
+                joinerTest.setNumBitsMaximal(6);
+                BufferedDataTable test = joinerTest.computeJoinTable(leftTable, rightTable, m_exec);
+                compareTables(reference, test);
+            }
+        }
+    }
+
     @Test
     public void testSortPartitionsInnerJoin() throws Exception {
         Joiner2Settings settingsRef = createReferenceSettings(Joiner2Settings.ROW_KEY_IDENTIFIER);
@@ -0,0 +1,189 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.preproc.rank;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.base.node.preproc.rank.RankNodeModel.RankMode;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.defaultnodesettings.SettingsModelStringArray;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Tests the ranks of the {@link RankNodeModel} if the row order is retained, with groups and ties, computed in
+ * memory and with the sorted (index, rank) fallback.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class RankNodeModelTest {
+    private static final String[] GROUPS = {"A", "B", "A", "A", "B", "A", "B", "A", "B", "A"};
+
+    private static final int[] VALUES = {3, 1, 1, 3, 2, 2, 1, 3, 5, 1};
+
+    private ExecutionContext m_exec;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception {
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheOnDisc, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * Ties get the same rank, the next rank skips the tied rows.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testStandard() throws Exception {
+        checkRanks(RankMode.STANDARD, new int[]{4, 1, 1, 4, 3, 3, 1, 4, 4, 1});
+    }
+
+    /**
+     * Ties get the same rank, the next rank follows without gap.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testDense() throws Exception {
+        checkRanks(RankMode.DENSE, new int[]{3, 1, 1, 3, 2, 2, 1, 3, 3, 1});
+    }
+
+    /**
+     * Ties get consecutive ranks in the order of the input table.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testOrdinal() throws Exception {
+        checkRanks(RankMode.ORDINAL, new int[]{4, 1, 1, 5, 3, 3, 2, 6, 4, 2});
+    }
+
+    private void checkRanks(final RankMode mode, final int[] expected) throws Exception {
+        for (final boolean inMemory : new boolean[]{true, false}) {
+            final RankNodeModel model = new RankNodeModel() {
+                @Override
+                boolean fitsIntoMemory(final long rowCount) {
+                    return inMemory;
+                }
+            };
+            model.loadValidatedSettingsFrom(createSettings(mode));
+            final BufferedDataTable out = model.execute(new BufferedDataTable[]{createTable()}, m_exec)[0];
+            final int[] ranks = new int[expected.length];
+            int i = 0;
+            for (final DataRow row : out) {
+                assertEquals("Row order not retained", RowKey.createRowKey((long)i), row.getKey());
+                ranks[i++] = ((IntValue)row.getCell(row.getNumCells() - 1)).getIntValue();
+            }
+            assertArrayEquals(mode + ", ranks in memory: " + inMemory, expected, ranks);
+        }
+    }
+
+    private static NodeSettings createSettings(final RankMode mode) {
+        final NodeSettings settings = new NodeSettings("rank");
+        final SettingsModelStringArray groupCols = RankNodeModel.createGroupColumnsModel();
+        groupCols.setStringArrayValue(new String[]{"Group"});
+        groupCols.saveSettingsTo(settings);
+        final SettingsModelStringArray rankCols = RankNodeModel.createRankColumnsModel();
+        rankCols.setStringArrayValue(new String[]{"Value"});
+        rankCols.saveSettingsTo(settings);
+        final SettingsModelString rankMode = RankNodeModel.createRankModeModel();
+        rankMode.setStringValue(mode.toString());
+        rankMode.saveSettingsTo(settings);
+        final SettingsModelStringArray rankOrder = RankNodeModel.createRankOrderModel();
+        rankOrder.setStringArrayValue(new String[]{"Ascending"});
+        rankOrder.saveSettingsTo(settings);
+        RankNodeModel.createRankOutColNameModel().saveSettingsTo(settings);
+        final SettingsModelBoolean retainRowOrder = RankNodeModel.createRetainRowOrderModel();
+        retainRowOrder.setBooleanValue(true);
+        retainRowOrder.saveSettingsTo(settings);
+        RankNodeModel.createRankAsLongModel().saveSettingsTo(settings);
+        return settings;
+    }
+
+    private BufferedDataTable createTable() {
+        final BufferedDataContainer cont = m_exec.createDataContainer(
+            new DataTableSpec(new DataColumnSpecCreator("Group", StringCell.TYPE).createSpec(),
+                new DataColumnSpecCreator("Value", IntCell.TYPE).createSpec()));
+        for (int i = 0; i < VALUES.length; i++) {
+            cont.addRowToTable(
+                new DefaultRow(RowKey.createRowKey((long)i), new StringCell(GROUPS[i]), new IntCell(VALUES[i])));
+        }
+        cont.close();
+        return cont.getTable();
+    }
+}
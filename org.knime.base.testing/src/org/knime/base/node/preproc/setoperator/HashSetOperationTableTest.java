@@ -0,0 +1,163 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.preproc.setoperator;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Compares the results of the {@link HashSetOperationTable} with the ones of the sort based
+ * {@link SetOperationTable}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class HashSetOperationTableTest {
+    private ExecutionContext m_exec;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception {
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheOnDisc, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * Checks all operations with and without partitioning, including missing values and hilite mappings.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSameResultAsSorting() throws Exception {
+        BufferedDataTable table1 = createTable(IntCell.TYPE, 500, 1);
+        BufferedDataTable table2 = createTable(IntCell.TYPE, 300, 2);
+        BufferedDataTable stringTable = createTable(StringCell.TYPE, 300, 3);
+        for (SetOperation op : SetOperation.values()) {
+            for (boolean skipMissing : new boolean[]{true, false}) {
+                for (long valuesPerPartition : new long[]{Long.MAX_VALUE, 50}) {
+                    compare(table1, table2, op, skipMissing, valuesPerPartition);
+                    compare(table1, stringTable, op, skipMissing, valuesPerPartition);
+                }
+            }
+        }
+    }
+
+    private void compare(final BufferedDataTable table1, final BufferedDataTable table2, final SetOperation op,
+        final boolean skipMissing, final long valuesPerPartition) throws Exception {
+        SetOperationTable reference =
+            new SetOperationTable(m_exec, false, "Value", table1, false, "Value", table2, op, true, skipMissing);
+        HashSetOperationTable test = new HashSetOperationTable(m_exec, false, "Value", table1, false, "Value",
+            table2, op, true, skipMissing, valuesPerPartition);
+        String message = op + ", skip missing: " + skipMissing + ", values per partition: " + valuesPerPartition;
+        assertEquals(message, getMapping(reference.getBufferedTable(), reference.getHiliteMapping0()),
+            getMapping(test.getBufferedTable(), test.getHiliteMapping0()));
+        assertEquals(message, getMapping(reference.getBufferedTable(), reference.getHiliteMapping1()),
+            getMapping(test.getBufferedTable(), test.getHiliteMapping1()));
+    }
+
+    /** Maps the values of the result set to the keys of the input rows they originate from. */
+    private static Map<DataCell, Set<RowKey>> getMapping(final BufferedDataTable result,
+        final Map<RowKey, Set<RowKey>> hiliteMapping) {
+        Map<DataCell, Set<RowKey>> mapping = new HashMap<DataCell, Set<RowKey>>();
+        for (DataRow row : result) {
+            assertEquals("Duplicate value in result set", null, mapping.put(row.getCell(0),
+                hiliteMapping.get(row.getKey())));
+        }
+        return mapping;
+    }
+
+    private BufferedDataTable createTable(final DataType type, final int size, final long seed) {
+        BufferedDataContainer cont =
+            m_exec.createDataContainer(new DataTableSpec(new DataColumnSpecCreator("Value", type).createSpec()));
+        Random rand = new Random(seed);
+        for (int i = 0; i < size; i++) {
+            int value = rand.nextInt(size / 2);
+            DataCell cell;
+            if (value == 0) {
+                cell = DataType.getMissingCell();
+            } else if (type.equals(StringCell.TYPE)) {
+                cell = new StringCell(Integer.toString(value));
+            } else {
+                cell = new IntCell(value);
+            }
+            cont.addRowToTable(new DefaultRow("Row" + i, cell));
+        }
+        cont.close();
+        return cont.getTable();
+    }
+}
@@ -449,6 +449,65 @@ public final void reset() {
      */
     protected abstract void resetInternal();
 
+    /**
+     * Operators that return <code>true</code> hold a partial aggregate that can be combined with the partial
+     * aggregate of another instance via {@link #merge(AggregationOperator)}. This allows to aggregate disjoint
+     * chunks of a group on different threads and to combine the results afterwards.
+     * Mergeable operators should only return <code>true</code> for their exact class, so that subclasses which add
+     * their own aggregation state (possibly in other plug-ins) are not merged by accident but have to override this
+     * method and {@link #mergeInternal(AggregationOperator)} if required.
+     *
+     * @return <code>true</code> if the operator supports {@link #merge(AggregationOperator)}
+     * @since 3.8
+     */
+    public boolean isMergeable() {
+        return false;
+    }
+
+    /**
+     * Merges the partial aggregate of the given operator into this operator. The other operator must be of the
+     * same class and must have been created for the same column and settings, e.g. by cloning the corresponding
+     * {@link ColumnAggregator}. It has to contain the rows that follow the rows of this operator in the input
+     * in order to keep the result of order dependent operators such as first, last or list.
+     *
+     * @param other the operator with the partial aggregate to merge into this operator
+     * @throws UnsupportedOperationException if the operator is not {@link #isMergeable() mergeable}
+     * @throws IllegalArgumentException if the other operator is of a different class
+     * @since 3.8
+     */
+    public final void merge(final AggregationOperator other) {
+        if (!isMergeable()) {
+            throw new UnsupportedOperationException("Operator '" + getLabel() + "' does not support merging");
+        }
+        if (other.getClass() != getClass()) {
+            throw new IllegalArgumentException("Operator '" + other.getLabel() + "' can not be merged into operator '"
+                + getLabel() + "'");
+        }
+        if (m_skipped) {
+            return;
+        }
+        if (other.m_skipped) {
+            m_skipped = true;
+            m_skipMsg = other.m_skipMsg;
+            return;
+        }
+        m_missingValuesCount += other.m_missingValuesCount;
+        m_skipped = mergeInternal(other);
+    }
+
+    /**
+     * Merges the partial aggregate of the given operator into this operator. Only called for
+     * {@link #isMergeable() mergeable} operators if neither of the two operators is skipped.
+     *
+     * @param other the operator of the same class with the partial aggregate of the following rows
+     * @return <code>true</code> if the merged aggregate exceeds the limits of the operator and the operator
+     * should be skipped
+     * @since 3.8
+     */
+    protected boolean mergeInternal(final AggregationOperator other) {
+        throw new UnsupportedOperationException("Operator '" + getLabel() + "' does not support merging");
+    }
+
     /**
      * {@inheritDoc}
      */
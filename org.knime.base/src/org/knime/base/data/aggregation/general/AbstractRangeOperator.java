@@ -160,4 +160,27 @@ protected void resetInternal() {
         m_min = null;
         m_max = null;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final AbstractRangeOperator o = (AbstractRangeOperator)other;
+        if (o.m_min == null || o.m_max == null) {
+            return false;
+        }
+        if (m_min == null || m_max == null) {
+            m_min = o.m_min;
+            m_max = o.m_max;
+            return false;
+        }
+        if (m_comparator.compare(m_min, o.m_min) > 0) {
+            m_min = o.m_min;
+        }
+        if (m_comparator.compare(m_max, o.m_max) < 0) {
+            m_max = o.m_max;
+        }
+        return false;
+    }
 }
@@ -150,4 +150,30 @@ protected void resetInternal() {
     public String getDescription() {
         return "Concatenates the values per group.";
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return getClass() == ConcatenateOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final ConcatenateOperator o = (ConcatenateOperator)other;
+        if (o.m_first) {
+            return false;
+        }
+        if (m_first) {
+            m_first = false;
+        } else {
+            m_buf.append(getValueDelimiter());
+        }
+        m_buf.append(o.m_buf);
+        return false;
+    }
 }
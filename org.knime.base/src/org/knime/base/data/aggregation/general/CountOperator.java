@@ -137,4 +137,22 @@ protected void resetInternal() {
     public String getDescription() {
         return "Counts members per group.";
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return getClass() == CountOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final CountOperator o = (CountOperator)other;
+        m_counter += o.m_counter;
+        return false;
+    }
 }
@@ -138,4 +138,24 @@ protected void resetInternal() {
     public String getDescription() {
         return "Takes the first entry per group.";
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return getClass() == FirstOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final FirstOperator o = (FirstOperator)other;
+        if (m_firstCell == null) {
+            m_firstCell = o.m_firstCell;
+        }
+        return false;
+    }
 }
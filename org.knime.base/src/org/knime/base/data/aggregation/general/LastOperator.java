@@ -137,4 +137,24 @@ protected void resetInternal() {
     public String getDescription() {
         return "Takes the last entry per group.";
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return getClass() == LastOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final LastOperator o = (LastOperator)other;
+        if (o.m_lastCell != null) {
+            m_lastCell = o.m_lastCell;
+        }
+        return false;
+    }
 }
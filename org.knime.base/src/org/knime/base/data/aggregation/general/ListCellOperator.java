@@ -158,4 +158,26 @@ protected void resetInternal() {
     public String getDescription() {
         return "Creates a ListCell that contains all elements per group.";
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return getClass() == ListCellOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final ListCellOperator o = (ListCellOperator)other;
+        if (m_cells.size() + o.m_cells.size() > getMaxUniqueValues()) {
+            setSkipMessage("Group contains too many values");
+            return true;
+        }
+        m_cells.addAll(o.m_cells);
+        return false;
+    }
 }
@@ -154,4 +154,24 @@ protected void resetInternal() {
     public String getDescription() {
         return "Calculates the maximum value per group.";
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return getClass() == MaxOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final MaxOperator o = (MaxOperator)other;
+        if (o.m_maxVal != null && (m_maxVal == null || m_comparator.compare(o.m_maxVal, m_maxVal) > 0)) {
+            m_maxVal = o.m_maxVal;
+        }
+        return false;
+    }
 }
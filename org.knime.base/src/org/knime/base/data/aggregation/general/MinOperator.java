@@ -153,4 +153,24 @@ protected void resetInternal() {
     public String getDescription() {
         return "Calculates the minimum value per group.";
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return getClass() == MinOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final MinOperator o = (MinOperator)other;
+        if (o.m_minVal != null && (m_minVal == null || m_comparator.compare(o.m_minVal, m_minVal) < 0)) {
+            m_minVal = o.m_minVal;
+        }
+        return false;
+    }
 }
@@ -152,4 +152,22 @@ protected void resetInternal() {
     public String getDescription() {
         return "Counts the number of missing values per group.";
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return getClass() == MissingValueCountOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final MissingValueCountOperator o = (MissingValueCountOperator)other;
+        m_counter += o.m_counter;
+        return false;
+    }
 }
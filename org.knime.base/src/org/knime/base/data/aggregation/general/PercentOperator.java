@@ -129,4 +129,12 @@ protected DataCell getResultInternal() {
     public String getDescription() {
         return "Number of group members in percentage.";
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return getClass() == PercentOperator.class;
+    }
 }
@@ -158,4 +158,31 @@ protected void resetInternal() {
     public String getDescription() {
         return "Creates a SetCell that contains each element only once per group.";
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return getClass() == SetCellOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final SetCellOperator o = (SetCellOperator)other;
+        for (final DataCell cell : o.m_cells) {
+            if (m_cells.contains(cell)) {
+                continue;
+            }
+            if (m_cells.size() >= getMaxUniqueValues()) {
+                setSkipMessage("Group contains too many unique values");
+                return true;
+            }
+            m_cells.add(cell);
+        }
+        return false;
+    }
 }
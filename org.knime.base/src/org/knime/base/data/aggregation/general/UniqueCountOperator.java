@@ -117,4 +117,12 @@ protected DataCell getResultInternal() {
     public String getDescription() {
         return "Counts each member only once per group.";
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return getClass() == UniqueCountOperator.class;
+    }
 }
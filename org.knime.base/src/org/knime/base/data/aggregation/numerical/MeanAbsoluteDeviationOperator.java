@@ -143,4 +143,11 @@ protected DataCell getResultInternal() {
         return new DoubleCell(meanValue);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return getClass() == MeanAbsoluteDeviationOperator.class;
+    }
 }
@@ -143,4 +143,28 @@ protected void resetInternal() {
     public String getDescription() {
         return "Calculates the mean value per group.";
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return getClass() == MeanOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final MeanOperator o = (MeanOperator)other;
+        if (o.m_count == 0) {
+            return false;
+        }
+        final int count = m_count + o.m_count;
+        //weight both means by their number of values
+        m_mean = m_mean * ((double)m_count / count) + o.m_mean * ((double)o.m_count / count);
+        m_count = count;
+        return false;
+    }
 }
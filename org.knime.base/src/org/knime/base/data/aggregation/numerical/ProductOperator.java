@@ -144,4 +144,23 @@ protected void resetInternal() {
     public String getDescription() {
         return "Calculates the product per group.";
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return getClass() == ProductOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final ProductOperator o = (ProductOperator)other;
+        m_valid |= o.m_valid;
+        m_product *= o.m_product;
+        return false;
+    }
 }
@@ -236,6 +236,14 @@ public void validate() throws InvalidSettingsException {
         m_settings.validate();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return getClass() == QuantileOperator.class;
+    }
+
     /**
      * {@link JPanel} that allows the user to specify layout mapping settings.
      *
@@ -113,4 +113,12 @@ protected DataCell getResultInternal() {
     public String getDescription() {
         return "Calculates the standard deviation per group.";
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return getClass() == StdDeviationOperator.class;
+    }
 }
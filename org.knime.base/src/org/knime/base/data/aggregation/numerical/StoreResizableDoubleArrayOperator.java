@@ -114,4 +114,25 @@ protected ResizableDoubleArray getCells() {
         return this.m_cells;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final StoreResizableDoubleArrayOperator o = (StoreResizableDoubleArrayOperator)other;
+        final int noOfElements = o.m_cells.getNumElements();
+        if (m_cells.getNumElements() + noOfElements > getMaxUniqueValues()) {
+            setSkipMessage("Group contains too many values");
+            return true;
+        }
+        try {
+            for (int i = 0; i < noOfElements; i++) {
+                m_cells.addElement(o.m_cells.getElement(i));
+            }
+        } catch (final OutOfMemoryError e) {
+            setSkipMessage("Group requires too much storage");
+            return true;
+        }
+        return false;
+    }
 }
@@ -186,4 +186,23 @@ public String getDescription() {
             + "skipped if the sum exceeds the limit of int (2^31-1)"
             + " resp. long (2^62-1).";
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return getClass() == SumOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final SumOperator o = (SumOperator)other;
+        m_valid |= o.m_valid;
+        m_sum += o.m_sum;
+        return false;
+    }
 }
@@ -158,4 +158,24 @@ protected void resetInternal() {
     public String getDescription() {
         return "Calculates the variance per group.";
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return getClass() == VarianceOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final VarianceOperator o = (VarianceOperator)other;
+        m_sum += o.m_sum;
+        m_sumSquare += o.m_sumSquare;
+        m_validCount += o.m_validCount;
+        return false;
+    }
 }
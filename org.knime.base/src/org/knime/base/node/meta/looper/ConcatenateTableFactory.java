@@ -101,6 +101,7 @@ class ConcatenateTableFactory {
 
     private Function<RowKey, RowKey> m_rowKeyCreator;
 
+    /* null if the row keys are unique by construction */
     private DuplicateChecker m_duplicateChecker;
 
     /** keeps track of the number of call of the addTable-function. m_iterationCount <= m_tables.size() */
@@ -114,10 +115,12 @@ class ConcatenateTableFactory {
      * @param tolerateColumnTypes if the change of a column type should be tolerated (common supertype is determined)
      * @param addIterationColumn  if an iteration column should be appended
      * @param rowKeyCreator an optional row key creator. If not provided, the row keys remain unmodified.
-     * @param exec execution context mainly in order to create the new data containers
+     * @param uniqueRowKeys if the row key creator is guaranteed to create keys that are unique over all added tables,
+     *            e.g. because it appends the iteration, in which case they are not checked for duplicates
      */
     ConcatenateTableFactory(final boolean ignoreEmptyTables, final boolean tolerateColumnTypes,
-        final boolean addIterationColumn, final boolean tolerateChangingSpecs, final Optional<Function<RowKey, RowKey>> rowKeyCreator) {
+        final boolean addIterationColumn, final boolean tolerateChangingSpecs,
+        final Optional<Function<RowKey, RowKey>> rowKeyCreator, final boolean uniqueRowKeys) {
 
         m_ignoreEmptyTables = ignoreEmptyTables;
         m_tolerateColumnTypes = tolerateColumnTypes;
@@ -128,7 +131,9 @@ class ConcatenateTableFactory {
         if (rowKeyCreator.isPresent()) {
             m_rowKeyCreator = rowKeyCreator.get();
         }
-        m_duplicateChecker = new DuplicateChecker();
+        if (!uniqueRowKeys || !rowKeyCreator.isPresent()) {
+            m_duplicateChecker = new DuplicateChecker();
+        }
         m_iterationCount = 0;
     }
 
@@ -234,6 +239,7 @@ void addTable(final RowInput table, final ExecutionContext exec) throws Interrup
         }
 
         //add rows of the table to the newly created data container
+        final IntCell currIterCell = new IntCell(m_iterationCount);
         do {
             exec.checkCanceled();
             //change row key if desired
@@ -241,11 +247,12 @@ void addTable(final RowInput table, final ExecutionContext exec) throws Interrup
                 //change row key
                 row = new BlobSupportDataRow(m_rowKeyCreator.apply(row.getKey()),row);
             }
-            m_duplicateChecker.addKey(row.getKey().toString());
+            if (m_duplicateChecker != null) {
+                m_duplicateChecker.addKey(row.getKey().toString());
+            }
 
             //add additional iteration column if desired
             if(m_addIterationColumn) {
-                IntCell currIterCell = new IntCell(m_iterationCount);
                 row = new org.knime.core.data.append.AppendedColumnRow(row, currIterCell);
             }
             con.addRowToTable(row);
@@ -271,7 +278,9 @@ BufferedDataTable createTable(final ExecutionContext exec) throws CanceledExecut
             return m_emptyTable.getTable();
         }
 
-        m_duplicateChecker.checkForDuplicates();
+        if (m_duplicateChecker != null) {
+            m_duplicateChecker.checkForDuplicates();
+        }
 
         //close last used table
         m_tables.get(m_tables.size() - 1).close();
@@ -50,6 +50,7 @@
 import java.util.Optional;
 import java.util.function.Function;
 
+import org.knime.base.node.meta.looper.AbstractLoopEndNodeSettings.RowKeyPolicy;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.RowKey;
 import org.knime.core.node.BufferedDataTable;
@@ -60,14 +61,15 @@
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
-import org.knime.core.node.workflow.LoopEndNode;
+import org.knime.core.node.workflow.LoopEndParallelizeNode;
 import org.knime.core.node.workflow.LoopStartNodeTerminator;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
 
 /**
  *
  * @author Thorsten Meinl, University of Konstanz
  */
-public class LoopEnd2NodeModel extends NodeModel implements LoopEndNode {
+public class LoopEnd2NodeModel extends NodeModel implements LoopEndParallelizeNode {
 
     /* Overall row count port 1 */
     private int m_count1 = 0;
@@ -82,6 +84,9 @@ public class LoopEnd2NodeModel extends NodeModel implements LoopEndNode {
 
     private final LoopEnd2NodeSettings m_settings = new LoopEnd2NodeSettings();
 
+    /* Results of the iterations the loop start ran concurrently. */
+    private final ParallelLoopResults m_parallelResults = new ParallelLoopResults();
+
     /** Creates a new model. */
     public LoopEnd2NodeModel() {
         super(2, 2);
@@ -96,8 +101,6 @@ protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws Invali
         if (m_settings.ignoreEmptyTables1() || m_settings.tolerateColumnTypes1() || m_settings.tolerateChangingTableSpecs1()) {
             spec0 = null;
         } else {
-            ConcatenateTableFactory fac = new ConcatenateTableFactory(m_settings.ignoreEmptyTables1(),
-                m_settings.tolerateColumnTypes1(), m_settings.addIterationColumn(), false, Optional.empty());
             spec0 = ConcatenateTableFactory.createSpec(inSpecs[0], m_settings.addIterationColumn(), false);
         }
         final DataTableSpec spec1;
@@ -141,18 +144,27 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
                     rowKeyFunc1 = Optional.empty();
                     rowKeyFunc2 = Optional.empty();
             }
+            // suffixed or generated row keys are unique over all iterations, no need to check for duplicates
+            final boolean uniqueRowKeys = m_settings.rowKeyPolicy() != RowKeyPolicy.UNMODIFIED;
 
             m_tableFactories[0] =
                 new ConcatenateTableFactory(m_settings.ignoreEmptyTables1(), m_settings.tolerateColumnTypes1(),
-                    m_settings.addIterationColumn(), m_settings.tolerateChangingTableSpecs1(), rowKeyFunc1);
+                    m_settings.addIterationColumn(), m_settings.tolerateChangingTableSpecs1(), rowKeyFunc1,
+                    uniqueRowKeys);
             m_tableFactories[1] =
                 new ConcatenateTableFactory(m_settings.ignoreEmptyTables2(), m_settings.tolerateColumnTypes2(),
-                    m_settings.addIterationColumn(), m_settings.tolerateChangingTableSpecs2(), rowKeyFunc2);
+                    m_settings.addIterationColumn(), m_settings.tolerateChangingTableSpecs2(), rowKeyFunc2,
+                    uniqueRowKeys);
         }
 
         //add tables to factories
         m_tableFactories[0].addTable(inData[0], exec);
         m_tableFactories[1].addTable(inData[1], exec);
+        for (BufferedDataTable[] tables : m_parallelResults.collect(exec)) {
+            m_iteration++;
+            m_tableFactories[0].addTable(tables[0], exec);
+            m_tableFactories[1].addTable(tables[1], exec);
+        }
 
         final boolean terminateLoop =
             ((LoopStartNodeTerminator)this.getLoopStartNode()).terminateLoop();
@@ -200,6 +212,25 @@ protected void reset() {
         m_count2 = 0;
         m_iteration = 0;
         Arrays.fill(m_tableFactories, null);
+        m_parallelResults.reset();
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.8
+     */
+    @Override
+    public void setParallelChunkMaster(final ParallelizedChunkContentMaster pcm) {
+        m_parallelResults.setParallelChunkMaster(pcm);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.8
+     */
+    @Override
+    public void updateStatus() {
+        m_parallelResults.updateStatus();
     }
 
     /**
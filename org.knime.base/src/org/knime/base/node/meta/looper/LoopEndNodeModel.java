@@ -52,6 +52,7 @@
 import java.util.Optional;
 import java.util.function.Function;
 
+import org.knime.base.node.meta.looper.AbstractLoopEndNodeSettings.RowKeyPolicy;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.RowKey;
 import org.knime.core.node.BufferedDataTable;
@@ -63,15 +64,16 @@
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
-import org.knime.core.node.workflow.LoopEndNode;
+import org.knime.core.node.workflow.LoopEndParallelizeNode;
 import org.knime.core.node.workflow.LoopStartNodeTerminator;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
 
 /**
  * This model is the tail node of a for loop.
  *
  * @author Thorsten Meinl, University of Konstanz
  */
-public class LoopEndNodeModel extends NodeModel implements LoopEndNode {
+public class LoopEndNodeModel extends NodeModel implements LoopEndParallelizeNode {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(LoopEndNodeModel.class);
 
@@ -89,6 +91,9 @@ public class LoopEndNodeModel extends NodeModel implements LoopEndNode {
 
     private final LoopEndNodeSettings m_settings = new LoopEndNodeSettings();
 
+    /* Results of the iterations the loop start ran concurrently. */
+    private final ParallelLoopResults m_parallelResults = new ParallelLoopResults();
+
 
     /** Creates a new model. */
     public LoopEndNodeModel() {
@@ -134,12 +139,18 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
                 default:
                     rowKeyFunc = Optional.empty();
             }
+            // row keys with the iteration as suffix or generated ones can't collide
             m_tableFactory = new ConcatenateTableFactory(m_settings.ignoreEmptyTables(),
-                m_settings.tolerateColumnTypes(), m_settings.addIterationColumn(), m_settings.tolerateChangingTableSpecs(), rowKeyFunc);
+                m_settings.tolerateColumnTypes(), m_settings.addIterationColumn(), m_settings.tolerateChangingTableSpecs(), rowKeyFunc,
+                m_settings.rowKeyPolicy() != RowKeyPolicy.UNMODIFIED);
             m_startTime = System.currentTimeMillis();
         }
 
         m_tableFactory.addTable(inData[0], exec);
+        for (BufferedDataTable[] tables : m_parallelResults.collect(exec)) {
+            m_iteration++;
+            m_tableFactory.addTable(tables[0], exec);
+        }
 
         boolean terminateLoop = ((LoopStartNodeTerminator)this.getLoopStartNode()).terminateLoop();
         if (terminateLoop) {
@@ -184,6 +195,25 @@ protected void reset() {
         m_tableFactory = null;
         m_count = 0;
         m_iteration = 0;
+        m_parallelResults.reset();
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.8
+     */
+    @Override
+    public void setParallelChunkMaster(final ParallelizedChunkContentMaster pcm) {
+        m_parallelResults.setParallelChunkMaster(pcm);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.8
+     */
+    @Override
+    public void updateStatus() {
+        m_parallelResults.updateStatus();
     }
 
     /**
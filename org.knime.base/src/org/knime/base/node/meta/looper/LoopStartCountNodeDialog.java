@@ -69,6 +69,9 @@ public class LoopStartCountNodeDialog extends NodeDialogPane {
     private final JSpinner m_loops = new JSpinner(new SpinnerNumberModel(10, 1,
             Integer.MAX_VALUE, 1));
 
+    private final JSpinner m_parallelIterations = new JSpinner(new SpinnerNumberModel(1, 1,
+            Integer.MAX_VALUE, 1));
+
     private final LoopStartCountSettings m_settings = new LoopStartCountSettings();
 
     /**
@@ -85,6 +88,12 @@ public LoopStartCountNodeDialog() {
         c.gridx = 1;
         p.add(m_loops, c);
 
+        c.gridx = 0;
+        c.gridy++;
+        p.add(new JLabel("Parallel iterations   "), c);
+        c.gridx = 1;
+        p.add(m_parallelIterations, c);
+
         addTab("Standard settings", p);
     }
 
@@ -96,6 +105,7 @@ protected void loadSettingsFrom(final NodeSettingsRO settings,
             final DataTableSpec[] specs) throws NotConfigurableException {
         m_settings.loadSettingsFrom(settings);
         m_loops.setValue(m_settings.loops());
+        m_parallelIterations.setValue(m_settings.parallelIterations());
     }
 
     /**
@@ -105,6 +115,7 @@ protected void loadSettingsFrom(final NodeSettingsRO settings,
     protected void saveSettingsTo(final NodeSettingsWO settings)
             throws InvalidSettingsException {
         m_settings.loops((Integer)m_loops.getValue());
+        m_settings.parallelIterations((Integer)m_parallelIterations.getValue());
         m_settings.saveSettingsTo(settings);
     }
 }
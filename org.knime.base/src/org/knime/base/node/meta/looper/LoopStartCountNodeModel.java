@@ -61,7 +61,11 @@
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.FlowVariable;
 import org.knime.core.node.workflow.LoopStartNodeTerminator;
+import org.knime.core.node.workflow.LoopStartParallelizeNode;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkNodeInput;
 
 /**
  * This model is the head node of a for loop.
@@ -69,12 +73,14 @@
  * @author Thorsten Meinl, University of Konstanz
  */
 public class LoopStartCountNodeModel extends NodeModel
-implements LoopStartNodeTerminator {
+implements LoopStartNodeTerminator, LoopStartParallelizeNode {
 
     private int m_iteration;
 
     private final LoopStartCountSettings m_settings = new LoopStartCountSettings();
 
+    private final ParallelLoopIterations m_parallelIterations = new ParallelLoopIterations();
+
     /**
      * Creates a new model with one input and one output port.
      */
@@ -92,6 +98,9 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs)
         if (m_settings.loops() < 1) {
             throw new InvalidSettingsException("Cannot loop fewer than once");
         }
+        if (m_settings.parallelIterations() < 1) {
+            throw new InvalidSettingsException("Number of parallel iterations must be at least 1");
+        }
         assert m_iteration == 0;
         pushFlowVariableInt("currentIteration", m_iteration);
         pushFlowVariableInt("maxIterations", m_settings.loops());
@@ -119,6 +128,13 @@ protected PortObject[] execute(final PortObject[] inData,
         pushFlowVariableInt("maxIterations", m_settings.loops());
         // increment counter for next iteration
         m_iteration++;
+        // the following iterations of this round run on copies of the loop body
+        m_parallelIterations.clearIterations();
+        for (int i = 1; i < m_settings.parallelIterations() && m_iteration < m_settings.loops(); i++) {
+            m_parallelIterations.addIteration(inData, new FlowVariable("currentIteration", m_iteration),
+                new FlowVariable("maxIterations", m_settings.loops()));
+            m_iteration++;
+        }
         return inData;
     }
 
@@ -155,6 +171,43 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
     @Override
     protected void reset() {
         m_iteration = 0;
+        m_parallelIterations.reset();
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.8
+     */
+    @Override
+    public VirtualParallelizedChunkNodeInput getVirtualNodeInput(final int chunkIndex) {
+        return m_parallelIterations.getVirtualNodeInput(chunkIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.8
+     */
+    @Override
+    public int getNrRemoteChunks() {
+        return m_parallelIterations.getNrRemoteChunks();
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.8
+     */
+    @Override
+    public void setChunkMaster(final ParallelizedChunkContentMaster pccm) {
+        m_parallelIterations.setChunkMaster(pccm);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.8
+     */
+    @Override
+    public boolean isChunkMasterRequired() {
+        return false;
     }
 
     /**
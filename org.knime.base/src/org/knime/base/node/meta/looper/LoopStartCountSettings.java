@@ -56,6 +56,8 @@
 public class LoopStartCountSettings {
     private int m_loops = 10;
 
+    private int m_parallelIterations = 1;
+
     /**
      * Sets the number of times the inner workflow should be executed.
      * @param loops the number loops, which must be &gt; 0
@@ -72,6 +74,24 @@ public int loops() {
         return m_loops;
     }
 
+    /**
+     * Sets the number of iterations that run concurrently on copies of the loop body.
+     * @param parallelIterations the number of iterations, which must be &gt; 0
+     * @since 3.8
+     */
+    public void parallelIterations(final int parallelIterations) {
+        m_parallelIterations = parallelIterations;
+    }
+
+    /**
+     * Returns the number of iterations that run concurrently.
+     * @return the number of iterations, 1 if they run one by one
+     * @since 3.8
+     */
+    public int parallelIterations() {
+        return m_parallelIterations;
+    }
+
 
     /**
      * Loads the settings from the node settings object.
@@ -80,6 +100,7 @@ public int loops() {
      */
     public void loadSettingsFrom(final NodeSettingsRO settings) {
         m_loops = settings.getInt("loops", 10);
+        m_parallelIterations = ParallelLoopIterations.loadParallelIterations(settings);
     }
 
 
@@ -90,5 +111,6 @@ public void loadSettingsFrom(final NodeSettingsRO settings) {
      */
     public void saveSettingsTo(final NodeSettingsWO settings) {
         settings.addInt("loops", m_loops);
+        ParallelLoopIterations.saveParallelIterations(settings, m_parallelIterations);
     }
 }
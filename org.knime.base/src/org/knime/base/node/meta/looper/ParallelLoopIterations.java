@@ -0,0 +1,160 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.meta.looper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.FlowVariable;
+import org.knime.core.node.workflow.LoopStartParallelizeNode;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkNodeInput;
+
+/**
+ * Holds the iterations a loop start node hands out to copies of the loop body when it runs several iterations
+ * concurrently. The loop start executes the first iteration of each round itself and registers the following ones
+ * via {@link #addIteration(PortObject[], FlowVariable...)}; the framework then runs each of them on a copy of the loop
+ * body (see {@link LoopStartParallelizeNode}) and the loop end collects the results in iteration order. This requires
+ * the loop body to be free of side effects, e.g. it must not write to files shared between iterations.
+ *
+ * <p>Loop start nodes delegate their {@link LoopStartParallelizeNode} methods to an instance of this class and return
+ * <code>false</code> from {@link LoopStartParallelizeNode#isChunkMasterRequired()}, so rounds without further
+ * iterations are not parallelized at all. The copies of a round are removed when the next round with copies starts,
+ * when the loop end is canceled while waiting for them or when the loop start is reset.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class ParallelLoopIterations {
+
+    /** Settings key for the number of iterations that run concurrently. */
+    public static final String CFG_PARALLEL_ITERATIONS = "parallelIterations";
+
+    private final List<VirtualParallelizedChunkNodeInput> m_iterations = new ArrayList<>();
+
+    private ParallelizedChunkContentMaster m_chunkMaster;
+
+    /**
+     * Reads the number of concurrently running iterations from the settings. Settings of older versions don't contain
+     * the key, these loops run their iterations one by one.
+     *
+     * @param settings to read from
+     * @return the number of iterations per round, at least 1
+     */
+    public static int loadParallelIterations(final NodeSettingsRO settings) {
+        return Math.max(1, settings.getInt(CFG_PARALLEL_ITERATIONS, 1));
+    }
+
+    /**
+     * @param settings to write to
+     * @param parallelIterations the number of iterations per round
+     */
+    public static void saveParallelIterations(final NodeSettingsWO settings, final int parallelIterations) {
+        settings.addInt(CFG_PARALLEL_ITERATIONS, parallelIterations);
+    }
+
+    /** Discards the iterations of the previous round, to be called at the beginning of each execution. */
+    public void clearIterations() {
+        m_iterations.clear();
+    }
+
+    /**
+     * Adds an iteration of the current round that runs on a copy of the loop body.
+     *
+     * @param data the data the loop start provides for this iteration, one object per data output
+     * @param variables the flow variables the loop start pushes for this iteration
+     */
+    public void addIteration(final PortObject[] data, final FlowVariable... variables) {
+        m_iterations.add(new VirtualParallelizedChunkNodeInput(data, Arrays.asList(variables), m_iterations.size()));
+    }
+
+    /**
+     * @return the number of iterations of the current round that run on copies of the loop body
+     * @see LoopStartParallelizeNode#getNrRemoteChunks()
+     */
+    public int getNrRemoteChunks() {
+        return m_iterations.size();
+    }
+
+    /**
+     * @param chunkIndex index of the iteration within the current round, not counting the loop start's own
+     * @return the input of the copy running that iteration
+     * @see LoopStartParallelizeNode#getVirtualNodeInput(int)
+     */
+    public VirtualParallelizedChunkNodeInput getVirtualNodeInput(final int chunkIndex) {
+        return m_iterations.get(chunkIndex);
+    }
+
+    /**
+     * Sets the master of the copies running the current round; the copies of the previous round are removed.
+     *
+     * @param pccm the new master
+     * @see LoopStartParallelizeNode#setChunkMaster(ParallelizedChunkContentMaster)
+     */
+    public void setChunkMaster(final ParallelizedChunkContentMaster pccm) {
+        cleanupChunks();
+        m_chunkMaster = pccm;
+    }
+
+    /** Removes all copies of the loop body and forgets the iterations, to be called when the loop start is reset. */
+    public void reset() {
+        cleanupChunks();
+        m_iterations.clear();
+    }
+
+    private void cleanupChunks() {
+        if (m_chunkMaster != null) {
+            m_chunkMaster.cleanupChunks();
+            m_chunkMaster = null;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.meta.looper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.LoopEndParallelizeNode;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
+
+/**
+ * Collects the results of the iterations a loop start ran on copies of the loop body, see
+ * {@link ParallelLoopIterations}. Loop end nodes delegate their {@link LoopEndParallelizeNode} methods to an instance
+ * of this class and call {@link #collect(ExecutionContext)} after they processed their own input.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ParallelLoopResults {
+
+    /** Upper bound for the time between two checks of the copies' state. */
+    private static final long WAIT_MILLIS = 500;
+
+    private final Object m_lock = new Object();
+
+    private ParallelizedChunkContentMaster m_chunkMaster;
+
+    /** @param pcm the master of the copies running the current round */
+    void setParallelChunkMaster(final ParallelizedChunkContentMaster pcm) {
+        synchronized (m_lock) {
+            m_chunkMaster = pcm;
+        }
+    }
+
+    /** Wakes up a waiting {@link #collect(ExecutionContext)}. */
+    void updateStatus() {
+        synchronized (m_lock) {
+            m_lock.notifyAll();
+        }
+    }
+
+    /**
+     * Waits until all copies of the current round are executed and returns their input tables.
+     *
+     * @param exec for cancelation and progress
+     * @return one array of input tables per copy, in iteration order; empty if the round has no copies
+     * @throws CanceledExecutionException if canceled, the copies are canceled and removed
+     * @throws Exception if one of the copies failed
+     */
+    List<BufferedDataTable[]> collect(final ExecutionContext exec) throws Exception {
+        final ParallelizedChunkContentMaster master;
+        synchronized (m_lock) {
+            master = m_chunkMaster;
+            m_chunkMaster = null;
+        }
+        if (master == null || master.nrChunks() == 0) {
+            return Collections.emptyList();
+        }
+        exec.setMessage("Waiting for " + master.nrChunks() + " parallel iteration(s)");
+        // the chunk states are not queried while holding the lock, state changes are notified by other threads
+        try {
+            while (master.nrExecutingChunks() > 0) {
+                exec.checkCanceled();
+                waitForStatusUpdate();
+            }
+            // copies may have stopped because they were canceled along with this node
+            exec.checkCanceled();
+        } catch (CanceledExecutionException cee) {
+            master.cancelChunkExecution();
+            while (master.isExecutionInProgress()) {
+                waitForStatusUpdate();
+            }
+            // the loop is not continued, the copies must not stay around until the loop start is reset
+            master.cleanupChunks();
+            throw cee;
+        }
+        final int failed = master.nrFailedChunks();
+        if (failed > 0) {
+            throw new Exception(failed + " of " + master.nrChunks()
+                + " parallel iteration(s) failed, see the \"Parallel Chunks\" metanode for details");
+        }
+        final List<BufferedDataTable[]> result = new ArrayList<>(master.nrChunks());
+        for (int i = 0; i < master.nrChunks(); i++) {
+            final PortObject[] content = master.getChunk(i).getOutportContent();
+            final BufferedDataTable[] tables = new BufferedDataTable[content.length];
+            for (int p = 0; p < content.length; p++) {
+                tables[p] = (BufferedDataTable)content[p];
+            }
+            result.add(tables);
+        }
+        return result;
+    }
+
+    private void waitForStatusUpdate() throws InterruptedException {
+        synchronized (m_lock) {
+            m_lock.wait(WAIT_MILLIS);
+        }
+    }
+
+    /** Forgets the master, to be called when the loop end is reset. */
+    void reset() {
+        synchronized (m_lock) {
+            m_chunkMaster = null;
+        }
+    }
+}
@@ -47,6 +47,7 @@
  */
 package org.knime.base.node.meta.looper.chunk;
 
+import org.knime.base.node.meta.looper.ParallelLoopIterations;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
@@ -68,6 +69,7 @@ enum Mode {
     private Mode m_mode = Mode.RowsPerChunk;
     private int m_nrRowsPerChunk = 1;
     private int m_nrOfChunks = 1;
+    private int m_parallelIterations = 1;
 
     /** @return the mode */
     Mode getMode() {
@@ -109,12 +111,27 @@ void setNrOfChunks(final int nrOfChunks) throws InvalidSettingsException {
         m_nrOfChunks = nrOfChunks;
     }
 
+    /** @return the number of iterations running concurrently */
+    int getParallelIterations() {
+        return m_parallelIterations;
+    }
+    /** @param parallelIterations the number of iterations running concurrently
+    * @throws InvalidSettingsException If argument &lt; 1*/
+    void setParallelIterations(final int parallelIterations) throws InvalidSettingsException {
+        if (parallelIterations < 1) {
+            throw new InvalidSettingsException("No of parallel iterations must "
+                    + "be at least 1: " + parallelIterations);
+        }
+        m_parallelIterations = parallelIterations;
+    }
+
     /** Saves current settings to argument.
      * @param settings To save to. */
     void saveSettingsTo(final NodeSettingsWO settings) {
         settings.addString("mode", m_mode.name());
         settings.addInt("nrRowsPerChunk", m_nrRowsPerChunk);
         settings.addInt("nrOfChunks", m_nrOfChunks);
+        ParallelLoopIterations.saveParallelIterations(settings, m_parallelIterations);
     }
 
     /** Load settings in model, fails if incomplete.
@@ -134,6 +151,8 @@ void loadSettingsInModel(final NodeSettingsRO settings)
         }
         setNrRowsPerChunk(settings.getInt("nrRowsPerChunk"));
         setNrOfChunks(settings.getInt("nrOfChunks"));
+        // added in 3.8
+        setParallelIterations(ParallelLoopIterations.loadParallelIterations(settings));
     }
 
     /** Load settings in dialog, use default if invalid.
@@ -159,6 +178,7 @@ void loadSettingsInDialog(final NodeSettingsRO settings) {
         } catch (InvalidSettingsException e) {
             // use default;
         }
+        m_parallelIterations = ParallelLoopIterations.loadParallelIterations(settings);
     }
 
     /** {@inheritDoc} */
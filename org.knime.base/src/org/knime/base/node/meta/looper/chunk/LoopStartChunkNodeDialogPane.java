@@ -54,6 +54,7 @@
 
 import javax.swing.ButtonGroup;
 import javax.swing.JComponent;
+import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JRadioButton;
 import javax.swing.JSpinner;
@@ -77,6 +78,7 @@ public class LoopStartChunkNodeDialogPane extends NodeDialogPane {
     private final JRadioButton m_chunkCountButton;
     private final JSpinner m_rowsPerChunkSpinner;
     private final JSpinner m_chunkCountSpinner;
+    private final JSpinner m_parallelIterationsSpinner;
 
     /**
      *
@@ -100,6 +102,8 @@ public void actionPerformed(final ActionEvent e) {
                 10, 1, Integer.MAX_VALUE, 5));
         m_rowsPerChunkSpinner = new JSpinner(new SpinnerNumberModel(
                 10, 1, Integer.MAX_VALUE, 10));
+        m_parallelIterationsSpinner = new JSpinner(new SpinnerNumberModel(
+                1, 1, Integer.MAX_VALUE, 1));
         m_rowsPerChunkButton.doClick();
         initLayout();
     }
@@ -113,6 +117,8 @@ private void initLayout() {
         panel.add(getInFlowLayout(m_rowsPerChunkSpinner));
         panel.add(getInFlowLayout(m_chunkCountButton));
         panel.add(getInFlowLayout(m_chunkCountSpinner));
+        panel.add(getInFlowLayout(new JLabel("Parallel iterations")));
+        panel.add(getInFlowLayout(m_parallelIterationsSpinner));
         addTab("Configuration", panel);
     }
 
@@ -145,6 +151,7 @@ protected void loadSettingsFrom(final NodeSettingsRO settings,
         config.loadSettingsInDialog(settings);
         m_chunkCountSpinner.setValue(config.getNrOfChunks());
         m_rowsPerChunkSpinner.setValue(config.getNrRowsPerChunk());
+        m_parallelIterationsSpinner.setValue(config.getParallelIterations());
         switch (config.getMode()) {
         case RowsPerChunk:
             m_rowsPerChunkButton.doClick();
@@ -161,6 +168,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings)
         LoopStartChunkConfiguration config = new LoopStartChunkConfiguration();
         config.setNrOfChunks((Integer)m_chunkCountSpinner.getValue());
         config.setNrRowsPerChunk((Integer)m_rowsPerChunkSpinner.getValue());
+        config.setParallelIterations((Integer)m_parallelIterationsSpinner.getValue());
         if (m_rowsPerChunkButton.isSelected()) {
             config.setMode(Mode.RowsPerChunk);
         } else {
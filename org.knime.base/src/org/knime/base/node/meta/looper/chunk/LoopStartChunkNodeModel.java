@@ -50,6 +50,7 @@
 import java.io.File;
 import java.io.IOException;
 
+import org.knime.base.node.meta.looper.ParallelLoopIterations;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.node.BufferedDataContainer;
@@ -61,7 +62,11 @@
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.workflow.FlowVariable;
 import org.knime.core.node.workflow.LoopStartNodeTerminator;
+import org.knime.core.node.workflow.LoopStartParallelizeNode;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkNodeInput;
 
 /**
  * Loop start node that outputs a set of rows at a time. Used to implement
@@ -71,7 +76,7 @@
  * @author Bernd Wiswedel, KNIME AG, Zurich, Switzerland
  */
 public class LoopStartChunkNodeModel extends NodeModel implements
-        LoopStartNodeTerminator {
+        LoopStartNodeTerminator, LoopStartParallelizeNode {
 
     private LoopStartChunkConfiguration m_config;
 
@@ -82,6 +87,8 @@ public class LoopStartChunkNodeModel extends NodeModel implements
     // loop variants
     private int m_iteration;
 
+    private final ParallelLoopIterations m_parallelIterations = new ParallelLoopIterations();
+
     /**
      * Creates a new model.
      */
@@ -140,15 +147,28 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
             assert table == m_table : "Input tables differ between iterations";
         }
 
+        BufferedDataTable chunk = nextChunk(table, nrRowsPerIteration, exec);
+        pushFlowVariableInt("currentIteration", m_iteration);
+        pushFlowVariableInt("maxIterations", totalChunkCount);
+        m_iteration++;
+        // the following chunks of this round are processed by copies of the loop body
+        m_parallelIterations.clearIterations();
+        for (int i = 1; i < m_config.getParallelIterations() && m_iterator.hasNext(); i++) {
+            m_parallelIterations.addIteration(new BufferedDataTable[] {nextChunk(table, nrRowsPerIteration, exec)},
+                new FlowVariable("currentIteration", m_iteration), new FlowVariable("maxIterations", totalChunkCount));
+            m_iteration++;
+        }
+        return new BufferedDataTable[] {chunk};
+    }
+
+    private BufferedDataTable nextChunk(final BufferedDataTable table,
+            final int nrRows, final ExecutionContext exec) {
         BufferedDataContainer cont = exec.createDataContainer(table.getSpec());
-        for (int i = 0; i < nrRowsPerIteration && m_iterator.hasNext(); i++) {
+        for (int i = 0; i < nrRows && m_iterator.hasNext(); i++) {
             cont.addRowToTable(m_iterator.next());
         }
         cont.close();
-        pushFlowVariableInt("currentIteration", m_iteration);
-        pushFlowVariableInt("maxIterations", totalChunkCount);
-        m_iteration++;
-        return new BufferedDataTable[] {cont.getTable()};
+        return cont.getTable();
     }
 
     /**
@@ -162,6 +182,43 @@ protected void reset() {
         }
         m_iterator = null;
         m_table = null;
+        m_parallelIterations.reset();
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.8
+     */
+    @Override
+    public VirtualParallelizedChunkNodeInput getVirtualNodeInput(final int chunkIndex) {
+        return m_parallelIterations.getVirtualNodeInput(chunkIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.8
+     */
+    @Override
+    public int getNrRemoteChunks() {
+        return m_parallelIterations.getNrRemoteChunks();
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.8
+     */
+    @Override
+    public void setChunkMaster(final ParallelizedChunkContentMaster pccm) {
+        m_parallelIterations.setChunkMaster(pccm);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.8
+     */
+    @Override
+    public boolean isChunkMasterRequired() {
+        return false;
     }
 
     /** {@inheritDoc} */
@@ -47,6 +47,8 @@
  */
 package org.knime.base.node.meta.looper.group;
 
+import org.knime.base.node.meta.looper.ParallelLoopIterations;
+
 /**
  * 
  * @author Kilian Thiel, KNIME.com, Berlin, Germany
@@ -64,4 +66,14 @@ private GroupLoopStartConfigKeys() { /* empty constructor */ }
      * The configuration key for "sorted input" setting.
      */
     static final String SORTED_INPUT_TABLE = "SortedInput";
+
+    /**
+     * The configuration key for the "hash partitioning" setting.
+     */
+    static final String HASH_PARTITIONING = "HashPartitioning";
+
+    /**
+     * The configuration key for the number of groups processed concurrently.
+     */
+    static final String PARALLEL_ITERATIONS = ParallelLoopIterations.CFG_PARALLEL_ITERATIONS;
 }
@@ -50,8 +50,10 @@
 import org.knime.core.node.defaultnodesettings.DefaultNodeSettingsPane;
 import org.knime.core.node.defaultnodesettings.DialogComponentBoolean;
 import org.knime.core.node.defaultnodesettings.DialogComponentColumnFilter2;
+import org.knime.core.node.defaultnodesettings.DialogComponentNumber;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelColumnFilter2;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 
 /**
  * Creates the dialog of the group loop start node and provides static methods
@@ -83,6 +85,31 @@ static final SettingsModelBoolean getSortedInputTableModel() {
                 GroupLoopStartNodeModel.DEF_SORTED_INPUT_TABLE);
     }
 
+    /**
+     * Creates and returns the settings model, storing the "hash partitioning"
+     * flag.
+     *
+     * @return The settings model with the "hash partitioning" flag.
+     */
+    static final SettingsModelBoolean getHashPartitioningModel() {
+        return new SettingsModelBoolean(
+                GroupLoopStartConfigKeys.HASH_PARTITIONING,
+                GroupLoopStartNodeModel.DEF_HASH_PARTITIONING);
+    }
+
+    /**
+     * Creates and returns the settings model, storing the number of groups
+     * that are processed concurrently.
+     *
+     * @return The settings model with the number of parallel iterations.
+     */
+    static final SettingsModelIntegerBounded getParallelIterationsModel() {
+        return new SettingsModelIntegerBounded(
+                GroupLoopStartConfigKeys.PARALLEL_ITERATIONS,
+                GroupLoopStartNodeModel.DEF_PARALLEL_ITERATIONS, 1,
+                Integer.MAX_VALUE);
+    }
+
     /**
      * Creates new instance of <code>GroupLoopStartNodeDialog</code>.
      */
@@ -93,9 +120,35 @@ public GroupLoopStartNodeDialog() {
                 getFilterDoubleColModel(), 0));
 
         // sorted input table
+        final SettingsModelBoolean sortedInputTableModel =
+            getSortedInputTableModel();
         addDialogComponent(
-                new DialogComponentBoolean(getSortedInputTableModel(),
+                new DialogComponentBoolean(sortedInputTableModel,
                         "Input is already sorted by group column(s) "
                         + "[execution fails if not correctly sorted]"));
+
+        // hash partitioning, irrelevant if the input is sorted
+        final SettingsModelBoolean hashPartitioningModel =
+            getHashPartitioningModel();
+        addDialogComponent(
+                new DialogComponentBoolean(hashPartitioningModel,
+                        "Group by hashing instead of sorting "
+                        + "[groups are not sorted]"));
+        sortedInputTableModel.addChangeListener(e -> hashPartitioningModel
+            .setEnabled(!sortedInputTableModel.getBooleanValue()));
+
+        // parallel iterations, the groups are only materialized up front if
+        // they are found by hashing
+        final SettingsModelIntegerBounded parallelIterationsModel =
+            getParallelIterationsModel();
+        addDialogComponent(new DialogComponentNumber(parallelIterationsModel,
+            "Parallel iterations [requires grouping by hashing]", 1));
+        final Runnable updateParallelIterations = () -> parallelIterationsModel
+            .setEnabled(hashPartitioningModel.isEnabled()
+                && hashPartitioningModel.getBooleanValue());
+        sortedInputTableModel.addChangeListener(
+            e -> updateParallelIterations.run());
+        hashPartitioningModel.addChangeListener(
+            e -> updateParallelIterations.run());
     }
 }
@@ -49,9 +49,11 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.knime.base.node.meta.looper.ParallelLoopIterations;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
@@ -72,7 +74,12 @@
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelColumnFilter2;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
+import org.knime.core.node.workflow.FlowVariable;
 import org.knime.core.node.workflow.LoopStartNodeTerminator;
+import org.knime.core.node.workflow.LoopStartParallelizeNode;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkNodeInput;
 import org.knime.core.util.DuplicateChecker;
 import org.knime.core.util.DuplicateKeyException;
 
@@ -82,17 +89,30 @@
  * Sorting can be switched. In this case an already properly sorted input table
  * is required. If sorting is switched off but input table is not properly
  * sorted an error will occur (Exception thrown).
+ * If the groups are found by hashing, several groups can be processed
+ * concurrently on copies of the loop body, see {@link ParallelLoopIterations}.
  *
  * @author Kilian Thiel, KNIME.com, Berlin, Germany
  */
 class GroupLoopStartNodeModel extends NodeModel implements
-        LoopStartNodeTerminator, BufferedDataTableHolder {
+        LoopStartNodeTerminator, BufferedDataTableHolder,
+        LoopStartParallelizeNode {
 
     /**
      * The default "sorted input table" setting.
      */
     public static final boolean DEF_SORTED_INPUT_TABLE = false;
 
+    /**
+     * The default "hash partitioning" setting.
+     */
+    public static final boolean DEF_HASH_PARTITIONING = false;
+
+    /**
+     * The default number of groups processed concurrently.
+     */
+    public static final int DEF_PARALLEL_ITERATIONS = 1;
+
     /**
      * The separator to separate groups in group identifier.
      */
@@ -104,6 +124,15 @@ class GroupLoopStartNodeModel extends NodeModel implements
     private final SettingsModelBoolean m_sortedInputTableModel =
         GroupLoopStartNodeDialog.getSortedInputTableModel();
 
+    private final SettingsModelBoolean m_hashPartitioningModel =
+        GroupLoopStartNodeDialog.getHashPartitioningModel();
+
+    private final SettingsModelIntegerBounded m_parallelIterationsModel =
+        GroupLoopStartNodeDialog.getParallelIterationsModel();
+
+    private final ParallelLoopIterations m_parallelIterations =
+        new ParallelLoopIterations();
+
     // loop invariants
     private BufferedDataTable m_table;
     private BufferedDataTable m_sortedTable;
@@ -111,6 +140,7 @@ class GroupLoopStartNodeModel extends NodeModel implements
     private DataTableSpec m_spec;
     private int[] m_includedColIndices;
     private DuplicateChecker m_duplicateChecker;
+    private HashGroupIterator m_hashGroups;
 
     // loop variants
     private int m_iteration;
@@ -191,7 +221,12 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
             m_spec = m_table.getDataTableSpec();
 
             // sort if not already sorted
-            if (!m_sortedInputTableModel.getBooleanValue()) {
+            if (!m_sortedInputTableModel.getBooleanValue()
+                    && m_hashPartitioningModel.getBooleanValue()) {
+                // groups are found by hashing, no sort necessary
+                m_hashGroups = new HashGroupIterator(table,
+                        m_includedColIndices, exec);
+            } else if (!m_sortedInputTableModel.getBooleanValue()) {
                 // asc
                 final String[] includes = m_filterGroupColModel.applyTo(spec).getIncludes();
                 boolean[] sortAsc = new boolean[includes.length];
@@ -205,12 +240,19 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
                 m_sortedTable = table;
             }
 
-            m_iterator = m_sortedTable.iterator();
+            if (m_hashGroups == null) {
+                m_iterator = m_sortedTable.iterator();
+            }
         } else {
             assert getLoopEndNode() != null : "No end node set";
             assert table == m_table : "Input tables differ between iterations";
         }
 
+        m_parallelIterations.clearIterations();
+        if (m_hashGroups != null) {
+            return executeHashGroup(table, exec);
+        }
+
 
         ///////////////////////////
         //
@@ -327,12 +369,73 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
         return new BufferedDataTable[] {cont.getTable()};
     }
 
+    /**
+     * Emits the next group found by the {@link HashGroupIterator}. The
+     * following groups of this round are materialized as well and processed
+     * by copies of the loop body.
+     */
+    private BufferedDataTable[] executeHashGroup(final BufferedDataTable table,
+            final ExecutionContext exec) throws CanceledExecutionException {
+        BufferedDataContainer cont = exec.createDataContainer(table.getSpec());
+        GroupingState groupingState = nextHashGroup(cont, exec);
+        cont.close();
+
+        // push variables
+        pushFlowVariableInt("currentIteration", m_iteration);
+        pushGroupColumnValuesAsFlowVariables(groupingState);
+        pushFlowVariableString("groupIdentifier",
+                groupingState.getGroupIdentifier());
+        m_iteration++;
+
+        for (int i = 1; i < m_parallelIterationsModel.getIntValue()
+                && m_hashGroups.hasNext(exec); i++) {
+            BufferedDataContainer chunkCont =
+                exec.createDataContainer(table.getSpec());
+            GroupingState chunkState = nextHashGroup(chunkCont, exec);
+            chunkCont.close();
+            List<FlowVariable> variables = new ArrayList<FlowVariable>();
+            variables.add(new FlowVariable("currentIteration", m_iteration));
+            variables.addAll(createGroupColumnValueVariables(chunkState));
+            variables.add(new FlowVariable("groupIdentifier",
+                    chunkState.getGroupIdentifier()));
+            m_parallelIterations.addIteration(
+                    new BufferedDataTable[] {chunkCont.getTable()},
+                    variables.toArray(new FlowVariable[variables.size()]));
+            m_iteration++;
+        }
+        m_endLoop = !m_hashGroups.hasNext(exec);
+
+        return new BufferedDataTable[] {cont.getTable()};
+    }
+
+    /**
+     * Adds the rows of the next group found by the {@link HashGroupIterator}
+     * to the given container.
+     *
+     * @return the grouping state of the group, an empty state if there are no
+     * groups left
+     */
+    private GroupingState nextHashGroup(final BufferedDataContainer cont,
+            final ExecutionContext exec) throws CanceledExecutionException {
+        if (!m_hashGroups.hasNext(exec)) {
+            return new GroupingState("", false, null);
+        }
+        DataCell[] groupCells = m_hashGroups.next(cont);
+        String groupIdentifier = "";
+        for (DataCell c : groupCells) {
+            groupIdentifier += GROUP_SEPARATOR + c.toString()
+                             + GROUP_SEPARATOR;
+        }
+        return new GroupingState(groupIdentifier, false, groupCells);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean terminateLoop() {
-        boolean continueLoop = m_iterator == null || !m_endLoop;
+        boolean continueLoop =
+            (m_iterator == null && m_hashGroups == null) || !m_endLoop;
         return !continueLoop;
     }
 
@@ -349,6 +452,10 @@ protected void reset() {
             m_duplicateChecker.clear();
             m_duplicateChecker = null;
         }
+        if (m_hashGroups != null) {
+            m_hashGroups.close();
+            m_hashGroups = null;
+        }
 
         m_iteration = 0;
         m_table = null;
@@ -362,12 +469,50 @@ protected void reset() {
 
         m_lastGroupingState = null;
         m_currentGroupingState = null;
+
+        m_parallelIterations.reset();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VirtualParallelizedChunkNodeInput getVirtualNodeInput(
+            final int chunkIndex) {
+        return m_parallelIterations.getVirtualNodeInput(chunkIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNrRemoteChunks() {
+        return m_parallelIterations.getNrRemoteChunks();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setChunkMaster(final ParallelizedChunkContentMaster pccm) {
+        m_parallelIterations.setChunkMaster(pccm);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isChunkMasterRequired() {
+        return false;
     }
 
     /** {@inheritDoc} */
     @Override
     public BufferedDataTable[] getInternalTables() {
         if (!m_endLoop) {
+            if (m_hashGroups != null) {
+                return m_hashGroups.getTables();
+            }
             return new BufferedDataTable[] {m_sortedTable};
         }
         return null;
@@ -398,6 +543,29 @@ private void pushGroupColumnValuesAsFlowVariables(final GroupingState gs) {
         }
     }
 
+    /**
+     * Creates the flow variables holding the values of the specified grouping
+     * state, for a group that is processed by a copy of the loop body.
+     *
+     * @param gs The grouping state holding the variables (cells).
+     * @return The variables, the same as pushed by
+     * {@link #pushGroupColumnValuesAsFlowVariables(GroupingState)}.
+     */
+    private List<FlowVariable> createGroupColumnValueVariables(
+            final GroupingState gs) {
+        List<FlowVariable> variables = new ArrayList<FlowVariable>();
+        DataCell[] cells = gs.getGroupCells();
+        if (cells != null) {
+            for (int i = 0; i < cells.length; i++) {
+                DataCell c = cells[i];
+                int j = m_includedColIndices[i];
+                variables.add(createVariable(c.getType(),
+                        m_spec.getColumnSpec(j).getName(), c));
+            }
+        }
+        return variables;
+    }
+
     /**
      * Pushed initial values for each group column as flow variables.
      */
@@ -421,6 +589,29 @@ private void initGroupColumnsAsFlowVariables() {
      */
     private void pushVariable(final DataType type, final String name,
             final DataCell c) {
+        FlowVariable variable = createVariable(type, name, c);
+        switch (variable.getType()) {
+            case INTEGER:
+                pushFlowVariableInt(name, variable.getIntValue());
+                break;
+            case DOUBLE:
+                pushFlowVariableDouble(name, variable.getDoubleValue());
+                break;
+            default:
+                pushFlowVariableString(name, variable.getStringValue());
+        }
+    }
+
+    /**
+     * Creates a certain flow variable based on the specified data type.
+     *
+     * @param type The type of the variable to create.
+     * @param name The name of the variable to create.
+     * @param c The value of the variable to create.
+     * @return The variable.
+     */
+    private static FlowVariable createVariable(final DataType type,
+            final String name, final DataCell c) {
         DataType dt = type;
         if (c != null) {
             dt = c.getType();
@@ -433,7 +624,7 @@ private void pushVariable(final DataType type, final String name,
                     value = ((IntValue)c).getIntValue();
                 }
             }
-            pushFlowVariableInt(name, value);
+            return new FlowVariable(name, value);
         } else if (dt.isCompatible(DoubleValue.class)) {
             double value = 0.0;
             if (c != null) {
@@ -441,7 +632,7 @@ private void pushVariable(final DataType type, final String name,
                     value = ((DoubleValue)c).getDoubleValue();
                 }
             }
-            pushFlowVariableDouble(name, value);
+            return new FlowVariable(name, value);
         } else {
             String value = "";
             if (c != null) {
@@ -449,7 +640,7 @@ private void pushVariable(final DataType type, final String name,
                     value = c.toString();
                 }
             }
-            pushFlowVariableString(name, value);
+            return new FlowVariable(name, value);
         }
     }
 
@@ -542,6 +733,8 @@ private int[] getIncludedColIndices(final DataTableSpec dataSpec) {
     protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_filterGroupColModel.saveSettingsTo(settings);
         m_sortedInputTableModel.saveSettingsTo(settings);
+        m_hashPartitioningModel.saveSettingsTo(settings);
+        m_parallelIterationsModel.saveSettingsTo(settings);
     }
 
     /**
@@ -552,6 +745,13 @@ protected void validateSettings(final NodeSettingsRO settings)
             throws InvalidSettingsException {
         m_filterGroupColModel.validateSettings(settings);
         m_sortedInputTableModel.validateSettings(settings);
+        // added in 3.8
+        if (settings.containsKey(GroupLoopStartConfigKeys.HASH_PARTITIONING)) {
+            m_hashPartitioningModel.validateSettings(settings);
+        }
+        if (settings.containsKey(GroupLoopStartConfigKeys.PARALLEL_ITERATIONS)) {
+            m_parallelIterationsModel.validateSettings(settings);
+        }
     }
 
     /**
@@ -562,6 +762,18 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
             throws InvalidSettingsException {
         m_filterGroupColModel.loadSettingsFrom(settings);
         m_sortedInputTableModel.loadSettingsFrom(settings);
+        // added in 3.8, sort the input in workflows of older versions
+        if (settings.containsKey(GroupLoopStartConfigKeys.HASH_PARTITIONING)) {
+            m_hashPartitioningModel.loadSettingsFrom(settings);
+        } else {
+            m_hashPartitioningModel.setBooleanValue(false);
+        }
+        // added in 3.8, older workflows process one group at a time
+        if (settings.containsKey(GroupLoopStartConfigKeys.PARALLEL_ITERATIONS)) {
+            m_parallelIterationsModel.loadSettingsFrom(settings);
+        } else {
+            m_parallelIterationsModel.setIntValue(DEF_PARALLEL_ITERATIONS);
+        }
     }
 
 
@@ -0,0 +1,298 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.meta.looper.group;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.sort.BufferedDataTableSorter;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+
+/**
+ * Splits a table into the groups defined by a set of columns without sorting the entire table. Unless the table is
+ * small enough to be grouped in memory, a single pass distributes the rows onto partitions by the hash of their group,
+ * so that all rows of a group end up in the same partition. The partitions are then grouped in memory one after the
+ * other; a partition that doesn't fit into memory (because of a few very large groups) is sorted by the group columns
+ * instead. The groups are returned in no particular order, the rows of a group keep their order in the input.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class HashGroupIterator {
+
+    /** Rough estimate of the memory taken by a cell of a row that is kept in memory. */
+    private static final long BYTES_PER_CELL = 64;
+
+    /** Lower bound for the number of rows grouped in memory. */
+    private static final long MIN_ROWS_IN_MEMORY = 10000;
+
+    /** Upper bound for the number of partitions written in the first pass. */
+    private static final int MAX_PARTITIONS = 256;
+
+    private final int[] m_groupColIndices;
+
+    private final long m_maxRowsInMemory;
+
+    private final BufferedDataTable[] m_partitions;
+
+    private int m_nextPartition;
+
+    // groups of the current partition if it is grouped in memory
+    private Iterator<Map.Entry<GroupKey, List<DataRow>>> m_groupsInMemory;
+
+    // the current partition if it is sorted
+    private BufferedDataTable m_sortedPartition;
+
+    private CloseableRowIterator m_sortedIterator;
+
+    // first row of the next group in the sorted partition
+    private DataRow m_pendingRow;
+
+    /**
+     * Partitions the table, the number of rows grouped in memory is derived from the available memory.
+     *
+     * @param table the table to group
+     * @param groupColIndices indices of the group columns
+     * @param exec for progress, cancelation and the creation of the partitions
+     * @throws CanceledExecutionException if canceled
+     */
+    HashGroupIterator(final BufferedDataTable table, final int[] groupColIndices, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        this(table, groupColIndices, getMaxRowsInMemory(table.getDataTableSpec()), exec);
+    }
+
+    /**
+     * Partitions the table.
+     *
+     * @param table the table to group
+     * @param groupColIndices indices of the group columns
+     * @param maxRowsInMemory the maximum number of rows grouped in memory at a time
+     * @param exec for progress, cancelation and the creation of the partitions
+     * @throws CanceledExecutionException if canceled
+     */
+    HashGroupIterator(final BufferedDataTable table, final int[] groupColIndices, final long maxRowsInMemory,
+        final ExecutionContext exec) throws CanceledExecutionException {
+        m_groupColIndices = groupColIndices;
+        m_maxRowsInMemory = maxRowsInMemory;
+        if (table.size() <= maxRowsInMemory) {
+            m_partitions = new BufferedDataTable[]{table};
+        } else {
+            m_partitions = partition(table, exec);
+        }
+    }
+
+    private static long getMaxRowsInMemory(final DataTableSpec spec) {
+        final Runtime runtime = Runtime.getRuntime();
+        final long freeMemory = runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+        return Math.max(MIN_ROWS_IN_MEMORY, freeMemory / (4 * BYTES_PER_CELL * Math.max(1, spec.getNumColumns())));
+    }
+
+    private BufferedDataTable[] partition(final BufferedDataTable table, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        final int nrPartitions = (int)Math.min(MAX_PARTITIONS, 2 * (table.size() / m_maxRowsInMemory + 1));
+        final BufferedDataContainer[] containers = new BufferedDataContainer[nrPartitions];
+        for (int p = 0; p < nrPartitions; p++) {
+            containers[p] = exec.createDataContainer(table.getDataTableSpec(), false, 0);
+        }
+        final double rowCount = table.size();
+        long rowIndex = 0;
+        for (DataRow row : table) {
+            exec.checkCanceled();
+            exec.setProgress(rowIndex++ / rowCount, "Partitioning groups");
+            containers[Math.floorMod(new GroupKey(row, m_groupColIndices).hashCode(), nrPartitions)]
+                .addRowToTable(row);
+        }
+        final BufferedDataTable[] partitions = new BufferedDataTable[nrPartitions];
+        for (int p = 0; p < nrPartitions; p++) {
+            containers[p].close();
+            partitions[p] = containers[p].getTable();
+        }
+        return partitions;
+    }
+
+    /**
+     * @param exec for cancelation and the sorting of large partitions
+     * @return whether there is another group
+     * @throws CanceledExecutionException if canceled
+     */
+    boolean hasNext(final ExecutionContext exec) throws CanceledExecutionException {
+        while ((m_groupsInMemory == null || !m_groupsInMemory.hasNext()) && m_pendingRow == null) {
+            if (m_nextPartition >= m_partitions.length) {
+                return false;
+            }
+            loadPartition(m_partitions[m_nextPartition++], exec);
+        }
+        return true;
+    }
+
+    private void loadPartition(final BufferedDataTable partition, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        m_groupsInMemory = null;
+        m_sortedPartition = null;
+        if (partition.size() <= m_maxRowsInMemory) {
+            final Map<GroupKey, List<DataRow>> groups = new LinkedHashMap<>();
+            for (DataRow row : partition) {
+                exec.checkCanceled();
+                groups.computeIfAbsent(new GroupKey(row, m_groupColIndices), k -> new ArrayList<>()).add(row);
+            }
+            m_groupsInMemory = groups.entrySet().iterator();
+        } else {
+            final DataTableSpec spec = partition.getDataTableSpec();
+            final List<String> groupColNames = new ArrayList<>(m_groupColIndices.length);
+            for (int index : m_groupColIndices) {
+                groupColNames.add(spec.getColumnSpec(index).getName());
+            }
+            final boolean[] sortAsc = new boolean[m_groupColIndices.length];
+            Arrays.fill(sortAsc, true);
+            m_sortedPartition = new BufferedDataTableSorter(partition, groupColNames, sortAsc, false).sort(exec);
+            m_sortedIterator = m_sortedPartition.iterator();
+            if (m_sortedIterator.hasNext()) {
+                m_pendingRow = m_sortedIterator.next();
+            } else {
+                closeSortedIterator();
+            }
+        }
+    }
+
+    /**
+     * Adds the rows of the next group to the argument container, {@link #hasNext(ExecutionContext)} must have returned
+     * true before.
+     *
+     * @param cont to add the rows to
+     * @return the cells of the group columns of the group
+     */
+    DataCell[] next(final BufferedDataContainer cont) {
+        if (m_pendingRow == null) {
+            final Map.Entry<GroupKey, List<DataRow>> group = m_groupsInMemory.next();
+            // release the rows early, the partition can be large
+            m_groupsInMemory.remove();
+            for (DataRow row : group.getValue()) {
+                cont.addRowToTable(row);
+            }
+            return group.getKey().m_cells;
+        }
+        final GroupKey key = new GroupKey(m_pendingRow, m_groupColIndices);
+        cont.addRowToTable(m_pendingRow);
+        m_pendingRow = null;
+        while (m_sortedIterator.hasNext()) {
+            final DataRow row = m_sortedIterator.next();
+            if (!key.equals(new GroupKey(row, m_groupColIndices))) {
+                m_pendingRow = row;
+                return key.m_cells;
+            }
+            cont.addRowToTable(row);
+        }
+        closeSortedIterator();
+        return key.m_cells;
+    }
+
+    /** @return the tables still needed for the remaining groups */
+    BufferedDataTable[] getTables() {
+        final List<BufferedDataTable> tables = new ArrayList<>();
+        if (m_sortedIterator != null) {
+            tables.add(m_sortedPartition);
+        }
+        if (m_groupsInMemory != null && m_groupsInMemory.hasNext()) {
+            // the rows of the remaining groups in memory still belong to the last loaded partition
+            tables.add(m_partitions[m_nextPartition - 1]);
+        }
+        tables.addAll(Arrays.asList(m_partitions).subList(m_nextPartition, m_partitions.length));
+        return tables.toArray(new BufferedDataTable[tables.size()]);
+    }
+
+    /** Releases the resources, the iterator must not be used afterwards. */
+    void close() {
+        closeSortedIterator();
+        m_groupsInMemory = null;
+    }
+
+    private void closeSortedIterator() {
+        if (m_sortedIterator != null) {
+            m_sortedIterator.close();
+            m_sortedIterator = null;
+        }
+        m_sortedPartition = null;
+        m_pendingRow = null;
+    }
+
+    /** The cells of the group columns of a row. */
+    private static final class GroupKey {
+
+        private final DataCell[] m_cells;
+
+        private final int m_hashCode;
+
+        GroupKey(final DataRow row, final int[] groupColIndices) {
+            m_cells = new DataCell[groupColIndices.length];
+            for (int i = 0; i < groupColIndices.length; i++) {
+                m_cells[i] = row.getCell(groupColIndices[i]);
+            }
+            m_hashCode = Arrays.hashCode(m_cells);
+        }
+
+        @Override
+        public int hashCode() {
+            return m_hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof GroupKey && Arrays.equals(m_cells, ((GroupKey)obj).m_cells);
+        }
+    }
+}
@@ -60,6 +60,7 @@
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelColumnName;
+import org.knime.core.util.BlockedBloomFilter;
 
 /**
  * The Reference Row Filter node allow the filtering of row IDs based on a second reference table. Two modes are
@@ -70,6 +71,9 @@
  */
 public abstract class AbstractRowRefNodeModel extends NodeModel {
 
+    /** Bits per value of the Bloom filter on the data table, resulting in a false positive rate of about 1%. */
+    private static final int BITS_PER_DATA_VALUE = 10;
+
     /** Settings model for the reference column of the data table to filter. */
     private final SettingsModelColumnName m_dataTableCol = RowRefNodeDialogPane.createDataTableColModel();
 
@@ -161,27 +165,27 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
             }
         }
 
-        //create the set to filter by
-        final Set<Object> keySet = new HashSet<Object>();
-        if (filterByString) {
-            if (useRefRowKey) {
-                for (final DataRow row : refTable) {
-                    keySet.add(row.getKey().getString());
-                }
-            } else {
-                for (final DataRow row : refTable) {
-                    keySet.add(row.getCell(refColIdx).toString());
-                }
+        //create the set to filter by; if the reference table is the larger one only the values that may occur in
+        //the data table are kept (checked with a Bloom filter on the data table's values), so that the set is bounded
+        //by the size of the data table rather than by the size of the reference table
+        final BlockedBloomFilter dataValues;
+        if (refTable.size() > dataTable.size()) {
+            exec.setMessage("Reading table to be filtered...");
+            dataValues = BlockedBloomFilter.create(dataTable.size(), BITS_PER_DATA_VALUE);
+            for (final DataRow row : dataTable) {
+                exec.checkCanceled();
+                dataValues.put(BlockedBloomFilter.hash(
+                    getValue(row, filterByString, useDataRowKey, dataColIdx).hashCode()));
             }
         } else {
-            if (useRefRowKey) {
-                for (final DataRow row : refTable) {
-                    keySet.add(row.getKey());
-                }
-            } else {
-                for (final DataRow row : refTable) {
-                    keySet.add(row.getCell(refColIdx));
-                }
+            dataValues = null;
+        }
+        final Set<Object> keySet = new HashSet<Object>();
+        for (final DataRow row : refTable) {
+            exec.checkCanceled();
+            final Object refValue = getValue(row, filterByString, useRefRowKey, refColIdx);
+            if (dataValues == null || dataValues.mightContain(BlockedBloomFilter.hash(refValue.hashCode()))) {
+                keySet.add(refValue);
             }
         }
         //Filter the data table
@@ -201,20 +205,7 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
             exec.checkCanceled();
             exec.setProgress(rowCnt++ / (double)dataTable.size(), "Filtering...");
             //get the right value to check for...
-            final Object val2Compare;
-            if (filterByString) {
-                if (useDataRowKey) {
-                    val2Compare = row.getKey().getString();
-                } else {
-                    val2Compare = row.getCell(dataColIdx).toString();
-                }
-            } else {
-                if (useDataRowKey) {
-                    val2Compare = row.getKey();
-                } else {
-                    val2Compare = row.getCell(dataColIdx);
-                }
-            }
+            final Object val2Compare = getValue(row, filterByString, useDataRowKey, dataColIdx);
 
             //...include/exclude matching rows by checking the val2Compare
             if ((keySet.contains(val2Compare) && !isInvertInclusion)
@@ -233,6 +224,18 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
             : new BufferedDataTable[]{firstBuf.getTable()};
     }
 
+    /**
+     * Returns the value of a row that is compared: the row key or the cell of the given column, both possibly
+     * converted to a string.
+     */
+    private static Object getValue(final DataRow row, final boolean filterByString, final boolean useRowKey,
+        final int colIdx) {
+        if (filterByString) {
+            return useRowKey ? row.getKey().getString() : row.getCell(colIdx).toString();
+        }
+        return useRowKey ? row.getKey() : row.getCell(colIdx);
+    }
+
     /**
      * It's a hack to get row-reference filter working. Row Reference filter can override this method and determine is
      * mode.
@@ -319,6 +319,14 @@ public ColumnAggregator[] getColAggregators() {
         return m_colAggregators;
     }
 
+    /**
+     * @return the {@link ColumnNamePolicy} of the aggregation columns
+     * @since 3.8
+     */
+    protected ColumnNamePolicy getColNamePolicy() {
+        return m_colNamePolicy;
+    }
+
     /**
      * @param exec the {@link ExecutionContext}
      * @param dataTable the {@link BufferedDataTable} to add the order column to
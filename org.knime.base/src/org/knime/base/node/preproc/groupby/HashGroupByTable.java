@@ -0,0 +1,415 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.preproc.groupby;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.knime.base.data.aggregation.AggregationOperator;
+import org.knime.base.data.aggregation.ColumnAggregator;
+import org.knime.base.data.aggregation.GlobalSettings;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.MutableInteger;
+import org.knime.core.util.Pair;
+
+/**
+ * A {@link GroupByTable} that aggregates the rows in a hash table instead of sorting the input table first. The groups
+ * are split into 16 partitions by their hash code. If the memory gets low, no new groups are
+ * created for some of the partitions; the rows of these groups are written to a temporary table per partition
+ * instead, which is aggregated the same way (with a different partitioning) once the input table has been processed.
+ * Partitions that are spilled on the last level are aggregated by a {@link BigGroupByTable}, i.e. sorted on disc.
+ *
+ * <p>
+ * Only new groups are spilled. Groups which are already in memory keep aggregating their rows, so all rows of a
+ * group are aggregated in the order of the input table, but the memory used by such a group still grows with its
+ * rows, e.g. for list, set or concatenate operators and for the row keys of the hilite mapping.
+ *
+ * <p>
+ * The groups are numbered (and sorted unless the row order is retained) by the group columns, so the result is the
+ * same as the one of the {@link BigGroupByTable} unless group values are equal according to their comparator but not
+ * according to {@link DataCell#equals(Object)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public class HashGroupByTable extends GroupByTable {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(HashGroupByTable.class);
+
+    /** The number of partitions, a power of 2. */
+    private static final int NO_OF_PARTITIONS = 16;
+
+    /** Spilled partitions are partitioned again up to this depth, the last level is sorted on disc. */
+    private static final int MAX_SPILL_DEPTH = 3;
+
+    /** If positive, low memory is reported after this many new groups per level. Only for test purposes. */
+    static volatile int forceSpillGroupCount = 0;
+
+    /**Constructor for class HashGroupByTable.
+     * @param exec the <code>ExecutionContext</code>
+     * @param inDataTable the table to aggregate
+     * @param groupByCols the name of all columns to group by
+     * @param colAggregators the aggregation columns with the aggregation method
+     * to use in the order the columns should be appear in the result table
+     * numerical columns
+     * @param globalSettings the global settings
+     * @param enableHilite <code>true</code> if a row key map should be
+     * maintained to enable hiliting
+     * @param colNamePolicy the {@link ColumnNamePolicy} for the
+     * aggregation columns
+     * @param retainOrder returns the row of the table in the same order as the
+     * input table if set to <code>true</code>
+     * @throws CanceledExecutionException if the user has canceled the execution
+     */
+    public HashGroupByTable(final ExecutionContext exec, final BufferedDataTable inDataTable,
+        final List<String> groupByCols, final ColumnAggregator[] colAggregators, final GlobalSettings globalSettings,
+        final boolean enableHilite, final ColumnNamePolicy colNamePolicy, final boolean retainOrder)
+        throws CanceledExecutionException {
+        super(exec, inDataTable, groupByCols, colAggregators, globalSettings, enableHilite, colNamePolicy,
+            retainOrder);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected BufferedDataTable createGroupByTable(final ExecutionContext exec, final BufferedDataTable dataTable,
+        final DataTableSpec resultSpec, final int[] groupColIdx) throws CanceledExecutionException {
+        LOGGER.debug("Entering createGroupByTable(exec, table) of class HashGroupByTable.");
+        initMissingValuesMap();
+        //the groups are numbered in the order of their values like in the BigGroupByTable, the super class restores
+        //the row order afterwards if it should be retained
+        final boolean sortResult = groupColIdx.length > 0;
+        final Map<RowKey, Set<RowKey>> hiliteMapping = sortResult && isEnableHilite() ? new HashMap<>() : null;
+        final BufferedDataContainer dc = exec.createDataContainer(resultSpec);
+        exec.setMessage("Creating groups");
+        aggregate(exec.createSubExecutionContext(sortResult ? 0.8 : 1.0), dataTable, groupColIdx, 0, dc,
+            new MutableInteger(0), hiliteMapping);
+        dc.close();
+        if (!sortResult) {
+            return dc.getTable();
+        }
+        //sort the groups by the group columns and number them accordingly
+        exec.setMessage("Sorting groups...");
+        final BufferedDataTable groupTable = dc.getTable();
+        final BufferedDataTable sortedTable =
+            sortTable(exec.createSubExecutionContext(0.1), groupTable, getGroupCols());
+        final BufferedDataContainer resultDc = exec.createDataContainer(resultSpec);
+        final ExecutionContext writeExec = exec.createSubExecutionContext(0.1);
+        final double size = sortedTable.size();
+        int groupCounter = 0;
+        for (final DataRow row : sortedTable) {
+            writeExec.checkCanceled();
+            writeExec.setProgress(groupCounter / size);
+            final RowKey rowKey = RowKey.createRowKey(groupCounter++);
+            final DataCell[] cells = new DataCell[row.getNumCells()];
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = row.getCell(i);
+            }
+            resultDc.addRowToTable(new DefaultRow(rowKey, cells));
+            if (hiliteMapping != null) {
+                addHiliteMapping(rowKey, hiliteMapping.remove(row.getKey()));
+            }
+        }
+        resultDc.close();
+        if (sortedTable != groupTable) {
+            exec.clearTable(sortedTable);
+        }
+        exec.clearTable(groupTable);
+        return resultDc.getTable();
+    }
+
+    /**
+     * Aggregates the given table and adds the resulting groups to the given container.
+     *
+     * @param exec the {@link ExecutionContext}
+     * @param table the table to aggregate
+     * @param groupColIdx the group column indices
+     * @param depth the number of times the rows have been spilled
+     * @param dc the container to add the result rows to
+     * @param groupCounter the number of groups that have been created so far
+     * @param hiliteMapping the map to add the hilite mapping of the groups to or <code>null</code> if they are
+     *            added to the final mapping directly
+     * @throws CanceledExecutionException if the operation has been canceled
+     */
+    private void aggregate(final ExecutionContext exec, final BufferedDataTable table, final int[] groupColIdx,
+        final int depth, final BufferedDataContainer dc, final MutableInteger groupCounter,
+        final Map<RowKey, Set<RowKey>> hiliteMapping) throws CanceledExecutionException {
+        if (depth >= MAX_SPILL_DEPTH) {
+            aggregateSorted(exec, table, dc, groupCounter, hiliteMapping);
+            return;
+        }
+        final DataTableSpec spec = table.getDataTableSpec();
+        final ColumnAggregator[] origAggregators = getColAggregators();
+        final int[] aggrColIdx = new int[origAggregators.length];
+        for (int i = 0; i < aggrColIdx.length; i++) {
+            aggrColIdx[i] = spec.findColumnIndex(origAggregators[i].getOriginalColName());
+        }
+        final Map<GroupKey, Pair<ColumnAggregator[], Set<RowKey>>> groups = new LinkedHashMap<>();
+        //the containers of the spilled partitions, null if the partition is processed in memory
+        final BufferedDataContainer[] spilled = new BufferedDataContainer[NO_OF_PARTITIONS];
+        final MemoryActionIndicator memIndicator = MemoryAlertSystem.getInstance().newIndicator();
+        final int forceSpillCount = forceSpillGroupCount;
+        int noOfSpilled = 0;
+        final ExecutionContext groupExec = exec.createSubExecutionContext(0.5);
+        final double rowCount = table.size();
+        long rowCounter = 0;
+        for (final DataRow row : table) {
+            groupExec.checkCanceled();
+            final long currentRow = ++rowCounter;
+            groupExec.setProgress(currentRow / rowCount, () -> "Analyzing row " + currentRow + " of " + table.size());
+            final DataCell[] currentGroup = new DataCell[groupColIdx.length];
+            //fetch the current group column values
+            for (int i = 0, length = groupColIdx.length; i < length; i++) {
+                currentGroup[i] = row.getCell(groupColIdx[i]);
+            }
+            final GroupKey groupKey = new GroupKey(currentGroup);
+            Pair<ColumnAggregator[], Set<RowKey>> member = groups.get(groupKey);
+            if (member == null) {
+                final int partition = getPartition(groupKey, depth);
+                if (spilled[partition] == null && noOfSpilled < NO_OF_PARTITIONS
+                        && (memIndicator.lowMemoryActionRequired()
+                            || (forceSpillCount > 0 && groups.size() % forceSpillCount == forceSpillCount - 1))) {
+                    noOfSpilled += spillPartitions(exec, spec, spilled, noOfSpilled, depth);
+                }
+                if (spilled[partition] != null) {
+                    spilled[partition].addRowToTable(row);
+                    continue;
+                }
+                final ColumnAggregator[] aggregators = new ColumnAggregator[origAggregators.length];
+                for (int i = 0, length = origAggregators.length; i < length; i++) {
+                    aggregators[i] = origAggregators[i].clone();
+                }
+                final Set<RowKey> rowKeys;
+                if (isEnableHilite()) {
+                    rowKeys = new HashSet<>();
+                } else {
+                    rowKeys = Collections.emptySet();
+                }
+                member = new Pair<>(aggregators, rowKeys);
+                groups.put(groupKey, member);
+            }
+            //compute the current row values
+            final ColumnAggregator[] aggregators = member.getFirst();
+            for (int i = 0, length = aggregators.length; i < length; i++) {
+                aggregators[i].getOperator(getGlobalSettings()).compute(row, aggrColIdx[i]);
+            }
+            if (isEnableHilite()) {
+                member.getSecond().add(row.getKey());
+            }
+        }
+        createTableRows(dc, groups, groupCounter, hiliteMapping);
+        groups.clear();
+        //aggregate the spilled partitions one after the other
+        final ExecutionContext spillExec = exec.createSubExecutionContext(0.5);
+        for (int i = 0; i < NO_OF_PARTITIONS; i++) {
+            if (spilled[i] != null) {
+                spilled[i].close();
+                final BufferedDataTable partitionTable = spilled[i].getTable();
+                spilled[i] = null;
+                spillExec.setMessage("Aggregating spilled partition " + (i + 1) + " (level " + (depth + 1) + ")");
+                aggregate(spillExec.createSubExecutionContext(1.0 / noOfSpilled), partitionTable, groupColIdx,
+                    depth + 1, dc, groupCounter, hiliteMapping);
+                exec.clearTable(partitionTable);
+            }
+        }
+    }
+
+    /**
+     * Aggregates the given table by sorting it on disc, which is used for partitions spilled on the last level.
+     *
+     * @param exec the {@link ExecutionContext}
+     * @param table the table to aggregate
+     * @param dc the container to add the result rows to
+     * @param groupCounter the number of groups that have been created so far
+     * @param hiliteMapping the map to add the hilite mapping of the groups to or <code>null</code> if they are
+     *            added to the final mapping directly
+     * @throws CanceledExecutionException if the operation has been canceled
+     */
+    private void aggregateSorted(final ExecutionContext exec, final BufferedDataTable table,
+        final BufferedDataContainer dc, final MutableInteger groupCounter,
+        final Map<RowKey, Set<RowKey>> hiliteMapping) throws CanceledExecutionException {
+        final ColumnAggregator[] origAggregators = getColAggregators();
+        final ColumnAggregator[] aggregators = new ColumnAggregator[origAggregators.length];
+        for (int i = 0, length = origAggregators.length; i < length; i++) {
+            aggregators[i] = origAggregators[i].clone();
+        }
+        //the order column (if any) is one of the aggregators, the row order is restored by the caller
+        final BigGroupByTable sortedTable = new BigGroupByTable(exec, table, getGroupCols(), aggregators,
+            getGlobalSettings(), isEnableHilite(), getColNamePolicy(), false);
+        final BufferedDataTable groupTable = sortedTable.getBufferedTable();
+        final DataTableSpec resultSpec = dc.getTableSpec();
+        final DataTableSpec groupSpec = groupTable.getDataTableSpec();
+        final int[] colIdx = new int[resultSpec.getNumColumns()];
+        for (int i = 0; i < colIdx.length; i++) {
+            colIdx[i] = groupSpec.findColumnIndex(resultSpec.getColumnSpec(i).getName());
+        }
+        for (final DataRow row : groupTable) {
+            final RowKey rowKey = RowKey.createRowKey(groupCounter.intValue());
+            groupCounter.inc();
+            final DataCell[] cells = new DataCell[colIdx.length];
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = row.getCell(colIdx[i]);
+            }
+            dc.addRowToTable(new DefaultRow(rowKey, cells));
+            if (isEnableHilite()) {
+                final Set<RowKey> oldKeys = sortedTable.getHiliteMapping().get(row.getKey());
+                if (hiliteMapping != null) {
+                    hiliteMapping.put(rowKey, oldKeys);
+                } else {
+                    addHiliteMapping(rowKey, oldKeys);
+                }
+            }
+        }
+        for (final Entry<String, Collection<Pair<String, String>>> e : sortedTable.getSkippedGroupsByColName()
+            .entrySet()) {
+            getSkippedGroupsByColName().computeIfAbsent(e.getKey(), k -> new ArrayList<>()).addAll(e.getValue());
+        }
+        for (final Entry<String, Long> e : sortedTable.getMissingValuesMap().entrySet()) {
+            addToMissingValuesMap(e.getKey(), e.getValue());
+        }
+        exec.clearTable(groupTable);
+    }
+
+    /**
+     * Spills half of the partitions that are still processed in memory (at least one), i.e. no new groups are
+     * created in memory for them.
+     *
+     * @return the number of newly spilled partitions
+     */
+    private static int spillPartitions(final ExecutionContext exec, final DataTableSpec spec,
+        final BufferedDataContainer[] spilled, final int noOfSpilled, final int depth) {
+        final int toSpill = Math.max(1, (NO_OF_PARTITIONS - noOfSpilled) / 2);
+        int count = 0;
+        for (int i = NO_OF_PARTITIONS - 1; i >= 0 && count < toSpill; i--) {
+            if (spilled[i] == null) {
+                spilled[i] = exec.createDataContainer(spec);
+                count++;
+            }
+        }
+        LOGGER.debug("Low memory, spilling " + count + " more partitions of level " + depth + " ("
+            + (noOfSpilled + count) + " of " + NO_OF_PARTITIONS + ")");
+        return count;
+    }
+
+    /**
+     * @param groupKey the group
+     * @param depth the spill depth
+     * @return the partition of the group, different bits of the (scrambled) hash code are used on each level
+     */
+    private static int getPartition(final GroupKey groupKey, final int depth) {
+        final int hash = groupKey.hashCode() * 0x9E3779B9;
+        return (hash >>> (28 - 4 * depth)) & (NO_OF_PARTITIONS - 1);
+    }
+
+    /**
+     * Creates and adds the result rows of the given groups to the given data container.
+     *
+     * @param dc the container to use
+     * @param groups the groups with their aggregators and row keys
+     * @param groupCounter the number of groups that have been created so far
+     * @param hiliteMapping the temporary hilite mapping or <code>null</code> if the mapping is added directly
+     */
+    private void createTableRows(final BufferedDataContainer dc,
+        final Map<GroupKey, Pair<ColumnAggregator[], Set<RowKey>>> groups, final MutableInteger groupCounter,
+        final Map<RowKey, Set<RowKey>> hiliteMapping) {
+        for (final Entry<GroupKey, Pair<ColumnAggregator[], Set<RowKey>>> e : groups.entrySet()) {
+            final DataCell[] groupVals = e.getKey().getGroupVals();
+            final ColumnAggregator[] colAggregators = e.getValue().getFirst();
+            final RowKey rowKey = RowKey.createRowKey(groupCounter.intValue());
+            groupCounter.inc();
+            final DataCell[] rowVals = new DataCell[groupVals.length + colAggregators.length];
+            //add the group values first
+            int valIdx = 0;
+            for (final DataCell groupCell : groupVals) {
+                rowVals[valIdx++] = groupCell;
+            }
+            //add the aggregation values
+            for (final ColumnAggregator colAggr : colAggregators) {
+                final AggregationOperator operator = colAggr.getOperator(getGlobalSettings());
+                rowVals[valIdx++] = operator.getResult();
+                if (operator.isSkipped()) {
+                    //add skipped groups and the column that causes the
+                    //skipping into the skipped groups map
+                    addSkippedGroup(colAggr.getOriginalColName(), operator.getSkipMessage(), groupVals);
+                }
+                addToMissingValuesMap(colAggr.getOriginalColName(), operator.getMissingValuesCount());
+                //release the memory of the operator
+                operator.reset();
+            }
+            dc.addRowToTable(new DefaultRow(rowKey, rowVals));
+            if (isEnableHilite()) {
+                final Set<RowKey> oldKeys = e.getValue().getSecond();
+                if (hiliteMapping != null) {
+                    hiliteMapping.put(rowKey, oldKeys);
+                } else {
+                    addHiliteMapping(rowKey, oldKeys);
+                }
+            }
+        }
+    }
+}
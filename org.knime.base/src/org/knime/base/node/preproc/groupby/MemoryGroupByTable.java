@@ -45,6 +45,7 @@
 
 package org.knime.base.node.preproc.groupby;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -52,6 +53,11 @@
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.knime.base.data.aggregation.AggregationOperator;
 import org.knime.base.data.aggregation.ColumnAggregator;
@@ -60,20 +66,31 @@
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.util.ThreadPool;
 
 
 /**
+ * Aggregates the groups in memory. Large tables whose aggregation operators are all
+ * {@link AggregationOperator#isMergeable() mergeable} are split into consecutive chunks that are aggregated on
+ * multiple threads; the partial aggregates are merged afterwards in the order of the chunks. Floating point
+ * results might therefore differ in the last digits from a sequential aggregation.
  *
  * @author Tobias Koetter, University of Konstanz
  */
 public class MemoryGroupByTable extends GroupByTable {
 
+    /** The minimum number of rows per chunk if the table is aggregated in parallel. */
+    private static final long MIN_ROWS_PER_CHUNK = 100000;
+
     private Map<GroupKey, Set<RowKey>> m_rowKeys;
     private Map<GroupKey, ColumnAggregator[]> m_vals;
 
@@ -152,24 +169,149 @@ protected BufferedDataTable createGroupByTable(final ExecutionContext exec,
         m_rowKeys = new HashMap<>();
         m_vals = new LinkedHashMap<>();
         final ExecutionMonitor groupExec = exec.createSubProgress(0.7);
-        final DataTableSpec spec = dataTable.getDataTableSpec();
         final long rowCount = dataTable.size();
-        long rowCounter = 0;
         initMissingValuesMap();
-        for (final DataRow row : dataTable) {
-            groupExec.checkCanceled();
-            groupExec.setProgress(rowCounter++ / (double) rowCount,
-                    "Analyzing row " + rowCounter + " of " + rowCount);
+        final int noOfChunks = getNoOfChunks(rowCount);
+        if (noOfChunks > 1) {
+            aggregateInParallel(groupExec, dataTable, groupColIdx, noOfChunks);
+        } else {
+            final AtomicLong rowCounter = new AtomicLong();
+            try (final CloseableRowIterator iter = dataTable.iterator()) {
+                aggregate(groupExec, iter, dataTable.getDataTableSpec(), groupColIdx, m_vals, m_rowKeys, rowCounter,
+                    rowCount);
+            }
+        }
+        return createResultTable(exec.createSubExecutionContext(0.3), resultSpec);
+    }
+
+    /**
+     * Returns the number of chunks the input table is split into. The table is aggregated in parallel if it is large
+     * enough and all aggregation operators support merging of partial aggregates.
+     */
+    private int getNoOfChunks(final long rowCount) {
+        final int maxChunks = (int)Math.min(Runtime.getRuntime().availableProcessors(),
+            rowCount / MIN_ROWS_PER_CHUNK);
+        if (maxChunks < 2) {
+            return 1;
+        }
+        for (final ColumnAggregator aggregator : getColAggregators()) {
+            if (!aggregator.clone().getOperator(getGlobalSettings()).isMergeable()) {
+                return 1;
+            }
+        }
+        return maxChunks;
+    }
+
+    /**
+     * Aggregates consecutive row ranges of the table on different threads and merges the partial aggregates in
+     * the order of the chunks which retains the order of the groups.
+     */
+    private void aggregateInParallel(final ExecutionMonitor exec, final BufferedDataTable table,
+        final int[] groupColIdx, final int noOfChunks) throws CanceledExecutionException {
+        final DataTableSpec spec = table.getDataTableSpec();
+        final long rowCount = table.size();
+        final long chunkSize = (rowCount + noOfChunks - 1) / noOfChunks;
+        final AtomicLong rowCounter = new AtomicLong();
+        final NodeContext context = NodeContext.getContext();
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(noOfChunks);
+        final List<Future<?>> futures = new ArrayList<>(noOfChunks);
+        final List<Map<GroupKey, ColumnAggregator[]>> chunkVals = new ArrayList<>(noOfChunks);
+        final List<Map<GroupKey, Set<RowKey>>> chunkRowKeys = new ArrayList<>(noOfChunks);
+        for (int i = 0; i < noOfChunks; i++) {
+            final long from = i * chunkSize;
+            final long to = from + chunkSize;
+            final Map<GroupKey, ColumnAggregator[]> vals = new LinkedHashMap<>();
+            final Map<GroupKey, Set<RowKey>> rowKeys = new HashMap<>();
+            chunkVals.add(vals);
+            chunkRowKeys.add(rowKeys);
+            futures.add(pool.enqueue(() -> {
+                NodeContext.pushContext(context);
+                try (final CloseableRowIterator iter = table.iteratorBuilder().filterRowRange(from, to).build()) {
+                    aggregate(exec, iter, spec, groupColIdx, vals, rowKeys, rowCounter, rowCount);
+                } finally {
+                    NodeContext.removeLastContext();
+                }
+                return null;
+            }));
+        }
+        try {
+            for (final Future<?> future : futures) {
+                while (true) {
+                    exec.checkCanceled();
+                    final long rows = rowCounter.get();
+                    exec.setProgress(rows / (double)rowCount, () -> "Analyzing row " + rows + " of " + rowCount);
+                    try {
+                        future.get(200, TimeUnit.MILLISECONDS);
+                        break;
+                    } catch (final TimeoutException e) {
+                        // check cancellation and wait again
+                    }
+                }
+            }
+        } catch (final InterruptedException e) {
+            throw new CanceledExecutionException("Aggregation canceled");
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException)e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            for (final Future<?> future : futures) {
+                future.cancel(true);
+            }
+        }
+        exec.setMessage("Merging partial aggregates");
+        for (int i = 0; i < noOfChunks; i++) {
+            exec.checkCanceled();
+            for (final Entry<GroupKey, ColumnAggregator[]> entry : chunkVals.get(i).entrySet()) {
+                final ColumnAggregator[] aggregators = m_vals.get(entry.getKey());
+                if (aggregators == null) {
+                    m_vals.put(entry.getKey(), entry.getValue());
+                } else {
+                    final ColumnAggregator[] partial = entry.getValue();
+                    for (int j = 0, length = aggregators.length; j < length; j++) {
+                        aggregators[j].getOperator(getGlobalSettings()).merge(
+                            partial[j].getOperator(getGlobalSettings()));
+                    }
+                }
+            }
+            //release the merged partial aggregates
+            chunkVals.set(i, null);
+            for (final Entry<GroupKey, Set<RowKey>> entry : chunkRowKeys.get(i).entrySet()) {
+                final Set<RowKey> keySet = m_rowKeys.get(entry.getKey());
+                if (keySet == null) {
+                    m_rowKeys.put(entry.getKey(), entry.getValue());
+                } else {
+                    keySet.addAll(entry.getValue());
+                }
+            }
+            chunkRowKeys.set(i, null);
+        }
+    }
+
+    private void aggregate(final ExecutionMonitor exec, final CloseableRowIterator iter, final DataTableSpec spec,
+        final int[] groupColIdx, final Map<GroupKey, ColumnAggregator[]> vals,
+        final Map<GroupKey, Set<RowKey>> rowKeys, final AtomicLong rowCounter, final long rowCount)
+        throws CanceledExecutionException {
+        final boolean updateProgress = vals == m_vals;
+        while (iter.hasNext()) {
+            final DataRow row = iter.next();
+            exec.checkCanceled();
+            final long rowIdx = rowCounter.incrementAndGet();
+            if (updateProgress) {
+                exec.setProgress(rowIdx / (double)rowCount, () -> "Analyzing row " + rowIdx + " of " + rowCount);
+            }
             final DataCell[] currentGroup = new DataCell[groupColIdx.length];
             //fetch the current group column values
             for (int i = 0, length = groupColIdx.length; i < length; i++) {
                 currentGroup[i] = row.getCell(groupColIdx[i]);
             }
             final GroupKey groupKey = new GroupKey(currentGroup);
-            addRowKey(groupKey, row.getKey());
-            addRow(spec, groupKey, row);
+            addRowKey(rowKeys, groupKey, row.getKey());
+            addRow(vals, spec, groupKey, row);
         }
-        return createResultTable(exec.createSubExecutionContext(0.3), resultSpec);
     }
 
     private BufferedDataTable createResultTable(final ExecutionContext exec,
@@ -220,16 +362,16 @@ private BufferedDataTable createResultTable(final ExecutionContext exec,
         return dc.getTable();
     }
 
-    private void addRow(final DataTableSpec spec, final GroupKey groupKey,
-            final DataRow row) {
-        ColumnAggregator[] aggregators = m_vals.get(groupKey);
+    private void addRow(final Map<GroupKey, ColumnAggregator[]> vals, final DataTableSpec spec,
+            final GroupKey groupKey, final DataRow row) {
+        ColumnAggregator[] aggregators = vals.get(groupKey);
         if (aggregators == null) {
             final ColumnAggregator[] origAggregators = getColAggregators();
             aggregators = new ColumnAggregator[origAggregators.length];
             for (int i = 0, length = origAggregators.length; i < length; i++) {
                 aggregators[i] = origAggregators[i].clone();
             }
-            m_vals.put(groupKey, aggregators);
+            vals.put(groupKey, aggregators);
         }
         for (final ColumnAggregator aggregator : aggregators) {
             final int colIdx =
@@ -238,12 +380,13 @@ private void addRow(final DataTableSpec spec, final GroupKey groupKey,
         }
     }
 
-    private void addRowKey(final GroupKey groupKey, final RowKey key) {
+    private void addRowKey(final Map<GroupKey, Set<RowKey>> rowKeys, final GroupKey groupKey,
+            final RowKey key) {
         if (isEnableHilite()) {
-            Set<RowKey> keySet = m_rowKeys.get(groupKey);
+            Set<RowKey> keySet = rowKeys.get(groupKey);
             if (keySet == null) {
                 keySet = new HashSet<>();
-                m_rowKeys.put(groupKey, keySet);
+                rowKeys.put(groupKey, keySet);
             }
             keySet.add(key);
         }
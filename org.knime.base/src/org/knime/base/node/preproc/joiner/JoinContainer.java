@@ -47,17 +47,29 @@
  */
 package org.knime.base.node.preproc.joiner;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTable;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 
 /**
  * A Container used to collect DataRows. The container has three
  * categories for inner, left outer and right outer matches.
  *
+ * <p>Threads that join concurrently each write into their own container
+ * created by {@link #createPartialContainer()}. The partial containers share
+ * the row counter of their parent so that the indices returned by
+ * {@link #nextRowIndex()} are unique; their tables are added to the parent
+ * with {@link #addAll(JoinContainer)}.
+ *
  * @author Heiko Hofer
  */
 final class JoinContainer {
@@ -67,9 +79,24 @@ final class JoinContainer {
 
     private BufferedDataContainer m_leftOuter;
 
+    private final List<BufferedDataTable> m_matchesTables = new ArrayList<BufferedDataTable>();
+
+    private final List<BufferedDataTable> m_rightOuterTables = new ArrayList<BufferedDataTable>();
+
+    private final List<BufferedDataTable> m_leftOuterTables = new ArrayList<BufferedDataTable>();
+
+    private BufferedDataTable m_matchesTable;
+
+    private BufferedDataTable m_rightOuterTable;
+
+    private BufferedDataTable m_leftOuterTable;
+
     private DataTableSpec m_spec;
 
-    private long m_rowCount;
+    private final AtomicLong m_rowCount;
+
+    /** Guards the creation of data containers by concurrent partial containers. */
+    private final Object m_lock;
 
     /**
      * Create a new instance.
@@ -77,16 +104,41 @@ final class JoinContainer {
      */
     JoinContainer(
             final OutputRow.Settings settings) {
-        m_spec = settings.getSpec();
-        m_rowCount = 0;
+        this(settings.getSpec(), new AtomicLong(), new Object());
+    }
+
+    private JoinContainer(final DataTableSpec spec, final AtomicLong rowCount,
+            final Object lock) {
+        m_spec = spec;
+        m_rowCount = rowCount;
+        m_lock = lock;
     }
 
+    /**
+     * Creates a container for a thread that joins a part of the outer table.
+     * The container shares the row counter with this container.
+     *
+     * @return a new container for the rows of a single thread
+     */
+    JoinContainer createPartialContainer() {
+        return new JoinContainer(m_spec, m_rowCount, m_lock);
+    }
 
     /**
      * @return the rowCount
      */
     long getRowCount() {
-        return m_rowCount;
+        return m_rowCount.get();
+    }
+
+    /**
+     * Returns a new unique row index that is used to create the row ID of a
+     * row added to this container.
+     *
+     * @return the index of the next row
+     */
+    long nextRowIndex() {
+        return m_rowCount.getAndIncrement();
     }
 
     /**
@@ -98,10 +150,9 @@ long getRowCount() {
     void addMatch(final DataRow row,
             final ExecutionContext exec) {
         if (null == m_matches) {
-            m_matches = exec.createDataContainer(m_spec);
+            m_matches = createContainer(exec);
         }
         m_matches.addRowToTable(row);
-        m_rowCount++;
     }
 
     /**
@@ -115,11 +166,9 @@ void addMatch(final DataRow row,
     void addRightOuter(final DataRow row,
             final ExecutionContext exec) {
         if (null == m_rightOuter) {
-            m_rightOuter = exec.createDataContainer(m_spec);
+            m_rightOuter = createContainer(exec);
         }
         m_rightOuter.addRowToTable(row);
-
-        m_rowCount++;
     }
 
     /**
@@ -133,46 +182,87 @@ void addRightOuter(final DataRow row,
     void addLeftOuter(final DataRow row,
             final ExecutionContext exec) {
         if (null == m_leftOuter) {
-            m_leftOuter = exec.createDataContainer(m_spec);
+            m_leftOuter = createContainer(exec);
         }
         m_leftOuter.addRowToTable(row);
+    }
+
+    private BufferedDataContainer createContainer(final ExecutionContext exec) {
+        synchronized (m_lock) {
+            return exec.createDataContainer(m_spec);
+        }
+    }
 
-        m_rowCount++;
+    /**
+     * Adds the tables of the given closed partial container to this
+     * container.
+     *
+     * @param partial a closed container created by
+     * {@link #createPartialContainer()}
+     */
+    void addAll(final JoinContainer partial) {
+        m_matchesTables.addAll(partial.m_matchesTables);
+        m_rightOuterTables.addAll(partial.m_rightOuterTables);
+        m_leftOuterTables.addAll(partial.m_leftOuterTables);
     }
 
     /**
      * @return The {@link DataTable} which holds the inner joins.
      */
     BufferedDataTable getMatches() {
-        return null != m_matches ? m_matches.getTable() : null;
+        return m_matchesTable;
     }
 
     /**
      * @return The {@link DataTable} which holds the right outer joins.
      */
     BufferedDataTable getRightOuter() {
-        return null != m_rightOuter ? m_rightOuter.getTable() : null;
+        return m_rightOuterTable;
     }
 
     /**
      * @return The {@link DataTable} which holds the left outer joins.
      */
     BufferedDataTable getLeftOuter() {
-        return null != m_leftOuter ? m_leftOuter.getTable() : null;
+        return m_leftOuterTable;
     }
 
     /**
-     * Close this container.
+     * Close this container. The tables of this container and of
+     * the added partial containers are concatenated per category.
+     *
+     * @param exec the execution context used to concatenate the tables
+     * @throws CanceledExecutionException if execution is canceled
      */
-    public void close() {
-        if (null != m_matches) {
-            m_matches.close();
-        }
-        if (null != m_rightOuter) {
-            m_rightOuter.close();
+    public void close(final ExecutionContext exec)
+            throws CanceledExecutionException {
+        m_matchesTable = close(m_matches, m_matchesTables, exec);
+        m_rightOuterTable = close(m_rightOuter, m_rightOuterTables, exec);
+        m_leftOuterTable = close(m_leftOuter, m_leftOuterTables, exec);
+        m_matches = null;
+        m_rightOuter = null;
+        m_leftOuter = null;
+    }
+
+    private static BufferedDataTable close(
+            final BufferedDataContainer container,
+            final List<BufferedDataTable> tables, final ExecutionContext exec)
+            throws CanceledExecutionException {
+        if (null != container) {
+            container.close();
+            tables.add(container.getTable());
         }
-        if (null != m_leftOuter) {
-            m_leftOuter.close();
+        if (tables.isEmpty()) {
+            return null;
+        } else if (tables.size() == 1) {
+            return tables.get(0);
         }
+        // row IDs are unique over all partial containers
+        final BufferedDataTable concatenated = exec.createConcatenateTable(
+            exec, Optional.empty(), false,
+            tables.toArray(new BufferedDataTable[tables.size()]));
+        tables.clear();
+        tables.add(concatenated);
+        return concatenated;
     }
 }
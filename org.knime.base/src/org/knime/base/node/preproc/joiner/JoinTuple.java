@@ -69,6 +69,18 @@ public JoinTuple(final DataCell[] cells) {
         m_cells = cells;
     }
 
+    /**
+     * @return true if one of the cells is missing, such a tuple never matches
+     */
+    boolean hasMissing() {
+        for (DataCell cell : m_cells) {
+            if (cell.isMissing()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -59,10 +59,17 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import org.knime.base.data.sort.SortedTable;
 import org.knime.base.node.preproc.joiner.Joiner2Settings.CompositionMode;
 import org.knime.base.node.preproc.joiner.Joiner2Settings.DuplicateHandling;
+import org.knime.base.node.preproc.joiner.Joiner2Settings.JoinAlgorithm;
 import org.knime.base.node.preproc.joiner.Joiner2Settings.JoinMode;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
@@ -81,8 +88,12 @@
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.util.ConvenienceMethods;
+import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.util.BlockedBloomFilter;
+import org.knime.core.util.ThreadPool;
 import org.knime.core.util.UniqueNameGenerator;
 
 /**
@@ -91,6 +102,18 @@
  * @author Heiko Hofer
  */
 public final class Joiner {
+    /**
+     * A rough estimate of the memory needed by a row of the inner table in the
+     * hash table, used to choose the join algorithm automatically.
+     */
+    private static final long ESTIMATED_BYTES_PER_HASHED_ROW = 256;
+
+    /**
+     * The bits per join tuple of the Bloom filter on the outer table, which
+     * result in a false positive rate of about 1%.
+     */
+    private static final int BITS_PER_OUTER_KEY = 10;
+
     /** Logger to print debug info to. */
     private static final NodeLogger LOGGER = NodeLogger
     .getLogger(Joiner.class);
@@ -112,11 +135,10 @@ public final class Joiner {
     private boolean m_matchAny;
 
     /**
-     * This field is only used when (m_retainLeft && m_matchAny) is true. It
-     * holds the row indices of the left table that did not match to a row
-     * of the right table.
+     * This field is only used when m_retainLeft is true. It marks the row
+     * indices of the left table that matched to a row of the right table.
      */
-    private Set<Integer> m_globalLeftOuterJoins;
+    private MatchedRows m_matchedLeftRows;
 
     private InputRow.Settings m_inputDataRowSettings;
     private OutputRow.Settings m_outputDataRowSettings;
@@ -145,6 +167,22 @@ public final class Joiner {
     /** Only used for testcases, simulates an out-of-memory event after that many rows added in memory. */
     private int m_rowsAddedBeforeForcedOOM;
 
+    /** The maximal number of threads that join the outer table. */
+    private int m_maxThreads = Runtime.getRuntime().availableProcessors();
+
+    /** The minimal number of rows of the outer table each thread joins. */
+    private int m_minRowsPerThread = 10000;
+
+    /** Only used for testcases, filter the inner table whenever possible. */
+    private boolean m_forceOuterKeyFilter;
+
+    /**
+     * Contains the join tuples of the outer table. Rows of the inner table
+     * whose tuples are not contained are never hashed, null if the inner
+     * table is not filtered.
+     */
+    private BlockedBloomFilter m_outerKeyFilter;
+
     /**
      * Creates a new instance.
      *
@@ -505,12 +543,8 @@ public BufferedDataTable computeJoinTable(
             .equals(CompositionMode.MatchAny)
             && m_settings.getLeftJoinColumns().length > 1;
 
-        if (m_retainLeft && m_matchAny) {
-            m_globalLeftOuterJoins = new HashSet<Integer>();
-            for (int i = 0; i < leftTable.getRowCount(); i++) {
-                m_globalLeftOuterJoins.add(i);
-            }
-        }
+        m_matchedLeftRows = m_retainLeft
+            ? new MatchedRows(leftTable.getRowCount()) : null;
 
 
         m_inputDataRowSettings = createInputDataRowSettings(leftTable,
@@ -548,25 +582,41 @@ public BufferedDataTable computeJoinTable(
 
         double[] progressIntervals = new double[] {0.6, 0.2, 0.2};
         exec.setProgress(0.0);
-        while (pendingParts.size() > 0) {
-            Collection<Integer> processedParts = performJoin(
-                    innerTable, outerTable,
-                    joinCont, pendingParts, exec, progressIntervals[0]);
-            pendingParts.removeAll(processedParts);
+        m_outerKeyFilter = useOuterKeyFilter(innerTable, outerTable)
+            ? createOuterKeyFilter(outerTable, exec) : null;
+        if (useSortMergeJoin(innerTable)) {
+            LOGGER.debug("Using sort-merge join");
+            SortMergeJoin sortMergeJoin = new SortMergeJoin(
+                    innerTable.getDataTableSpec(),
+                    outerTable.getDataTableSpec(), m_inputDataRowSettings,
+                    m_outputDataRowSettings, m_retainLeft, m_retainRight,
+                    m_settings.getMaxOpenFiles(), m_outerKeyFilter);
+            sortMergeJoin.join(innerTable, outerTable, joinCont,
+                    exec.createSubExecutionContext(progressIntervals[0]));
+        } else {
+            while (pendingParts.size() > 0) {
+                Collection<Integer> processedParts = performJoin(
+                        innerTable, outerTable,
+                        joinCont, pendingParts, exec, progressIntervals[0]);
+                pendingParts.removeAll(processedParts);
+            }
         }
 
 
         if (m_retainLeft && m_matchAny) {
             // Add left outer joins
-            int c = 0;
-            for (Integer index : m_globalLeftOuterJoins) {
-                DataRow outRow = OutputRow.createDataRow(c, index, -1,
-                        m_outputDataRowSettings);
-                joinCont.addLeftOuter(outRow, exec);
-                c++;
+            for (int index = 0; index < leftTable.getRowCount(); index++) {
+                if (!m_matchedLeftRows.get(index)) {
+                    DataRow outRow = OutputRow.createDataRow(
+                            joinCont.nextRowIndex(), index, -1,
+                            m_outputDataRowSettings);
+                    joinCont.addLeftOuter(outRow, exec);
+                }
             }
         }
-        joinCont.close();
+        joinCont.close(exec);
+        m_matchedLeftRows = null;
+        m_outerKeyFilter = null;
 
         // numbers are needed to report progress more precisely
         long totalNumJoins = joinCont.getRowCount();
@@ -618,6 +668,108 @@ public BufferedDataTable computeJoinTable(
         return oc.getTable();
     }
 
+    /**
+     * Decides whether the sort-merge join is used instead of the hash join.
+     * The automatic selection picks the sort-merge join when the hashed inner
+     * table is not expected to fit into the free memory, in which case the
+     * hash join would need to read both tables several times.
+     *
+     * @param innerTable the table that is hashed by the hash join
+     * @return <code>true</code> if the sort-merge join is used
+     */
+    private boolean useSortMergeJoin(final BufferedDataTable innerTable) {
+        JoinAlgorithm algorithm = m_settings.getJoinAlgorithm();
+        if (algorithm == JoinAlgorithm.HashJoin) {
+            return false;
+        }
+        if (m_matchAny) {
+            if (algorithm == JoinAlgorithm.SortMergeJoin) {
+                m_runtimeWarnings.add("The sort-merge join does not support "
+                    + "the \"Match any\" option, using the hash join.");
+            }
+            return false;
+        }
+        if (algorithm == JoinAlgorithm.SortMergeJoin) {
+            return true;
+        }
+        Runtime runtime = Runtime.getRuntime();
+        long freeMemory = runtime.maxMemory()
+            - (runtime.totalMemory() - runtime.freeMemory());
+        return innerTable.size() > freeMemory / ESTIMATED_BYTES_PER_HASHED_ROW;
+    }
+
+    /**
+     * Decides whether rows of the inner table are pre-filtered with a Bloom
+     * filter on the join tuples of the outer table (semi-join reduction).
+     * This is only possible if the unmatched rows of the inner table are not
+     * part of the output and is only done if the inner table is not expected
+     * to fit into the free memory, since it requires an additional pass over
+     * the outer table. Rows without a partner are then neither hashed nor
+     * sorted, so that a selective join may need a single pass only.
+     *
+     * @param innerTable the table that is hashed or sorted
+     * @param outerTable the table the filter is created for
+     * @return <code>true</code> if the inner table is filtered
+     */
+    private boolean useOuterKeyFilter(final BufferedDataTable innerTable,
+            final BufferedDataTable outerTable) {
+        if (m_retainLeft) {
+            return false;
+        }
+        if (m_forceOuterKeyFilter) {
+            return true;
+        }
+        Runtime runtime = Runtime.getRuntime();
+        long freeMemory = runtime.maxMemory()
+            - (runtime.totalMemory() - runtime.freeMemory());
+        long filterBytes = BlockedBloomFilter.getByteSize(
+            outerTable.size() * getTuplesPerRow(), BITS_PER_OUTER_KEY);
+        return innerTable.size() > freeMemory / ESTIMATED_BYTES_PER_HASHED_ROW
+            && filterBytes < freeMemory / 4;
+    }
+
+    private int getTuplesPerRow() {
+        return m_matchAny ? m_settings.getLeftJoinColumns().length : 1;
+    }
+
+    /**
+     * Reads the outer table and adds the hash codes of its join tuples to a
+     * new Bloom filter. Tuples with missing values are skipped since they
+     * never match.
+     */
+    private BlockedBloomFilter createOuterKeyFilter(
+            final BufferedDataTable outerTable, final ExecutionContext exec)
+            throws CanceledExecutionException {
+        exec.setMessage("Filter top input by bottom input");
+        BlockedBloomFilter filter = BlockedBloomFilter.create(
+            outerTable.size() * getTuplesPerRow(), BITS_PER_OUTER_KEY);
+        int counter = 0;
+        for (DataRow row : outerTable) {
+            exec.checkCanceled();
+            InputRow inputDataRow = new InputRow(row, counter++,
+                    InputRow.Settings.InDataPort.Right,
+                    m_inputDataRowSettings);
+            for (JoinTuple tuple : inputDataRow.getJoinTuples()) {
+                if (!tuple.hasMissing()) {
+                    filter.put(BlockedBloomFilter.hash(tuple.hashCode()));
+                }
+            }
+        }
+        return filter;
+    }
+
+    /**
+     * Returns true if a join tuple of the inner table may match a join tuple
+     * of the outer table, i.e. if it has not been filtered.
+     */
+    private boolean mightMatch(final JoinTuple tuple) {
+        if (m_outerKeyFilter == null) {
+            return true;
+        }
+        return !tuple.hasMissing() && m_outerKeyFilter.mightContain(
+            BlockedBloomFilter.hash(tuple.hashCode()));
+    }
+
     /** This method start with reading the partitions of the left table defined
      * in currParts. If memory is low, partitions will be skipped or the
      * number of partitions will be raised which leads to smaller partitions.
@@ -650,18 +802,14 @@ private Collection<Integer> performJoin(
         setMessage("Read", exec, pendingParts, currParts);
 
         // Partition left table
-        Map <Integer, Map<JoinTuple, Set<Integer>>> leftTableHashed =
-            new HashMap<Integer, Map<JoinTuple, Set<Integer>>>();
-        // This is only used when m_leftRetain is true and m_matchAny is false.
-        // It holds the row indices of the left table that do not match to
-        // any row of the right table
-        Map <Integer, Set<Integer>> leftOuterJoins =
-            new HashMap<Integer, Set<Integer>>();
+        Map <Integer, Map<JoinTuple, RowIndices>> leftTableHashed =
+            new HashMap<Integer, Map<JoinTuple, RowIndices>>();
 
         MemoryActionIndicator memIndicator = MemoryAlertSystem.getInstance().newIndicator();
 
         int counter = 0;
         long rowsAdded = 0;
+        long rowsFiltered = 0;
         CloseableRowIterator leftIter = leftTable.iterator();
         while (leftIter.hasNext()) {
             exec.checkCanceled();
@@ -677,10 +825,14 @@ private Collection<Integer> performJoin(
                         m_inputDataRowSettings);
 
                 for (JoinTuple tuple : inputDataRow.getJoinTuples()) {
+                    if (!mightMatch(tuple)) {
+                        rowsFiltered++;
+                        continue;
+                    }
                     int partition = tuple.hashCode() & m_bitMask;
                     if (currParts.contains(partition)) {
-                        addRow(leftTableHashed, leftOuterJoins,
-                                partition, tuple, inputDataRow);
+                        addRow(leftTableHashed, partition, tuple,
+                                inputDataRow);
                         rowsAdded++;
                     }
                 }
@@ -708,9 +860,6 @@ private Collection<Integer> performJoin(
                     // remove collected data of the no longer processed
                     for (int i : removeParts) {
                         leftTableHashed.remove(i);
-                        if (m_retainLeft && !m_matchAny) {
-                            leftOuterJoins.remove(i);
-                        }
                     }
                     currParts.removeAll(removeParts);
                     LOGGER.debug("Skip partitions while "
@@ -743,8 +892,7 @@ private Collection<Integer> performJoin(
                         currParts.clear();
                         currParts.add(currPart);
                         // update chunk size
-                        retainPartitions(leftTableHashed, leftOuterJoins,
-                                currPart);
+                        retainPartitions(leftTableHashed, currPart);
                         // update increment for reporting progress
                         numRows += leftTable.size() + rightTable.size();
                         inc = (progressDiff - progress) / numRows;
@@ -769,9 +917,13 @@ private Collection<Integer> performJoin(
             }
         }
 
+        if (rowsFiltered > 0) {
+            LOGGER.debug("Skipped " + rowsFiltered + " tuples of the inner "
+                + "table without a matching tuple in the outer table.");
+        }
         setMessage("Join", exec, pendingParts, currParts);
         // Join with outer table
-        joinInMemory(leftTableHashed, leftOuterJoins,
+        joinInMemory(leftTableHashed,
                 currParts, rightTable,
                 outputContainer,
                 exec, inc);
@@ -787,7 +939,6 @@ private Collection<Integer> performJoin(
 
         // Garbage collector has problems without this explicit clearance.
         leftTableHashed.clear();
-        leftOuterJoins.clear();
 
         // return successfully joined parts
         return currParts;
@@ -813,82 +964,55 @@ private void setMessage(final String activity,
     /**
      * Called when the number of partitions is doubled. The innerHash is
      * traversed and only those entries that are in the given part are
-     * retained. The innerIndexMap is build up so that it contains only
-     * the entries that are in the given part.
+     * retained.
      */
     private void retainPartitions(
-            final Map<Integer, Map<JoinTuple, Set<Integer>>> innerHash,
-            final Map<Integer, Set<Integer>> innerIndexMap,
+            final Map<Integer, Map<JoinTuple, RowIndices>> innerHash,
             final int part) {
-        innerIndexMap.clear();
-
-        Map<JoinTuple, Set<Integer>> thisInnerHash = innerHash.get(part);
+        Map<JoinTuple, RowIndices> thisInnerHash = innerHash.get(part);
         for (Iterator<JoinTuple> iter = thisInnerHash.keySet().iterator();
         iter.hasNext();) {
             JoinTuple tuple = iter.next();
             int index = tuple.hashCode() & m_bitMask;
             if (index != part) {
                 iter.remove();
-            } else if (m_retainLeft && !m_matchAny) {
-                Set<Integer> thisInnerIndexMap = innerIndexMap.get(index);
-                if (null == thisInnerIndexMap) {
-                    thisInnerIndexMap = new HashSet<Integer>();
-                    innerIndexMap.put(index, thisInnerIndexMap);
-                }
-                for (Integer rowIndex : thisInnerHash.get(tuple)) {
-                    thisInnerIndexMap.add(rowIndex);
-                }
             }
         }
     }
 
     /**
-     * Add a row to innerHash and innerIndexMap.
+     * Add a row to innerHash.
      * @param partition The index of the partition.
      * @param joinTuple The join tuples of the row.
      * @param row The row to be added.
      */
     private void addRow(
-            final Map <Integer, Map<JoinTuple, Set<Integer>>> leftTableHashed,
-            final Map <Integer, Set<Integer>> leftOuterJoins,
+            final Map <Integer, Map<JoinTuple, RowIndices>> leftTableHashed,
             final int partition, final JoinTuple joinTuple,
             final InputRow row) {
-        if (m_retainLeft  && !m_matchAny) {
-            Set<Integer> indices = leftOuterJoins.get(partition);
-            if (null == indices) {
-                indices = new HashSet<Integer>();
-                leftOuterJoins.put(partition, indices);
-            }
-            indices.add(row.getIndex());
-        }
-
-        Map<JoinTuple, Set<Integer>> partTuples =
+        Map<JoinTuple, RowIndices> partTuples =
             leftTableHashed.get(partition);
         if (null == partTuples) {
-            partTuples = new HashMap<JoinTuple, Set<Integer>>();
+            partTuples = new HashMap<JoinTuple, RowIndices>();
             leftTableHashed.put(partition, partTuples);
         }
 
-
-        Set<Integer> c = partTuples.get(joinTuple);
-        if (null != c) {
-            c.add(row.getIndex());
-        } else {
-            Set<Integer> list = new HashSet<Integer>();
-            list.add(row.getIndex());
-            partTuples.put(joinTuple, list);
+        RowIndices c = partTuples.get(joinTuple);
+        if (null == c) {
+            c = new RowIndices();
+            partTuples.put(joinTuple, c);
         }
-
-
+        c.add(row.getIndex());
     }
 
 
     /**
      * Join given rows in memory and append joined row to the outputCont.
+     * If the outer table is large enough it is split into chunks of
+     * consecutive rows which are joined concurrently, each thread writing
+     * into its own partial container.
      *
      * @param leftTableHashed Stores the rows of the left input table in parts.
-     * @param leftOuterJoins The same number as found in leftTableHashed used
-     * for left outer joins.
      * @param currParts The parts of the outer table that will be joined.
      * @param rightTable The outer table.
      * @param outputCont The joined rows will be added to this container.
@@ -897,96 +1021,205 @@ private void addRow(
      * @throws CanceledExecutionException When execution is canceled
      */
     private void joinInMemory(
-            final Map <Integer, Map<JoinTuple, Set<Integer>>> leftTableHashed,
-            final Map <Integer, Set<Integer>> leftOuterJoins,
+            final Map <Integer, Map<JoinTuple, RowIndices>> leftTableHashed,
             final Collection<Integer> currParts,
             final BufferedDataTable rightTable,
             final JoinContainer outputCont,
             final ExecutionContext exec,
             final double incProgress) throws CanceledExecutionException {
-        double progress = exec.getProgressMonitor().getProgress();
-        int counter = 0;
-        for (DataRow dataRow : rightTable) {
-            progress += incProgress;
-            exec.getProgressMonitor().setProgress(progress);
-            exec.checkCanceled();
-
-            InputRow rightRow = new InputRow(dataRow, counter,
-                    InputRow.Settings.InDataPort.Right,
-                    m_inputDataRowSettings);
-
-            boolean matchFoundForRightRow = false;
-            boolean deferMatch = false;
-
-            for (JoinTuple joinTuple : rightRow.getJoinTuples()) {
-                int partition = joinTuple.hashCode() & m_bitMask;
-                if (!currParts.contains(partition)) {
-                    deferMatch = true;
-                    // skip and defer non-match when partition is not in the current partitions
-                    continue;
+        final Set<Integer> parts = new HashSet<Integer>(currParts);
+        final int rowCount = rightTable.getRowCount();
+        final int numThreads = Math.min(m_maxThreads,
+            rowCount / Math.max(1, m_minRowsPerThread));
+        if (numThreads < 2) {
+            double progress = exec.getProgressMonitor().getProgress();
+            int counter = 0;
+            try (CloseableRowIterator iter = rightTable.iterator()) {
+                while (iter.hasNext()) {
+                    progress += incProgress;
+                    exec.getProgressMonitor().setProgress(progress);
+                    exec.checkCanceled();
+                    joinRow(leftTableHashed, parts, iter.next(), counter++,
+                        outputCont, exec);
                 }
+            }
+        } else {
+            joinInParallel(leftTableHashed, parts, rightTable, outputCont,
+                exec, incProgress, numThreads);
+        }
 
-                Map<JoinTuple, Set<Integer>> leftTuples =
+        if (m_retainLeft && !m_matchAny) {
+            // every left row is in exactly one partition
+            for (int partition : parts) {
+                Map<JoinTuple, RowIndices> leftTuples =
                     leftTableHashed.get(partition);
                 if (null == leftTuples) {
-                    // skip and check for outer join when the left table does not have rows that fall
-                    // in this partition
-                    deferMatch = false;
                     continue;
                 }
-
-                Set<Integer> localLeftOuterJoins = null;
-                if (m_retainLeft  && !m_matchAny) {
-                    localLeftOuterJoins = leftOuterJoins.get(partition);
-                }
-
-                Set<Integer> leftRows = leftTuples.get(joinTuple);
-                if (null != leftRows) {
-                    matchFoundForRightRow = true;
-                    for (Integer leftRowIndex : leftRows) {
-                        // add inner join
-                        DataRow outRow = OutputRow.createDataRow(
-                                outputCont.getRowCount(),
-                                leftRowIndex, rightRow.getIndex(),
-                                dataRow,
-                                m_outputDataRowSettings);
-                        outputCont.addMatch(outRow, exec);
-                        if (m_retainLeft && !m_matchAny) {
-                            localLeftOuterJoins.remove(leftRowIndex);
-                        }
-                        if (m_retainLeft && m_matchAny) {
-                            m_globalLeftOuterJoins.remove(leftRowIndex);
+                for (RowIndices rows : leftTuples.values()) {
+                    for (int i = 0; i < rows.size(); i++) {
+                        int row = rows.get(i);
+                        if (!m_matchedLeftRows.get(row)) {
+                            // add left outer join
+                            DataRow outRow = OutputRow.createDataRow(
+                                    outputCont.nextRowIndex(),
+                                    row, -1,
+                                    m_outputDataRowSettings);
+                            outputCont.addLeftOuter(outRow, exec);
                         }
                     }
                 }
             }
+        }
 
+    }
 
-            if (m_retainRight && !matchFoundForRightRow && !deferMatch) {
-                long outRowIndex = outputCont.getRowCount();
-                // add right outer join
-                DataRow outRow = OutputRow.createDataRow(outRowIndex,
-                        -1, rightRow.getIndex(),
-                        dataRow,
-                        m_outputDataRowSettings);
-                outputCont.addRightOuter(outRow, exec);
+    /**
+     * Joins chunks of consecutive rows of the outer table on multiple
+     * threads. The hashed inner table is only read by the threads.
+     */
+    private void joinInParallel(
+            final Map <Integer, Map<JoinTuple, RowIndices>> leftTableHashed,
+            final Set<Integer> parts,
+            final BufferedDataTable rightTable,
+            final JoinContainer outputCont,
+            final ExecutionContext exec,
+            final double incProgress,
+            final int numThreads) throws CanceledExecutionException {
+        final double progress = exec.getProgressMonitor().getProgress();
+        final int chunkSize =
+            (rightTable.getRowCount() + numThreads - 1) / numThreads;
+        final AtomicLong rowCounter = new AtomicLong();
+        final NodeContext context = NodeContext.getContext();
+        final ThreadPool pool =
+            KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(numThreads);
+        final List<Future<JoinContainer>> futures =
+            new ArrayList<Future<JoinContainer>>(numThreads);
+        for (int i = 0; i < numThreads; i++) {
+            final int firstIndex = i * chunkSize;
+            final JoinContainer partialCont =
+                outputCont.createPartialContainer();
+            futures.add(pool.enqueue(() -> {
+                NodeContext.pushContext(context);
+                try (CloseableRowIterator iter = rightTable.iteratorBuilder()
+                        .filterRowRange(firstIndex, firstIndex + chunkSize)
+                        .build()) {
+                    int index = firstIndex;
+                    while (iter.hasNext()) {
+                        exec.checkCanceled();
+                        joinRow(leftTableHashed, parts, iter.next(), index++,
+                            partialCont, exec);
+                        rowCounter.incrementAndGet();
+                    }
+                } finally {
+                    NodeContext.removeLastContext();
+                }
+                return partialCont;
+            }));
+        }
+        try {
+            for (Future<JoinContainer> future : futures) {
+                while (true) {
+                    exec.checkCanceled();
+                    exec.getProgressMonitor().setProgress(
+                        progress + rowCounter.get() * incProgress);
+                    try {
+                        JoinContainer partialCont =
+                            future.get(200, TimeUnit.MILLISECONDS);
+                        partialCont.close(exec);
+                        outputCont.addAll(partialCont);
+                        break;
+                    } catch (TimeoutException e) {
+                        // check cancellation and wait again
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            throw new CanceledExecutionException("Join canceled");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException)e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            for (Future<JoinContainer> future : futures) {
+                future.cancel(true);
             }
-            counter++;
         }
+    }
 
-        if (m_retainLeft && !m_matchAny) {
-            for (int partition : leftOuterJoins.keySet()) {
-                for (Integer row : leftOuterJoins.get(partition)) {
-                    // add left outer join
+    /**
+     * Joins a single row of the outer table with the hashed rows of the
+     * inner table.
+     *
+     * @param leftTableHashed Stores the rows of the left input table in parts.
+     * @param parts The parts of the outer table that will be joined.
+     * @param dataRow The row of the outer table.
+     * @param index The index of the row in the outer table.
+     * @param outputCont The joined rows will be added to this container.
+     * @param exec The {@link ExecutionContext}
+     */
+    private void joinRow(
+            final Map <Integer, Map<JoinTuple, RowIndices>> leftTableHashed,
+            final Set<Integer> parts,
+            final DataRow dataRow,
+            final int index,
+            final JoinContainer outputCont,
+            final ExecutionContext exec) {
+        InputRow rightRow = new InputRow(dataRow, index,
+                InputRow.Settings.InDataPort.Right,
+                m_inputDataRowSettings);
+
+        boolean matchFoundForRightRow = false;
+        boolean deferMatch = false;
+
+        for (JoinTuple joinTuple : rightRow.getJoinTuples()) {
+            int partition = joinTuple.hashCode() & m_bitMask;
+            if (!parts.contains(partition)) {
+                deferMatch = true;
+                // skip and defer non-match when partition is not in the current partitions
+                continue;
+            }
+
+            Map<JoinTuple, RowIndices> leftTuples =
+                leftTableHashed.get(partition);
+            if (null == leftTuples) {
+                // skip and check for outer join when the left table does not have rows that fall
+                // in this partition
+                deferMatch = false;
+                continue;
+            }
+
+            RowIndices leftRows = leftTuples.get(joinTuple);
+            if (null != leftRows) {
+                matchFoundForRightRow = true;
+                for (int i = 0; i < leftRows.size(); i++) {
+                    int leftRowIndex = leftRows.get(i);
+                    // add inner join
                     DataRow outRow = OutputRow.createDataRow(
-                            outputCont.getRowCount(),
-                            row, -1,
+                            outputCont.nextRowIndex(),
+                            leftRowIndex, rightRow.getIndex(),
+                            dataRow,
                             m_outputDataRowSettings);
-                    outputCont.addLeftOuter(outRow, exec);
+                    outputCont.addMatch(outRow, exec);
+                    if (m_retainLeft) {
+                        m_matchedLeftRows.set(leftRowIndex);
+                    }
                 }
             }
         }
 
+
+        if (m_retainRight && !matchFoundForRightRow && !deferMatch) {
+            // add right outer join
+            DataRow outRow = OutputRow.createDataRow(outputCont.nextRowIndex(),
+                    -1, rightRow.getIndex(),
+                    dataRow,
+                    m_outputDataRowSettings);
+            outputCont.addRightOuter(outRow, exec);
+        }
     }
 
     private List<Integer> getLeftJoinIndices(
@@ -1239,5 +1472,86 @@ void setNumBitsMaximal(final int bits) {
         m_numBitsMaximal = bits;
     }
 
+    /**
+     * Used for testing, only.
+     * @param rows the minimal number of rows of the outer table joined by a
+     * single thread
+     */
+    void setMinRowsPerThread(final int rows) {
+        m_minRowsPerThread = rows;
+    }
+
+    /**
+     * Used for testing, only.
+     * @param threads the maximal number of threads joining the outer table
+     */
+    void setMaxThreads(final int threads) {
+        m_maxThreads = threads;
+    }
+
+    /**
+     * Used for testing, only.
+     * @param force if the inner table is filtered by the join tuples of the
+     * outer table whenever the join mode allows it
+     */
+    void setForceOuterKeyFilter(final boolean force) {
+        m_forceOuterKeyFilter = force;
+    }
+
+    /**
+     * The indices of the inner table rows that share a join tuple, stored in
+     * a growing int array.
+     */
+    private static final class RowIndices {
+        private int[] m_indices = new int[1];
+
+        private int m_size;
+
+        /** Adds a row index, rows are added in ascending order. */
+        void add(final int index) {
+            // a row can have the same join tuple more than once (match any)
+            if (m_size > 0 && m_indices[m_size - 1] == index) {
+                return;
+            }
+            if (m_size == m_indices.length) {
+                m_indices = Arrays.copyOf(m_indices, 2 * m_size);
+            }
+            m_indices[m_size++] = index;
+        }
+
+        int size() {
+            return m_size;
+        }
+
+        int get(final int i) {
+            return m_indices[i];
+        }
+    }
+
+    /**
+     * A bit set of row indices that can be marked concurrently.
+     */
+    private static final class MatchedRows {
+        private final AtomicLongArray m_bits;
+
+        MatchedRows(final int numRows) {
+            m_bits = new AtomicLongArray((numRows + 63) >>> 6);
+        }
+
+        void set(final int index) {
+            final int word = index >>> 6;
+            final long mask = 1L << index;
+            long bits = m_bits.get(word);
+            while ((bits & mask) == 0
+                    && !m_bits.compareAndSet(word, bits, bits | mask)) {
+                bits = m_bits.get(word);
+            }
+        }
+
+        boolean get(final int index) {
+            return (m_bits.get(index >>> 6) & (1L << index)) != 0;
+        }
+    }
+
 }
 
@@ -74,6 +74,7 @@ public class Joiner2Settings {
     private static final String MAX_OPEN_FILES = "maxOpenFiles";
     private static final String ROW_KEY_SEPARATOR = "rowKeySeparator";
     private static final String ENABLE_HILITE = "enableHiLite";
+    private static final String JOIN_ALGORITHM = "joinAlgorithm";
     private static final String VERSION = "version";
 
     /**
@@ -156,6 +157,34 @@ public enum CompositionMode {
         MatchAny;
     }
 
+    /**
+     * This enum holds the algorithms used to join the two tables.
+     *
+     * @since 3.8
+     */
+    public enum JoinAlgorithm {
+        /** Choose the algorithm based on the table sizes and the available memory. */
+        Auto("Automatic"),
+        /** Hybrid hash join, reads the tables again if the partitions don't fit into memory. */
+        HashJoin("Hash join"),
+        /** Sort both tables on the joining columns and merge them, not available for match any. */
+        SortMergeJoin("Sort-merge join");
+
+        private final String m_text;
+
+        private JoinAlgorithm(final String text) {
+            m_text = text;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return m_text;
+        }
+    }
+
 
     /** Internally used row key identifier. */
     static final String ROW_KEY_IDENTIFIER = "$RowID$";
@@ -184,6 +213,7 @@ public enum CompositionMode {
     private int m_maxOpenFiles = 200;
     private String m_rowKeySeparator = "_";
     private boolean m_enableHiLite = false;
+    private JoinAlgorithm m_joinAlgorithm = JoinAlgorithm.Auto;
 
     private String m_version = VERSION_3;
 
@@ -495,6 +525,26 @@ public void setEnableHiLite(final boolean enableHiLite) {
         m_enableHiLite = enableHiLite;
     }
 
+    /**
+     * Returns the algorithm used to join the tables.
+     *
+     * @return the join algorithm
+     * @since 3.8
+     */
+    public JoinAlgorithm getJoinAlgorithm() {
+        return m_joinAlgorithm;
+    }
+
+    /**
+     * Set the algorithm used to join the tables.
+     *
+     * @param joinAlgorithm the join algorithm
+     * @since 3.8
+     */
+    public void setJoinAlgorithm(final JoinAlgorithm joinAlgorithm) {
+        m_joinAlgorithm = joinAlgorithm;
+    }
+
     /**
      * Loads the settings from the node settings object.
      *
@@ -531,6 +581,13 @@ public void loadSettings(final NodeSettingsRO settings)
         m_maxOpenFiles = settings.getInt(MAX_OPEN_FILES);
         m_rowKeySeparator = settings.getString(ROW_KEY_SEPARATOR);
         m_enableHiLite = settings.getBoolean(ENABLE_HILITE);
+        // added in 3.8
+        final String joinAlgorithm = settings.getString(JOIN_ALGORITHM, JoinAlgorithm.Auto.name());
+        try {
+            m_joinAlgorithm = JoinAlgorithm.valueOf(joinAlgorithm);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSettingsException("Unknown join algorithm: \"" + joinAlgorithm + "\"", e);
+        }
 
 
     }
@@ -583,6 +640,11 @@ public void loadSettingsForDialog(final NodeSettingsRO settings) {
         m_maxOpenFiles = settings.getInt(MAX_OPEN_FILES, 200);
         m_rowKeySeparator = settings.getString(ROW_KEY_SEPARATOR, "_");
         m_enableHiLite = settings.getBoolean(ENABLE_HILITE, false);
+        try {
+            m_joinAlgorithm = JoinAlgorithm.valueOf(settings.getString(JOIN_ALGORITHM, JoinAlgorithm.Auto.name()));
+        } catch (IllegalArgumentException e) {
+            m_joinAlgorithm = JoinAlgorithm.Auto;
+        }
 
 
     }
@@ -611,6 +673,7 @@ public void saveSettings(final NodeSettingsWO settings) {
         settings.addInt(MAX_OPEN_FILES, m_maxOpenFiles);
         settings.addString(ROW_KEY_SEPARATOR, m_rowKeySeparator);
         settings.addBoolean(ENABLE_HILITE, m_enableHiLite);
+        settings.addString(JOIN_ALGORITHM, m_joinAlgorithm.name());
         // save default values for settings that were removed in 2.5, so that
         // a workflow created with 2.5 can be opened in 2.4.
         settings.addInt("numBitsInitial", 6);
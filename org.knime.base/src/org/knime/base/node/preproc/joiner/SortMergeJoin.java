@@ -0,0 +1,434 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.preproc.joiner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.knime.base.node.preproc.joiner.InputRow.Settings.InDataPort;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.ColumnRearranger;
+import org.knime.core.data.container.SingleCellFactory;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.sort.BufferedDataTableSorter;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.util.BlockedBloomFilter;
+
+/**
+ * Joins two tables by sorting both on the joining columns and merging them
+ * afterwards. In contrast to the hash join the I/O is predictable: each input
+ * is read for the sort (which is skipped if the input is already sorted) and
+ * once more for the merge, no matter how large the tables are compared to the
+ * available memory. Only rows of the top input with the same joining values
+ * are kept in memory.
+ *
+ * <p>The rows are written to a {@link JoinContainer} the same way as by the
+ * hash join, i.e. with the indices of the joined rows in the input tables.
+ * The sort-merge join does not support the match any composition mode.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class SortMergeJoin {
+
+    private final DataTableSpec m_rightSpec;
+
+    private final int[] m_leftIndices;
+
+    private final int[] m_rightIndices;
+
+    /** Comparators for the common super type of each pair of joining columns. */
+    private final DataValueComparator[] m_comparators;
+
+    private final OutputRow.Settings m_outputSettings;
+
+    private final boolean m_retainLeft;
+
+    private final boolean m_retainRight;
+
+    private final int m_maxOpenFiles;
+
+    private final BlockedBloomFilter m_rightKeys;
+
+    /**
+     * Create a new instance.
+     *
+     * @param leftSpec the spec of the top input ('left' table)
+     * @param rightSpec the spec of the bottom input ('right' table)
+     * @param inputSettings the settings with the joining column indices
+     * @param outputSettings the settings of the rows written to the container
+     * @param retainLeft <code>true</code> for left and full outer joins
+     * @param retainRight <code>true</code> for right and full outer joins
+     * @param maxOpenFiles the maximum number of open files used by the sorter
+     * @param rightKeys a filter containing the joining values of the right
+     * table, left rows not contained are not sorted; <code>null</code> if all
+     * left rows are sorted (must be <code>null</code> if retainLeft is set)
+     */
+    SortMergeJoin(final DataTableSpec leftSpec,
+            final DataTableSpec rightSpec,
+            final InputRow.Settings inputSettings,
+            final OutputRow.Settings outputSettings,
+            final boolean retainLeft, final boolean retainRight,
+            final int maxOpenFiles, final BlockedBloomFilter rightKeys) {
+        m_rightSpec = rightSpec;
+        m_leftIndices = toArray(inputSettings.getJoiningIndices(InDataPort.Left));
+        m_rightIndices = toArray(inputSettings.getJoiningIndices(InDataPort.Right));
+        m_comparators = new DataValueComparator[m_leftIndices.length];
+        for (int i = 0; i < m_leftIndices.length; i++) {
+            DataType commonType = DataType.getCommonSuperType(
+                getType(leftSpec, m_leftIndices[i]),
+                getType(rightSpec, m_rightIndices[i]));
+            m_comparators[i] = commonType.getComparator();
+        }
+        m_outputSettings = outputSettings;
+        m_retainLeft = retainLeft;
+        m_retainRight = retainRight;
+        m_maxOpenFiles = maxOpenFiles;
+        m_rightKeys = rightKeys;
+    }
+
+    private static int[] toArray(final List<Integer> list) {
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    /** The type of a joining column, row IDs are joined as string cells. */
+    private static DataType getType(final DataTableSpec spec, final int index) {
+        return index >= 0 ? spec.getColumnSpec(index).getType() : StringCell.TYPE;
+    }
+
+    /** The values of the joining columns of a row. */
+    private static DataCell[] getKey(final DataRow row, final int[] indices) {
+        DataCell[] key = new DataCell[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            key[i] = indices[i] >= 0 ? row.getCell(indices[i])
+                : new StringCell(row.getKey().getString());
+        }
+        return key;
+    }
+
+    private static boolean hasMissing(final DataCell[] key) {
+        for (DataCell cell : key) {
+            if (cell.isMissing()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int compare(final DataCell[] key1, final DataCell[] key2) {
+        for (int i = 0; i < m_comparators.length; i++) {
+            int diff = m_comparators[i].compare(key1[i], key2[i]);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Joins the two tables and adds the joined rows to the container.
+     *
+     * @param leftTable the top input ('left' table)
+     * @param rightTable the bottom input ('right' table)
+     * @param outputCont the container the joined rows are added to
+     * @param exec the execution context for sorting and progress
+     * @throws CanceledExecutionException if execution is canceled
+     */
+    void join(final BufferedDataTable leftTable,
+            final BufferedDataTable rightTable,
+            final JoinContainer outputCont,
+            final ExecutionContext exec) throws CanceledExecutionException {
+        exec.setMessage("Sorting top input");
+        BufferedDataTable left = sortLeft(leftTable,
+            exec.createSubExecutionContext(0.3));
+        exec.setMessage("Sorting bottom input");
+        BufferedDataTable right = sortRight(rightTable,
+            exec.createSubExecutionContext(0.3));
+        exec.setMessage("Merging sorted inputs");
+        merge(left, right, outputCont, exec.createSubExecutionContext(0.4));
+    }
+
+    /**
+     * Writes the joining values and the row index of each row of the left
+     * table into a new table, which is then sorted by the joining values.
+     * The other columns of the left table are not needed for the merge. Rows
+     * whose joining values are not in the right table's filter are dropped.
+     */
+    private BufferedDataTable sortLeft(final BufferedDataTable leftTable,
+            final ExecutionContext exec) throws CanceledExecutionException {
+        DataColumnSpec[] colSpecs = new DataColumnSpec[m_leftIndices.length + 1];
+        for (int i = 0; i < m_leftIndices.length; i++) {
+            colSpecs[i] = new DataColumnSpecCreator("Key " + i,
+                getType(leftTable.getDataTableSpec(), m_leftIndices[i])).createSpec();
+        }
+        colSpecs[m_leftIndices.length] =
+            new DataColumnSpecCreator("Index", LongCell.TYPE).createSpec();
+        ExecutionContext writeExec = exec.createSubExecutionContext(0.2);
+        BufferedDataContainer cont =
+            exec.createDataContainer(new DataTableSpec(colSpecs));
+        long index = 0;
+        final double rowCount = leftTable.size();
+        for (DataRow row : leftTable) {
+            writeExec.checkCanceled();
+            writeExec.setProgress(index / rowCount);
+            DataCell[] key = getKey(row, m_leftIndices);
+            if (m_rightKeys != null && !m_rightKeys.mightContain(
+                    BlockedBloomFilter.hash(Arrays.hashCode(key)))) {
+                // no right row has these joining values
+                index++;
+                continue;
+            }
+            DataCell[] cells = new DataCell[key.length + 1];
+            System.arraycopy(key, 0, cells, 0, key.length);
+            cells[key.length] = new LongCell(index++);
+            cont.addRowToTable(new DefaultRow(row.getKey(), cells));
+        }
+        cont.close();
+        final int[] keyIndices = new int[m_leftIndices.length];
+        for (int i = 0; i < keyIndices.length; i++) {
+            keyIndices[i] = i;
+        }
+        return sort(cont.getTable(), keyIndices,
+            exec.createSubExecutionContext(0.8));
+    }
+
+    /**
+     * Appends the row index to the right table, which is then sorted by the
+     * joining values. All columns are needed for the output rows.
+     */
+    private BufferedDataTable sortRight(final BufferedDataTable rightTable,
+            final ExecutionContext exec) throws CanceledExecutionException {
+        ColumnRearranger rearranger = new ColumnRearranger(m_rightSpec);
+        String indexName = DataTableSpec.getUniqueColumnName(m_rightSpec, "Index");
+        rearranger.append(new SingleCellFactory(
+                new DataColumnSpecCreator(indexName, LongCell.TYPE).createSpec()) {
+            private long m_index;
+
+            @Override
+            public DataCell getCell(final DataRow row) {
+                return new LongCell(m_index++);
+            }
+        });
+        BufferedDataTable indexed = exec.createColumnRearrangeTable(rightTable,
+            rearranger, exec.createSubExecutionContext(0.2));
+        return sort(indexed, m_rightIndices, exec.createSubExecutionContext(0.8));
+    }
+
+    /** Sorts the table by the joining values unless it is already sorted. */
+    private BufferedDataTable sort(final BufferedDataTable table,
+            final int[] keyIndices, final ExecutionContext exec)
+            throws CanceledExecutionException {
+        final Comparator<DataRow> comparator = new Comparator<DataRow>() {
+            @Override
+            public int compare(final DataRow r1, final DataRow r2) {
+                return SortMergeJoin.this.compare(getKey(r1, keyIndices),
+                    getKey(r2, keyIndices));
+            }
+        };
+        if (isSorted(table, comparator, exec)) {
+            return table;
+        }
+        BufferedDataTableSorter sorter = new BufferedDataTableSorter(table, comparator);
+        sorter.setMaxOpenContainers(m_maxOpenFiles);
+        return sorter.sort(exec);
+    }
+
+    /**
+     * Checks whether the table is sorted. The check stops at the first row
+     * out of order, so it is cheap for unsorted tables and saves the sort
+     * for sorted ones.
+     */
+    private static boolean isSorted(final BufferedDataTable table,
+            final Comparator<DataRow> comparator, final ExecutionContext exec)
+            throws CanceledExecutionException {
+        try (CloseableRowIterator iter = table.iterator()) {
+            DataRow prev = null;
+            while (iter.hasNext()) {
+                exec.checkCanceled();
+                DataRow row = iter.next();
+                if (prev != null && comparator.compare(prev, row) > 0) {
+                    return false;
+                }
+                prev = row;
+            }
+        }
+        return true;
+    }
+
+    /** Merges the sorted tables and adds the joined rows to the container. */
+    private void merge(final BufferedDataTable left,
+            final BufferedDataTable right,
+            final JoinContainer outputCont,
+            final ExecutionContext exec) throws CanceledExecutionException {
+        final int leftIndexCol = m_leftIndices.length;
+        final int rightIndexCol = m_rightSpec.getNumColumns();
+        final double rightRowCount = right.size();
+        long rightCounter = 0;
+        try (CloseableRowIterator leftIter = left.iterator();
+                CloseableRowIterator rightIter = right.iterator()) {
+            DataRow l = leftIter.hasNext() ? leftIter.next() : null;
+            DataRow r = rightIter.hasNext() ? rightIter.next() : null;
+            // the left rows with the same joining values as the current
+            // right row
+            List<DataCell[]> leftKeys = new ArrayList<DataCell[]>();
+            List<Integer> leftRows = new ArrayList<Integer>();
+            boolean[] matched = new boolean[0];
+            while (r != null) {
+                exec.checkCanceled();
+                exec.setProgress(rightCounter++ / rightRowCount);
+                DataCell[] rightKey = getKey(r, m_rightIndices);
+                int rightIndex = (int)((LongValue)r.getCell(rightIndexCol)).getLongValue();
+                if (hasMissing(rightKey)) {
+                    // missing values never match
+                    addRightOuter(r, rightIndex, outputCont, exec);
+                    r = rightIter.hasNext() ? rightIter.next() : null;
+                    continue;
+                }
+                if (!leftKeys.isEmpty() && compare(leftKeys.get(0), rightKey) < 0) {
+                    // the current group of left rows is done
+                    addLeftOuter(leftRows, matched, outputCont, exec);
+                    leftKeys.clear();
+                    leftRows.clear();
+                }
+                if (leftKeys.isEmpty()) {
+                    // skip the left rows smaller than the right row and
+                    // collect the group of left rows with equal values
+                    while (l != null) {
+                        DataCell[] leftKey = getKey(l, m_leftIndices);
+                        int leftIndex = (int)((LongValue)l.getCell(leftIndexCol)).getLongValue();
+                        int diff = compare(leftKey, rightKey);
+                        if (diff > 0 || (!leftKeys.isEmpty() && compare(leftKeys.get(0), leftKey) != 0)) {
+                            break;
+                        }
+                        if (diff < 0 || hasMissing(leftKey)) {
+                            addLeftOuter(leftIndex, outputCont, exec);
+                        } else {
+                            leftKeys.add(leftKey);
+                            leftRows.add(leftIndex);
+                        }
+                        l = leftIter.hasNext() ? leftIter.next() : null;
+                    }
+                    matched = new boolean[leftRows.size()];
+                }
+                boolean matchFoundForRightRow = false;
+                if (!leftKeys.isEmpty() && compare(leftKeys.get(0), rightKey) == 0) {
+                    JoinTuple rightTuple = new JoinTuple(rightKey);
+                    for (int i = 0; i < leftKeys.size(); i++) {
+                        // equal according to the comparator is not
+                        // necessarily equal according to the hash join
+                        if (new JoinTuple(leftKeys.get(i)).equals(rightTuple)) {
+                            DataRow outRow = OutputRow.createDataRow(
+                                outputCont.nextRowIndex(), leftRows.get(i),
+                                rightIndex, r, m_outputSettings);
+                            outputCont.addMatch(outRow, exec);
+                            matched[i] = true;
+                            matchFoundForRightRow = true;
+                        }
+                    }
+                }
+                if (!matchFoundForRightRow) {
+                    addRightOuter(r, rightIndex, outputCont, exec);
+                }
+                r = rightIter.hasNext() ? rightIter.next() : null;
+            }
+            addLeftOuter(leftRows, matched, outputCont, exec);
+            while (l != null) {
+                exec.checkCanceled();
+                addLeftOuter((int)((LongValue)l.getCell(leftIndexCol)).getLongValue(),
+                    outputCont, exec);
+                l = leftIter.hasNext() ? leftIter.next() : null;
+            }
+        }
+    }
+
+    private void addLeftOuter(final List<Integer> leftRows,
+            final boolean[] matched, final JoinContainer outputCont,
+            final ExecutionContext exec) {
+        for (int i = 0; i < leftRows.size(); i++) {
+            if (!matched[i]) {
+                addLeftOuter(leftRows.get(i), outputCont, exec);
+            }
+        }
+    }
+
+    private void addLeftOuter(final int leftIndex,
+            final JoinContainer outputCont, final ExecutionContext exec) {
+        if (m_retainLeft) {
+            DataRow outRow = OutputRow.createDataRow(outputCont.nextRowIndex(),
+                leftIndex, -1, m_outputSettings);
+            outputCont.addLeftOuter(outRow, exec);
+        }
+    }
+
+    private void addRightOuter(final DataRow row, final int rightIndex,
+            final JoinContainer outputCont, final ExecutionContext exec) {
+        if (m_retainRight) {
+            DataRow outRow = OutputRow.createDataRow(outputCont.nextRowIndex(),
+                -1, rightIndex, row, m_outputSettings);
+            outputCont.addRightOuter(outRow, exec);
+        }
+    }
+}
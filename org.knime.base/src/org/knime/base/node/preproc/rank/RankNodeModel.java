@@ -51,8 +51,10 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 import org.knime.core.data.DataCell;
@@ -60,11 +62,15 @@
 import org.knime.core.data.DataColumnSpecCreator;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.data.container.SingleCellFactory;
+import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.LongCell;
 import org.knime.core.data.sort.BufferedDataTableSorter;
+import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
@@ -218,23 +224,6 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         // get rank mode
         String rankMode = m_rankMode.getStringValue();
 
-        // calculate number of steps
-        double numSteps = 2;
-        if (m_retainRowOrder.getBooleanValue()) {
-            numSteps += 3;
-        }
-
-        // insert extra column containing the original order of the input table
-        final String rowOrder = "rowOrder";
-        if (m_retainRowOrder.getBooleanValue()) {
-            ColumnRearranger cr = new ColumnRearranger(inSpec);
-            DataColumnSpec rowOrderSpec = new DataColumnSpecCreator(rowOrder, LongCell.TYPE).createSpec();
-            OrderCellFactory cellFac = new OrderCellFactory(rowOrderSpec);
-            cr.append(cellFac);
-            table = exec.createColumnRearrangeTable(table, cr, exec.createSubProgress(1 / numSteps));
-            inSpec = table.getDataTableSpec();
-        }
-
         // set boolean array to indicate ascending ranking columns
         String[] orderRank = m_rankOrder.getStringArrayValue();
         boolean[] ascRank = new boolean[orderRank.length];
@@ -242,6 +231,13 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
             ascRank[i] = (orderRank[i].equals("Ascending")) ? true : false;
         }
 
+        if (m_retainRowOrder.getBooleanValue()) {
+            return new BufferedDataTable[]{rankInRowOrder(table, groupCols, rankCols, ascRank, exec)};
+        }
+
+        // calculate number of steps
+        double numSteps = 2;
+
         // sort by rank
         BufferedDataTable sortedTable =
             new BufferedDataTableSorter(table, rankCols, ascRank).sort(exec.createSubExecutionContext(1 / numSteps));
@@ -256,30 +252,123 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
             newColSpec = new DataColumnSpecCreator(m_rankOutColName.getStringValue(), IntCell.TYPE).createSpec();
         }
 
-        int initialHashtableCapacity = 11;
-        if (!groupCols.isEmpty()) {
-            initialHashtableCapacity = (int)Math.sqrt(table.size());
-        }
-
         // append rank column
         columnRearranger.append(new RankCellFactory(newColSpec, groupColIndices, rankColIndices, rankMode, rankAsLong,
-            initialHashtableCapacity));
+            getInitialHashtableCapacity(groupCols, table)));
         BufferedDataTable out = exec.createColumnRearrangeTable(sortedTable, columnRearranger,
             exec.createSubExecutionContext(1 / numSteps));
 
-        if (m_retainRowOrder.getBooleanValue()) {
-            // recover row order
-            LinkedList<String> sortBy = new LinkedList<String>();
-            sortBy.add(rowOrder);
-            out = new BufferedDataTableSorter(out, sortBy, new boolean[]{true})
-                .sort(exec.createSubExecutionContext(1 / numSteps));
-            // remove order column
-            ColumnRearranger cr = new ColumnRearranger(out.getDataTableSpec());
-            cr.remove(rowOrder);
-            out = exec.createColumnRearrangeTable(out, cr, exec.createSubExecutionContext(1 / numSteps));
+        return new BufferedDataTable[]{out};
+    }
+
+    /**
+     * Computes the ranks without sorting the complete rows: only the grouping and ranking columns together with the
+     * row index are sorted. The ranks are then appended to the input table in its original order, either from an
+     * array indexed by the row index or, if the array does not fit into memory, from the (index, rank) pairs sorted
+     * by the row index.
+     */
+    private BufferedDataTable rankInRowOrder(final BufferedDataTable table, final List<String> groupCols,
+        final List<String> rankCols, final boolean[] ascRank, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        final DataTableSpec inSpec = table.getDataTableSpec();
+        final String rowOrder = DataTableSpec.getUniqueColumnName(inSpec, "rowOrder");
+        final boolean rankAsLong = m_rankAsLong.getBooleanValue();
+        final long rowCount = table.size();
+        final boolean ranksInMemory = fitsIntoMemory(rowCount);
+
+        // keep only the grouping and ranking columns and append the row index
+        ColumnRearranger keyRearranger = new ColumnRearranger(inSpec);
+        LinkedHashSet<String> keyCols = new LinkedHashSet<String>(groupCols);
+        keyCols.addAll(rankCols);
+        keyRearranger.keepOnly(keyCols.toArray(new String[keyCols.size()]));
+        keyRearranger.append(new OrderCellFactory(new DataColumnSpecCreator(rowOrder, LongCell.TYPE).createSpec()));
+        final BufferedDataTable keyTable =
+            exec.createColumnRearrangeTable(table, keyRearranger, exec.createSubProgress(0.2));
+
+        // sort by rank, the row index resolves ties in the order of the input table
+        List<String> sortCols = new ArrayList<String>(rankCols);
+        sortCols.add(rowOrder);
+        boolean[] sortAsc = Arrays.copyOf(ascRank, ascRank.length + 1);
+        sortAsc[ascRank.length] = true;
+        BufferedDataTable sortedKeys = new BufferedDataTableSorter(keyTable, sortCols, sortAsc)
+            .sort(exec.createSubExecutionContext(ranksInMemory ? 0.4 : 0.3));
+
+        // compute the ranks
+        final DataTableSpec keySpec = sortedKeys.getDataTableSpec();
+        final int orderIndex = keySpec.findColumnIndex(rowOrder);
+        final DataColumnSpec rankSpec = new DataColumnSpecCreator(m_rankOutColName.getStringValue(),
+            rankAsLong ? LongCell.TYPE : IntCell.TYPE).createSpec();
+        final RankCellFactory rankFactory = new RankCellFactory(rankSpec,
+            getIndicesFromColNameList(groupCols, keySpec), getIndicesFromColNameList(rankCols, keySpec),
+            m_rankMode.getStringValue(), rankAsLong, getInitialHashtableCapacity(groupCols, table));
+        final ExecutionContext rankExec = exec.createSubExecutionContext(0.2);
+        final long[] ranks = ranksInMemory ? new long[(int)rowCount] : null;
+        final BufferedDataContainer rankCont = ranksInMemory ? null
+            : exec.createDataContainer(new DataTableSpec(keySpec.getColumnSpec(orderIndex), rankSpec));
+        long rowCounter = 0;
+        for (DataRow row : sortedKeys) {
+            rankExec.checkCanceled();
+            rankExec.setProgress(rowCounter++ / (double)rowCount);
+            final DataCell rank = rankFactory.getCell(row);
+            if (ranksInMemory) {
+                ranks[(int)((LongValue)row.getCell(orderIndex)).getLongValue()] = ((LongValue)rank).getLongValue();
+            } else {
+                rankCont.addRowToTable(new DefaultRow(row.getKey(), row.getCell(orderIndex), rank));
+            }
+        }
+        final BufferedDataTable rankTable;
+        if (ranksInMemory) {
+            rankTable = null;
+        } else {
+            rankCont.close();
+            rankTable = new BufferedDataTableSorter(rankCont.getTable(), Collections.singletonList(rowOrder),
+                new boolean[]{true}).sort(exec.createSubExecutionContext(0.1));
         }
 
-        return new BufferedDataTable[]{out};
+        // append the ranks in the original row order
+        ColumnRearranger rearranger = new ColumnRearranger(inSpec);
+        final CloseableRowIterator rankIter = rankTable == null ? null : rankTable.iterator();
+        try {
+            rearranger.append(new SingleCellFactory(rankSpec) {
+                private int m_rowIndex;
+
+                @Override
+                public DataCell getCell(final DataRow row) {
+                    if (rankIter != null) {
+                        return rankIter.next().getCell(1);
+                    }
+                    final long rank = ranks[m_rowIndex++];
+                    return rankAsLong ? new LongCell(rank) : new IntCell((int)rank);
+                }
+            });
+            return exec.createColumnRearrangeTable(table, rearranger, exec.createSubProgress(0.2));
+        } finally {
+            if (rankIter != null) {
+                rankIter.close();
+            }
+        }
+    }
+
+    /** Returns the initial capacity of the hashtable that holds the rank assigners of the groups. */
+    private static int getInitialHashtableCapacity(final List<String> groupCols, final BufferedDataTable table) {
+        int initialHashtableCapacity = 11;
+        if (!groupCols.isEmpty()) {
+            initialHashtableCapacity = (int)Math.sqrt(table.size());
+        }
+        return initialHashtableCapacity;
+    }
+
+    /**
+     * Returns true if an array with a rank for each row fits into the free memory. Package private so that tests can
+     * force the sorted fallback.
+     */
+    boolean fitsIntoMemory(final long rowCount) {
+        if (rowCount > Integer.MAX_VALUE - 8) {
+            return false;
+        }
+        Runtime runtime = Runtime.getRuntime();
+        long freeMemory = runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+        return rowCount * Long.BYTES < freeMemory / 4;
     }
 
     private int[] getIndicesFromColNameList(final List<String> colNames, final DataTableSpec inSpec) {
@@ -0,0 +1,493 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.preproc.setoperator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.util.BlockedBloomFilter;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Hash based alternative to the {@link SetOperationTable}. Instead of sorting both input tables the values of the
+ * two set columns are collected in hash maps. If the values are not expected to fit into memory, both columns are
+ * first written to disk in partitions by the hash code of the values; the partitions are then processed
+ * independently and in parallel, so that only a few partitions are in memory at a time. In contrast to the
+ * {@link SetOperationTable} the result is not sorted. The row keys of the input rows are only kept if hiliting is
+ * enabled.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class HashSetOperationTable {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(HashSetOperationTable.class);
+
+    /** A rough estimate of the memory needed by a value in the hash map. */
+    private static final long ESTIMATED_BYTES_PER_VALUE = 256;
+
+    /** The minimal number of values per partition. */
+    private static final long MIN_VALUES_PER_PARTITION = 100000;
+
+    private final SetOperation m_op;
+
+    private final boolean m_skipMissing;
+
+    private final boolean m_differentType;
+
+    private final Map<RowKey, Set<RowKey>> m_hiliteMapping0;
+
+    private final Map<RowKey, Set<RowKey>> m_hiliteMapping1;
+
+    private final int m_maxThreads = Runtime.getRuntime().availableProcessors();
+
+    private final BufferedDataTable m_resultTable;
+
+    private long m_duplicateCounter;
+
+    private long m_missingCounter;
+
+    private long m_rowId;
+
+    /**
+     * Creates the result table, the number of partitions is chosen depending on the free memory.
+     *
+     * @param exec the {@link ExecutionContext}
+     * @param useRowID1 <code>true</code> if the row id should be used instead of a column
+     * @param col1 the column name of the first set
+     * @param table1 the table of the first set
+     * @param useRowID2 <code>true</code> if the row id should be used instead of a column
+     * @param col2 the column name of the second set
+     * @param table2 the table of the second set
+     * @param op the {@link SetOperation} to perform
+     * @param enableHilite <code>true</code> if hilite translation should be performed
+     * @param skipMissing <code>true</code> if missing cells should be skipped
+     * @throws CanceledExecutionException if the operation was canceled
+     */
+    HashSetOperationTable(final ExecutionContext exec, final boolean useRowID1, final String col1,
+        final BufferedDataTable table1, final boolean useRowID2, final String col2, final BufferedDataTable table2,
+        final SetOperation op, final boolean enableHilite, final boolean skipMissing)
+        throws CanceledExecutionException {
+        this(exec, useRowID1, col1, table1, useRowID2, col2, table2, op, enableHilite, skipMissing,
+            getDefaultValuesPerPartition());
+    }
+
+    /**
+     * Creates the result table.
+     *
+     * @param valuesPerPartition the maximal number of values of both tables processed in one partition
+     * @see #HashSetOperationTable(ExecutionContext, boolean, String, BufferedDataTable, boolean, String,
+     *      BufferedDataTable, SetOperation, boolean, boolean)
+     */
+    HashSetOperationTable(final ExecutionContext exec, final boolean useRowID1, final String col1,
+        final BufferedDataTable table1, final boolean useRowID2, final String col2, final BufferedDataTable table2,
+        final SetOperation op, final boolean enableHilite, final boolean skipMissing, final long valuesPerPartition)
+        throws CanceledExecutionException {
+        if (exec == null) {
+            throw new NullPointerException("exec must not be null");
+        }
+        if (table1 == null) {
+            throw new NullPointerException("table1 must not be null");
+        }
+        if (table2 == null) {
+            throw new NullPointerException("table2 must not be null");
+        }
+        if (op == null) {
+            throw new NullPointerException("op must not be null");
+        }
+        m_op = op;
+        m_skipMissing = skipMissing;
+        if (enableHilite) {
+            if ((table1.size() > Integer.MAX_VALUE) || (table2.size() > Integer.MAX_VALUE)) {
+                LOGGER.warn("Disabling hilite mapping because row count is greater than " + Integer.MAX_VALUE);
+                m_hiliteMapping0 = null;
+                m_hiliteMapping1 = null;
+            } else {
+                m_hiliteMapping0 = new HashMap<RowKey, Set<RowKey>>();
+                m_hiliteMapping1 = new HashMap<RowKey, Set<RowKey>>();
+            }
+        } else {
+            m_hiliteMapping0 = null;
+            m_hiliteMapping1 = null;
+        }
+        final int col1Idx = getColumnIndex(useRowID1, col1, table1, "1");
+        final int col2Idx = getColumnIndex(useRowID2, col2, table2, "2");
+        final DataColumnSpec col1Spec = useRowID1 ? SetOperationTable.createRowIDSpec("RowID1")
+            : table1.getDataTableSpec().getColumnSpec(col1Idx);
+        final DataColumnSpec col2Spec = useRowID2 ? SetOperationTable.createRowIDSpec("RowID2")
+            : table2.getDataTableSpec().getColumnSpec(col2Idx);
+        m_differentType = useRowID1 || useRowID2 || !col1Spec.getType().equals(col2Spec.getType());
+        final DataTableSpec resultSpec = SetOperationTable.createResultTableSpec(op, col1Spec, col2Spec);
+
+        final long numValues = table1.size() + table2.size();
+        final int numPartitions = (int)Math.min(1 << 16, Math.max(1, (numValues + valuesPerPartition - 1)
+            / Math.max(1, valuesPerPartition)));
+        final BufferedDataContainer dc = exec.createDataContainer(resultSpec);
+        m_rowId = 0;
+        if (numPartitions == 1) {
+            exec.setMessage("Performing set operation");
+            addResult(dc, processPartition(table1, col1Idx, table2, col2Idx, exec));
+        } else {
+            final DataType valueType = m_differentType ? StringCell.TYPE : col1Spec.getType();
+            exec.setMessage("Partitioning first set");
+            final BufferedDataTable[] parts1 = partition(table1, col1Idx, valueType, numPartitions,
+                exec.createSubExecutionContext(0.3));
+            exec.setMessage("Partitioning second set");
+            final BufferedDataTable[] parts2 = partition(table2, col2Idx, valueType, numPartitions,
+                exec.createSubExecutionContext(0.3));
+            exec.setMessage("Performing set operation");
+            processPartitions(parts1, parts2, dc, exec.createSubExecutionContext(0.4));
+        }
+        dc.close();
+        m_resultTable = dc.getTable();
+    }
+
+    private static long getDefaultValuesPerPartition() {
+        final Runtime runtime = Runtime.getRuntime();
+        final long freeMemory = runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+        // a partition of each thread and its result are held in memory at the same time
+        return Math.max(MIN_VALUES_PER_PARTITION,
+            freeMemory / (2 * ESTIMATED_BYTES_PER_VALUE * runtime.availableProcessors()));
+    }
+
+    private static int getColumnIndex(final boolean useRowID, final String col, final BufferedDataTable table,
+        final String setIndex) {
+        if (useRowID) {
+            return -1;
+        }
+        if (col == null) {
+            throw new NullPointerException("col" + setIndex + " must not be null");
+        }
+        final int colIdx = table.getDataTableSpec().findColumnIndex(col);
+        if (colIdx < 0) {
+            throw new IllegalArgumentException(
+                "No column spec found for column" + setIndex + " in table" + setIndex);
+        }
+        return colIdx;
+    }
+
+    /** Returns the value of the set column or row key of the row, as string if the two sets are of different type. */
+    private DataCell getValue(final DataRow row, final int colIdx) {
+        final DataCell cell = colIdx < 0 ? new StringCell(row.getKey().getString()) : row.getCell(colIdx);
+        if (m_differentType && !(cell instanceof StringCell)) {
+            return new StringCell(cell.toString());
+        }
+        return cell;
+    }
+
+    /**
+     * Writes the values of the set column into tables, one for each partition. The row keys of the input rows are
+     * retained.
+     */
+    private BufferedDataTable[] partition(final BufferedDataTable table, final int colIdx, final DataType valueType,
+        final int numPartitions, final ExecutionContext exec) throws CanceledExecutionException {
+        final DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("Value", valueType).createSpec());
+        final BufferedDataContainer[] containers = new BufferedDataContainer[numPartitions];
+        for (int i = 0; i < numPartitions; i++) {
+            // values are written to disk immediately, the partitions are read later on
+            containers[i] = exec.createDataContainer(spec, false, 0);
+        }
+        final double rowCount = table.size();
+        long rowCounter = 0;
+        for (final DataRow row : table) {
+            exec.checkCanceled();
+            exec.setProgress(rowCounter++ / rowCount);
+            final DataCell value = getValue(row, colIdx);
+            final long hash = BlockedBloomFilter.hash(value.hashCode());
+            containers[(int)((hash >>> 1) % numPartitions)].addRowToTable(new DefaultRow(row.getKey(), value));
+        }
+        final BufferedDataTable[] partitions = new BufferedDataTable[numPartitions];
+        for (int i = 0; i < numPartitions; i++) {
+            containers[i].close();
+            partitions[i] = containers[i].getTable();
+        }
+        return partitions;
+    }
+
+    /**
+     * Processes the partitions in parallel and adds the results in the order of the partitions. Only as many
+     * partitions as there are threads are processed ahead of the partition whose result is added next.
+     */
+    private void processPartitions(final BufferedDataTable[] parts1, final BufferedDataTable[] parts2,
+        final BufferedDataContainer dc, final ExecutionContext exec) throws CanceledExecutionException {
+        final int numThreads = Math.max(1, Math.min(m_maxThreads, parts1.length));
+        final NodeContext context = NodeContext.getContext();
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(numThreads);
+        final Queue<Future<PartitionResult>> futures = new LinkedList<Future<PartitionResult>>();
+        int nextPartition = 0;
+        int processed = 0;
+        try {
+            while (processed < parts1.length) {
+                while (nextPartition < parts1.length && futures.size() < numThreads) {
+                    final BufferedDataTable part1 = parts1[nextPartition];
+                    final BufferedDataTable part2 = parts2[nextPartition];
+                    futures.add(pool.enqueue(() -> {
+                        NodeContext.pushContext(context);
+                        try {
+                            return processPartition(part1, 0, part2, 0, exec);
+                        } finally {
+                            NodeContext.removeLastContext();
+                        }
+                    }));
+                    nextPartition++;
+                }
+                final Future<PartitionResult> future = futures.peek();
+                while (true) {
+                    exec.checkCanceled();
+                    try {
+                        addResult(dc, future.get(200, TimeUnit.MILLISECONDS));
+                        break;
+                    } catch (TimeoutException e) {
+                        // check cancellation and wait again
+                    }
+                }
+                futures.poll();
+                processed++;
+                exec.setProgress(processed / (double)parts1.length,
+                    "Processed partition " + processed + " of " + parts1.length);
+            }
+        } catch (InterruptedException e) {
+            throw new CanceledExecutionException("Set operation canceled");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException)e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            for (Future<PartitionResult> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Collects the values of both tables in a map and determines the members of the result set. Values of the
+     * second table only need to be collected if they can be part of the result (union and exclusive-or).
+     */
+    private PartitionResult processPartition(final BufferedDataTable table1, final int col1Idx,
+        final BufferedDataTable table2, final int col2Idx, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        final boolean keepKeys = m_hiliteMapping0 != null;
+        final Map<DataCell, Occurrences> values = new LinkedHashMap<DataCell, Occurrences>();
+        try (CloseableRowIterator iter = table1.iterator()) {
+            while (iter.hasNext()) {
+                exec.checkCanceled();
+                final DataRow row = iter.next();
+                final Occurrences occurrences = values.computeIfAbsent(getValue(row, col1Idx), v -> new Occurrences());
+                occurrences.m_count1++;
+                if (keepKeys) {
+                    occurrences.m_keys1 = add(occurrences.m_keys1, row.getKey());
+                }
+            }
+        }
+        final boolean addNewValues = m_op == SetOperation.OR || m_op == SetOperation.XOR;
+        try (CloseableRowIterator iter = table2.iterator()) {
+            while (iter.hasNext()) {
+                exec.checkCanceled();
+                final DataRow row = iter.next();
+                final DataCell value = getValue(row, col2Idx);
+                final Occurrences occurrences =
+                    addNewValues ? values.computeIfAbsent(value, v -> new Occurrences()) : values.get(value);
+                if (occurrences != null) {
+                    occurrences.m_count2++;
+                    if (keepKeys) {
+                        occurrences.m_keys2 = add(occurrences.m_keys2, row.getKey());
+                    }
+                }
+            }
+        }
+        final PartitionResult result = new PartitionResult();
+        for (Map.Entry<DataCell, Occurrences> entry : values.entrySet()) {
+            final Occurrences occurrences = entry.getValue();
+            if (!isMember(occurrences)) {
+                continue;
+            }
+            final int count = occurrences.m_count1 + occurrences.m_count2;
+            if (m_skipMissing && entry.getKey().isMissing()) {
+                result.m_missingCounter += count;
+                continue;
+            }
+            result.m_duplicateCounter += count - 1;
+            result.m_cells.add(entry.getKey());
+            if (keepKeys) {
+                result.m_occurrences.add(occurrences);
+            }
+        }
+        return result;
+    }
+
+    private static Set<RowKey> add(final Set<RowKey> keys, final RowKey key) {
+        final Set<RowKey> result = keys == null ? new HashSet<RowKey>() : keys;
+        result.add(key);
+        return result;
+    }
+
+    private boolean isMember(final Occurrences occurrences) {
+        final boolean inSet1 = occurrences.m_count1 > 0;
+        final boolean inSet2 = occurrences.m_count2 > 0;
+        switch (m_op) {
+            case AND:
+                return inSet1 && inSet2;
+            case OR:
+                return true;
+            case MINUS:
+                return inSet1 && !inSet2;
+            case XOR:
+                return inSet1 != inSet2;
+            default:
+                throw new IllegalStateException("Operation " + m_op.getName() + " not implemented");
+        }
+    }
+
+    private void addResult(final BufferedDataContainer dc, final PartitionResult result) {
+        for (int i = 0; i < result.m_cells.size(); i++) {
+            final RowKey rowKey = RowKey.createRowKey(m_rowId++);
+            dc.addRowToTable(new DefaultRow(rowKey, result.m_cells.get(i)));
+            if (m_hiliteMapping0 != null) {
+                final Occurrences occurrences = result.m_occurrences.get(i);
+                if (occurrences.m_keys1 != null) {
+                    m_hiliteMapping0.put(rowKey, occurrences.m_keys1);
+                }
+                if (occurrences.m_keys2 != null) {
+                    m_hiliteMapping1.put(rowKey, occurrences.m_keys2);
+                }
+            }
+        }
+        m_duplicateCounter += result.m_duplicateCounter;
+        m_missingCounter += result.m_missingCounter;
+    }
+
+    /**
+     * @return the number of duplicates
+     */
+    long getDuplicateCounter() {
+        return m_duplicateCounter;
+    }
+
+    /**
+     * @return the number of missing values
+     */
+    long getMissingCounter() {
+        return m_missingCounter;
+    }
+
+    /**
+     * @return the resulting set as a {@link BufferedDataTable}
+     */
+    BufferedDataTable getBufferedTable() {
+        return m_resultTable;
+    }
+
+    /**
+     * @return the hilite translation <code>Map</code> for the first set or <code>null</code> if hiliting is disabled
+     * @see SetOperationTable#getHiliteMapping0()
+     */
+    Map<RowKey, Set<RowKey>> getHiliteMapping0() {
+        return m_hiliteMapping0;
+    }
+
+    /**
+     * @return the hilite translation <code>Map</code> for the second set or <code>null</code> if hiliting is
+     *         disabled
+     * @see SetOperationTable#getHiliteMapping1()
+     */
+    Map<RowKey, Set<RowKey>> getHiliteMapping1() {
+        return m_hiliteMapping1;
+    }
+
+    /** The number of occurrences of a value in both sets and, if hiliting is enabled, the keys of the rows. */
+    private static final class Occurrences {
+        private int m_count1;
+
+        private int m_count2;
+
+        private Set<RowKey> m_keys1;
+
+        private Set<RowKey> m_keys2;
+    }
+
+    /** The members of the result set of a partition. */
+    private static final class PartitionResult {
+        private final List<DataCell> m_cells = new ArrayList<DataCell>();
+
+        private final List<Occurrences> m_occurrences = new ArrayList<Occurrences>();
+
+        private long m_duplicateCounter;
+
+        private long m_missingCounter;
+    }
+}
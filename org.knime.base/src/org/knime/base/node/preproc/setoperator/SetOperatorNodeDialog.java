@@ -78,6 +78,9 @@ public class SetOperatorNodeDialog extends DefaultNodeSettingsPane {
 
     private final SettingsModelBoolean m_skipMissing;
 
+    private final SettingsModelBoolean m_useHashing =
+        SetOperatorNodeModel.createUseHashingModel();
+
 
     /**Constructor for claprivaterNodeDialog.
      *
@@ -107,5 +110,8 @@ public SetOperatorNodeDialog() {
         setHorizontalPlacement(true);
         addDialogComponent(enableHilite);
         addDialogComponent(skipMissing);
+        setHorizontalPlacement(false);
+        addDialogComponent(new DialogComponentBoolean(m_useHashing,
+                "Hash based processing (result is not sorted)"));
     }
 }
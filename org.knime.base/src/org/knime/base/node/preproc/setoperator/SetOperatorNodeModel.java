@@ -52,9 +52,12 @@
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
 
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
@@ -91,6 +94,9 @@ public class SetOperatorNodeModel extends NodeModel {
     protected static final String CFG_SKIP_MISSING = "skipMissing";
     /**Configuration key for the enable hilite option.*/
     protected static final String CFG_ENABLE_HILITE = "enableHilite";
+    /**Configuration key for the hash based processing option.
+     * @since 3.8*/
+    protected static final String CFG_USE_HASHING = "useHashing";
 
     private final SettingsModelColumnName m_col1 =
         new SettingsModelColumnName(SetOperatorNodeModel.CFG_COL1, null);
@@ -104,6 +110,8 @@ public class SetOperatorNodeModel extends NodeModel {
 
     private final SettingsModelBoolean m_skipMissing;
 
+    private final SettingsModelBoolean m_useHashing = createUseHashingModel();
+
     private static final String HILITE_MAPPING0 = "hilite_mapping0.xml.gz";
     private static final String HILITE_MAPPING1 = "hilite_mapping1.xml.gz";
 
@@ -122,6 +130,14 @@ protected SetOperatorNodeModel() {
         m_skipMissing = new SettingsModelBoolean(CFG_SKIP_MISSING, true);
     }
 
+    /**
+     * @return the settings model for the hash based processing option, which is enabled for new nodes
+     * @since 3.8
+     */
+    static SettingsModelBoolean createUseHashingModel() {
+        return new SettingsModelBoolean(CFG_USE_HASHING, true);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -156,6 +172,12 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
         m_setOp.loadSettingsFrom(settings);
         m_skipMissing.loadSettingsFrom(settings);
         m_enableHilite.loadSettingsFrom(settings);
+        if (settings.containsKey(CFG_USE_HASHING)) {
+            m_useHashing.loadSettingsFrom(settings);
+        } else {
+            // nodes created before 3.8 keep the sorted result
+            m_useHashing.setBooleanValue(false);
+        }
     }
 
     /**
@@ -168,6 +190,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_setOp.saveSettingsTo(settings);
         m_skipMissing.saveSettingsTo(settings);
         m_enableHilite.saveSettingsTo(settings);
+        m_useHashing.saveSettingsTo(settings);
     }
 
     /**
@@ -248,17 +271,28 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
 
         final SetOperation op =
             SetOperation.getOperation4Name(m_setOp.getStringValue());
+        if (m_useHashing.getBooleanValue()) {
+            final HashSetOperationTable table = new HashSetOperationTable(exec,
+                    m_col1.useRowID(), m_col1.getColumnName(), inData[0],
+                    m_col2.useRowID(), m_col2.getColumnName(), inData[1],
+                    op, m_enableHilite.getBooleanValue(), m_skipMissing.getBooleanValue());
+            setHiliteMappings(table.getHiliteMapping0(), table.getHiliteMapping1());
+            return new BufferedDataTable[] {table.getBufferedTable()};
+        }
         final SetOperationTable table = new SetOperationTable(exec,
                 m_col1.useRowID(), m_col1.getColumnName(), inData[0],
                 m_col2.useRowID(), m_col2.getColumnName(), inData[1],
                 op, m_enableHilite.getBooleanValue(), m_skipMissing.getBooleanValue());
+        setHiliteMappings(table.getHiliteMapping0(), table.getHiliteMapping1());
+        return new BufferedDataTable[] {table.getBufferedTable()};
+    }
+
+    private void setHiliteMappings(final Map<RowKey, Set<RowKey>> mapping0,
+            final Map<RowKey, Set<RowKey>> mapping1) {
         if (m_enableHilite.getBooleanValue()) {
-            m_trans0.setMapper(
-                    new DefaultHiLiteMapper(table.getHiliteMapping0()));
-            m_trans1.setMapper(
-                    new DefaultHiLiteMapper(table.getHiliteMapping1()));
+            m_trans0.setMapper(new DefaultHiLiteMapper(mapping0));
+            m_trans1.setMapper(new DefaultHiLiteMapper(mapping1));
         }
-        return new BufferedDataTable[] {table.getBufferedTable()};
     }
 
     /**
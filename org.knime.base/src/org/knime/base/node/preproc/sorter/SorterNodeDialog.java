@@ -156,9 +156,10 @@ protected void loadSettingsFrom(final NodeSettingsRO settings,
         }
         boolean sortMissingToEnd = settings.getBoolean(
                 SorterNodeModel.MISSING_TO_END_KEY, false);
+        int topK = settings.getInt(SorterNodeModel.TOP_K_KEY, -1);
         // set the values on the panel
         m_panel.update(specs[SorterNodeModel.INPORT], list, sortOrder,
-                NRSORTITEMS, sortinMemory, sortMissingToEnd);
+                NRSORTITEMS, sortinMemory, sortMissingToEnd, topK);
     }
 
     /**
@@ -184,5 +185,6 @@ protected void saveSettingsTo(final NodeSettingsWO settings)
                 .sortInMemory());
         settings.addBoolean(SorterNodeModel.MISSING_TO_END_KEY,
                 m_panel.isSortMissingToEnd());
+        settings.addInt(SorterNodeModel.TOP_K_KEY, m_panel.getTopK());
     }
 }
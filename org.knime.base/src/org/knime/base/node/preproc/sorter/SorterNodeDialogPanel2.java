@@ -122,6 +122,12 @@ public class SorterNodeDialogPanel2 extends JPanel {
      * chosen sort order. */
     private final JCheckBox m_sortMissingToEndChecker;
 
+    /** Checkbox to keep only the first rows of the sorted table. */
+    private final JCheckBox m_topKChecker;
+
+    /** Number of rows to keep if {@link #m_topKChecker} is selected. */
+    private final JSpinner m_topKSpinner;
+
     /**
      * Constructs a new empty JPanel used for displaying the three first
      * selected columns in the according order and the sorting order for each.
@@ -137,6 +143,20 @@ public class SorterNodeDialogPanel2 extends JPanel {
         m_sortMissingToEndChecker.setToolTipText("Missing values will be "
                 + "moved to the end independent of the sort order ("
                 + "otherwise they are considered to be the smallest elements)");
+        m_topKChecker = new JCheckBox("Keep only the first rows: ");
+        m_topKChecker.setToolTipText("Only the given number of rows from "
+                + "the top of the sorted table are returned (much faster than "
+                + "a full sort if the number is small)");
+        m_topKSpinner = new JSpinner(
+                new SpinnerNumberModel(100, 1, Integer.MAX_VALUE, 10));
+        m_topKSpinner.setMaximumSize(new Dimension(100, 25));
+        m_topKSpinner.setPreferredSize(new Dimension(100, 25));
+        m_topKChecker.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent ae) {
+                m_topKSpinner.setEnabled(m_topKChecker.isSelected());
+            }
+        });
     }
 
     /**
@@ -149,10 +169,12 @@ public class SorterNodeDialogPanel2 extends JPanel {
      * @param nrsortitems the inital number of sortitems to be shown
      * @param sortInMemory whether to perform the sorting in memory or not
      * @param missingToEnd Whether to move missings to the end
+     * @param topK number of leading rows to keep or -1 for all rows
      */
     void update(final DataTableSpec spec, final List<String> incl,
             final boolean[] sortOrder, final int nrsortitems,
-            final boolean sortInMemory, final boolean missingToEnd) {
+            final boolean sortInMemory, final boolean missingToEnd,
+            final int topK) {
         m_spec = spec;
         m_memory = sortInMemory;
         super.removeAll();
@@ -267,7 +289,7 @@ public void actionPerformed(final ActionEvent ae) {
                     boolean misToEnd =
                         m_sortMissingToEndChecker.isSelected();
                     update(m_spec, newlist, newbool, (oldsize + newsize),
-                            m_memory, misToEnd);
+                            m_memory, misToEnd, getTopK());
                 }
             });
             buttonbox.add(spinner);
@@ -293,6 +315,17 @@ public void actionPerformed(final ActionEvent ae) {
             m_sortMissingToEndChecker.setSelected(missingToEnd);
             missingToEndBox.add(m_sortMissingToEndChecker);
             super.add(missingToEndBox);
+
+            Box topKBox = Box.createHorizontalBox();
+            m_topKChecker.setSelected(topK >= 0);
+            if (topK > 0) {
+                m_topKSpinner.setValue(topK);
+            }
+            m_topKSpinner.setEnabled(topK >= 0);
+            topKBox.add(m_topKChecker);
+            topKBox.add(m_topKSpinner);
+            topKBox.add(Box.createHorizontalGlue());
+            super.add(topKBox);
             revalidate();
         }
     }
@@ -349,6 +382,12 @@ public boolean[] getSortOrder() {
         return boolarray;
     }
 
+    /** @return the number of leading rows to keep or -1 for all rows */
+    int getTopK() {
+        return m_topKChecker.isSelected()
+            ? ((Number)m_topKSpinner.getValue()).intValue() : -1;
+    }
+
     /** @return the sortMissingToEnd checkbox property */
     boolean isSortMissingToEnd() {
         return m_sortMissingToEndChecker.isSelected();
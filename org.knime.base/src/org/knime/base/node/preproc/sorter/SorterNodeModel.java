@@ -110,6 +110,12 @@ public class SorterNodeModel extends NodeModel {
      */
     static final String MISSING_TO_END_KEY = "missingToEnd";
 
+    /**
+     * Settings key: Number of leading rows to keep, -1 for all.
+     * @since 3.8
+     */
+    static final String TOP_K_KEY = "topK";
+
     /*
      * List contains the data cells to include.
      */
@@ -132,6 +138,9 @@ public class SorterNodeModel extends NodeModel {
      */
     private boolean m_missingToEnd = false;
 
+    /** Only the first rows of the sorted table are returned if not -1. */
+    private int m_topK = -1;
+
     /**
      * Inits a new <code>SorterNodeModel</code> with one in- and one output.
      *
@@ -173,6 +182,7 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
         BufferedDataTableSorter sorter = new BufferedDataTableSorter(
                 inData[INPORT], m_inclList, m_sortOrder, m_missingToEnd);
         sorter.setSortInMemory(m_sortInMemory);
+        sorter.setTopK(m_topK);
         BufferedDataTable sortedTable = sorter.sort(exec);
 
         return new BufferedDataTable[]{sortedTable};
@@ -238,6 +248,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         settings.addBoolean(SORTINMEMORY_KEY, m_sortInMemory);
         // added in 2.6
         settings.addBoolean(MISSING_TO_END_KEY, m_missingToEnd);
+        // added in 3.8
+        settings.addInt(TOP_K_KEY, m_topK);
     }
 
     /**
@@ -271,6 +283,11 @@ protected void validateSettings(final NodeSettingsRO settings)
             throw new InvalidSettingsException("No sort order specified.");
         }
         // no "missingToBottom" prior 2.6
+        // no "topK" prior 3.8
+        int topK = settings.getInt(TOP_K_KEY, -1);
+        if (topK == 0 || topK < -1) {
+            throw new InvalidSettingsException("Invalid number of rows to keep: " + topK);
+        }
     }
 
     /**
@@ -293,6 +310,8 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
         }
         // added in 2.6, catch missing setting
         m_missingToEnd = settings.getBoolean(MISSING_TO_END_KEY, false);
+        // added in 3.8, catch missing setting
+        m_topK = settings.getInt(TOP_K_KEY, -1);
     }
 
     /**
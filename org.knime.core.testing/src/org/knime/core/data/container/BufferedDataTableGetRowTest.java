@@ -0,0 +1,157 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Tests {@link BufferedDataTable#getRow(long)} on tables written to disc with each of the compression formats. The
+ * tables (about 1MB uncompressed) are large enough to span several compressed blocks and row offset index entries.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class BufferedDataTableGetRowTest {
+
+    private static final int ROW_COUNT = 30000;
+
+    private static final DataTableSpec SPEC = new DataTableSpec(
+        new DataColumnSpecCreator("string", StringCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec());
+
+    private ExecutionContext m_exec;
+
+    /** Creates the execution context. */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Before
+    public void setUp() {
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheOnDisc, new HashMap<Integer, ContainerTable>());
+    }
+
+    /** Restores the default compression. */
+    @After
+    public void tearDown() {
+        DefaultTableStoreFormat.compressionFormatOverride = null;
+    }
+
+    private static DataRow createRow(final int index) {
+        return new DefaultRow(RowKey.createRowKey((long)index), new StringCell("Row value " + (index * 7919L)),
+            new IntCell(index), new DoubleCell(index / 3.0));
+    }
+
+    private BufferedDataTable createTable(final CompressionFormat format) {
+        DefaultTableStoreFormat.compressionFormatOverride = format;
+        BufferedDataContainer container = m_exec.createDataContainer(SPEC, true, /* no rows in mem */ 0);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            container.addRowToTable(createRow(i));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static void checkGetRow(final BufferedDataTable table) {
+        for (int i : new int[]{0, 1, 63, 64, 65, 4711, ROW_COUNT / 2, ROW_COUNT - 2, ROW_COUNT - 1, 5}) {
+            assertEquals("Wrong row at index " + i, createRow(i), table.getRow(i));
+        }
+        for (long i : new long[]{-1, ROW_COUNT, Long.MAX_VALUE}) {
+            try {
+                table.getRow(i);
+                fail("Expected exception for row index " + i);
+            } catch (IndexOutOfBoundsException e) {
+                // expected
+            }
+        }
+    }
+
+    /** Gzip compressed tables seek to the gzip member containing the row. */
+    @Test
+    public void testGetRowGzip() {
+        checkGetRow(createTable(CompressionFormat.Gzip));
+    }
+
+    /** LZ4 compressed tables seek to the block containing the row. */
+    @Test
+    public void testGetRowLz4() {
+        checkGetRow(createTable(CompressionFormat.Lz4));
+    }
+
+    /** Uncompressed tables seek to the row directly. */
+    @Test
+    public void testGetRowUncompressed() {
+        checkGetRow(createTable(CompressionFormat.None));
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.container.storage.AbstractTableStoreReader.TableStoreCloseableRowIterator;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.filestore.internal.NotInWorkflowDataRepository;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Round trip tests for {@link ColumnarTableStoreFormat}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ColumnarTableStoreFormatTest {
+
+    private static final DataTableSpec SPEC = new DataTableSpec(
+        new String[]{"String", "Int", "Long", "Double", "Boolean", "Mixed", "Missing"},
+        new DataType[]{StringCell.TYPE, IntCell.TYPE, LongCell.TYPE, DoubleCell.TYPE, BooleanCell.TYPE,
+            DataType.getType(DataCell.class), StringCell.TYPE});
+
+    /** More than one chunk, last chunk partially filled. */
+    private static final int ROW_COUNT = 2 * ColumnarTableStoreFormat.getChunkSize(SPEC) + 17;
+
+    private File m_file;
+
+    /** @throws IOException if the temp file can't be created */
+    @Before
+    public void setUp() throws IOException {
+        m_file = FileUtil.createTempFile("columnar", ".colbin");
+    }
+
+    /** Deletes the temp file. */
+    @After
+    public void tearDown() {
+        m_file.delete();
+    }
+
+    private static DataRow createRow(final int i) {
+        DataCell missing = DataType.getMissingCell();
+        return new DefaultRow(RowKey.createRowKey((long)i),
+            new StringCell("Value " + (i % 5)),
+            i % 7 == 0 ? missing : new IntCell(i),
+            new LongCell(Integer.MAX_VALUE + (long)i),
+            new DoubleCell(i / 3.0),
+            BooleanCell.get(i % 2 == 0),
+            i % 2 == 0 ? new IntCell(i) : new StringCell("s" + i),
+            missing);
+    }
+
+    private AbstractTableStoreReader writeAndCreateReader(final boolean writeRowKey) throws Exception {
+        ColumnarTableStoreFormat format = new ColumnarTableStoreFormat();
+        NodeSettings settings = new NodeSettings("format");
+        AbstractTableStoreWriter writer = format.createWriter(m_file, SPEC, writeRowKey);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            writer.writeRow(createRow(i));
+        }
+        writer.close();
+        writer.writeMetaInfoAfterWrite(settings);
+        AbstractTableStoreReader reader =
+            format.createReader(m_file, SPEC, null, settings, Buffer.IVERSION, writeRowKey);
+        reader.setBufferAndDataRepository(null, NotInWorkflowDataRepository.newInstance());
+        return reader;
+    }
+
+    /**
+     * Writes and reads back all columns.
+     *
+     * @throws Exception if that fails
+     */
+    @Test
+    public void testRoundTrip() throws Exception {
+        AbstractTableStoreReader reader = writeAndCreateReader(true);
+        try (TableStoreCloseableRowIterator it = reader.iterator()) {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                DataRow expected = createRow(i);
+                DataRow actual = it.next();
+                assertEquals("Unexpected row key", expected.getKey(), actual.getKey());
+                for (int c = 0; c < SPEC.getNumColumns(); c++) {
+                    assertEquals("Unexpected cell in row " + i + ", column " + c, expected.getCell(c),
+                        actual.getCell(c));
+                }
+            }
+            assertFalse("Iterator should be at end", it.hasNext());
+        }
+    }
+
+    /**
+     * Only reads a subset of the columns, all others are reported as {@link UnmaterializedCell}.
+     *
+     * @throws Exception if that fails
+     */
+    @Test
+    public void testFilterColumns() throws Exception {
+        AbstractTableStoreReader reader = writeAndCreateReader(false);
+        try (TableStoreCloseableRowIterator it = reader.iteratorBuilder().filterColumns(1, 5).build()) {
+            int i = 0;
+            while (it.hasNext()) {
+                DataRow expected = createRow(i);
+                DataRow actual = it.next();
+                assertSame("Unexpected row key", KNIMEStreamConstants.DUMMY_ROW_KEY, actual.getKey());
+                assertSame(UnmaterializedCell.getInstance(), actual.getCell(0));
+                assertEquals(expected.getCell(1), actual.getCell(1));
+                assertSame(UnmaterializedCell.getInstance(), actual.getCell(3));
+                assertEquals(expected.getCell(5), actual.getCell(5));
+                i++;
+            }
+            assertEquals("Unexpected number of rows", ROW_COUNT, i);
+        }
+    }
+
+    /**
+     * Reads a row range that starts in the second chunk, leading chunks are skipped without decoding.
+     *
+     * @throws Exception if that fails
+     */
+    @Test
+    public void testFilterRowRange() throws Exception {
+        AbstractTableStoreReader reader = writeAndCreateReader(true);
+        final int from = ColumnarTableStoreFormat.getChunkSize(SPEC) + 3;
+        try (TableStoreCloseableRowIterator it = reader.iteratorBuilder().filterRowRange(from, ROW_COUNT - 5).build()) {
+            int i = from;
+            while (it.hasNext()) {
+                assertEquals(createRow(i).getKey(), it.next().getKey());
+                i++;
+            }
+            assertEquals("Unexpected end of iteration", ROW_COUNT - 5, i);
+        }
+    }
+
+    /**
+     * Writes a table without columns and row keys, i.e. chunks without any blocks, and reads back the row count.
+     *
+     * @throws Exception if that fails
+     */
+    @Test
+    public void testNoColumnsNoRowKeys() throws Exception {
+        final DataTableSpec emptySpec = new DataTableSpec();
+        final int rowCount = 2 * ColumnarTableStoreFormat.getChunkSize(emptySpec) + 17;
+        ColumnarTableStoreFormat format = new ColumnarTableStoreFormat();
+        NodeSettings settings = new NodeSettings("format");
+        AbstractTableStoreWriter writer = format.createWriter(m_file, emptySpec, false);
+        for (int i = 0; i < rowCount; i++) {
+            writer.writeRow(new DefaultRow(RowKey.createRowKey((long)i), new DataCell[0]));
+        }
+        writer.close();
+        writer.writeMetaInfoAfterWrite(settings);
+        AbstractTableStoreReader reader =
+            format.createReader(m_file, emptySpec, null, settings, Buffer.IVERSION, false);
+        reader.setBufferAndDataRepository(null, NotInWorkflowDataRepository.newInstance());
+        try (TableStoreCloseableRowIterator it = reader.iterator()) {
+            int i = 0;
+            while (it.hasNext()) {
+                assertEquals("Unexpected number of cells", 0, it.next().getNumCells());
+                i++;
+            }
+            assertEquals("Unexpected number of rows", rowCount, i);
+        }
+    }
+}
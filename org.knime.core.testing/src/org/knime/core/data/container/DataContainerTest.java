@@ -73,8 +73,11 @@
 import org.knime.core.data.DataType;
 import org.knime.core.data.MissingValue;
 import org.knime.core.data.RowIterator;
+import org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell;
 import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DefaultRowIterator;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.StringCell;
@@ -208,6 +211,37 @@ public void testMemoryAlertWhileWrite() throws Exception {
         }
     }
 
+    /**
+     * Small tables are kept off-heap after close, reading them back works and clearing returns the memory once the
+     * list got garbage collected.
+     */
+    public final void testOffHeapTableCache() throws Exception {
+        OffHeapTableCache cache = OffHeapTableCache.getInstance();
+        Assume.assumeTrue(cache.isEnabled());
+        long usedBefore = cache.getUsedBytes();
+        DataContainer container = new DataContainer(SPEC_STR_INT_DBL, true, Integer.MAX_VALUE, false);
+        int count = 10000;
+        for (RowIterator it = generateRows(count); it.hasNext();) {
+            container.addRowToTable(it.next());
+        }
+        container.close();
+        Buffer buffer = container.getBufferedTable().getBuffer();
+        assertFalse(buffer.usesOutFile());
+        assertTrue(cache.getUsedBytes() > usedBefore);
+        RowIterator tableIterator = container.getTable().iterator();
+        for (RowIterator it = generateRows(count); it.hasNext();) {
+            assertEquals(it.next(), tableIterator.next());
+        }
+        assertFalse(tableIterator.hasNext());
+        tableIterator = null;
+        buffer.clear();
+        for (int i = 0; i < 50 && cache.getUsedBytes() > usedBefore; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        assertEquals(usedBefore, cache.getUsedBytes());
+    }
+
     public final void testMemoryAlertWhileRestore() throws Exception {
         DataContainer container = new DataContainer(SPEC_STR_INT_DBL, true, /* no rows in mem */ 0, false);
         int count = 100000;
@@ -691,6 +725,51 @@ public void testTableDomain() {
         assertEquals(max, r3Cell2);
     }
 
+    /** Rows added in batches end up in the table in order and with the same domain as single rows. */
+    public void testAddRowsToTable() {
+        int count = 10000;
+        DataContainer single = new DataContainer(SPEC_STR_INT_DBL);
+        DataContainer batched = new DataContainer(SPEC_STR_INT_DBL);
+        RowBatch batch = new RowBatch(SPEC_STR_INT_DBL, 10);
+        for (RowIterator it = generateRows(count); it.hasNext();) {
+            DataRow row = it.next();
+            single.addRowToTable(row);
+            batch.addRow(row);
+            if (batch.size() == 777) {
+                batched.addRowsToTable(batch);
+                batch = new RowBatch(SPEC_STR_INT_DBL, 777);
+            }
+        }
+        batched.addRowsToTable(batch);
+        try {
+            batch.addRow(new DefaultRow("foo", new StringCell("a"), new IntCell(1), new DoubleCell(1.0)));
+            fail("sealed batch must not be modifiable");
+        } catch (IllegalStateException ise) {
+            // expected
+        }
+        single.close();
+        batched.close();
+        assertEquals(count, batched.size());
+        assertEquals(single.getTableSpec(), batched.getTableSpec());
+        RowIterator tableIterator = batched.getTable().iterator();
+        for (RowIterator it = generateRows(count); it.hasNext();) {
+            assertEquals(it.next(), tableIterator.next());
+        }
+        assertFalse(tableIterator.hasNext());
+
+        DataContainer duplicates = new DataContainer(SPEC_STR_INT_DBL);
+        RowBatch duplicateBatch = new RowBatch(SPEC_STR_INT_DBL, 2);
+        duplicateBatch.addRow(new RowKey("dup"), new StringCell("a"), new IntCell(1), new DoubleCell(1.0));
+        duplicateBatch.addRow(new RowKey("dup"), new StringCell("b"), new IntCell(2), new DoubleCell(2.0));
+        try {
+            duplicates.addRowsToTable(duplicateBatch);
+            duplicates.close();
+            fail("Expected duplicate key exception");
+        } catch (DuplicateKeyException | DataContainerException e) {
+            // expected
+        }
+    }
+
     public void testAsyncWriteLimits() throws Exception {
         Assume.assumeTrue(!DataContainer.SYNCHRONOUS_IO);
         final int limit = Platform.ARCH_X86.equals(Platform.getOSArch()) ? 10 : 50;
@@ -791,6 +870,84 @@ public void testWriteRead() throws IOException, CanceledExecutionException {
         }
     }
 
+    /**
+     * Reads a subset of columns and rows from a table that has been written to disk; unselected cells are skipped and
+     * returned as {@link UnmaterializedCell}.
+     */
+    public void testIteratorBuilderOnFile() {
+        DataContainer container = new DataContainer(SPEC_STR_INT_DBL, true, /* no rows in mem */ 0, false);
+        int count = 1000;
+        for (RowIterator it = generateRows(count); it.hasNext();) {
+            container.addRowToTable(it.next());
+        }
+        container.close();
+        ContainerTable table = container.getBufferedTable();
+        assertTrue(table.getBuffer().usesOutFile());
+        List<DataRow> reference = new ArrayList<DataRow>();
+        for (RowIterator it = generateRows(count); it.hasNext();) {
+            reference.add(it.next());
+        }
+        try (CloseableRowIterator it = table.iteratorBuilder().filterColumns(1).filterRowRange(100, 200).build()) {
+            for (int i = 100; i < 200; i++) {
+                assertTrue("Iterator ended prematurely at row " + i, it.hasNext());
+                DataRow row = it.next();
+                DataRow expected = reference.get(i);
+                assertEquals(expected.getKey(), row.getKey());
+                assertSame(UnmaterializedCell.getInstance(), row.getCell(0));
+                assertEquals(expected.getCell(1), row.getCell(1));
+                assertSame(UnmaterializedCell.getInstance(), row.getCell(2));
+            }
+            assertFalse(it.hasNext());
+        }
+        try (CloseableRowIterator it = table.iteratorBuilder().filterRowRange(990, Long.MAX_VALUE).build()) {
+            int i = 990;
+            while (it.hasNext()) {
+                assertEquals(reference.get(i++), it.next());
+            }
+            assertEquals(count, i);
+        }
+    }
+
+    /**
+     * Row ranges on the default builder of a {@link DataTable} skip the leading rows; a default builder that doesn't
+     * override {@link DefaultRowIteratorBuilder#createRowRangeIterator(RowIterator, long, long)} rejects row ranges
+     * instead of returning an iterator of the wrong type.
+     */
+    public void testDefaultIteratorBuilderRowRange() {
+        final List<DataRow> reference = new ArrayList<DataRow>();
+        for (RowIterator it = generateRows(50); it.hasNext();) {
+            reference.add(it.next());
+        }
+        DataTable table = new DataTable() {
+            @Override
+            public DataTableSpec getDataTableSpec() {
+                return SPEC_STR_INT_DBL;
+            }
+
+            @Override
+            public RowIterator iterator() {
+                return new DefaultRowIterator(reference);
+            }
+        };
+        RowIterator it = table.iteratorBuilder().filterRowRange(10, 20).build();
+        for (int i = 10; i < 20; i++) {
+            assertTrue("Iterator ended prematurely at row " + i, it.hasNext());
+            assertEquals(reference.get(i), it.next());
+        }
+        assertFalse(it.hasNext());
+
+        DefaultRowIteratorBuilder<RowIterator> builder =
+            new DefaultRowIteratorBuilder<RowIterator>(table::iterator, SPEC_STR_INT_DBL);
+        assertEquals(reference.get(0), builder.build().next());
+        builder.filterRowRange(10, 20);
+        try {
+            builder.build();
+            fail("Expected exception for row range on builder without range support");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
     private static DataRow createRandomRow(final int index, final int colCount, final Random rand1,
         final ObjectToDataCellConverter conv) {
         RowKey key = new RowKey("Row " + index);
@@ -0,0 +1,175 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link Lz4BlockCodec}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class Lz4BlockCodecTest {
+
+    private static byte[] roundTrip(final byte[] data, final Random rand) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new Lz4BlockCodec.Lz4OutputStream(bytes)) {
+            int pos = 0;
+            while (pos < data.length) {
+                int n = Math.min(data.length - pos, 1 + rand.nextInt(5000));
+                if (n == 1) {
+                    out.write(data[pos]);
+                } else {
+                    out.write(data, pos, n);
+                }
+                pos += n;
+            }
+        }
+        byte[] result = new byte[data.length];
+        try (InputStream in = new Lz4BlockCodec.Lz4InputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            int pos = 0;
+            while (pos < result.length) {
+                int n = in.read(result, pos, Math.min(result.length - pos, 3000));
+                assertTrue("Unexpected end of stream at byte " + pos, n > 0);
+                pos += n;
+            }
+            assertEquals("Expected end of stream", -1, in.read());
+        }
+        return result;
+    }
+
+    /**
+     * Round trip of random (incompressible), repetitive and mixed data of different lengths, including lengths that
+     * span multiple blocks and lengths smaller than the minimal match length.
+     *
+     * @throws IOException if that fails
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        Random rand = new Random(42);
+        for (int t = 0; t < 100; t++) {
+            int length = t < 20 ? t : rand.nextInt(4 * Lz4BlockCodec.BLOCK_SIZE);
+            byte[] data = new byte[length];
+            for (int i = 0; i < length; i++) {
+                switch (t % 3) {
+                    case 0:
+                        data[i] = (byte)rand.nextInt();
+                        break;
+                    case 1:
+                        data[i] = (byte)(i % 7);
+                        break;
+                    default:
+                        data[i] = rand.nextInt(4) == 0 ? (byte)rand.nextInt() : (byte)'a';
+                }
+            }
+            assertArrayEquals("Round trip failed for test " + t, data, roundTrip(data, rand));
+        }
+    }
+
+    /**
+     * Repetitive data must actually be compressed.
+     *
+     * @throws IOException if that fails
+     */
+    @Test
+    public void testCompresses() throws IOException {
+        byte[] data = new byte[Lz4BlockCodec.BLOCK_SIZE];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte)("Row" + (i / 10)).charAt(i % 3);
+        }
+        byte[] compressed = new byte[Lz4BlockCodec.maxCompressedLength(data.length)];
+        int length = Lz4BlockCodec.compress(data, 0, data.length, compressed, 0, new int[1 << 12]);
+        assertTrue("Data not compressed: " + length, length < data.length / 10);
+        byte[] decompressed = new byte[data.length];
+        Lz4BlockCodec.decompress(compressed, 0, length, decompressed, 0, data.length);
+        assertArrayEquals(data, decompressed);
+    }
+
+    /**
+     * Block offsets read from the headers allow to start decompressing at any block.
+     *
+     * @throws IOException if that fails
+     */
+    @Test
+    public void testReadBlockOffsets() throws IOException {
+        byte[] data = new byte[5 * Lz4BlockCodec.BLOCK_SIZE / 2];
+        Random rand = new Random(7);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = rand.nextBoolean() ? (byte)rand.nextInt() : (byte)(i % 13);
+        }
+        File file = File.createTempFile("lz4blocks", ".bin");
+        file.deleteOnExit();
+        try (OutputStream out = new Lz4BlockCodec.Lz4OutputStream(new FileOutputStream(file))) {
+            out.write(data);
+        }
+        long[] offsets = Lz4BlockCodec.readBlockOffsets(file);
+        assertEquals(3, offsets.length);
+        assertEquals(0L, offsets[0]);
+        for (int block = 0; block < offsets.length; block++) {
+            try (FileInputStream fileIn = new FileInputStream(file)) {
+                fileIn.getChannel().position(offsets[block]);
+                InputStream in = new Lz4BlockCodec.Lz4InputStream(fileIn);
+                assertEquals(data[block * Lz4BlockCodec.BLOCK_SIZE] & 0xFF, in.read());
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+
+import org.junit.Test;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettings;
+
+/**
+ * Tests for {@link MappedFileInputStream} and {@link RowOffsetIndex}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class MappedFileInputStreamTest {
+
+    /** Reads, skips and seeks in a mapped file. */
+    @Test
+    public void testReadAndSeek() throws IOException {
+        byte[] data = new byte[100003];
+        new Random(1).nextBytes(data);
+        File file = File.createTempFile("mapped", ".bin");
+        file.deleteOnExit();
+        try (OutputStream out = new FileOutputStream(file)) {
+            out.write(data);
+        }
+        try (MappedFileInputStream in = new MappedFileInputStream(file)) {
+            for (int i = 0; i < 100; i++) {
+                assertEquals(data[i] & 0xFF, in.read());
+            }
+            in.setPosition(50000);
+            byte[] b = new byte[100];
+            int count = in.read(b, 0, b.length);
+            assertTrue(count > 0);
+            for (int i = 0; i < count; i++) {
+                assertEquals(data[50000 + i], b[i]);
+            }
+            in.setPosition(3);
+            assertEquals(data[3] & 0xFF, in.read());
+            assertEquals(data.length - 4, in.skip(Long.MAX_VALUE / 2));
+            assertEquals(-1, in.read());
+        }
+    }
+
+    /** Closing releases the mapped window: the file can be deleted and further reads fail. */
+    @Test
+    public void testClose() throws IOException {
+        File file = File.createTempFile("mapped", ".bin");
+        file.deleteOnExit();
+        try (OutputStream out = new FileOutputStream(file)) {
+            out.write(new byte[1000]);
+        }
+        MappedFileInputStream in = new MappedFileInputStream(file);
+        assertEquals(0, in.read());
+        in.setPosition(500);
+        assertEquals(0, in.read());
+        in.close();
+        assertEquals(501, in.getPosition());
+        try {
+            in.read();
+            fail("Expected exception on read after close");
+        } catch (IOException e) {
+            // expected
+        }
+        assertTrue("File still in use after close", file.delete());
+    }
+
+    /** Fills an index beyond its maximum size and checks the lookups. */
+    @Test
+    public void testRowOffsetIndex() throws InvalidSettingsException {
+        RowOffsetIndex index = new RowOffsetIndex();
+        final int rowCount = 10000000;
+        for (long r = 0; r < rowCount; r++) {
+            index.onRowStart(r * 7);
+        }
+        for (long r : new long[]{0, 1, 63, 64, rowCount / 3, rowCount - 1, rowCount}) {
+            int entry = index.findEntry(r);
+            long indexedRow = index.getRowIndex(entry);
+            assertTrue(indexedRow <= r);
+            assertEquals(indexedRow * 7, index.getOffset(entry));
+            assertTrue(r - indexedRow <= 2L * rowCount / RowOffsetIndex.MAX_ENTRIES);
+        }
+
+        NodeSettings settings = new NodeSettings("meta");
+        index.save(settings);
+        RowOffsetIndex loaded = RowOffsetIndex.load(settings);
+        for (long r : new long[]{0, 1, 63, 64, rowCount / 3, rowCount - 1}) {
+            int entry = index.findEntry(r);
+            assertEquals(entry, loaded.findEntry(r));
+            assertEquals(index.getRowIndex(entry), loaded.getRowIndex(entry));
+            assertEquals(index.getOffset(entry), loaded.getOffset(entry));
+        }
+        assertNull(RowOffsetIndex.load(new NodeSettings("empty")));
+    }
+}
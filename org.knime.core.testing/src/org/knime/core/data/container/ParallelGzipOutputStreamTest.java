@@ -0,0 +1,156 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link ParallelGzipOutputStream}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ParallelGzipOutputStreamTest {
+
+    /**
+     * Streams of different lengths (empty, within one block, exactly one block and many blocks) must be readable by
+     * {@link GZIPInputStream} and not be considerably larger than sequentially compressed streams (each block is an
+     * independent member but blocks are large compared to the deflate window).
+     *
+     * @throws IOException if that fails
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        Random rand = new Random(11);
+        int blockSize = ParallelGzipOutputStream.BLOCK_SIZE;
+        for (int length : new int[]{0, 1, 1000, blockSize, blockSize + 1, 20 * blockSize + 17}) {
+            byte[] data = new byte[length];
+            for (int i = 0; i < length; i++) {
+                data[i] = rand.nextInt(4) == 0 ? (byte)rand.nextInt() : (byte)("Row" + (i / 100)).charAt(i % 3);
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (OutputStream out = new ParallelGzipOutputStream(bytes)) {
+                int pos = 0;
+                while (pos < length) {
+                    int n = Math.min(length - pos, 1 + rand.nextInt(5000));
+                    if (n == 1) {
+                        out.write(data[pos]);
+                    } else {
+                        out.write(data, pos, n);
+                    }
+                    pos += n;
+                }
+            }
+            ByteArrayOutputStream result = new ByteArrayOutputStream();
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                byte[] buffer = new byte[4096];
+                int n;
+                while ((n = in.read(buffer)) >= 0) {
+                    result.write(buffer, 0, n);
+                }
+            }
+            assertArrayEquals("Round trip failed for length " + length, data, result.toByteArray());
+
+            ByteArrayOutputStream reference = new ByteArrayOutputStream();
+            try (OutputStream out = new GZIPOutputStream(reference)) {
+                out.write(data);
+            }
+            assertTrue("Compressed size " + bytes.size() + " vs. " + reference.size() + " for length " + length,
+                bytes.size() <= reference.size() * 1.01 + 64);
+        }
+    }
+
+    /**
+     * Each block is an independent gzip member whose file offset is found from the member headers, decompression can
+     * start at any member. Streams written by {@link GZIPOutputStream} have no member offsets.
+     *
+     * @throws IOException if that fails
+     */
+    @Test
+    public void testMemberOffsets() throws IOException {
+        int blockSize = ParallelGzipOutputStream.BLOCK_SIZE;
+        byte[] data = new byte[5 * blockSize + 100];
+        new Random(7).nextBytes(data);
+        File file = File.createTempFile("members", ".gz");
+        file.deleteOnExit();
+        try (OutputStream out = new ParallelGzipOutputStream(new FileOutputStream(file))) {
+            out.write(data);
+        }
+        long[] offsets = ParallelGzipOutputStream.readMemberOffsets(file);
+        assertEquals(6, offsets.length);
+        for (int member = 0; member < offsets.length; member++) {
+            try (FileInputStream fileIn = new FileInputStream(file)) {
+                fileIn.getChannel().position(offsets[member]);
+                try (InputStream in = new GZIPInputStream(fileIn)) {
+                    assertEquals("Wrong first byte of member " + member, data[member * blockSize] & 0xFF, in.read());
+                }
+            }
+        }
+
+        try (OutputStream out = new GZIPOutputStream(new FileOutputStream(file))) {
+            out.write(data);
+        }
+        assertNull(ParallelGzipOutputStream.readMemberOffsets(file));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests for {@link PrimitiveRowList}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class PrimitiveRowListTest {
+
+    private static final DataTableSpec SPEC = new DataTableSpec(new String[]{"d", "i", "l", "b"},
+        new DataType[]{DoubleCell.TYPE, IntCell.TYPE, LongCell.TYPE, BooleanCell.TYPE});
+
+    private static DataRow createRow(final int i) {
+        DataCell missing = DataType.getMissingCell();
+        return new DefaultRow("Row" + i, i % 7 == 0 ? missing : new DoubleCell(i / 3.0),
+            i % 11 == 0 ? missing : new IntCell(i), new LongCell(Long.MAX_VALUE - i), BooleanCell.get(i % 2 == 0));
+    }
+
+    /** Rows are returned as added, including missing values, across several resize operations. */
+    @Test
+    public void testAddAndGet() {
+        assertTrue(PrimitiveRowList.isApplicable(SPEC));
+        PrimitiveRowList list = new PrimitiveRowList(SPEC);
+        final int count = 1000;
+        for (int i = 0; i < count; i++) {
+            assertTrue(list.tryAdd(createRow(i)));
+        }
+        assertEquals(count, list.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(createRow(i), list.get(i));
+        }
+        assertEquals(createRow(count - 1), list.toRowList().get(count - 1));
+    }
+
+    /** Rows with other cell implementations are rejected, tables with other column types are not applicable. */
+    @Test
+    public void testUnsupportedCells() {
+        PrimitiveRowList list = new PrimitiveRowList(SPEC);
+        assertFalse(list.tryAdd(new DefaultRow("Row0", new MissingCell("error"), new IntCell(1), new LongCell(1),
+            BooleanCell.TRUE)));
+        assertEquals(0, list.size());
+        assertFalse(PrimitiveRowList.isApplicable(
+            new DataTableSpec(new String[]{"s"}, new DataType[]{StringCell.TYPE})));
+    }
+}
@@ -67,9 +67,11 @@
 import org.knime.core.data.RowIterator;
 import org.knime.core.data.container.ContainerTable;
 import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.DefaultNodeProgressMonitor;
@@ -140,6 +142,115 @@ public final void testMultiStageMerge() throws CanceledExecutionException {
         runMemoryTest(100, 5, 8);
     }
 
+    /**
+     * Tests that the parallel sort (run generation and range partitioned merge) returns the same table as the
+     * single-threaded sort, including the order of rows with equal sort keys.
+     * @throws CanceledExecutionException
+     */
+    @Test
+    public final void testParallelSort() throws CanceledExecutionException {
+        DataTableSpec spec = new DataTableSpec(new String[]{"Index"}, new DataType[]{IntCell.TYPE});
+        BufferedDataContainer cont = m_exec.createDataContainer(spec);
+        Random rand = new Random(7);
+        for (int i = 0; i < 5000; i++) {
+            cont.addRowToTable(new DefaultRow(Integer.toString(i), new IntCell(rand.nextInt(50))));
+        }
+        cont.close();
+        BufferedDataTable bdt = cont.getTable();
+
+        BufferedDataTableSorter sorter = new BufferedDataTableSorter(bdt, Arrays.asList("Index"), new boolean[]{true});
+        sorter.setMaxRows(250);
+        BufferedDataTable serialResult = sorter.sort(m_exec);
+        sorter.setParallelism(4);
+        BufferedDataTable parallelResult = sorter.sort(m_exec);
+
+        Assert.assertEquals(serialResult.size(), parallelResult.size());
+        RowIterator serialIter = serialResult.iterator();
+        RowIterator parallelIter = parallelResult.iterator();
+        while (serialIter.hasNext()) {
+            Assert.assertEquals(serialIter.next().getKey(), parallelIter.next().getKey());
+        }
+    }
+
+    /**
+     * Tests that sorting on normalized sort keys gives the same order as the column comparators for int, double and
+     * string columns with missing values.
+     * @throws CanceledExecutionException
+     */
+    @Test
+    public final void testNormalizedSortKeys() throws CanceledExecutionException {
+        DataTableSpec spec = new DataTableSpec(new String[]{"Int", "Double", "String"},
+            new DataType[]{IntCell.TYPE, DoubleCell.TYPE, StringCell.TYPE});
+        BufferedDataContainer cont = m_exec.createDataContainer(spec);
+        Random rand = new Random(11);
+        double[] specialDoubles = {Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY};
+        String[] strings = {"", "a", "ab", "abcd", "abcde", "abcdf", "b\u00e4", "\uffff"};
+        for (int i = 0; i < 2000; i++) {
+            DataCell intCell = rand.nextInt(20) == 0 ? DataType.getMissingCell()
+                : new IntCell(rand.nextBoolean() ? rand.nextInt(10) - 5 : rand.nextInt());
+            DataCell doubleCell = rand.nextInt(20) == 0 ? DataType.getMissingCell() : new DoubleCell(
+                rand.nextBoolean() ? specialDoubles[rand.nextInt(specialDoubles.length)] : rand.nextGaussian());
+            DataCell stringCell = rand.nextInt(20) == 0 ? DataType.getMissingCell()
+                : new StringCell(strings[rand.nextInt(strings.length)]);
+            cont.addRowToTable(new DefaultRow(Integer.toString(i), intCell, doubleCell, stringCell));
+        }
+        cont.close();
+        BufferedDataTable bdt = cont.getTable();
+
+        for (String column : spec.getColumnNames()) {
+            for (boolean ascending : new boolean[]{true, false}) {
+                for (boolean missingsToEnd : new boolean[]{true, false}) {
+                    BufferedDataTableSorter sorter = new BufferedDataTableSorter(bdt,
+                        Arrays.asList(column, "Int"), new boolean[]{ascending, true}, missingsToEnd);
+                    sorter.setMaxRows(300);
+                    sorter.setUseNormalizedKeys(false);
+                    BufferedDataTable expected = sorter.sort(m_exec);
+                    sorter.setUseNormalizedKeys(true);
+                    BufferedDataTable result = sorter.sort(m_exec);
+                    RowIterator expectedIter = expected.iterator();
+                    RowIterator iter = result.iterator();
+                    while (expectedIter.hasNext()) {
+                        Assert.assertEquals(column + ", ascending: " + ascending + ", missings to end: "
+                            + missingsToEnd, expectedIter.next().getKey(), iter.next().getKey());
+                    }
+                    Assert.assertFalse(iter.hasNext());
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that the top-k mode returns the first rows of a full sort, including the order of rows with equal sort
+     * keys.
+     * @throws CanceledExecutionException
+     */
+    @Test
+    public final void testTopK() throws CanceledExecutionException {
+        DataTableSpec spec = new DataTableSpec(new String[]{"Index"}, new DataType[]{IntCell.TYPE});
+        BufferedDataContainer cont = m_exec.createDataContainer(spec);
+        Random rand = new Random(3);
+        for (int i = 0; i < 3000; i++) {
+            cont.addRowToTable(new DefaultRow(Integer.toString(i), new IntCell(rand.nextInt(100))));
+        }
+        cont.close();
+        BufferedDataTable bdt = cont.getTable();
+
+        BufferedDataTableSorter sorter = new BufferedDataTableSorter(bdt, Arrays.asList("Index"), new boolean[]{false});
+        BufferedDataTable fullResult = sorter.sort(m_exec);
+        for (int k : new int[]{0, 1, 75, 5000}) {
+            for (boolean useNormalizedKeys : new boolean[]{true, false}) {
+                sorter.setTopK(k);
+                sorter.setUseNormalizedKeys(useNormalizedKeys);
+                BufferedDataTable result = sorter.sort(m_exec);
+                Assert.assertEquals(Math.min(k, 3000), result.size());
+                RowIterator fullIter = fullResult.iterator();
+                for (DataRow row : result) {
+                    Assert.assertEquals(fullIter.next().getKey(), row.getKey());
+                }
+            }
+        }
+    }
+
     private void runMemoryTest(final int numRows,
             final int maxNumRowsPerContainer,
             final int maxOpenContainers) throws CanceledExecutionException {
@@ -0,0 +1,124 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Tests {@link WorkflowManager#estimateRemainingPathMillis(NodeID)} on workflows whose nodes were not executed yet,
+ * i.e. each node counts as one millisecond.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TestRemainingPathEstimate extends WorkflowTestCase {
+
+    private File m_workflowDirectory;
+
+    @Before
+    public void setUp() throws Exception {
+        m_workflowDirectory = FileUtil.createTempDir(getClass().getSimpleName());
+        final WorkflowCreationHelper creationHelper = new WorkflowCreationHelper();
+        creationHelper.setWorkflowContext(new WorkflowContext.Factory(m_workflowDirectory).createContext());
+        setManager(WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), creationHelper));
+    }
+
+    /** The longest of two branches counts, the estimate follows structural changes. */
+    @Test
+    public void testLongestBranch() throws Exception {
+        final WorkflowManager wm = getManager();
+        final NodeID source = wm.addNode(new AdapterNodeFactory(true));
+        final NodeID shortBranch = addSuccessor(source);
+        NodeID longBranch = source;
+        for (int i = 0; i < 3; i++) {
+            longBranch = addSuccessor(longBranch);
+        }
+        assertEquals(1, wm.estimateRemainingPathMillis(shortBranch));
+        assertEquals(4, wm.estimateRemainingPathMillis(source));
+
+        final NodeID added = addSuccessor(longBranch);
+        assertEquals("Estimate not updated after adding a node", 5, wm.estimateRemainingPathMillis(source));
+        wm.removeNode(added);
+        assertEquals("Estimate not updated after removing a node", 4, wm.estimateRemainingPathMillis(source));
+    }
+
+    /** Long chains must not be limited by the stack depth. */
+    @Test
+    public void testLongChain() throws Exception {
+        final WorkflowManager wm = getManager();
+        final NodeID source = wm.addNode(new AdapterNodeFactory(true));
+        NodeID last = source;
+        final int chainLength = 3000;
+        for (int i = 0; i < chainLength; i++) {
+            last = addSuccessor(last);
+        }
+        assertEquals(chainLength + 1, wm.estimateRemainingPathMillis(source));
+        assertEquals(1, wm.estimateRemainingPathMillis(last));
+    }
+
+    private NodeID addSuccessor(final NodeID predecessor) {
+        final WorkflowManager wm = getManager();
+        final NodeID id = wm.addNode(new AdapterNodeFactory());
+        wm.addConnection(predecessor, 1, id, 1);
+        return id;
+    }
+
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+        FileUtil.deleteRecursively(m_workflowDirectory);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Reads the state of a workflow while another thread holds the workflow lock and changes node states. The reader
+ * must not wait for the lock and must only see states the workflow published, see
+ * {@link NodeContainer#getNodeContainerState()}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TestWorkflowStateWhileLocked extends WorkflowTestCase {
+
+    private File m_workflowDirectory;
+
+    private NodeID m_source;
+
+    private ExecutorService m_executor;
+
+    @Before
+    public void setUp() throws Exception {
+        m_workflowDirectory = FileUtil.createTempDir(getClass().getSimpleName());
+        final WorkflowCreationHelper creationHelper = new WorkflowCreationHelper();
+        creationHelper.setWorkflowContext(new WorkflowContext.Factory(m_workflowDirectory).createContext());
+        WorkflowManager wm = WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), creationHelper);
+        m_source = wm.addNode(new AdapterNodeFactory(true));
+        NodeID target = wm.addNode(new AdapterNodeFactory());
+        wm.addConnection(m_source, 1, target, 1);
+        setManager(wm);
+        m_executor = Executors.newFixedThreadPool(2);
+    }
+
+    @Test
+    public void testReadStateWhileLocked() throws Exception {
+        final WorkflowManager wm = getManager();
+        assertEquals(InternalNodeContainerState.CONFIGURED, wm.getNodeContainerState());
+        final List<InternalNodeContainerState> publishedStates = new CopyOnWriteArrayList<>();
+        publishedStates.add(wm.getMostRecentInternalState());
+        wm.addNodeStateChangeListener(e -> publishedStates.add(wm.getMostRecentInternalState()));
+
+        final NodeContainer source = wm.getNodeContainer(m_source);
+        final CountDownLatch changed = new CountDownLatch(1);
+        final CountDownLatch read = new CountDownLatch(1);
+        final Future<InternalNodeContainerState> holder = m_executor.submit(() -> {
+            try (WorkflowLock lock = wm.lock()) {
+                // changes the workflow state, only visible to this thread as it's reverted before the lock is released
+                source.markForExecution(true);
+                final InternalNodeContainerState holderState = wm.getInternalState();
+                changed.countDown();
+                read.await(10, TimeUnit.SECONDS);
+                source.markForExecution(false);
+                return holderState;
+            }
+        });
+        assertTrue("Lock holder didn't change the node state", changed.await(10, TimeUnit.SECONDS));
+        final Future<NodeContainerState> reader = m_executor.submit(() -> wm.getNodeContainerState());
+        final NodeContainerState readState;
+        try {
+            readState = reader.get(5, TimeUnit.SECONDS);
+        } catch (TimeoutException te) {
+            fail("State query waits for the workflow lock");
+            return;
+        } finally {
+            read.countDown();
+        }
+
+        assertTrue("Lock holder must see its own changes", holder.get(10, TimeUnit.SECONDS).isWaitingToBeExecuted());
+        assertEquals("Reader must see the published state", InternalNodeContainerState.CONFIGURED, readState);
+        assertTrue("Reader saw an unpublished state: " + readState, publishedStates.contains(readState));
+        assertEquals(InternalNodeContainerState.CONFIGURED, wm.getNodeContainerState());
+        for (InternalNodeContainerState s : publishedStates) {
+            assertFalse("State was published although the change was reverted: " + s, s.isWaitingToBeExecuted());
+        }
+    }
+
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        m_executor.shutdownNow();
+        super.tearDown();
+        FileUtil.deleteRecursively(m_workflowDirectory);
+    }
+}
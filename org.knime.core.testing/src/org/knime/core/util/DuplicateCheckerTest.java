@@ -134,6 +134,32 @@ public void testEarlyDuplicate() throws Exception {
         checker.addKey("A");
     }
 
+    /**
+     * Duplicates whose first occurrence has already been written to disc must be found, both when verifying the
+     * candidates of the Bloom filter (large chunks) and when falling back to sorting and merging (tiny chunks, i.e.
+     * too many candidates).
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testDuplicateAcrossChunks() throws Exception {
+        for (int chunkSize : new int[]{10, 5000}) {
+            DuplicateChecker dc = new DuplicateChecker(chunkSize, 50);
+            try {
+                for (int i = 0; i < 100000; i++) {
+                    dc.addKey("Row" + i);
+                }
+                dc.addKey("Row17");
+                dc.checkForDuplicates();
+                Assert.fail("No duplicate detected even though at least one is present (chunk size " + chunkSize + ")");
+            } catch (DuplicateKeyException e) {
+                Assert.assertEquals("Row17", e.getKey());
+            } finally {
+                dc.clear();
+            }
+        }
+    }
+
     private void internalTestArbitraryStrings(final boolean isAddDuplicates, final long seed) throws IOException {
         LinkedHashSet<String> hash = new LinkedHashSet<String>();
         Random r = new Random(seed);
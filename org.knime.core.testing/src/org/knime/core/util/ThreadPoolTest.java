@@ -49,7 +49,12 @@
 
 import static org.junit.Assert.assertThat;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -434,4 +439,44 @@ public ClassLoader call() throws Exception {
             Thread.currentThread().setContextClassLoader(cl);
         }
     }
+
+    /**
+     * Checks if queued tasks are started by descending priority and in enqueue order for equal priorities.
+     *
+     * @throws Exception if an error occurs
+     */
+    public void testPriorityEnqueue() throws Exception {
+        ThreadPool root = new ThreadPool(1);
+        final CountDownLatch blocker = new CountDownLatch(1);
+        final List<Integer> order = Collections.synchronizedList(new ArrayList<Integer>());
+
+        root.enqueue(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    blocker.await();
+                } catch (InterruptedException ex) {
+                    NodeLogger.getLogger(ThreadPoolTest.class).warn(ex.getMessage(), ex);
+                }
+            }
+        });
+
+        int[] priorities = {0, -5, 3, 0, 3, Integer.MIN_VALUE};
+        for (int i = 0; i < priorities.length; i++) {
+            final int id = i;
+            root.enqueue(new Runnable() {
+                @Override
+                public void run() {
+                    order.add(id);
+                }
+            }, priorities[i]);
+        }
+        assertEquals(priorities.length, root.getQueueSize());
+
+        blocker.countDown();
+        root.waitForTermination();
+        assertEquals(Arrays.asList(2, 4, 0, 3, 1, 5), order);
+
+        root.shutdown();
+    }
 }
@@ -95,7 +95,13 @@ public interface DataTable extends Iterable<DataRow> {
      * @since 3.7
      */
     default RowIteratorBuilder<? extends RowIterator> iteratorBuilder() {
-        return new DefaultRowIteratorBuilder<RowIterator>(() -> iterator(), getDataTableSpec());
+        return new DefaultRowIteratorBuilder<RowIterator>(() -> iterator(), getDataTableSpec()) {
+            @Override
+            protected RowIterator createRowRangeIterator(final RowIterator iterator, final long fromIndex,
+                final long toIndex) {
+                return skipToRowRange(iterator, fromIndex, toIndex);
+            }
+        };
     }
 
 }
@@ -52,6 +52,9 @@
 
 import org.knime.core.data.container.BlobWrapperDataCell;
 import org.knime.core.data.container.DataContainer;
+import org.knime.core.data.container.RowBatch;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
@@ -280,6 +283,79 @@ public void updateDomain(final DataRow row) {
         }
     }
 
+    /**
+     * Updates the domain values with a batch of rows. The batch is processed column by column; for columns holding
+     * {@link DoubleCell} or {@link IntCell} values the minimum and maximum of the batch are determined on the primitive
+     * values and only the two extremes are then compared against the current bounds.
+     *
+     * @param batch a batch of rows
+     * @since 3.8
+     */
+    public void updateDomain(final RowBatch batch) {
+        assert batch.getNumColumns() == m_inputSpec.getNumColumns() : "Unequal number of columns in spec and batch: "
+            + m_inputSpec.getNumColumns() + " vs. " + batch.getNumColumns();
+        final int size = batch.size();
+        for (int i = 0; i < m_inputSpec.getNumColumns(); i++) {
+            final DataCell[] cells = batch.getColumn(i);
+            if (m_possVals[i] != null) {
+                for (int r = 0; r < size; r++) {
+                    final DataCell c = cells[r];
+                    if (!c.isMissing() && m_possVals[i].add(c) && (m_possVals[i].size() > m_maxPossibleValues)) {
+                        m_possVals[i] = null;
+                        break;
+                    }
+                }
+            }
+            if (m_mins[i] == null) {
+                continue;
+            }
+            if (m_inputSpec.getColumnSpec(i).getType().isCompatible(DoubleValue.class)) {
+                updateMinMaxNumeric(i, cells, size);
+            } else {
+                for (int r = 0; r < size; r++) {
+                    updateMinMax(i, cells[r], m_mins, m_maxs, m_comparators);
+                }
+            }
+        }
+    }
+
+    /** Min/max update for a numeric column; plain double and int cells are compared on their primitive values. */
+    private void updateMinMaxNumeric(final int col, final DataCell[] cells, final int size) {
+        int minIndex = -1;
+        int maxIndex = -1;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int r = 0; r < size; r++) {
+            final DataCell c = cells[r];
+            final Class<?> cl = c.getClass();
+            final double v;
+            if (cl == DoubleCell.class) {
+                v = ((DoubleCell)c).getDoubleValue();
+                if (Double.isNaN(v)) {
+                    continue;
+                }
+            } else if (cl == IntCell.class) {
+                v = ((IntCell)c).getIntValue();
+            } else {
+                // missing cells, blobs and any other implementation
+                updateMinMax(col, c, m_mins, m_maxs, m_comparators);
+                continue;
+            }
+            if (minIndex < 0 || Double.compare(v, min) < 0) {
+                min = v;
+                minIndex = r;
+            }
+            if (maxIndex < 0 || Double.compare(v, max) > 0) {
+                max = v;
+                maxIndex = r;
+            }
+        }
+        if (minIndex >= 0) {
+            updateMinMax(col, cells[minIndex], m_mins, m_maxs, m_comparators);
+            updateMinMax(col, cells[maxIndex], m_mins, m_maxs, m_comparators);
+        }
+    }
+
     /**
      * Updates the domain values by scanning a whole table. Note that the table's structure must match the table spec
      * that has been provided to the constructor.
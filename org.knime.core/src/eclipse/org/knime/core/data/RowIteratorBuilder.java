@@ -48,8 +48,11 @@
  */
 package org.knime.core.data;
 
+import java.util.Arrays;
+import java.util.NoSuchElementException;
 import java.util.function.Supplier;
 
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.node.util.CheckUtils;
 
 /**
@@ -89,6 +92,25 @@
      */
     RowIteratorBuilder<I> filterColumns(String... columns);
 
+    /**
+     * Iterate only over the rows with an index in the range <code>[fromIndex, toIndex)</code>. The index refers to the
+     * position of a row in the table, starting at 0. A <code>toIndex</code> larger than the number of rows in the
+     * table is valid, the iteration then ends with the last row of the table.
+     * <p>
+     * The default implementation throws an {@link UnsupportedOperationException}; builders of tables in the KNIME core
+     * support row ranges.
+     *
+     * @param fromIndex index of the first row to return, inclusive
+     * @param toIndex index of the last row to return, exclusive
+     * @return this {@link RowIteratorBuilder}
+     * @throws IllegalArgumentException if <code>fromIndex</code> is negative or larger than <code>toIndex</code>
+     * @throws UnsupportedOperationException if this builder does not support row ranges
+     * @since 3.8
+     */
+    default RowIteratorBuilder<I> filterRowRange(final long fromIndex, final long toIndex) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support row ranges");
+    }
+
     /**
      * Build a new row iterator with the behavior specified via methods invoked in this builder.
      *
@@ -97,8 +119,12 @@
     I build();
 
     /**
-     * A {@link RowIteratorBuilder} that always builds default {@link RowIterator}s, i.e., iterators iterating over all
-     * rows and columns of a table.
+     * A {@link RowIteratorBuilder} that builds default {@link RowIterator}s, i.e., iterators iterating over all columns
+     * of a table. A row range set via {@link #filterRowRange(long, long)} is applied in {@link #build()} by
+     * {@link #createRowRangeIterator(RowIterator, long, long)}, which subclasses must override to support row ranges,
+     * usually by returning {@link #skipToRowRange(RowIterator, long, long)}. Subclasses that are able to skip rows and
+     * columns more efficiently override {@link #build()} instead and use the getters of this class to set up their
+     * iterator.
      *
      * @param <I> the row iterator to be built
      *
@@ -110,6 +136,12 @@
 
         private final DataTableSpec m_spec;
 
+        private int[] m_materializeColumnIndices;
+
+        private long m_fromRowIndex = 0L;
+
+        private long m_toRowIndex = Long.MAX_VALUE;
+
         /**
          * Constructs a new {@link org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder}.
          *
@@ -128,6 +160,7 @@ public DefaultRowIteratorBuilder(final Supplier<I> iteratorSupplier, final DataT
         @Override
         public RowIteratorBuilder<I> filterColumns(final int... indices) {
             m_spec.verifyIndices(indices);
+            m_materializeColumnIndices = indices.clone();
             return this;
         }
 
@@ -139,14 +172,164 @@ public RowIteratorBuilder<I> filterColumns(final String... columns) {
             return filterColumns(m_spec.columnsToIndices(columns));
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public RowIteratorBuilder<I> filterRowRange(final long fromIndex, final long toIndex) {
+            CheckUtils.checkArgument(fromIndex >= 0, "Row index must not be negative: %d", fromIndex);
+            CheckUtils.checkArgument(fromIndex <= toIndex, "Invalid row range: [%d, %d)", fromIndex, toIndex);
+            m_fromRowIndex = fromIndex;
+            m_toRowIndex = toIndex;
+            return this;
+        }
+
         /**
          * {@inheritDoc}
          */
         @Override
         public I build() {
-            return m_iteratorSupplier.get();
+            I iterator = m_iteratorSupplier.get();
+            if (!isRowRangeFiltered()) {
+                return iterator;
+            }
+            return createRowRangeIterator(iterator, m_fromRowIndex, m_toRowIndex);
         }
 
+        /**
+         * Called by {@link #build()} to restrict an iterator over the entire table to a row range. Builders whose
+         * iterator type is a super type of {@link CloseableRowIterator} return
+         * {@link #skipToRowRange(RowIterator, long, long)}, builders with more specific iterator types override
+         * {@link #build()}. The default implementation throws an {@link UnsupportedOperationException}.
+         *
+         * @param iterator a new iterator over the entire table
+         * @param fromIndex index of the first row to return, inclusive
+         * @param toIndex index of the last row to return, exclusive
+         * @return an iterator over the rows in the range
+         * @throws UnsupportedOperationException if the builder does not support row ranges
+         * @since 3.8
+         */
+        protected I createRowRangeIterator(final I iterator, final long fromIndex, final long toIndex) {
+            throw new UnsupportedOperationException(getClass().getName() + " does not support row ranges");
+        }
+
+        /**
+         * Returns an iterator that skips the leading rows of the argument iterator and ends after the last row of the
+         * range.
+         *
+         * @param iterator an iterator over the entire table
+         * @param fromIndex index of the first row to return, inclusive
+         * @param toIndex index of the last row to return, exclusive
+         * @return an iterator over the rows in the range, closing the argument iterator when closed
+         * @since 3.8
+         */
+        protected static CloseableRowIterator skipToRowRange(final RowIterator iterator, final long fromIndex,
+            final long toIndex) {
+            return new RowRangeIterator(iterator, fromIndex, toIndex);
+        }
+
+        /**
+         * @return the specification of the table over which to iterate, not null
+         * @since 3.8
+         */
+        protected final DataTableSpec getSpec() {
+            return m_spec;
+        }
+
+        /**
+         * Returns the indices of the columns set via {@link #filterColumns(int...)}, sorted in ascending order, or
+         * <code>null</code> if all columns are to be materialized. Subclasses that are able to skip the decoding of
+         * unselected columns use this to set up their iterator in {@link #build()}.
+         *
+         * @return a sorted copy of the column indices to materialize or <code>null</code>
+         * @since 3.8
+         */
+        protected final int[] getMaterializeColumnIndices() {
+            if (m_materializeColumnIndices == null) {
+                return null;
+            }
+            int[] result = m_materializeColumnIndices.clone();
+            Arrays.sort(result);
+            return result;
+        }
+
+        /**
+         * @return the index of the first row to return as set via {@link #filterRowRange(long, long)}, 0 by default
+         * @since 3.8
+         */
+        protected final long getFromRowIndex() {
+            return m_fromRowIndex;
+        }
+
+        /**
+         * @return the (exclusive) index of the last row to return as set via {@link #filterRowRange(long, long)},
+         *         {@link Long#MAX_VALUE} by default
+         * @since 3.8
+         */
+        protected final long getToRowIndex() {
+            return m_toRowIndex;
+        }
+
+        /**
+         * @return whether a row range other than the entire table was set via {@link #filterRowRange(long, long)}
+         * @since 3.8
+         */
+        protected final boolean isRowRangeFiltered() {
+            return m_fromRowIndex > 0L || m_toRowIndex < Long.MAX_VALUE;
+        }
+
+    }
+
+    /** Iterator that skips the leading rows of a delegate and ends after a given row index. */
+    static final class RowRangeIterator extends CloseableRowIterator {
+
+        private final RowIterator m_delegate;
+
+        private final long m_toIndex;
+
+        private long m_index;
+
+        /**
+         * @param delegate the iterator over the entire table
+         * @param fromIndex index of the first row to return, inclusive
+         * @param toIndex index of the last row to return, exclusive
+         */
+        RowRangeIterator(final RowIterator delegate, final long fromIndex, final long toIndex) {
+            m_delegate = delegate;
+            m_toIndex = toIndex;
+            while (m_index < fromIndex && delegate.hasNext()) {
+                delegate.next();
+                m_index++;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasNext() {
+            if (m_index < m_toIndex && m_delegate.hasNext()) {
+                return true;
+            }
+            close();
+            return false;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public DataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Iterator at end");
+            }
+            m_index++;
+            return m_delegate.next();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {
+            if (m_delegate instanceof CloseableRowIterator) {
+                ((CloseableRowIterator)m_delegate).close();
+            }
+        }
     }
 
 }
@@ -116,10 +116,13 @@ public void endBlock() throws IOException {
             m_simulateTerminate = false;
             return;
         }
+        // scan the underlying stream directly, escaped bytes don't need to be decoded when skipped
         int c;
-        do {
-            c = read();
-        } while (c >= 0 && !m_simulateTerminate);
+        while ((c = m_inStream.read()) >= 0 && c != TC_TERMINATE) {
+            if (c == TC_ESCAPE) {
+                m_inStream.read();
+            }
+        }
         m_simulateTerminate = false;
     }
     
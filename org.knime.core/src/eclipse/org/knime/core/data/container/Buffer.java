@@ -199,7 +199,7 @@ public class Buffer implements KNIMEStreamConstants {
     private static final String CFG_TABLE_FORMAT = "container.format";
 
     /** Config entry: table format internals -- implementation specific. */
-    private static final String CFG_TABLE_FORMAT_CONFIG = "container.format.config";
+    static final String CFG_TABLE_FORMAT_CONFIG = "container.format.config";
 
     /** Config entry: internal buffer ID. */
     private static final String CFG_BUFFER_ID = "container.id";
@@ -333,12 +333,6 @@ static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
         return result;
     }
 
-    /** Compression on the binary (main) file. */
-    enum CompressionFormat {
-        Gzip,
-        None;
-    }
-
     /** the file to write to. */
     private File m_binFile;
 
@@ -391,8 +385,9 @@ enum CompressionFormat {
     /** the current row count (how often has addRow been called). */
     private long m_size;
 
-    /** the list that keeps up to m_maxRowsInMem in memory. */
-    private List<BlobSupportDataRow> m_list;
+    /** the list that keeps up to m_maxRowsInMem in memory, a {@link PrimitiveRowList} for tables with only
+     * primitive columns (while writing), an {@link OffHeapRowList} once closed (if the off-heap cache is enabled). */
+    private List<DataRow> m_list;
 
     private int[] m_indicesOfBlobInColumns;
 
@@ -443,7 +438,11 @@ enum CompressionFormat {
         final IWriteFileStoreHandler fileStoreHandler) {
         assert (maxRowsInMemory >= 0);
         m_maxRowsInMem = maxRowsInMemory;
-        m_list = new ArrayList<BlobSupportDataRow>();
+        if (maxRowsInMemory > 0 && PrimitiveRowList.isApplicable(spec)) {
+            m_list = new PrimitiveRowList(spec);
+        } else {
+            m_list = new ArrayList<DataRow>();
+        }
         m_size = 0;
         m_bufferID = bufferID;
         m_localRepository = localRep;
@@ -573,7 +572,7 @@ synchronized void addRow(final DataRow r, final boolean isCopyOfExisting, final
             BlobSupportDataRow row = saveBlobsAndFileStores(r, isCopyOfExisting, forceCopyOfBlobs);
             getAndIncrementSize();
             if ((m_list != null) && (m_maxRowsInMem > 0)) {
-                m_list.add(row);
+                addToList(row);
                 if (m_list.size() > m_maxRowsInMem) {
                     flushBuffer();
                 }
@@ -601,6 +600,21 @@ synchronized void addRow(final DataRow r, final boolean isCopyOfExisting, final
         }
     } // addRow(DataRow)
 
+    /**
+     * Adds a row to the in-memory list. If the list keeps the rows in primitive form but the row contains cells that
+     * can't be represented (e.g. missing cells with error message), the list is converted to a list of plain rows.
+     */
+    private void addToList(final BlobSupportDataRow row) {
+        if (m_list instanceof PrimitiveRowList) {
+            PrimitiveRowList primitiveList = (PrimitiveRowList)m_list;
+            if (primitiveList.tryAdd(row)) {
+                return;
+            }
+            m_list = primitiveList.toRowList();
+        }
+        m_list.add(row);
+    }
+
     /**
      * Write all rows from list into file. Used while rows are added and if low mem condition is met.
      *
@@ -624,7 +638,7 @@ final int writeAllRowsFromListToFile() throws IOException {
 
         if (m_list != null) {
             int result = m_list.size();
-            for (BlobSupportDataRow rowInList : m_list) {
+            for (DataRow rowInList : m_list) {
                 m_outputWriter.writeRow(rowInList);
             }
             return result;
@@ -983,9 +997,9 @@ void closeInternal() {
         // everything is in the list, i.e. in memory
         if (m_outputWriter == null) {
             // disallow modification
-            List<BlobSupportDataRow> newList = Collections.unmodifiableList(m_list);
+            List<DataRow> newList = Collections.unmodifiableList(m_list);
             m_list = newList;
-            if (!m_list.isEmpty()) {
+            if (!m_list.isEmpty() && !moveListOffHeap()) {
                 registerMemoryAlertListener();
             }
         } else {
@@ -1011,6 +1025,32 @@ void closeInternal() {
         m_localRepository = null;
     } // close()
 
+    /**
+     * Replaces the (closed) in-memory list by an {@link OffHeapRowList} that is accounted for by the
+     * {@link OffHeapTableCache}. Buffers with blobs keep their rows on the heap.
+     *
+     * @return true if the rows were moved, false if they are still kept on the heap
+     */
+    private boolean moveListOffHeap() {
+        assert Thread.holdsLock(this);
+        OffHeapTableCache cache = OffHeapTableCache.getInstance();
+        if (!cache.isEnabled() || m_containsBlobs) {
+            return false;
+        }
+        try {
+            OffHeapRowList offHeapList = OffHeapRowList.create(m_list, m_spec, this,
+                (IWriteFileStoreHandler)m_fileStoreHandler, m_dataRepository, this::flushInBackground);
+            if (!cache.add(offHeapList)) {
+                return false;
+            }
+            m_list = offHeapList;
+            return true;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Unable to move table to off-heap memory, keeping rows on heap: " + e.getMessage(), e);
+            return false;
+        }
+    }
+
     private MemoryAlertListener m_memoryAlertListener;
 
     private void registerMemoryAlertListener() {
@@ -1018,12 +1058,7 @@ private void registerMemoryAlertListener() {
             @Override
             protected boolean memoryAlert(final MemoryAlert alert) {
                 if (m_list != null && !m_list.isEmpty()) {
-                    ThreadUtils.threadWithContext(new Runnable() {
-                        @Override
-                        public void run() {
-                            onMemoryAlert();
-                        }
-                    }, "KNIME Buffer flusher").start();
+                    flushInBackground();
                 }
                 return true;
             }
@@ -1031,6 +1066,16 @@ public void run() {
         MemoryAlertSystem.getInstance().addListener(m_memoryAlertListener);
     }
 
+    /** Writes the in-memory rows to disc in a separate thread (on memory alerts or off-heap cache eviction). */
+    private void flushInBackground() {
+        ThreadUtils.threadWithContext(new Runnable() {
+            @Override
+            public void run() {
+                onMemoryAlert();
+            }
+        }, "KNIME Buffer flusher").start();
+    }
+
     private synchronized void onMemoryAlert() {
         if (m_list == null) {
             // concurrent close or addRow() caused this to be flushed (this method may stall long on Buffer.this)
@@ -1397,14 +1442,17 @@ synchronized RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder(
                 m_useBackIntoMemoryIterator = false;
                 m_backIntoMemoryIterator = iteratorBuilder().build();
                 // we never store more than 2^31 rows in memory, therefore it's safe to cast to int
-                m_list = new ArrayList<BlobSupportDataRow>((int) size());
-                return new DefaultRowIteratorBuilder<>(() -> new FromListIterator(), getTableSpec());
+                m_list = new ArrayList<DataRow>((int) size());
+                return new FromListIteratorBuilder();
             }
             RowIteratorBuilder<? extends TableStoreCloseableRowIterator> iteratorBuilder =
                 m_outputReader.iteratorBuilder();
             return iteratorBuilder;
         } else {
-            return new DefaultRowIteratorBuilder<>(() -> new FromListIterator(), getTableSpec());
+            if (m_list instanceof OffHeapRowList) {
+                OffHeapTableCache.getInstance().touch((OffHeapRowList)m_list);
+            }
+            return new FromListIteratorBuilder();
         }
     }
 
@@ -1499,7 +1547,7 @@ synchronized void addToZipFile(final ZipOutputStream zipOut, final ExecutionMoni
             }
             int count = 1;
             for (RowIterator it = iteratorBuilder().build(); it.hasNext();) {
-                final BlobSupportDataRow row = (BlobSupportDataRow)it.next();
+                final DataRow row = it.next();
                 final int countCurrent = count;
                 exec.setProgress(count / (double)size(),
                     () -> "Writing row " + countCurrent + " (\"" + row.getKey() + "\")");
@@ -1611,6 +1659,7 @@ public int getBufferID() {
     /** Clears the temp file. Any subsequent iteration will fail! */
     synchronized void clear() {
         BufferTracker.getInstance().bufferCleared(this);
+        releaseOffHeapList();
         m_list = null;
         unregisterMemoryAlertListener();
         if (m_binFile != null) {
@@ -1679,12 +1728,20 @@ private static void logDebug(final String message, final Throwable t) {
     synchronized void flushBuffer() {
         try {
             writeAllRowsFromListToFile();
+            releaseOffHeapList();
             m_list = null; // don't write to internal cache any more
         } catch (IOException ioe) {
             LOGGER.error("Failed to swap to disc while freeing memory", ioe);
         }
     }
 
+    /** Returns the memory of the current list to the {@link OffHeapTableCache} if it is kept off-heap. */
+    private void releaseOffHeapList() {
+        if (m_list instanceof OffHeapRowList) {
+            OffHeapTableCache.getInstance().remove((OffHeapRowList)m_list);
+        }
+    }
+
     /** Last recently used cache for blobs. */
     private static final class BlobLRUCache extends LinkedHashMap<BlobAddress, SoftReference<BlobDataCell>> {
 
@@ -1724,14 +1781,41 @@ private class FromListIterator extends CloseableRowIterator {
 
         // do not use iterator here, see inner class comment
         private int m_nextIndex = 0;
-        private final List<BlobSupportDataRow> m_listReference = m_list;
+        private final List<DataRow> m_listReference = m_list;
+
+        /** Index of the row after the last row to return. */
+        private final long m_endIndex;
+
+        /** Iterator over all rows. */
+        FromListIterator() {
+            this(0L, Long.MAX_VALUE);
+        }
+
+        /** Iterator over the rows in [fromIndex, toIndex).
+         * @param fromIndex index of the first row to return
+         * @param toIndex index of the row after the last row to return */
+        FromListIterator(final long fromIndex, final long toIndex) {
+            m_endIndex = toIndex;
+            while (m_nextIndex < fromIndex && hasNext()) {
+                CloseableRowIterator backIntoMemoryIterator = m_backIntoMemoryIterator;
+                synchronized (backIntoMemoryIterator != null ? backIntoMemoryIterator : this) {
+                    if (m_nextIndex < m_listReference.size()) {
+                        // rows already in memory can be skipped directly
+                        m_nextIndex = (int)Math.min(fromIndex, m_listReference.size());
+                        continue;
+                    }
+                }
+                // rows are still restored from disk, they need to be read in order
+                next();
+            }
+        }
 
         /**
          * {@inheritDoc}
          */
         @Override
         public boolean hasNext() {
-            return m_nextIndex < size();
+            return m_nextIndex < m_endIndex && m_nextIndex < size();
         }
 
         /**
@@ -1778,6 +1862,21 @@ public void close() {
         }
     }
 
+    /** Builder for {@link FromListIterator}, the row range is applied on the list index. Column filters are ignored
+     * as all cells are in memory already. */
+    private final class FromListIteratorBuilder extends DefaultRowIteratorBuilder<CloseableRowIterator> {
+
+        FromListIteratorBuilder() {
+            super(() -> new FromListIterator(), getTableSpec());
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public CloseableRowIterator build() {
+            return new FromListIterator(getFromRowIndex(), getToRowIndex());
+        }
+    }
+
     /**
      * A background thread that deletes temporary files and directory (which may be a very long lasting job - in
      * particular when blob directories need to get deleted). This is the long term fix for bug 1051.
@@ -60,6 +60,7 @@
 import org.knime.core.data.DataCellSerializer;
 import org.knime.core.data.DataType;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell;
 import org.knime.core.data.container.BlobDataCell.BlobAddress;
 import org.knime.core.data.container.DCObjectInputVersion2.BlockableDCObjectInputVersion2;
 import org.knime.core.data.container.DefaultTableStoreReader.FromFileIterator;
@@ -84,7 +85,14 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
     private final DefaultTableStoreReader m_tableFormatReader;
 
     /** Row pointer. */
-    private int m_pointer;
+    private long m_pointer;
+
+    /** Index of the row after the last row to return (exclusive). */
+    private final long m_endIndex;
+
+    /** Whether a column is decoded, indexed by column; null if all columns are decoded. Cells of other columns are
+     * skipped on the stream and returned as {@link UnmaterializedCell}. */
+    private final boolean[] m_isMaterialize;
 
     /** Content of the rows that get returned in {@link #next()} when the
      * table is {@link #close()}'d. Will be instantiated lazy. */
@@ -107,7 +115,28 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
      * @throws IOException If stream reading fails.
      */
     BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader) throws IOException {
+        this(tableFormatReader, null, 0L, Long.MAX_VALUE);
+    }
+
+    /** Inits iterator over a part of the table, opens input stream and skips the leading rows.
+     * @param tableFormatReader The associated buffer.
+     * @param materializeColumnIndices The (sorted) indices of the columns to decode or null to decode all columns.
+     * @param fromRowIndex Index of the first row to return.
+     * @param toRowIndex Index of the row after the last row to return.
+     * @throws IOException If stream reading fails.
+     */
+    BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader,
+        final int[] materializeColumnIndices, final long fromRowIndex, final long toRowIndex) throws IOException {
         m_pointer = 0;
+        m_endIndex = toRowIndex;
+        if (materializeColumnIndices == null) {
+            m_isMaterialize = null;
+        } else {
+            m_isMaterialize = new boolean[tableFormatReader.getTableSpec().getNumColumns()];
+            for (int i : materializeColumnIndices) {
+                m_isMaterialize[i] = true;
+            }
+        }
         if (tableFormatReader.getBinFile() == null) {
             throw new IOException("Unable to read table from file, "
                     + "table has been cleared.");
@@ -116,29 +145,143 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
         assert m_tableFormatReader.getReadVersion() >= 6 : "Iterator is not backward "
             + "compatible, use instead "
             + BufferFromFileIteratorVersion1x.class.getSimpleName();
-        BufferedInputStream bufferedStream =
-            new BufferedInputStream(new FileInputStream(tableFormatReader.getBinFile()));
+        File binFile = tableFormatReader.getBinFile();
+        // offset (in the uncompressed stream) of the row to start reading from, see seekRow
+        final RowOffsetIndex index = tableFormatReader.getRowOffsetIndex();
+        int indexEntry = -1;
+        if (index != null && fromRowIndex > 0) {
+            indexEntry = index.findEntry(Math.min(fromRowIndex, tableFormatReader.size()));
+            if (index.getOffset(indexEntry) == 0) {
+                indexEntry = -1;
+            }
+        }
+        // offset of the first byte returned by the stream
+        long streamOffset = 0L;
         InputStream in;
         switch (tableFormatReader.getBinFileCompressionFormat()) {
             case Gzip:
-                in = new GZIPInputStream(bufferedStream);
+                FileInputStream gzipFileIn = new FileInputStream(binFile);
+                if (indexEntry >= 0) {
+                    // gzip members have a fixed uncompressed size; files written by previous versions consist of
+                    // a single member (no block offsets) and are decompressed up to the row
+                    streamOffset = positionAtBlock(gzipFileIn, tableFormatReader, ParallelGzipOutputStream.BLOCK_SIZE,
+                        index.getOffset(indexEntry) - 1);
+                }
+                in = new GZIPInputStream(new BufferedInputStream(gzipFileIn));
                 // buffering is important when reading gzip streams
                 in = new BufferedInputStream(in);
                 break;
+            case Lz4:
+                FileInputStream fileIn = new FileInputStream(binFile);
+                if (indexEntry >= 0) {
+                    // jump to the block containing the row, blocks have a fixed uncompressed size
+                    streamOffset = positionAtBlock(fileIn, tableFormatReader, Lz4BlockCodec.BLOCK_SIZE,
+                        index.getOffset(indexEntry) - 1);
+                }
+                in = new Lz4BlockCodec.Lz4InputStream(new BufferedInputStream(fileIn));
+                break;
             case None:
-                in = bufferedStream;
+                if (DefaultTableStoreFormat.IS_USE_MEMORY_MAPPING) {
+                    // skipping only moves the position
+                    in = new MappedFileInputStream(binFile);
+                } else {
+                    in = new BufferedInputStream(new FileInputStream(binFile));
+                }
                 break;
             default:
                 throw new IOException("Unsupported compression format: " + tableFormatReader.getBinFileCompressionFormat());
         }
+        if (indexEntry >= 0) {
+            try {
+                seekRow(in, streamOffset, index, indexEntry);
+            } catch (IOException ioe) {
+                in.close();
+                throw ioe;
+            }
+        }
         m_dataCellStreamReader = new DataCellStreamReader(tableFormatReader);
         m_inStream = new BlockableDCObjectInputVersion2(in, m_dataCellStreamReader);
+        try {
+            while (m_pointer < fromRowIndex && m_pointer < tableFormatReader.size()) {
+                skipRow(m_inStream);
+                m_pointer++;
+            }
+        } catch (IOException ioe) {
+            m_inStream.close();
+            throw ioe;
+        }
+    }
+
+    /** Positions a compressed file at the start of the block containing the argument offset of the decompressed
+     * stream. Closes the file if that fails.
+     * @param fileIn The file, positioned at its beginning.
+     * @param reader The reader providing the block offsets.
+     * @param blockSize The uncompressed size of all blocks but the last.
+     * @param offset The offset in the decompressed stream.
+     * @return The offset in the decompressed stream at which the block starts, 0 if the file has no blocks.
+     * @throws IOException If reading the block offsets fails. */
+    private static long positionAtBlock(final FileInputStream fileIn, final DefaultTableStoreReader reader,
+        final int blockSize, final long offset) throws IOException {
+        try {
+            long[] blockOffsets = reader.getBlockOffsets();
+            if (blockOffsets == null || blockOffsets.length == 0) {
+                return 0L;
+            }
+            int block = (int)Math.min(offset / blockSize, blockOffsets.length - 1);
+            fileIn.getChannel().position(blockOffsets[block]);
+            return (long)block * blockSize;
+        } catch (IOException ioe) {
+            fileIn.close();
+            throw ioe;
+        }
+    }
+
+    /** Positions the (decompressed) stream at the start of the indexed row and updates the row pointer accordingly.
+     * @param in The stream, not yet wrapped into the blockable stream.
+     * @param streamOffset The offset of the next byte returned by <code>in</code>.
+     * @param index The row offset index.
+     * @param entry The entry in the index to seek to.
+     * @throws IOException If reading fails or the index doesn't match the file content. */
+    private void seekRow(final InputStream in, final long streamOffset, final RowOffsetIndex index,
+        final int entry) throws IOException {
+        // the byte before the row start is the separator of the previous row (which is never escaped)
+        final long separatorOffset = index.getOffset(entry) - 1;
+        long remaining = separatorOffset - streamOffset;
+        while (remaining > 0) {
+            long skipped = in.skip(remaining);
+            if (skipped <= 0) {
+                throw new IOException("Unexpected end of file while seeking row " + index.getRowIndex(entry));
+            }
+            remaining -= skipped;
+        }
+        int separator = in.read();
+        if (separator != (BYTE_ROW_SEPARATOR & 0xFF)) {
+            throw new IOException("Row offset index doesn't match file content (expected end of row byte at offset "
+                + separatorOffset + ", got " + separator + ")");
+        }
+        m_pointer = index.getRowIndex(entry);
+    }
+
+    /** Skips all blocks of the next row without decoding them.
+     * @param inStream To read from.
+     * @throws IOException If reading fails or the row separator is missing. */
+    private void skipRow(final BlockableDCObjectInputVersion2 inStream) throws IOException {
+        if (m_tableFormatReader.isReadRowKey()) {
+            inStream.endBlock();
+        }
+        for (int i = m_tableFormatReader.getTableSpec().getNumColumns(); --i >= 0;) {
+            inStream.endBlock();
+        }
+        byte eoRow = inStream.readControlByte();
+        if (eoRow != BYTE_ROW_SEPARATOR) {
+            throw new IOException("Expected end of row byte, got '" + eoRow + "', (byte " + (int)eoRow + ")");
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public synchronized boolean hasNext() {
-        boolean hasNext = m_pointer < m_tableFormatReader.size();
+        boolean hasNext = m_pointer < m_endIndex && m_pointer < m_tableFormatReader.size();
         if (!hasNext && (m_inStream != null)) {
             close();
         }
@@ -178,6 +321,16 @@ public synchronized BlobSupportDataRow next() {
         DataCell[] cells = new DataCell[colCount];
         for (int i = 0; i < colCount; i++) {
             DataCell nextCell;
+            if (m_isMaterialize != null && !m_isMaterialize[i]) {
+                try {
+                    // cell boundaries are given by the block marks, no need to deserialize the cell
+                    inStream.endBlock();
+                } catch (final IOException e) {
+                    handleReadThrowable(e);
+                }
+                cells[i] = UnmaterializedCell.getInstance();
+                continue;
+            }
             try {
                 try {
                     nextCell = m_dataCellStreamReader.readDataCell(m_inStream);
@@ -0,0 +1,203 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.IDataRepository;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.container.storage.TableStoreFormat;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+
+/**
+ * Column-oriented table format. Rows are collected into chunks; within a chunk the cells of each column are written
+ * as one contiguous block. Columns whose cells are all {@link org.knime.core.data.def.IntCell IntCell},
+ * {@link org.knime.core.data.def.LongCell LongCell}, {@link org.knime.core.data.def.DoubleCell DoubleCell},
+ * {@link org.knime.core.data.def.BooleanCell BooleanCell} or {@link org.knime.core.data.def.StringCell StringCell}
+ * are stored using a primitive encoding (string columns with few distinct values use a dictionary), all other columns
+ * fall back to the standard KNIME cell serialization. Each column block is prefixed by its length so that readers
+ * can skip columns that were not requested via {@link org.knime.core.data.RowIteratorBuilder#filterColumns(int...)}
+ * without decoding them.
+ *
+ * <p>The file layout is:
+ * <pre>
+ * file   := MAGIC VERSION chunk* END_OF_FILE
+ * chunk  := rowCount(int) #blocks(int) (encoding(byte) rawLength(int) storedLength(int))[#blocks] block[#blocks]
+ * </pre>
+ * where the first block contains the row keys (if written) and the remaining blocks contain the columns in the order
+ * of the spec. The number of blocks is stored explicitly as a chunk of a table without columns and row keys has no
+ * blocks at all.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noextend This class is not intended to be subclassed by clients.
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class ColumnarTableStoreFormat implements TableStoreFormat {
+
+    /** Magic number at the beginning of each file ('KCOL'). */
+    static final int MAGIC = 0x4B434F4C;
+
+    /** Written in place of a row count to mark the end of the file. */
+    static final int END_OF_FILE = -1;
+
+    /** Version of the binary layout, written after {@link #MAGIC}. */
+    static final byte LAYOUT_VERSION = 1;
+
+    /** Config key: whether column blocks are deflated. */
+    static final String CFG_COMPRESSION = "columnar.compression";
+
+    /** Config key: maximum number of rows per chunk as used by the writer. */
+    static final String CFG_CHUNK_SIZE = "columnar.chunksize";
+
+    /** Block encoding: all cells in the block are the singleton missing cell, block is empty. */
+    static final byte ENC_ALL_MISSING = 0;
+
+    /** Block encoding: int values, preceded by missing-bitmap. */
+    static final byte ENC_INT = 1;
+
+    /** Block encoding: long values, preceded by missing-bitmap. */
+    static final byte ENC_LONG = 2;
+
+    /** Block encoding: double values, preceded by missing-bitmap. */
+    static final byte ENC_DOUBLE = 3;
+
+    /** Block encoding: boolean values as bitmap, preceded by missing-bitmap. */
+    static final byte ENC_BOOLEAN = 4;
+
+    /** Block encoding: string values (long UTF), preceded by missing-bitmap. */
+    static final byte ENC_STRING = 5;
+
+    /** Block encoding: dictionary of distinct strings followed by per-row codes, preceded by missing-bitmap. */
+    static final byte ENC_STRING_DICT = 6;
+
+    /** Block encoding: cells written with the standard cell serialization, each terminated by a block mark. */
+    static final byte ENC_GENERIC = 7;
+
+    /** Block encoding: row keys (long UTF). */
+    static final byte ENC_ROW_KEY = 8;
+
+    /** Upper bound for the number of rows in a chunk. */
+    static final int MAX_CHUNK_SIZE = 8192;
+
+    /** Lower bound for the number of rows in a chunk (applies to very wide tables). */
+    static final int MIN_CHUNK_SIZE = 64;
+
+    /** Target number of cells per chunk, used to derive the chunk size from the table width. */
+    private static final int CELLS_PER_CHUNK = 1 << 20;
+
+    /** Current version, see {@link #getVersion()}. */
+    private static final String VERSION = "columnar_1";
+
+    /**
+     * @param spec The table spec.
+     * @return the number of rows collected in a chunk so that a chunk holds about {@link #CELLS_PER_CHUNK} cells.
+     */
+    static int getChunkSize(final DataTableSpec spec) {
+        int nrCols = Math.max(1, spec.getNumColumns());
+        return Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, CELLS_PER_CHUNK / nrCols));
+    }
+
+    @Override
+    public String getName() {
+        return "Column Store (KNIME)";
+    }
+
+    @Override
+    public String getFilenameSuffix() {
+        return ".colbin";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean accepts(final DataTableSpec spec) {
+        // columns that don't have a primitive encoding fall back to the standard cell serialization
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreWriter createWriter(final File binFile, final DataTableSpec spec,
+        final boolean writeRowKey) throws IOException {
+        return createWriter(new FileOutputStream(binFile), spec, writeRowKey);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreWriter createWriter(final OutputStream output, final DataTableSpec spec,
+        final boolean writeRowKey) throws IOException {
+        return new ColumnarTableStoreWriter(spec, output, writeRowKey, DefaultTableStoreFormat.IS_USE_GZIP);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreReader createReader(final File binFile, final DataTableSpec spec,
+        final IDataRepository dataRepository, final NodeSettingsRO settings, final int version,
+        final boolean isReadRowKey) throws IOException, InvalidSettingsException {
+        return new ColumnarTableStoreReader(binFile, spec, settings, version, isReadRowKey);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getVersion() {
+        return VERSION;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean validateVersion(final String versionString) {
+        return VERSION.equals(versionString);
+    }
+
+}
@@ -0,0 +1,486 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENC_ALL_MISSING;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENC_BOOLEAN;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENC_DOUBLE;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENC_GENERIC;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENC_INT;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENC_LONG;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENC_STRING;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENC_STRING_DICT;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowIteratorBuilder;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell;
+import org.knime.core.data.container.BufferFromFileIteratorVersion20.DataCellStreamReader;
+import org.knime.core.data.container.DCObjectInputVersion2.BlockableDCObjectInputVersion2;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeSettingsRO;
+
+/**
+ * Reader for the {@link ColumnarTableStoreFormat}. Iterators created via {@link #iteratorBuilder()} only decode the
+ * columns selected by {@link RowIteratorBuilder#filterColumns(int...)}, the blocks of all other columns are skipped
+ * on the file stream.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ColumnarTableStoreReader extends AbstractTableStoreReader {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ColumnarTableStoreReader.class);
+
+    private final File m_binFile;
+
+    private final boolean m_isReadRowKey;
+
+    private final boolean m_isCompressed;
+
+    /**
+     * @param binFile the local file from which to read
+     * @param spec the specification of the data table
+     * @param settings The settings (written by
+     *            {@link ColumnarTableStoreWriter#writeMetaInfoAfterWrite(org.knime.core.node.NodeSettingsWO)})
+     * @param version The version as defined in the {@link Buffer} class
+     * @param isReadRowKey whether or not row keys are to be read (or generated anew)
+     * @throws IOException any type of I/O problem
+     * @throws InvalidSettingsException if the settings are incomplete
+     */
+    ColumnarTableStoreReader(final File binFile, final DataTableSpec spec, final NodeSettingsRO settings,
+        final int version, final boolean isReadRowKey) throws IOException, InvalidSettingsException {
+        super(binFile, spec, settings, version);
+        readCellClassInfoArrayFromMetaVersion2(settings);
+        m_binFile = binFile;
+        m_isReadRowKey = isReadRowKey;
+        m_isCompressed = settings.getBoolean(ColumnarTableStoreFormat.CFG_COMPRESSION);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TableStoreCloseableRowIterator iterator() {
+        return iterator(null, 0L, Long.MAX_VALUE);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected TableStoreCloseableRowIterator iterator(final int[] materializeColumnIndices, final long fromRowIndex,
+        final long toRowIndex) {
+        try {
+            return new ColumnarRowIterator(materializeColumnIndices, fromRowIndex, toRowIndex);
+        } catch (IOException ioe) {
+            checkAndReportOpenFiles(ioe);
+            throw new RuntimeException("Cannot read file \"" + m_binFile.getName() + "\"", ioe);
+        }
+    }
+
+    /** Iterates the chunks of the file, decoding the selected column blocks of each chunk at a time. */
+    private final class ColumnarRowIterator extends TableStoreCloseableRowIterator {
+
+        /** Whether a column is decoded, indexed by column. */
+        private final boolean[] m_isMaterialize;
+
+        private final DataCellStreamReader m_cellReader;
+
+        private final Inflater m_inflater;
+
+        private DataInputStream m_in;
+
+        private RowKey[] m_chunkKeys;
+
+        private final DataCell[][] m_chunkCells;
+
+        private int m_chunkRowCount;
+
+        private int m_indexInChunk;
+
+        /** Index of the first row of the current chunk in the table. */
+        private long m_chunkStartIndex;
+
+        private final long m_fromIndex;
+
+        private final long m_toIndex;
+
+        private boolean m_hasThrownReadException;
+
+        ColumnarRowIterator(final int[] materializeColumnIndices, final long fromIndex, final long toIndex)
+            throws IOException {
+            m_fromIndex = fromIndex;
+            m_toIndex = toIndex;
+            final int colCount = getSpec().getNumColumns();
+            m_isMaterialize = new boolean[colCount];
+            if (materializeColumnIndices == null) {
+                Arrays.fill(m_isMaterialize, true);
+            } else {
+                for (int i : materializeColumnIndices) {
+                    m_isMaterialize[i] = true;
+                }
+            }
+            m_chunkCells = new DataCell[colCount][];
+            m_cellReader = new DataCellStreamReader(ColumnarTableStoreReader.this);
+            m_inflater = m_isCompressed ? new Inflater() : null;
+            if (m_binFile == null) {
+                throw new IOException("Unable to read table from file, table has been cleared.");
+            }
+            DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(m_binFile), 1 << 16));
+            try {
+                if (in.readInt() != ColumnarTableStoreFormat.MAGIC) {
+                    throw new IOException("Not a columnar table file: " + m_binFile.getName());
+                }
+                byte layoutVersion = in.readByte();
+                if (layoutVersion != ColumnarTableStoreFormat.LAYOUT_VERSION) {
+                    throw new IOException("Unsupported columnar table layout version: " + layoutVersion);
+                }
+            } catch (IOException ioe) {
+                in.close();
+                throw ioe;
+            }
+            m_in = in;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized boolean hasNext() {
+            if (m_chunkStartIndex + m_indexInChunk < m_toIndex) {
+                if (m_indexInChunk < m_chunkRowCount) {
+                    return true;
+                }
+                if (m_in == null) {
+                    return false;
+                }
+                try {
+                    if (readNextChunk()) {
+                        return true;
+                    }
+                } catch (IOException ioe) {
+                    handleReadThrowable(ioe);
+                }
+            }
+            if (m_in != null) {
+                close();
+            }
+            return false;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized BlobSupportDataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Iterator at end");
+            }
+            final int r = m_indexInChunk++;
+            DataCell[] cells = new DataCell[m_chunkCells.length];
+            for (int c = 0; c < cells.length; c++) {
+                cells[c] = m_isMaterialize[c] ? m_chunkCells[c][r] : UnmaterializedCell.getInstance();
+            }
+            RowKey key = m_chunkKeys != null ? m_chunkKeys[r] : DUMMY_ROW_KEY;
+            return new BlobSupportDataRow(key, cells);
+        }
+
+        /**
+         * Reads the directory of the next chunk containing rows of the requested range and decodes the selected
+         * blocks, the others are skipped. Chunks that end before the start of the range are skipped entirely.
+         *
+         * @return false if the end of the file has been reached
+         */
+        private boolean readNextChunk() throws IOException {
+            final DataInputStream in = m_in;
+            final int colCount = m_chunkCells.length;
+            int rowCount;
+            boolean hasKeyBlock;
+            byte[] encodings;
+            int[] rawLengths;
+            int[] storedLengths;
+            do {
+                m_chunkStartIndex += m_chunkRowCount;
+                m_chunkRowCount = 0;
+                m_indexInChunk = 0;
+                rowCount = in.readInt();
+                if (rowCount == ColumnarTableStoreFormat.END_OF_FILE) {
+                    return false;
+                }
+                final int blockCount = in.readInt();
+                if (blockCount != colCount && blockCount != colCount + 1) {
+                    throw new IOException("Invalid number of column blocks in chunk: " + blockCount
+                        + " (table has " + colCount + " column(s))");
+                }
+                hasKeyBlock = blockCount > colCount;
+                encodings = new byte[blockCount];
+                rawLengths = new int[blockCount];
+                storedLengths = new int[blockCount];
+                long chunkLength = 0L;
+                for (int b = 0; b < blockCount; b++) {
+                    encodings[b] = in.readByte();
+                    if (hasKeyBlock && b == 0 && encodings[b] != ColumnarTableStoreFormat.ENC_ROW_KEY) {
+                        throw new IOException("Invalid encoding of the row key block: " + encodings[b]);
+                    }
+                    rawLengths[b] = in.readInt();
+                    storedLengths[b] = in.readInt();
+                    chunkLength += storedLengths[b];
+                }
+                if (m_chunkStartIndex + rowCount > m_fromIndex) {
+                    break;
+                }
+                // chunk ends before the requested range
+                skipFully(chunkLength);
+                m_chunkRowCount = rowCount;
+            } while (true);
+            int b = 0;
+            m_chunkKeys = null;
+            if (hasKeyBlock) {
+                if (m_isReadRowKey) {
+                    m_chunkKeys = decodeRowKeys(readBlock(rawLengths[b], storedLengths[b]), rowCount);
+                } else {
+                    skipFully(storedLengths[b]);
+                }
+                b++;
+            }
+            for (int c = 0; c < colCount; c++, b++) {
+                if (m_isMaterialize[c]) {
+                    m_chunkCells[c] =
+                        decodeColumn(encodings[b], readBlock(rawLengths[b], storedLengths[b]), rowCount);
+                } else {
+                    skipFully(storedLengths[b]);
+                }
+            }
+            m_chunkRowCount = rowCount;
+            m_indexInChunk = (int)Math.max(0L, m_fromIndex - m_chunkStartIndex);
+            return true;
+        }
+
+        private void skipFully(final long length) throws IOException {
+            long remaining = length;
+            while (remaining > 0) {
+                long skipped = m_in.skip(remaining);
+                if (skipped <= 0) {
+                    throw new EOFException("Unexpected end of file while skipping column block");
+                }
+                remaining -= skipped;
+            }
+        }
+
+        private byte[] readBlock(final int rawLength, final int storedLength) throws IOException {
+            byte[] stored = new byte[storedLength];
+            m_in.readFully(stored);
+            if (m_inflater == null || rawLength == 0) {
+                return stored;
+            }
+            byte[] raw = new byte[rawLength];
+            m_inflater.reset();
+            m_inflater.setInput(stored);
+            try {
+                int offset = 0;
+                while (offset < rawLength) {
+                    int count = m_inflater.inflate(raw, offset, rawLength - offset);
+                    if (count == 0 && (m_inflater.finished() || m_inflater.needsInput())) {
+                        throw new EOFException("Column block is truncated");
+                    }
+                    offset += count;
+                }
+            } catch (DataFormatException dfe) {
+                throw new IOException("Corrupt column block: " + dfe.getMessage(), dfe);
+            }
+            return raw;
+        }
+
+        private RowKey[] decodeRowKeys(final byte[] raw, final int rowCount) throws IOException {
+            RowKey[] keys = new RowKey[rowCount];
+            try (LongUTFDataInputStream in = new LongUTFDataInputStream(
+                new DataInputStream(new ByteArrayInputStream(raw)))) {
+                for (int r = 0; r < rowCount; r++) {
+                    keys[r] = new RowKey(in.readUTF());
+                }
+            }
+            return keys;
+        }
+
+        private DataCell[] decodeColumn(final byte encoding, final byte[] raw, final int rowCount)
+            throws IOException {
+            final DataCell missing = DataType.getMissingCell();
+            DataCell[] cells = new DataCell[rowCount];
+            if (encoding == ENC_ALL_MISSING) {
+                Arrays.fill(cells, missing);
+                return cells;
+            }
+            if (encoding == ENC_GENERIC) {
+                decodeGenericColumn(raw, cells);
+                return cells;
+            }
+            try (LongUTFDataInputStream in = new LongUTFDataInputStream(
+                new DataInputStream(new ByteArrayInputStream(raw)))) {
+                byte[] missingBitmap = new byte[(rowCount + 7) / 8];
+                in.readFully(missingBitmap);
+                switch (encoding) {
+                    case ENC_INT:
+                        for (int r = 0; r < rowCount; r++) {
+                            int v = in.readInt();
+                            cells[r] = isSet(missingBitmap, r) ? missing : new IntCell(v);
+                        }
+                        break;
+                    case ENC_LONG:
+                        for (int r = 0; r < rowCount; r++) {
+                            long v = in.readLong();
+                            cells[r] = isSet(missingBitmap, r) ? missing : new LongCell(v);
+                        }
+                        break;
+                    case ENC_DOUBLE:
+                        for (int r = 0; r < rowCount; r++) {
+                            double v = in.readDouble();
+                            cells[r] = isSet(missingBitmap, r) ? missing : new DoubleCell(v);
+                        }
+                        break;
+                    case ENC_BOOLEAN:
+                        byte[] values = new byte[missingBitmap.length];
+                        in.readFully(values);
+                        for (int r = 0; r < rowCount; r++) {
+                            cells[r] = isSet(missingBitmap, r) ? missing : BooleanCell.get(isSet(values, r));
+                        }
+                        break;
+                    case ENC_STRING:
+                        for (int r = 0; r < rowCount; r++) {
+                            cells[r] = isSet(missingBitmap, r) ? missing : new StringCell(in.readUTF());
+                        }
+                        break;
+                    case ENC_STRING_DICT:
+                        StringCell[] dictionary = new StringCell[in.readInt()];
+                        for (int i = 0; i < dictionary.length; i++) {
+                            dictionary[i] = new StringCell(in.readUTF());
+                        }
+                        final boolean isByteCode = in.readBoolean();
+                        for (int r = 0; r < rowCount; r++) {
+                            if (isSet(missingBitmap, r)) {
+                                cells[r] = missing;
+                            } else {
+                                cells[r] = dictionary[isByteCode ? in.readUnsignedByte() : in.readUnsignedShort()];
+                            }
+                        }
+                        break;
+                    default:
+                        throw new IOException("Unsupported column encoding: " + encoding);
+                }
+            }
+            return cells;
+        }
+
+        /** Decodes a block written with the default cell serialization; a failing cell is replaced by missing. */
+        private void decodeGenericColumn(final byte[] raw, final DataCell[] cells) {
+            // in-memory stream, no need to close
+            BlockableDCObjectInputVersion2 in =
+                new BlockableDCObjectInputVersion2(new ByteArrayInputStream(raw), m_cellReader);
+            for (int r = 0; r < cells.length; r++) {
+                try {
+                    try {
+                        cells[r] = m_cellReader.readDataCell(in);
+                    } finally {
+                        in.endBlock();
+                    }
+                } catch (final Exception e) {
+                    handleReadThrowable(e);
+                    cells[r] = DataType.getMissingCell();
+                }
+            }
+        }
+
+        /** Handle exceptions, make sure to issue errors only once. */
+        private void handleReadThrowable(final Throwable throwable) {
+            String warnMessage = "Errors while reading row " + (m_chunkStartIndex + m_indexInChunk + 1) + " from file \""
+                + m_binFile.getName() + "\": " + throwable.getMessage();
+            if (!m_hasThrownReadException) {
+                LOGGER.error(warnMessage.concat("; Suppressing further warnings."), throwable);
+            } else {
+                LOGGER.debug(warnMessage, throwable);
+            }
+            m_hasThrownReadException = true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized boolean performClose() throws IOException {
+            if (m_in == null) {
+                return false;
+            }
+            DataInputStream in = m_in;
+            m_in = null;
+            m_chunkRowCount = 0;
+            m_indexInChunk = 0;
+            Arrays.fill(m_chunkCells, null);
+            m_chunkKeys = null;
+            if (m_inflater != null) {
+                m_inflater.end();
+            }
+            in.close();
+            return true;
+        }
+    }
+
+    private static boolean isSet(final byte[] bitmap, final int index) {
+        return (bitmap[index >> 3] & (1 << (index & 7))) != 0;
+    }
+
+}
@@ -0,0 +1,398 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENC_ALL_MISSING;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENC_BOOLEAN;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENC_DOUBLE;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENC_GENERIC;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENC_INT;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENC_LONG;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENC_ROW_KEY;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENC_STRING;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENC_STRING_DICT;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.DCObjectOutputVersion2.BlockableDCObjectOutputVersion2;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.NodeSettingsWO;
+
+/**
+ * Writer for the {@link ColumnarTableStoreFormat}. Rows are collected column-wise until a chunk is full, then each
+ * column is encoded into a separate block and the chunk is written.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ColumnarTableStoreWriter extends AbstractTableStoreWriter {
+
+    private final DataOutputStream m_out;
+
+    private final boolean m_isCompress;
+
+    private final int m_chunkSize;
+
+    /** Cells of the current chunk, indexed [column][row]. */
+    private final DataCell[][] m_chunkCells;
+
+    /** Row keys of the current chunk, null if row keys are not written. */
+    private final RowKey[] m_chunkKeys;
+
+    /** Number of rows in the current chunk. */
+    private int m_chunkRowCount;
+
+    /** Reused to deflate blocks, null if compression is disabled. */
+    private final Deflater m_deflater;
+
+    private boolean m_isClosed;
+
+    /**
+     * @param spec the spec of the table to write
+     * @param outputStream to write to, will be closed when this writer is closed
+     * @param writeRowKey whether row keys are to be written
+     * @param compress whether to deflate the column blocks
+     * @throws IOException if the header can't be written
+     */
+    ColumnarTableStoreWriter(final DataTableSpec spec, final OutputStream outputStream, final boolean writeRowKey,
+        final boolean compress) throws IOException {
+        super(spec, writeRowKey);
+        m_isCompress = compress;
+        m_deflater = compress ? new Deflater(Deflater.BEST_SPEED) : null;
+        m_chunkSize = ColumnarTableStoreFormat.getChunkSize(spec);
+        m_chunkCells = new DataCell[spec.getNumColumns()][m_chunkSize];
+        m_chunkKeys = writeRowKey ? new RowKey[m_chunkSize] : null;
+        m_out = new DataOutputStream(new BufferedOutputStream(outputStream, 1 << 16));
+        m_out.writeInt(ColumnarTableStoreFormat.MAGIC);
+        m_out.writeByte(ColumnarTableStoreFormat.LAYOUT_VERSION);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeRow(final DataRow row) throws IOException {
+        final boolean isBlobRow = row instanceof BlobSupportDataRow;
+        for (int i = 0; i < m_chunkCells.length; i++) {
+            m_chunkCells[i][m_chunkRowCount] =
+                isBlobRow ? ((BlobSupportDataRow)row).getRawCell(i) : row.getCell(i);
+        }
+        if (m_chunkKeys != null) {
+            m_chunkKeys[m_chunkRowCount] = row.getKey();
+        }
+        m_chunkRowCount++;
+        if (m_chunkRowCount == m_chunkSize) {
+            writeChunk();
+        }
+    }
+
+    /** Encodes all columns of the current chunk and writes them to the output. */
+    private void writeChunk() throws IOException {
+        final int rowCount = m_chunkRowCount;
+        if (rowCount == 0) {
+            return;
+        }
+        List<byte[]> blocks = new ArrayList<>(m_chunkCells.length + 1);
+        List<Byte> encodings = new ArrayList<>(m_chunkCells.length + 1);
+        if (m_chunkKeys != null) {
+            encodings.add(ENC_ROW_KEY);
+            blocks.add(encodeRowKeys(rowCount));
+        }
+        for (DataCell[] column : m_chunkCells) {
+            byte encoding = determineEncoding(column, rowCount);
+            encodings.add(encoding);
+            blocks.add(encodeColumn(encoding, column, rowCount));
+        }
+        byte[][] stored = new byte[blocks.size()][];
+        for (int i = 0; i < stored.length; i++) {
+            stored[i] = m_isCompress ? deflate(blocks.get(i)) : blocks.get(i);
+        }
+        m_out.writeInt(rowCount);
+        m_out.writeInt(stored.length);
+        for (int i = 0; i < stored.length; i++) {
+            m_out.writeByte(encodings.get(i));
+            m_out.writeInt(blocks.get(i).length);
+            m_out.writeInt(stored[i].length);
+        }
+        for (byte[] b : stored) {
+            m_out.write(b);
+        }
+        for (DataCell[] column : m_chunkCells) {
+            Arrays.fill(column, 0, rowCount, null);
+        }
+        if (m_chunkKeys != null) {
+            Arrays.fill(m_chunkKeys, 0, rowCount, null);
+        }
+        m_chunkRowCount = 0;
+    }
+
+    /** Picks the most compact encoding that is able to represent all cells of a column block. */
+    private static byte determineEncoding(final DataCell[] column, final int rowCount) {
+        final DataCell missing = DataType.getMissingCell();
+        Class<?> commonClass = null;
+        for (int r = 0; r < rowCount; r++) {
+            DataCell c = column[r];
+            if (c == missing) {
+                continue;
+            }
+            Class<?> cl = c.getClass();
+            if (commonClass == null) {
+                commonClass = cl;
+            } else if (commonClass != cl) {
+                return ENC_GENERIC;
+            }
+        }
+        if (commonClass == null) {
+            return ENC_ALL_MISSING;
+        } else if (commonClass == IntCell.class) {
+            return ENC_INT;
+        } else if (commonClass == LongCell.class) {
+            return ENC_LONG;
+        } else if (commonClass == DoubleCell.class) {
+            return ENC_DOUBLE;
+        } else if (commonClass == BooleanCell.class) {
+            return ENC_BOOLEAN;
+        } else if (commonClass == StringCell.class) {
+            return isDictionaryEncodable(column, rowCount) ? ENC_STRING_DICT : ENC_STRING;
+        }
+        // includes missing cells with error cause, blob wrapper and file store cells
+        return ENC_GENERIC;
+    }
+
+    /** @return true if the number of distinct strings is small compared to the number of rows. */
+    private static boolean isDictionaryEncodable(final DataCell[] column, final int rowCount) {
+        final int maxDictSize = Math.min(Short.MAX_VALUE, Math.max(1, rowCount / 4));
+        HashMap<String, Integer> distinct = new HashMap<>();
+        for (int r = 0; r < rowCount; r++) {
+            if (column[r] instanceof StringCell) {
+                distinct.putIfAbsent(((StringCell)column[r]).getStringValue(), distinct.size());
+                if (distinct.size() > maxDictSize) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private byte[] encodeRowKeys(final int rowCount) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(rowCount * 16);
+        try (LongUTFDataOutputStream out = new LongUTFDataOutputStream(new DataOutputStream(bytes))) {
+            for (int r = 0; r < rowCount; r++) {
+                out.writeUTF(m_chunkKeys[r].getString());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private byte[] encodeColumn(final byte encoding, final DataCell[] column, final int rowCount)
+        throws IOException {
+        if (encoding == ENC_ALL_MISSING) {
+            return new byte[0];
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(rowCount * 8);
+        if (encoding == ENC_GENERIC) {
+            try (BlockableDCObjectOutputVersion2 out = new BlockableDCObjectOutputVersion2(bytes, this)) {
+                for (int r = 0; r < rowCount; r++) {
+                    writeDataCell(column[r], out);
+                    out.endBlock();
+                }
+            }
+            return bytes.toByteArray();
+        }
+        try (LongUTFDataOutputStream out = new LongUTFDataOutputStream(new DataOutputStream(bytes))) {
+            out.write(createMissingBitmap(column, rowCount));
+            switch (encoding) {
+                case ENC_INT:
+                    for (int r = 0; r < rowCount; r++) {
+                        out.writeInt(column[r] instanceof IntCell ? ((IntCell)column[r]).getIntValue() : 0);
+                    }
+                    break;
+                case ENC_LONG:
+                    for (int r = 0; r < rowCount; r++) {
+                        out.writeLong(column[r] instanceof LongCell ? ((LongCell)column[r]).getLongValue() : 0L);
+                    }
+                    break;
+                case ENC_DOUBLE:
+                    for (int r = 0; r < rowCount; r++) {
+                        out.writeDouble(
+                            column[r] instanceof DoubleCell ? ((DoubleCell)column[r]).getDoubleValue() : 0.0);
+                    }
+                    break;
+                case ENC_BOOLEAN:
+                    byte[] values = new byte[(rowCount + 7) / 8];
+                    for (int r = 0; r < rowCount; r++) {
+                        if (column[r] instanceof BooleanCell && ((BooleanCell)column[r]).getBooleanValue()) {
+                            values[r >> 3] |= 1 << (r & 7);
+                        }
+                    }
+                    out.write(values);
+                    break;
+                case ENC_STRING:
+                    for (int r = 0; r < rowCount; r++) {
+                        if (column[r] instanceof StringCell) {
+                            out.writeUTF(((StringCell)column[r]).getStringValue());
+                        }
+                    }
+                    break;
+                case ENC_STRING_DICT:
+                    writeDictionaryEncoded(column, rowCount, out);
+                    break;
+                default:
+                    throw new IOException("Unsupported column encoding: " + encoding);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /** Writes the dictionary (size + values) followed by the code width and the codes of non-missing rows. */
+    private static void writeDictionaryEncoded(final DataCell[] column, final int rowCount,
+        final LongUTFDataOutputStream out) throws IOException {
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> values = new ArrayList<>();
+        int[] codes = new int[rowCount];
+        for (int r = 0; r < rowCount; r++) {
+            if (column[r] instanceof StringCell) {
+                String s = ((StringCell)column[r]).getStringValue();
+                Integer code = dictionary.get(s);
+                if (code == null) {
+                    code = values.size();
+                    dictionary.put(s, code);
+                    values.add(s);
+                }
+                codes[r] = code;
+            }
+        }
+        out.writeInt(values.size());
+        for (String s : values) {
+            out.writeUTF(s);
+        }
+        final boolean isByteCode = values.size() <= 0xFF;
+        out.writeBoolean(isByteCode);
+        for (int r = 0; r < rowCount; r++) {
+            if (column[r] instanceof StringCell) {
+                if (isByteCode) {
+                    out.writeByte(codes[r]);
+                } else {
+                    out.writeShort(codes[r]);
+                }
+            }
+        }
+    }
+
+    /** @return bitmap with bit <i>r</i> set if cell <i>r</i> is missing. */
+    private static byte[] createMissingBitmap(final DataCell[] column, final int rowCount) {
+        final DataCell missing = DataType.getMissingCell();
+        byte[] bitmap = new byte[(rowCount + 7) / 8];
+        for (int r = 0; r < rowCount; r++) {
+            if (column[r] == missing) {
+                bitmap[r >> 3] |= 1 << (r & 7);
+            }
+        }
+        return bitmap;
+    }
+
+    private byte[] deflate(final byte[] raw) {
+        if (raw.length == 0) {
+            return raw;
+        }
+        m_deflater.reset();
+        m_deflater.setInput(raw);
+        m_deflater.finish();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(64, raw.length / 2));
+        byte[] buffer = new byte[8192];
+        while (!m_deflater.finished()) {
+            int count = m_deflater.deflate(buffer);
+            bytes.write(buffer, 0, count);
+        }
+        return bytes.toByteArray();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeMetaInfoAfterWrite(final NodeSettingsWO settings) {
+        settings.addBoolean(ColumnarTableStoreFormat.CFG_COMPRESSION, m_isCompress);
+        settings.addInt(ColumnarTableStoreFormat.CFG_CHUNK_SIZE, m_chunkSize);
+        super.writeMetaInfoAfterWrite(settings);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        if (m_isClosed) {
+            return;
+        }
+        m_isClosed = true;
+        try {
+            writeChunk();
+            m_out.writeInt(ColumnarTableStoreFormat.END_OF_FILE);
+        } finally {
+            m_out.close();
+            if (m_deflater != null) {
+                m_deflater.end();
+            }
+        }
+    }
+
+}
@@ -338,6 +338,9 @@ public Thread newThread(final Runnable r) {
 
     private List<Object> m_fillingRowBuffer;
 
+    /** Number of rows in {@link #m_fillingRowBuffer}, {@link RowBatch} objects count with their size. */
+    private int m_fillingRowCount;
+
     private List<Object> m_emptyingRowBuffer;
 
     private int m_maxRowsInMemory;
@@ -471,36 +474,67 @@ private void addRowToTableWrite(final DataRow row) {
         for (int c = 0; c < numCells; c++) {
             DataType columnClass = m_spec.getColumnSpec(c).getType();
             DataCell value;
-            DataType runtimeType;
             if (row instanceof BlobSupportDataRow) {
                 BlobSupportDataRow bsvalue = (BlobSupportDataRow)row;
                 value = bsvalue.getRawCell(c);
             } else {
                 value = row.getCell(c);
             }
-            if (value instanceof BlobWrapperDataCell) {
-                BlobWrapperDataCell bw = (BlobWrapperDataCell)value;
-                runtimeType = bw.getBlobDataType();
-            } else {
-                runtimeType = value.getType();
-            }
-
-            if (!columnClass.isASuperTypeOf(runtimeType)) {
-                String valString = value.toString();
-                // avoid too long string representations
-                if (valString.length() > 30) {
-                    valString = valString.substring(0, 30) + "...";
-                }
-                throw new IllegalArgumentException("Runtime class of object \"" + valString + "\" (index " + c
-                    + ") in " + "row \"" + key + "\" is " + runtimeType.toString() + " and does "
-                    + "not comply with its supposed superclass " + columnClass.toString());
-            }
+            checkCellType(columnClass, value, getRuntimeType(value), c, key);
         } // for all cells
         m_domainCreator.updateDomain(row);
         addRowKeyForDuplicateCheck(key);
         m_buffer.addRow(row, false, m_forceCopyOfBlobs);
     }
 
+    /**
+     * Batch counterpart of {@link #addRowToTableWrite(DataRow)}. The type checks and the domain update are done column
+     * by column; a type check is only done once per consecutive run of cells of the same type.
+     */
+    private void addRowsToTableWrite(final RowBatch batch) {
+        final int size = batch.size();
+        for (int c = 0; c < batch.getNumColumns(); c++) {
+            final DataType columnClass = m_spec.getColumnSpec(c).getType();
+            final DataCell[] cells = batch.getColumn(c);
+            DataType lastCheckedType = null;
+            for (int r = 0; r < size; r++) {
+                final DataCell value = cells[r];
+                final DataType runtimeType = getRuntimeType(value);
+                if (!runtimeType.equals(lastCheckedType)) {
+                    checkCellType(columnClass, value, runtimeType, c, batch.getKey(r));
+                    lastCheckedType = runtimeType;
+                }
+            }
+        }
+        m_domainCreator.updateDomain(batch);
+        for (int r = 0; r < size; r++) {
+            addRowKeyForDuplicateCheck(batch.getKey(r));
+            m_buffer.addRow(batch.getRow(r), false, m_forceCopyOfBlobs);
+        }
+    }
+
+    private static DataType getRuntimeType(final DataCell value) {
+        if (value instanceof BlobWrapperDataCell) {
+            BlobWrapperDataCell bw = (BlobWrapperDataCell)value;
+            return bw.getBlobDataType();
+        }
+        return value.getType();
+    }
+
+    private static void checkCellType(final DataType columnClass, final DataCell value, final DataType runtimeType,
+        final int c, final RowKey key) {
+        if (!columnClass.isASuperTypeOf(runtimeType)) {
+            String valString = value.toString();
+            // avoid too long string representations
+            if (valString.length() > 30) {
+                valString = valString.substring(0, 30) + "...";
+            }
+            throw new IllegalArgumentException("Runtime class of object \"" + valString + "\" (index " + c
+                + ") in " + "row \"" + key + "\" is " + runtimeType.toString() + " and does "
+                + "not comply with its supposed superclass " + columnClass.toString());
+        }
+    }
+
     private void checkAsyncWriteThrowable() {
         Throwable t = m_writeThrowable.get();
         if (t != null) {
@@ -646,17 +680,20 @@ public void close() {
     }
 
     /**
-     * Adds the argument object (which will be a DataRow unless when called from close()) to the filling data row queue.
+     * Adds the argument object (which will be a DataRow or a RowBatch unless when called from close()) to the filling
+     * data row queue.
      * It will exchange the filling queue with the emptying queue from the write thread in case the queue is full.
      *
      * @param object the object to add.
      */
     private void offerToAsynchronousQueue(final Object object) {
         m_fillingRowBuffer.add(object);
-        if (m_fillingRowBuffer.size() >= ASYNC_CACHE_SIZE || object == CONTAINER_CLOSE || object == FLUSH_CACHE) {
+        m_fillingRowCount += object instanceof RowBatch ? ((RowBatch)object).size() : 1;
+        if (m_fillingRowCount >= ASYNC_CACHE_SIZE || object == CONTAINER_CLOSE || object == FLUSH_CACHE) {
             while (true) {
                 try {
                     m_fillingRowBuffer = m_rowBufferExchanger.exchange(m_fillingRowBuffer, 30, TimeUnit.SECONDS);
+                    m_fillingRowCount = 0;
                     if (!m_fillingRowBuffer.isEmpty()) {
                         Object ob = m_fillingRowBuffer.get(0);
                         assert ob == CONTAINER_WRITE_FAILED : "Not expected element in write queue: " + ob;
@@ -761,16 +798,7 @@ public void addRowToTable(final DataRow row) {
         if (row == null) {
             throw new NullPointerException("Can't add null rows to container");
         }
-        if (m_buffer == null) {
-            int bufID = createInternalBufferID();
-            Map<Integer, ContainerTable> localTableRep = getLocalTableRepository();
-            IWriteFileStoreHandler fileStoreHandler = getFileStoreHandler();
-            m_buffer = m_bufferCreator.createBuffer(m_spec, m_maxRowsInMemory, bufID, getDataRepository(),
-                localTableRep, fileStoreHandler);
-            if (m_buffer == null) {
-                throw new NullPointerException("Implementation error, must not return a null buffer.");
-            }
-        }
+        ensureBufferCreated();
         if (m_isSynchronousWrite) {
             if (MemoryAlertSystem.getInstance().isMemoryLow()) {
                 m_buffer.flushBuffer();
@@ -786,6 +814,67 @@ public void addRowToTable(final DataRow row) {
         m_size += 1;
     } // addRowToTable(DataRow)
 
+    /**
+     * Appends all rows of a batch to the end of this container. This is equivalent to calling
+     * {@link #addRowToTable(DataRow)} for each row in the batch but the batch is handed to the (asynchronous) write
+     * process as a single unit and the sanity checks and domain updates are done per column of the batch. Nodes
+     * producing many rows in a tight loop should prefer this method.
+     *
+     * <p>
+     * The batch must not be modified after it has been passed to this method (it is sealed by this method).
+     *
+     * @param batch The rows to add, not null.
+     * @throws NullPointerException If the argument is <code>null</code>.
+     * @throws IllegalStateException If the container is not open.
+     * @throws IllegalArgumentException If the structure of a row in the batch forbids to add it to the table.
+     * @throws DataContainerException See {@link RowAppender#addRowToTable(DataRow)}.
+     * @throws org.knime.core.util.DuplicateKeyException If a row's key has already been added.
+     * @since 3.8
+     */
+    public void addRowsToTable(final RowBatch batch) {
+        if (!isOpen()) {
+            throw new IllegalStateException("Cannot add rows: container has" + " not been initialized (opened).");
+        }
+        if (batch == null) {
+            throw new NullPointerException("Can't add null batch to container");
+        }
+        if (batch.getNumColumns() != m_spec.getNumColumns()) {
+            throw new IllegalArgumentException("Column count in batch is not equal to length of column names array: "
+                + batch.getNumColumns() + " vs. " + m_spec.getNumColumns());
+        }
+        batch.seal();
+        if (batch.size() == 0) {
+            return;
+        }
+        ensureBufferCreated();
+        if (m_isSynchronousWrite) {
+            if (MemoryAlertSystem.getInstance().isMemoryLow()) {
+                m_buffer.flushBuffer();
+            }
+            addRowsToTableWrite(batch);
+        } else {
+            checkAsyncWriteThrowable();
+            if (MemoryAlertSystem.getInstance().isMemoryLow()) {
+                offerToAsynchronousQueue(FLUSH_CACHE);
+            }
+            offerToAsynchronousQueue(batch);
+        }
+        m_size += batch.size();
+    }
+
+    private void ensureBufferCreated() {
+        if (m_buffer == null) {
+            int bufID = createInternalBufferID();
+            Map<Integer, ContainerTable> localTableRep = getLocalTableRepository();
+            IWriteFileStoreHandler fileStoreHandler = getFileStoreHandler();
+            m_buffer = m_bufferCreator.createBuffer(m_spec, m_maxRowsInMemory, bufID, getDataRepository(),
+                localTableRep, fileStoreHandler);
+            if (m_buffer == null) {
+                throw new NullPointerException("Implementation error, must not return a null buffer.");
+            }
+        }
+    }
+
     /** @return size of buffer temp file in bytes, -1 if not set. Only for debugging/test purposes. */
     long getBufferFileSize() {
         Buffer b = m_table != null ? m_table.getBuffer() : m_buffer;
@@ -1236,6 +1325,8 @@ private Void callWithContext() throws Exception {
                         } else if (obj == FLUSH_CACHE) {
                             assert i == size - 1;
                             d.m_buffer.flushBuffer();
+                        } else if (obj instanceof RowBatch) {
+                            d.addRowsToTableWrite((RowBatch)obj);
                         } else {
                             DataRow row = (DataRow)obj;
                             d.addRowToTableWrite(row);
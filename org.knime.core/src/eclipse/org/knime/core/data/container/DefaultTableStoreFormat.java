@@ -52,6 +52,7 @@
 import java.io.IOException;
 import java.io.OutputStream;
 
+import org.eclipse.core.runtime.Platform;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.IDataRepository;
 import org.knime.core.data.container.storage.AbstractTableStoreReader;
@@ -104,10 +105,66 @@ public final class DefaultTableStoreFormat implements TableStoreFormat {
         }
     }
 
-    /** Compression on the binary (main) file. */
+    /** Compression on the binary (main) file. The name is stored in the table meta information, i.e. constants
+     * must not be renamed. */
     enum CompressionFormat {
             Gzip,
-            None;
+            None,
+            /** Block compression using {@link Lz4BlockCodec}. */
+            Lz4;
+    }
+
+    /** The compression used for new tables, see {@link KNIMEConstants#PROPERTY_TABLE_COMPRESSION_CODEC}. */
+    static final CompressionFormat COMPRESSION_FORMAT;
+
+    static {
+        String codec = System.getProperty(KNIMEConstants.PROPERTY_TABLE_COMPRESSION_CODEC);
+        CompressionFormat format;
+        if (!IS_USE_GZIP) {
+            format = CompressionFormat.None;
+        } else if (codec == null || "gzip".equalsIgnoreCase(codec)) {
+            format = CompressionFormat.Gzip;
+        } else if ("lz4".equalsIgnoreCase(codec)) {
+            format = CompressionFormat.Lz4;
+        } else {
+            LOGGER.warn("Unable to read property " + KNIMEConstants.PROPERTY_TABLE_COMPRESSION_CODEC + " (\""
+                    + codec + "\"); defaulting to gzip");
+            format = CompressionFormat.Gzip;
+        }
+        if (codec != null) {
+            LOGGER.debug("Setting table stream compression format to " + format);
+        }
+        COMPRESSION_FORMAT = format;
+    }
+
+    /** Replaces {@link #COMPRESSION_FORMAT} for new tables if not null. Only for test purposes. */
+    static volatile CompressionFormat compressionFormatOverride;
+
+    /** @return The compression used for new tables, usually {@link #COMPRESSION_FORMAT}. */
+    static CompressionFormat getCompressionFormat() {
+        CompressionFormat override = compressionFormatOverride;
+        return override != null ? override : COMPRESSION_FORMAT;
+    }
+
+    /** Whether uncompressed table files are read via a {@link MappedFileInputStream}, see
+     * {@link KNIMEConstants#PROPERTY_TABLE_MEMORY_MAPPING}. */
+    static final boolean IS_USE_MEMORY_MAPPING;
+
+    static {
+        String isUseMMapString = System.getProperty(KNIMEConstants.PROPERTY_TABLE_MEMORY_MAPPING);
+        // mapped files can't be deleted on Windows until the buffer is garbage collected
+        boolean defaultValue = !Platform.OS_WIN32.equals(Platform.getOS());
+        if (isUseMMapString == null) {
+            IS_USE_MEMORY_MAPPING = defaultValue;
+        } else if ("true".equals(isUseMMapString)) {
+            IS_USE_MEMORY_MAPPING = true;
+        } else if ("false".equals(isUseMMapString)) {
+            IS_USE_MEMORY_MAPPING = false;
+        } else {
+            LOGGER.warn("Unable to read property " + KNIMEConstants.PROPERTY_TABLE_MEMORY_MAPPING + " (\""
+                    + isUseMMapString + "\"); defaulting to " + defaultValue);
+            IS_USE_MEMORY_MAPPING = defaultValue;
+        }
     }
 
     @Override
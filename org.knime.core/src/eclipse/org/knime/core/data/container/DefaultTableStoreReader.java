@@ -51,7 +51,7 @@
 import java.io.IOException;
 
 import org.knime.core.data.DataTableSpec;
-import org.knime.core.data.container.Buffer.CompressionFormat;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
 import org.knime.core.data.container.storage.AbstractTableStoreReader;
 import org.knime.core.data.container.storage.AbstractTableStoreWriter;
 import org.knime.core.node.InvalidSettingsException;
@@ -67,6 +67,10 @@ final class DefaultTableStoreReader extends AbstractTableStoreReader {
     private final File m_binFile;
     private final DataTableSpec m_spec;
     private final boolean m_isReadRowKey;
+    /** Offsets of rows in the (uncompressed) stream or null if the table was written without. */
+    private final RowOffsetIndex m_rowOffsetIndex;
+    /** File offsets of the blocks of compressed files, built lazily on first seek, empty if not available. */
+    private long[] m_blockOffsets;
 
     /**
      * Constructs a reader for materializing serialized KNIME tables.
@@ -111,6 +115,7 @@ final class DefaultTableStoreReader extends AbstractTableStoreReader {
             cF = CompressionFormat.Gzip;
         }
         m_compressionFormat = cF;
+        m_rowOffsetIndex = version >= 8 ? RowOffsetIndex.load(settings) : null;
     }
 
     @Override
@@ -130,11 +135,57 @@ public TableStoreCloseableRowIterator iterator() {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected TableStoreCloseableRowIterator iterator(final int[] materializeColumnIndices, final long fromRowIndex,
+        final long toRowIndex) {
+        if (getReadVersion() <= 5) {
+            return super.iterator(materializeColumnIndices, fromRowIndex, toRowIndex);
+        }
+        try {
+            return new BufferFromFileIteratorVersion20(this, materializeColumnIndices, fromRowIndex, toRowIndex);
+        } catch (IOException ioe) {
+            StringBuilder b = new StringBuilder("Cannot read file \"");
+            b.append(m_binFile != null ? m_binFile.getName() : "<unknown>");
+            b.append("\"");
+            checkAndReportOpenFiles(ioe);
+            throw new RuntimeException(b.toString(), ioe);
+        }
+    }
+
     /** @return Whether stream is zipped. */
     CompressionFormat getBinFileCompressionFormat() {
         return m_compressionFormat;
     }
 
+    /** @return Offsets of rows in the (uncompressed) stream or null if not available. */
+    RowOffsetIndex getRowOffsetIndex() {
+        return m_rowOffsetIndex;
+    }
+
+    /**
+     * @return The file offsets of the blocks of a LZ4 compressed file or the members of a gzip compressed file, read
+     *         from the file on first access. Empty if the file is not compressed or a gzip file written by a previous
+     *         version (single member).
+     * @throws IOException If reading the block headers fails.
+     */
+    synchronized long[] getBlockOffsets() throws IOException {
+        if (m_blockOffsets == null) {
+            long[] offsets = null;
+            switch (m_compressionFormat) {
+                case Lz4:
+                    offsets = Lz4BlockCodec.readBlockOffsets(m_binFile);
+                    break;
+                case Gzip:
+                    offsets = ParallelGzipOutputStream.readMemberOffsets(m_binFile);
+                    break;
+                default:
+            }
+            m_blockOffsets = offsets != null ? offsets : new long[0];
+        }
+        return m_blockOffsets;
+    }
+
     /** @return Underlying binary file. */
     final File getBinFile() {
         return m_binFile;
@@ -48,9 +48,9 @@
 package org.knime.core.data.container;
 
 import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.zip.GZIPOutputStream;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
@@ -75,6 +75,12 @@ final class DefaultTableStoreWriter extends AbstractTableStoreWriter implements
      */
     private final BlockableDCObjectOutputVersion2 m_outStream;
 
+    /** Counts the (uncompressed) bytes written to the stream. */
+    private CountingOutputStream m_countingStream;
+
+    /** Offsets of the rows in the uncompressed stream, written to the meta information to allow for seeking. */
+    private final RowOffsetIndex m_rowOffsetIndex = new RowOffsetIndex();
+
     /**
      * Constructs a writer for writing KNIME tables to disk.
      *
@@ -85,8 +91,22 @@ final class DefaultTableStoreWriter extends AbstractTableStoreWriter implements
      */
     public DefaultTableStoreWriter(final DataTableSpec spec, final OutputStream outputStream, final boolean writeRowKey)
         throws IOException {
+        this(spec, outputStream, writeRowKey, DefaultTableStoreFormat.getCompressionFormat());
+    }
+
+    /**
+     * Constructs a writer using a specific compression format (e.g. for the {@link OffHeapTableCache}).
+     *
+     * @param spec the specification of the KNIME table to write
+     * @param outputStream the stream to write to
+     * @param writeRowKey whether to store the row keys
+     * @param compressionFormat the compression format of the stream
+     * @throws IOException any type of I/O problem
+     */
+    DefaultTableStoreWriter(final DataTableSpec spec, final OutputStream outputStream, final boolean writeRowKey,
+        final CompressionFormat compressionFormat) throws IOException {
         super(spec, writeRowKey);
-        m_compressionFormat = DefaultTableStoreFormat.IS_USE_GZIP ? CompressionFormat.Gzip : CompressionFormat.None;
+        m_compressionFormat = compressionFormat;
         m_outStream = initOutFile(new BufferedOutputStream(outputStream));
     }
 
@@ -97,6 +117,7 @@ public DefaultTableStoreWriter(final DataTableSpec spec, final OutputStream outp
      */
     @Override
     public void writeRow(final DataRow row) throws IOException {
+        m_rowOffsetIndex.onRowStart(m_countingStream.getCount());
         RowKey id = row.getKey();
         writeRowKey(id, m_outStream);
         for (int i = 0; i < row.getNumCells(); i++) {
@@ -108,6 +129,13 @@ public void writeRow(final DataRow row) throws IOException {
         m_outStream.endRow();
     }
 
+    /**
+     * @return the number of uncompressed bytes written so far (including bytes still buffered)
+     */
+    long getBytesWritten() {
+        return m_countingStream.getCount();
+    }
+
     /**
      * Writes the row key to the out stream. This method is overridden in {@link NoKeyBuffer} in order to skip the row
      * key.
@@ -131,12 +159,13 @@ private BlockableDCObjectOutputVersion2 initOutFile(final OutputStream outStream
         OutputStream wrap;
         switch (m_compressionFormat) {
             case Gzip:
-                wrap = new GZIPOutputStream(outStream);
-                // buffering the input stream is important as the blockable
-                // stream, which will be put on top of it, reads bytes individually
-                // (had a table, on which a single read-scan took ~6min without
-                // and ~30s with buffering)
-                wrap = new BufferedOutputStream(wrap);
+                // independent gzip members, which allows for seeking rows, compressed on the shared compression
+                // pool (if enabled), no extra buffering needed
+                wrap = new ParallelGzipOutputStream(outStream);
+                break;
+            case Lz4:
+                // compresses in blocks, no extra buffering needed
+                wrap = new Lz4BlockCodec.Lz4OutputStream(outStream);
                 break;
             case None:
                 wrap = outStream;
@@ -144,13 +173,16 @@ private BlockableDCObjectOutputVersion2 initOutFile(final OutputStream outStream
             default:
                 throw new IOException("Unsupported compression format: " + m_compressionFormat);
         }
-        return new BlockableDCObjectOutputVersion2(wrap, this);
+        // the blockable stream writes through, i.e. the counted bytes are the offsets in the uncompressed stream
+        m_countingStream = new CountingOutputStream(wrap);
+        return new BlockableDCObjectOutputVersion2(m_countingStream, this);
     }
 
     /** {@inheritDoc} */
     @Override
     public void writeMetaInfoAfterWrite(final NodeSettingsWO settings) {
         settings.addString(DefaultTableStoreFormat.CFG_COMPRESSION, m_compressionFormat.name());
+        m_rowOffsetIndex.save(settings);
         super.writeMetaInfoAfterWrite(settings);
     }
 
@@ -160,4 +192,33 @@ public void close() throws IOException {
         m_outStream.close();
     }
 
+    /** Output stream counting the bytes written to the underlying stream. */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long m_count;
+
+        CountingOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        /** @return number of bytes written so far. */
+        long getCount() {
+            return m_count;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            m_count++;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            m_count += len;
+        }
+    }
+
 }
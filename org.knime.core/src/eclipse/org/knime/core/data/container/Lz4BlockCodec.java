@@ -0,0 +1,444 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Pure Java implementation of the LZ4 block format, used as fast alternative to gzip for table streams. The streams
+ * in this class split the data into blocks of {@link #BLOCK_SIZE} bytes, each one compressed independently and written
+ * as <code>rawLength(int) compressedLength(int) bytes</code>, whereby a compressed length of 0 denotes a block that is
+ * stored uncompressed (incompressible data). A raw length of 0 marks the end of the stream. Note that this framing is
+ * KNIME specific, it's not the LZ4 frame format.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class Lz4BlockCodec {
+
+    /** Uncompressed size of a block. */
+    static final int BLOCK_SIZE = 1 << 16;
+
+    private static final int MIN_MATCH = 4;
+
+    /** The last bytes of a block are always literals (as per format specification). */
+    private static final int LAST_LITERALS = 5;
+
+    /** A match must start at least this many bytes before the end of the block. */
+    private static final int MF_LIMIT = 12;
+
+    private static final int MAX_DISTANCE = (1 << 16) - 1;
+
+    private static final int HASH_LOG = 12;
+
+    /** Number of failed match attempts after which the search starts to skip bytes (incompressible data). */
+    private static final int SKIP_TRIGGER = 6;
+
+    private Lz4BlockCodec() {
+    }
+
+    /**
+     * @param length the number of bytes to compress
+     * @return size of a buffer that is guaranteed to hold the compressed data
+     */
+    static int maxCompressedLength(final int length) {
+        return length + length / 255 + 16;
+    }
+
+    /**
+     * Compresses the argument bytes.
+     *
+     * @param src to compress
+     * @param srcOff offset in <code>src</code>
+     * @param srcLen number of bytes to compress
+     * @param dest to write to, must have at least {@link #maxCompressedLength(int)} bytes available at
+     *            <code>destOff</code>
+     * @param destOff offset in <code>dest</code>
+     * @param hashTable a table of <code>1 &lt;&lt; 12</code> entries, reused between calls
+     * @return the number of bytes written to <code>dest</code>
+     */
+    static int compress(final byte[] src, final int srcOff, final int srcLen, final byte[] dest, final int destOff,
+        final int[] hashTable) {
+        final int srcEnd = srcOff + srcLen;
+        final int mfLimit = srcEnd - MF_LIMIT;
+        final int matchLimit = srcEnd - LAST_LITERALS;
+        int ip = srcOff;
+        int anchor = srcOff;
+        int op = destOff;
+        if (srcLen > MF_LIMIT) {
+            Arrays.fill(hashTable, -1);
+            int searchCount = 1 << SKIP_TRIGGER;
+            while (ip < mfLimit) {
+                final int sequence = readInt(src, ip);
+                final int h = hash(sequence);
+                int ref = hashTable[h];
+                hashTable[h] = ip;
+                if (ref < 0 || ip - ref > MAX_DISTANCE || readInt(src, ref) != sequence) {
+                    ip += searchCount++ >>> SKIP_TRIGGER;
+                    continue;
+                }
+                searchCount = 1 << SKIP_TRIGGER;
+                // extend match backwards
+                while (ip > anchor && ref > srcOff && src[ip - 1] == src[ref - 1]) {
+                    ip--;
+                    ref--;
+                }
+                int matchLength = MIN_MATCH;
+                while (ip + matchLength < matchLimit && src[ip + matchLength] == src[ref + matchLength]) {
+                    matchLength++;
+                }
+                // token, literals, offset, match length
+                final int tokenPos = op++;
+                final int literalLength = ip - anchor;
+                int token;
+                if (literalLength >= 15) {
+                    token = 15 << 4;
+                    op = writeLength(dest, op, literalLength - 15);
+                } else {
+                    token = literalLength << 4;
+                }
+                System.arraycopy(src, anchor, dest, op, literalLength);
+                op += literalLength;
+                final int offset = ip - ref;
+                dest[op++] = (byte)offset;
+                dest[op++] = (byte)(offset >>> 8);
+                final int remainingMatchLength = matchLength - MIN_MATCH;
+                if (remainingMatchLength >= 15) {
+                    token |= 15;
+                    op = writeLength(dest, op, remainingMatchLength - 15);
+                } else {
+                    token |= remainingMatchLength;
+                }
+                dest[tokenPos] = (byte)token;
+                ip += matchLength;
+                anchor = ip;
+            }
+        }
+        // last literals
+        final int literalLength = srcEnd - anchor;
+        if (literalLength >= 15) {
+            dest[op++] = (byte)(15 << 4);
+            op = writeLength(dest, op, literalLength - 15);
+        } else {
+            dest[op++] = (byte)(literalLength << 4);
+        }
+        System.arraycopy(src, anchor, dest, op, literalLength);
+        op += literalLength;
+        return op - destOff;
+    }
+
+    /**
+     * Decompresses a block.
+     *
+     * @param src the compressed data
+     * @param srcOff offset in <code>src</code>
+     * @param srcLen length of compressed data
+     * @param dest to write to
+     * @param destOff offset in <code>dest</code>
+     * @param rawLength the expected number of decompressed bytes
+     * @throws IOException if the data is corrupt
+     */
+    static void decompress(final byte[] src, final int srcOff, final int srcLen, final byte[] dest, final int destOff,
+        final int rawLength) throws IOException {
+        final int srcEnd = srcOff + srcLen;
+        final int destEnd = destOff + rawLength;
+        int ip = srcOff;
+        int op = destOff;
+        try {
+            while (true) {
+                final int token = src[ip++] & 0xFF;
+                int literalLength = token >>> 4;
+                if (literalLength == 15) {
+                    int b;
+                    do {
+                        b = src[ip++] & 0xFF;
+                        literalLength += b;
+                    } while (b == 255);
+                }
+                if (ip + literalLength > srcEnd || op + literalLength > destEnd) {
+                    throw new IOException("Corrupt LZ4 block, literals exceed block bounds");
+                }
+                System.arraycopy(src, ip, dest, op, literalLength);
+                ip += literalLength;
+                op += literalLength;
+                if (ip >= srcEnd) {
+                    break;
+                }
+                final int offset = (src[ip++] & 0xFF) | ((src[ip++] & 0xFF) << 8);
+                int matchLength = token & 0x0F;
+                if (matchLength == 15) {
+                    int b;
+                    do {
+                        b = src[ip++] & 0xFF;
+                        matchLength += b;
+                    } while (b == 255);
+                }
+                matchLength += MIN_MATCH;
+                final int ref = op - offset;
+                if (offset == 0 || ref < destOff || op + matchLength > destEnd) {
+                    throw new IOException("Corrupt LZ4 block, invalid match");
+                }
+                if (offset >= matchLength) {
+                    System.arraycopy(dest, ref, dest, op, matchLength);
+                } else {
+                    // overlapping copy, byte by byte
+                    for (int i = 0; i < matchLength; i++) {
+                        dest[op + i] = dest[ref + i];
+                    }
+                }
+                op += matchLength;
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Corrupt LZ4 block, unexpected end of data", e);
+        }
+        if (op != destEnd) {
+            throw new IOException("Corrupt LZ4 block, expected " + rawLength + " bytes but got " + (op - destOff));
+        }
+    }
+
+    private static int writeLength(final byte[] dest, final int destOff, final int length) {
+        int op = destOff;
+        int l = length;
+        while (l >= 255) {
+            dest[op++] = (byte)255;
+            l -= 255;
+        }
+        dest[op++] = (byte)l;
+        return op;
+    }
+
+    private static int readInt(final byte[] b, final int off) {
+        return (b[off] & 0xFF) | (b[off + 1] & 0xFF) << 8 | (b[off + 2] & 0xFF) << 16 | (b[off + 3] & 0xFF) << 24;
+    }
+
+    private static int hash(final int sequence) {
+        return (sequence * -1640531535) >>> (32 - HASH_LOG);
+    }
+
+    /**
+     * Output stream compressing its data in blocks, possibly in parallel (see {@link ParallelBlockOutputStream}). Data
+     * is only guaranteed to be written after {@link #close()}.
+     */
+    static final class Lz4OutputStream extends ParallelBlockOutputStream {
+
+        /** Hash tables of the compressing threads. */
+        private static final ThreadLocal<int[]> HASH_TABLES = ThreadLocal.withInitial(() -> new int[1 << HASH_LOG]);
+
+        /** @param out to write compressed blocks to */
+        Lz4OutputStream(final OutputStream out) {
+            super(out, BLOCK_SIZE);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        byte[] compressBlock(final byte[] block, final int length, final byte[] previous, final int previousLength,
+            final boolean isLast) {
+            if (length == 0) {
+                return new byte[0];
+            }
+            final byte[] compressed = new byte[8 + maxCompressedLength(length)];
+            final int compressedLength = compress(block, 0, length, compressed, 8, HASH_TABLES.get());
+            writeIntBE(compressed, 0, length);
+            if (compressedLength < length) {
+                writeIntBE(compressed, 4, compressedLength);
+                return Arrays.copyOf(compressed, 8 + compressedLength);
+            }
+            // incompressible, store raw
+            final byte[] raw = new byte[8 + length];
+            writeIntBE(raw, 0, length);
+            System.arraycopy(block, 0, raw, 8, length);
+            return raw;
+        }
+
+        /** Writes the end of stream marker. */
+        @Override
+        void writeTrailer(final OutputStream out) throws IOException {
+            out.write(new byte[4]);
+        }
+
+        private static void writeIntBE(final byte[] b, final int off, final int value) {
+            b[off] = (byte)(value >>> 24);
+            b[off + 1] = (byte)(value >>> 16);
+            b[off + 2] = (byte)(value >>> 8);
+            b[off + 3] = (byte)value;
+        }
+    }
+
+    /**
+     * Reads the block headers of a file written by {@link Lz4OutputStream} (without decompressing any data). As all
+     * blocks but the last one hold {@link #BLOCK_SIZE} uncompressed bytes, block <i>i</i> starts at the uncompressed
+     * offset <code>i * BLOCK_SIZE</code>.
+     *
+     * @param file the file to scan
+     * @return the file offsets of all blocks
+     * @throws IOException if reading fails or the file is corrupt
+     */
+    static long[] readBlockOffsets(final File file) throws IOException {
+        long[] offsets = new long[16];
+        int count = 0;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final long length = channel.size();
+            final ByteBuffer header = ByteBuffer.allocate(8);
+            long position = 0L;
+            while (position + 4 <= length) {
+                header.clear();
+                int read;
+                do {
+                    read = channel.read(header, position + header.position());
+                } while (read > 0 && header.hasRemaining());
+                final int rawLength = header.getInt(0);
+                if (rawLength == 0) {
+                    break;
+                }
+                if (header.position() < 8 || rawLength < 0 || rawLength > BLOCK_SIZE) {
+                    throw new IOException("Corrupt LZ4 stream, invalid block header at offset " + position);
+                }
+                final int compressedLength = header.getInt(4);
+                if (count == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, 2 * count);
+                }
+                offsets[count++] = position;
+                position += 8 + (compressedLength == 0 ? rawLength : compressedLength);
+            }
+        }
+        return Arrays.copyOf(offsets, count);
+    }
+
+    /** Input stream reading blocks as written by {@link Lz4OutputStream}. */
+    static final class Lz4InputStream extends InputStream {
+
+        private final DataInputStream m_in;
+
+        private final byte[] m_buffer = new byte[BLOCK_SIZE];
+
+        private byte[] m_compressed = new byte[maxCompressedLength(BLOCK_SIZE)];
+
+        private int m_position;
+
+        private int m_limit;
+
+        private boolean m_isEOF;
+
+        /** @param in to read compressed blocks from */
+        Lz4InputStream(final InputStream in) {
+            m_in = new DataInputStream(in);
+        }
+
+        /** @return false if the end of the stream has been reached */
+        private boolean fill() throws IOException {
+            if (m_isEOF) {
+                return false;
+            }
+            final int rawLength = m_in.readInt();
+            if (rawLength == 0) {
+                m_isEOF = true;
+                return false;
+            }
+            if (rawLength < 0 || rawLength > BLOCK_SIZE) {
+                throw new IOException("Corrupt LZ4 stream, invalid block length " + rawLength);
+            }
+            final int compressedLength = m_in.readInt();
+            if (compressedLength == 0) {
+                m_in.readFully(m_buffer, 0, rawLength);
+            } else {
+                if (compressedLength < 0 || compressedLength > m_compressed.length) {
+                    throw new IOException("Corrupt LZ4 stream, invalid compressed length " + compressedLength);
+                }
+                m_in.readFully(m_compressed, 0, compressedLength);
+                decompress(m_compressed, 0, compressedLength, m_buffer, 0, rawLength);
+            }
+            m_position = 0;
+            m_limit = rawLength;
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int read() throws IOException {
+            if (m_position == m_limit && !fill()) {
+                return -1;
+            }
+            return m_buffer[m_position++] & 0xFF;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (m_position == m_limit && !fill()) {
+                return -1;
+            }
+            final int n = Math.min(len, m_limit - m_position);
+            System.arraycopy(m_buffer, m_position, b, off, n);
+            m_position += n;
+            return n;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int available() throws IOException {
+            return m_limit - m_position;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() throws IOException {
+            m_compressed = null;
+            m_in.close();
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Method;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * Input stream reading a file via memory mapping. The file is mapped in windows of {@link #WINDOW_SIZE} bytes (so
+ * files larger than 2GB can be read), reads are served from the mapped buffer without copying the data through the
+ * java heap first and skipping/seeking only moves the position (no I/O). Used to read uncompressed table files.
+ * Windows are unmapped as soon as they are left or the stream is closed (where the JVM allows it, otherwise once they
+ * are garbage collected), so that the file can be deleted right after the stream is closed.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class MappedFileInputStream extends InputStream {
+
+    /** Size of the mapped windows. */
+    static final int WINDOW_SIZE = 64 << 20;
+
+    private final RandomAccessFile m_file;
+
+    private final FileChannel m_channel;
+
+    private final long m_length;
+
+    /** The currently mapped window, null if not mapped yet or closed. */
+    private MappedByteBuffer m_window;
+
+    /** Offset of {@link #m_window} in the file. */
+    private long m_windowOffset;
+
+    /** Position in the file, only used while {@link #m_window} is null. */
+    private long m_position;
+
+    /**
+     * Opens the file for reading.
+     *
+     * @param file the file to read
+     * @throws IOException if the file can't be opened
+     */
+    MappedFileInputStream(final File file) throws IOException {
+        m_file = new RandomAccessFile(file, "r");
+        m_channel = m_file.getChannel();
+        m_length = m_channel.size();
+    }
+
+    /** @return the current position in the file. */
+    long getPosition() {
+        return m_window == null ? m_position : m_windowOffset + m_window.position();
+    }
+
+    /**
+     * Sets the position of the next read.
+     *
+     * @param position the new position, at most the length of the file
+     */
+    void setPosition(final long position) {
+        if (m_window != null && position >= m_windowOffset && position - m_windowOffset <= m_window.limit()) {
+            m_window.position((int)(position - m_windowOffset));
+        } else {
+            releaseWindow();
+            m_position = Math.min(position, m_length);
+        }
+    }
+
+    /** Unmaps the current window, if any, and remembers the position. */
+    private void releaseWindow() {
+        if (m_window != null) {
+            m_position = getPosition();
+            MappedByteBuffer window = m_window;
+            m_window = null;
+            unmap(window);
+        }
+    }
+
+    /** Makes sure the current window has bytes remaining.
+     * @return false if the end of the file has been reached. */
+    private boolean ensureAvailable() throws IOException {
+        if (m_window != null && m_window.hasRemaining()) {
+            return true;
+        }
+        long position = getPosition();
+        if (position >= m_length) {
+            return false;
+        }
+        if (!m_channel.isOpen()) {
+            throw new IOException("Stream closed");
+        }
+        releaseWindow();
+        m_windowOffset = position;
+        m_window = m_channel.map(MapMode.READ_ONLY, position, Math.min(WINDOW_SIZE, m_length - position));
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read() throws IOException {
+        return ensureAvailable() ? m_window.get() & 0xFF : -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureAvailable()) {
+            return -1;
+        }
+        int count = Math.min(len, m_window.remaining());
+        m_window.get(b, off, count);
+        return count;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long skip(final long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        long position = getPosition();
+        long newPosition = Math.min(m_length, position + n);
+        setPosition(newPosition);
+        return newPosition - position;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int available() throws IOException {
+        return (int)Math.min(Integer.MAX_VALUE, m_length - getPosition());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        releaseWindow();
+        m_file.close();
+    }
+
+    /**
+     * Releases the mapping of the argument buffer immediately via the buffer's cleaner. The buffer must not be
+     * accessed afterwards, which holds as windows are never passed outside this class. If the cleaner is not
+     * accessible (newer JVMs) the mapping is released when the buffer is garbage collected.
+     */
+    private static void unmap(final MappedByteBuffer buffer) {
+        try {
+            Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(buffer);
+            if (cleaner != null) {
+                Method cleanMethod = cleaner.getClass().getMethod("clean");
+                cleanMethod.setAccessible(true);
+                cleanMethod.invoke(cleaner);
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // left to the garbage collector
+        }
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.IDataRepository;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.BufferFromFileIteratorVersion20.DataCellStreamReader;
+import org.knime.core.data.container.DCObjectInputVersion2.BlockableDCObjectInputVersion2;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.filestore.internal.IWriteFileStoreHandler;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettings;
+
+/**
+ * Unmodifiable list of rows that are kept in serialized form in direct (off-heap) byte buffers. Used by {@link Buffer}
+ * for small tables that are kept in memory so that their content doesn't count against the java heap. The rows are
+ * written in the format of the {@link DefaultTableStoreFormat} (uncompressed) and deserialized on each
+ * {@link #get(int)}, the offsets of the rows are kept in an array, making the list random access. The off-heap memory
+ * is accounted for by the {@link OffHeapTableCache}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class OffHeapRowList extends AbstractList<DataRow> implements RandomAccess, KNIMEStreamConstants {
+
+    /** Size of the first chunk, subsequent chunks double in size up to {@link #MAX_CHUNK_SIZE}. */
+    private static final int MIN_CHUNK_SIZE = 8 << 10;
+
+    private static final int MAX_CHUNK_SIZE = 1 << 20;
+
+    private final ByteBuffer[] m_chunks;
+
+    /** Offset of each chunk in the stream (plus the total size as last element). */
+    private final long[] m_chunkOffsets;
+
+    private final long[] m_rowOffsets;
+
+    private final int m_colCount;
+
+    private final DataCellStreamReader m_cellReader;
+
+    /** Called when evicted from the cache (buffer writes content to disc). */
+    private final Runnable m_onEviction;
+
+    /** ID in the {@link OffHeapTableCache}. */
+    private long m_cacheID = -1;
+
+    private OffHeapRowList(final ArenaOutputStream arena, final long[] rowOffsets, final int colCount,
+        final DataCellStreamReader cellReader, final Runnable onEviction) {
+        m_chunks = arena.m_chunks.toArray(new ByteBuffer[arena.m_chunks.size()]);
+        m_chunkOffsets = new long[m_chunks.length + 1];
+        for (int i = 0; i < m_chunks.length; i++) {
+            m_chunkOffsets[i + 1] = m_chunkOffsets[i] + m_chunks[i].position();
+        }
+        m_rowOffsets = rowOffsets;
+        m_colCount = colCount;
+        m_cellReader = cellReader;
+        m_onEviction = onEviction;
+    }
+
+    /**
+     * Serializes the rows into off-heap memory.
+     *
+     * @param rows the rows to serialize (must not contain blobs)
+     * @param spec the spec of the rows
+     * @param buffer the buffer the rows belong to (for file store cells)
+     * @param fileStoreHandler the file store handler of the buffer
+     * @param dataRepository the data repository of the buffer
+     * @param onEviction called when the list gets evicted from the {@link OffHeapTableCache}
+     * @return the new list
+     * @throws IOException if serialization fails (e.g. if direct memory is exhausted)
+     */
+    static OffHeapRowList create(final List<DataRow> rows, final DataTableSpec spec, final Buffer buffer,
+        final IWriteFileStoreHandler fileStoreHandler, final IDataRepository dataRepository,
+        final Runnable onEviction) throws IOException {
+        final ArenaOutputStream arena = new ArenaOutputStream();
+        final long[] rowOffsets = new long[rows.size()];
+        final NodeSettings formatSettings = new NodeSettings(Buffer.CFG_TABLE_FORMAT_CONFIG);
+        try {
+            // nothing to release on failure (no file handles), hence no try-with-resources
+            @SuppressWarnings("resource")
+            final DefaultTableStoreWriter writer =
+                new DefaultTableStoreWriter(spec, arena, true, CompressionFormat.None);
+            writer.setFileStoreHandler(fileStoreHandler);
+            for (int i = 0; i < rowOffsets.length; i++) {
+                rowOffsets[i] = writer.getBytesWritten();
+                writer.writeRow(rows.get(i));
+            }
+            writer.close();
+            writer.writeMetaInfoAfterWrite(formatSettings);
+        } catch (OutOfMemoryError oome) {
+            // direct memory limit (-XX:MaxDirectMemorySize) reached
+            throw new IOException("Unable to allocate off-heap memory: " + oome.getMessage(), oome);
+        }
+        final DefaultTableStoreReader reader;
+        try {
+            reader = new DefaultTableStoreReader(null, spec, formatSettings, Buffer.IVERSION, true);
+        } catch (InvalidSettingsException ise) {
+            throw new IOException("Unable to read back format settings: " + ise.getMessage(), ise);
+        }
+        reader.setBufferAndDataRepository(buffer, dataRepository);
+        return new OffHeapRowList(arena, rowOffsets, spec.getNumColumns(), new DataCellStreamReader(reader),
+            onEviction);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BlobSupportDataRow get(final int index) {
+        final BlockableDCObjectInputVersion2 in =
+            new BlockableDCObjectInputVersion2(new ArenaInputStream(m_rowOffsets[index]), m_cellReader);
+        try {
+            final RowKey key;
+            try {
+                key = in.readRowKey();
+            } finally {
+                in.endBlock();
+            }
+            final DataCell[] cells = new DataCell[m_colCount];
+            for (int i = 0; i < m_colCount; i++) {
+                try {
+                    cells[i] = m_cellReader.readDataCell(in);
+                } finally {
+                    in.endBlock();
+                }
+            }
+            byte eoRow = in.readControlByte();
+            if (eoRow != BYTE_ROW_SEPARATOR) {
+                throw new IOException("Expected end of row byte, got '" + eoRow + "', (byte " + (int)eoRow + ")");
+            }
+            return new BlobSupportDataRow(key, cells);
+        } catch (IOException ioe) {
+            throw new RuntimeException("Unable to read row " + index + " from off-heap memory: "
+                + ioe.getMessage(), ioe);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return m_rowOffsets.length;
+    }
+
+    /** @return the off-heap memory allocated by this list. */
+    long getSizeInBytes() {
+        long size = 0L;
+        for (ByteBuffer chunk : m_chunks) {
+            size += chunk.capacity();
+        }
+        return size;
+    }
+
+    long getCacheID() {
+        return m_cacheID;
+    }
+
+    void setCacheID(final long cacheID) {
+        m_cacheID = cacheID;
+    }
+
+    /** Called by the {@link OffHeapTableCache} when evicted. */
+    void onEvicted() {
+        m_onEviction.run();
+    }
+
+    /** Writes into a growing list of direct byte buffers. */
+    private static final class ArenaOutputStream extends OutputStream {
+
+        private final List<ByteBuffer> m_chunks = new ArrayList<>();
+
+        private ByteBuffer m_current;
+
+        private void ensureRemaining() {
+            if (m_current == null || !m_current.hasRemaining()) {
+                int size = m_current == null ? MIN_CHUNK_SIZE : Math.min(MAX_CHUNK_SIZE, 2 * m_current.capacity());
+                m_current = ByteBuffer.allocateDirect(size);
+                m_chunks.add(m_current);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void write(final int b) {
+            ensureRemaining();
+            m_current.put((byte)b);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            int pos = off;
+            final int end = off + len;
+            while (pos < end) {
+                ensureRemaining();
+                int count = Math.min(end - pos, m_current.remaining());
+                m_current.put(b, pos, count);
+                pos += count;
+            }
+        }
+    }
+
+    /** Reads the bytes from a given offset on. Each instance uses its own views of the chunks (thread-safe). */
+    private final class ArenaInputStream extends InputStream {
+
+        private int m_chunkIndex;
+
+        private ByteBuffer m_current;
+
+        ArenaInputStream(final long offset) {
+            int chunkIndex = Arrays.binarySearch(m_chunkOffsets, offset);
+            // offset is either a chunk start or within a chunk
+            m_chunkIndex = chunkIndex >= 0 ? chunkIndex : -chunkIndex - 2;
+            if (m_chunkIndex < m_chunks.length) {
+                m_current = m_chunks[m_chunkIndex].duplicate();
+                m_current.flip();
+                m_current.position((int)(offset - m_chunkOffsets[m_chunkIndex]));
+            }
+        }
+
+        private boolean ensureRemaining() {
+            while (m_current == null || !m_current.hasRemaining()) {
+                if (m_chunkIndex + 1 >= m_chunks.length) {
+                    return false;
+                }
+                m_current = m_chunks[++m_chunkIndex].duplicate();
+                m_current.flip();
+            }
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int read() {
+            return ensureRemaining() ? m_current.get() & 0xFF : -1;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!ensureRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, m_current.remaining());
+            m_current.get(b, off, count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Accounts for the off-heap memory used by {@link OffHeapRowList OffHeapRowLists}, i.e. the rows of small tables
+ * that are kept in memory but outside the java heap. The cache has a fixed byte budget
+ * ({@link KNIMEConstants#PROPERTY_TABLE_CACHE_OFF_HEAP_SIZE}) shared by all buffers; if a new list doesn't fit, the
+ * least recently used lists are evicted, which makes their buffers write the content to disc.
+ *
+ * <p>The cache only keeps weak references to the lists. The direct buffers of a list are only freed once the list got
+ * garbage collected, hence the memory of removed or evicted lists is still accounted for until then and returned to
+ * the budget lazily.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class OffHeapTableCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(OffHeapTableCache.class);
+
+    /** Default budget in MB, capped at a quarter of the heap as direct memory is by default limited by the heap. */
+    static final long DEF_BUDGET_MB = 1024;
+
+    private static final OffHeapTableCache INSTANCE = new OffHeapTableCache(readBudget());
+
+    private final long m_budget;
+
+    /** Entries in access order, the eldest entry is evicted first. */
+    private final LinkedHashMap<Long, CacheEntry> m_entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Entries removed or evicted whose lists are not yet garbage collected, i.e. whose memory is still in use. */
+    private final Map<Long, CacheEntry> m_releasedEntries = new HashMap<>();
+
+    private final ReferenceQueue<OffHeapRowList> m_collectedLists = new ReferenceQueue<>();
+
+    /** Memory of all entries, including the released ones. */
+    private long m_usedBytes;
+
+    /** Memory of the released entries. */
+    private long m_releasedBytes;
+
+    private long m_nextID;
+
+    /** @param budget the budget in bytes (0 to disable). */
+    OffHeapTableCache(final long budget) {
+        m_budget = budget;
+    }
+
+    /** @return the singleton instance */
+    static OffHeapTableCache getInstance() {
+        return INSTANCE;
+    }
+
+    private static long readBudget() {
+        long defBudget = Math.min(DEF_BUDGET_MB << 20, MemoryAlertSystem.getMaximumMemory() / 4);
+        String budgetString = System.getProperty(KNIMEConstants.PROPERTY_TABLE_CACHE_OFF_HEAP_SIZE);
+        if (budgetString == null) {
+            return defBudget;
+        }
+        try {
+            long budgetMB = Long.parseLong(budgetString.trim());
+            if (budgetMB < 0) {
+                throw new NumberFormatException("Negative value");
+            }
+            LOGGER.debug("Setting off-heap table cache size to " + budgetMB + "MB");
+            return budgetMB << 20;
+        } catch (NumberFormatException nfe) {
+            LOGGER.warn("Unable to parse property " + KNIMEConstants.PROPERTY_TABLE_CACHE_OFF_HEAP_SIZE + " (\""
+                + budgetString + "\"), using default (" + (defBudget >> 20) + "MB)", nfe);
+            return defBudget;
+        }
+    }
+
+    /** @return whether lists can be cached at all. */
+    boolean isEnabled() {
+        return m_budget > 0;
+    }
+
+    /** @return the budget in bytes. */
+    long getBudget() {
+        return m_budget;
+    }
+
+    /** @return the number of bytes currently accounted for, including lists that are not yet garbage collected. */
+    synchronized long getUsedBytes() {
+        expungeCollectedLists();
+        return m_usedBytes;
+    }
+
+    /**
+     * Adds a list to the cache, evicting the least recently used lists if needed. As the memory of evicted lists is
+     * only freed once they got garbage collected, the list may not fit even after eviction.
+     *
+     * @param list the list to add, its {@link OffHeapRowList#getSizeInBytes() size} must not change
+     * @return false if the list is larger than the whole budget or doesn't fit as the memory of removed or evicted
+     *         lists is not yet freed (the list is not added then)
+     */
+    boolean add(final OffHeapRowList list) {
+        final long size = list.getSizeInBytes();
+        final List<OffHeapRowList> evicted = new ArrayList<>();
+        final boolean added;
+        synchronized (this) {
+            if (size > m_budget) {
+                return false;
+            }
+            expungeCollectedLists();
+            // evict until the cached lists leave room for the new one (terminates as size <= budget)
+            for (Iterator<CacheEntry> it = m_entries.values().iterator();
+                    m_usedBytes - m_releasedBytes + size > m_budget;) {
+                CacheEntry eldest = it.next();
+                it.remove();
+                release(eldest);
+                OffHeapRowList eldestList = eldest.get();
+                if (eldestList != null) {
+                    evicted.add(eldestList);
+                }
+            }
+            added = m_usedBytes + size <= m_budget;
+            if (added) {
+                long id = m_nextID++;
+                list.setCacheID(id);
+                m_entries.put(id, new CacheEntry(list, id, size, m_collectedLists));
+                m_usedBytes += size;
+            }
+        }
+        if (!evicted.isEmpty()) {
+            LOGGER.debugWithFormat("Evicting %d table(s) from off-heap cache (%d/%d MB used)", evicted.size(),
+                getUsedBytes() >> 20, m_budget >> 20);
+        }
+        // outside the lock, eviction makes the buffers write their content to disc
+        evicted.forEach(OffHeapRowList::onEvicted);
+        return added;
+    }
+
+    /**
+     * Marks the list as most recently used.
+     *
+     * @param list the list being accessed
+     */
+    synchronized void touch(final OffHeapRowList list) {
+        m_entries.get(list.getCacheID());
+    }
+
+    /**
+     * Removes the list from the cache (no-op if not contained). Its memory is returned to the budget once the list got
+     * garbage collected.
+     *
+     * @param list the list to remove
+     */
+    synchronized void remove(final OffHeapRowList list) {
+        CacheEntry entry = m_entries.remove(list.getCacheID());
+        if (entry != null) {
+            release(entry);
+        }
+    }
+
+    /** Keeps accounting for the memory of an entry that is no longer cached until its list is collected. */
+    private void release(final CacheEntry entry) {
+        assert Thread.holdsLock(this);
+        m_releasedEntries.put(entry.m_id, entry);
+        m_releasedBytes += entry.m_size;
+    }
+
+    private void expungeCollectedLists() {
+        assert Thread.holdsLock(this);
+        CacheEntry entry;
+        while ((entry = (CacheEntry)m_collectedLists.poll()) != null) {
+            if (m_entries.remove(entry.m_id) != null) {
+                m_usedBytes -= entry.m_size;
+            } else if (m_releasedEntries.remove(entry.m_id) != null) {
+                m_usedBytes -= entry.m_size;
+                m_releasedBytes -= entry.m_size;
+            }
+        }
+    }
+
+    /** Weak reference to a list plus the accounted size. */
+    private static final class CacheEntry extends WeakReference<OffHeapRowList> {
+
+        private final long m_id;
+
+        private final long m_size;
+
+        CacheEntry(final OffHeapRowList list, final long id, final long size,
+            final ReferenceQueue<OffHeapRowList> queue) {
+            super(list, queue);
+            m_id = id;
+            m_size = size;
+        }
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Output stream that splits its data into blocks of fixed size and compresses these blocks on a shared, bounded pool
+ * of threads while the writing thread continues to serialize data. The compressed blocks are written to the
+ * underlying stream in the order in which they were produced. The number of blocks in flight is limited per stream
+ * so that a fast producer can't exhaust the heap.
+ *
+ * <p>
+ * If parallel compression is disabled (see {@link KNIMEConstants#PROPERTY_TABLE_COMPRESSION_THREADS}) the blocks
+ * are compressed on the writing thread.
+ *
+ * <p>
+ * Data is only guaranteed to be written after {@link #close()}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+abstract class ParallelBlockOutputStream extends OutputStream {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ParallelBlockOutputStream.class);
+
+    /** Number of threads used for compression, 1 if blocks are compressed on the writing thread. */
+    static final int COMPRESSION_THREADS;
+
+    static {
+        int threads = Math.min(4, Runtime.getRuntime().availableProcessors());
+        String threadsString = System.getProperty(KNIMEConstants.PROPERTY_TABLE_COMPRESSION_THREADS);
+        if (threadsString != null) {
+            try {
+                threads = Integer.parseInt(threadsString.trim());
+                LOGGER.debug("Setting number of table compression threads to " + threads);
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Unable to parse property " + KNIMEConstants.PROPERTY_TABLE_COMPRESSION_THREADS + " (\""
+                    + threadsString + "\"); using default (" + threads + ")", e);
+            }
+        }
+        COMPRESSION_THREADS = Math.max(1, threads);
+    }
+
+    /** Pool running the compression of blocks, null if compression is done on the writing thread. */
+    private static final ExecutorService COMPRESSION_EXECUTOR = COMPRESSION_THREADS <= 1 ? null
+        : new ThreadPoolExecutor(COMPRESSION_THREADS, COMPRESSION_THREADS, 60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                private final AtomicInteger m_threadCount = new AtomicInteger();
+
+                /** {@inheritDoc} */
+                @Override
+                public Thread newThread(final Runnable r) {
+                    Thread t = new Thread(r, "KNIME-Table-Compressor-" + m_threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+
+    static {
+        if (COMPRESSION_EXECUTOR != null) {
+            ((ThreadPoolExecutor)COMPRESSION_EXECUTOR).allowCoreThreadTimeOut(true);
+        }
+    }
+
+    private final OutputStream m_out;
+
+    private final int m_blockSize;
+
+    /** Compressed blocks in the order they need to be written. */
+    private final ArrayDeque<Future<byte[]>> m_pending = new ArrayDeque<>();
+
+    private final int m_maxPending = 2 * COMPRESSION_THREADS;
+
+    private byte[] m_buffer;
+
+    private int m_count;
+
+    /** The most recently submitted block (some formats use it as dictionary for the next block). */
+    private byte[] m_previousBlock;
+
+    private int m_previousLength;
+
+    private boolean m_isClosed;
+
+    /**
+     * @param out the stream to write the compressed blocks to
+     * @param blockSize the uncompressed size of a block
+     */
+    ParallelBlockOutputStream(final OutputStream out, final int blockSize) {
+        m_out = out;
+        m_blockSize = blockSize;
+        m_buffer = new byte[blockSize];
+    }
+
+    /** @return Whether blocks are compressed on a separate pool of threads. */
+    static boolean isParallel() {
+        return COMPRESSION_EXECUTOR != null;
+    }
+
+    /**
+     * Compresses a block. This method is called concurrently for different blocks of the same stream, it must not
+     * modify the argument arrays or any state of the stream.
+     *
+     * @param block the data of the block
+     * @param length the number of valid bytes in <code>block</code>, possibly 0 for the last block
+     * @param previous the data of the previous block or null if this is the first block
+     * @param previousLength the number of valid bytes in <code>previous</code>
+     * @param isLast whether this is the last block of the stream
+     * @return the bytes to write to the underlying stream for this block
+     * @throws IOException if compression fails
+     */
+    abstract byte[] compressBlock(byte[] block, int length, byte[] previous, int previousLength, boolean isLast)
+        throws IOException;
+
+    /**
+     * Called on the writing thread for each block in stream order before it's compressed. This implementation does
+     * nothing.
+     *
+     * @param block the data of the block
+     * @param length the number of valid bytes in <code>block</code>
+     */
+    void onBlockSubmitted(final byte[] block, final int length) {
+    }
+
+    /**
+     * Called on close after the last block has been written. This implementation does nothing.
+     *
+     * @param out the underlying stream
+     * @throws IOException if writing fails
+     */
+    void writeTrailer(final OutputStream out) throws IOException {
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(final int b) throws IOException {
+        if (m_count == m_blockSize) {
+            submitBlock(false);
+        }
+        m_buffer[m_count++] = (byte)b;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        int offset = off;
+        int remaining = len;
+        while (remaining > 0) {
+            if (m_count == m_blockSize) {
+                submitBlock(false);
+            }
+            final int n = Math.min(remaining, m_blockSize - m_count);
+            System.arraycopy(b, offset, m_buffer, m_count, n);
+            m_count += n;
+            offset += n;
+            remaining -= n;
+        }
+    }
+
+    private void submitBlock(final boolean isLast) throws IOException {
+        final byte[] block = m_buffer;
+        final int length = m_count;
+        final byte[] previous = m_previousBlock;
+        final int previousLength = m_previousLength;
+        onBlockSubmitted(block, length);
+        if (COMPRESSION_EXECUTOR == null) {
+            m_out.write(compressBlock(block, length, previous, previousLength, isLast));
+            // the previous block is no longer referenced, reuse it
+            m_buffer = previous != null ? previous : new byte[m_blockSize];
+        } else {
+            while (m_pending.size() >= m_maxPending) {
+                writeCompressed(m_pending.poll());
+            }
+            m_pending.add(
+                COMPRESSION_EXECUTOR.submit(() -> compressBlock(block, length, previous, previousLength, isLast)));
+            // the block is owned by the compression task (and the next one), can't be reused
+            m_buffer = isLast ? null : new byte[m_blockSize];
+        }
+        m_previousBlock = block;
+        m_previousLength = length;
+        m_count = 0;
+    }
+
+    private void writeCompressed(final Future<byte[]> future) throws IOException {
+        try {
+            m_out.write(future.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for block compression");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            throw new IOException("Compressing block failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    /** Flushes the underlying stream, pending data is only written once a block is full or on close. */
+    @Override
+    public void flush() throws IOException {
+        m_out.flush();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        if (m_isClosed) {
+            return;
+        }
+        m_isClosed = true;
+        try {
+            submitBlock(true);
+            while (!m_pending.isEmpty()) {
+                writeCompressed(m_pending.poll());
+            }
+            writeTrailer(m_out);
+        } finally {
+            for (Future<byte[]> f : m_pending) {
+                f.cancel(false);
+            }
+            m_pending.clear();
+            m_previousBlock = null;
+            m_out.close();
+        }
+    }
+}
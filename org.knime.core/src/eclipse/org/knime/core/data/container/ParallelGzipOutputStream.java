@@ -0,0 +1,177 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Writes a gzip stream whose blocks are compressed in parallel (if enabled, see {@link ParallelBlockOutputStream}).
+ * Each block of {@link #BLOCK_SIZE} bytes is written as an independent gzip member; members concatenate to a valid
+ * gzip stream that is readable by any gzip decoder, including {@link GZIPInputStream}. The header of each member
+ * carries its compressed size in an extra field (as done by the <i>BGZF</i> format), so that readers can find the
+ * member containing a given uncompressed offset without decompressing the preceding data, see
+ * {@link #readMemberOffsets(File)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ParallelGzipOutputStream extends ParallelBlockOutputStream {
+
+    /** Uncompressed size of a block, i.e. of a gzip member. */
+    static final int BLOCK_SIZE = 1 << 18;
+
+    /** Flag in the gzip header indicating an extra field. */
+    private static final int FLAG_EXTRA = 4;
+
+    /** Length of the member header: fixed header, extra field length and the size subfield. */
+    private static final int HEADER_LENGTH = 10 + 2 + 8;
+
+    /** Length of the member trailer (CRC and uncompressed size). */
+    private static final int TRAILER_LENGTH = 8;
+
+    /** Identifier of the extra subfield holding the compressed member size. */
+    private static final byte SUBFIELD_ID1 = 'K';
+
+    private static final byte SUBFIELD_ID2 = 'N';
+
+    /**
+     * @param out to write the gzip stream to
+     */
+    ParallelGzipOutputStream(final OutputStream out) {
+        super(out, BLOCK_SIZE);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    byte[] compressBlock(final byte[] block, final int length, final byte[] previous, final int previousLength,
+        final boolean isLast) {
+        if (length == 0 && previous != null) {
+            // the stream ended at a block boundary, an empty stream still gets an (empty) member
+            return new byte[0];
+        }
+        final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(block, 0, length);
+            deflater.finish();
+            final ByteArrayOutputStream result = new ByteArrayOutputStream(length / 2 + 64);
+            final byte[] buffer = new byte[8192];
+            result.write(buffer, 0, HEADER_LENGTH); // placeholder, the size is known after compression
+            while (!deflater.finished()) {
+                result.write(buffer, 0, deflater.deflate(buffer));
+            }
+            final CRC32 crc = new CRC32();
+            crc.update(block, 0, length);
+            final ByteBuffer trailer = ByteBuffer.allocate(TRAILER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+            trailer.putInt((int)crc.getValue()).putInt(length);
+            result.write(trailer.array(), 0, TRAILER_LENGTH);
+            final byte[] member = result.toByteArray();
+            ByteBuffer header = ByteBuffer.wrap(member, 0, HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+            header.put((byte)0x1f).put((byte)0x8b).put((byte)Deflater.DEFLATED).put((byte)FLAG_EXTRA);
+            header.putInt(0).put((byte)0).put((byte)0xff); // no modification time, no extra flags, unknown OS
+            header.putShort((short)8).put(SUBFIELD_ID1).put(SUBFIELD_ID2).putShort((short)4).putInt(member.length);
+            return member;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Reads the member headers of a file written by this class (without decompressing any data). As all members but
+     * the last one hold {@link #BLOCK_SIZE} uncompressed bytes, member <i>i</i> starts at the uncompressed offset
+     * <code>i * BLOCK_SIZE</code>.
+     *
+     * @param file the file to scan
+     * @return the file offsets of all members or <code>null</code> if the file is a gzip stream written otherwise
+     *         (e.g. by {@link java.util.zip.GZIPOutputStream} in previous versions)
+     * @throws IOException if reading fails or the file is corrupt
+     */
+    static long[] readMemberOffsets(final File file) throws IOException {
+        long[] offsets = new long[16];
+        int count = 0;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final long length = channel.size();
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+            long position = 0L;
+            while (position < length) {
+                header.clear();
+                int read;
+                do {
+                    read = channel.read(header, position + header.position());
+                } while (read > 0 && header.hasRemaining());
+                if (header.hasRemaining() || header.get(0) != 0x1f || header.get(1) != (byte)0x8b
+                    || header.get(3) != FLAG_EXTRA || header.getShort(10) != 8
+                    || header.get(12) != SUBFIELD_ID1 || header.get(13) != SUBFIELD_ID2) {
+                    if (count == 0) {
+                        return null;
+                    }
+                    throw new IOException("Corrupt gzip stream, invalid member header at offset " + position);
+                }
+                final int memberLength = header.getInt(16);
+                if (memberLength < HEADER_LENGTH + TRAILER_LENGTH) {
+                    throw new IOException("Corrupt gzip stream, invalid member length at offset " + position);
+                }
+                if (count == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, 2 * count);
+                }
+                offsets[count++] = position;
+                position += memberLength;
+            }
+        }
+        return Arrays.copyOf(offsets, count);
+    }
+}
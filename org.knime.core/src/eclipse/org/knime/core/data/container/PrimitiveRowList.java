@@ -0,0 +1,353 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultCellIterator;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+
+/**
+ * Row list used by {@link Buffer} to keep tables in memory whose columns are all of type double, int, long or
+ * boolean. The values are stored column-wise in primitive arrays (plus a bit set for missing values) instead of one
+ * {@link DataCell} object per value, the cells are only materialized when accessed via {@link DataRow#getCell(int)}
+ * of the rows returned by {@link #get(int)}.
+ *
+ * <p>Only the exact cell implementations ({@link DoubleCell}, {@link IntCell}, {@link LongCell}, {@link BooleanCell})
+ * and the default missing cell are supported; {@link #tryAdd(DataRow)} rejects rows containing other cells (e.g.
+ * missing cells with an error message) so that the buffer can fall back to a list of ordinary rows.
+ *
+ * <p>Not thread-safe, the buffer synchronizes writes; rows must only be read once they have been added.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PrimitiveRowList extends AbstractList<DataRow> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final byte KIND_DOUBLE = 0;
+
+    private static final byte KIND_INT = 1;
+
+    private static final byte KIND_LONG = 2;
+
+    private static final byte KIND_BOOLEAN = 3;
+
+    /** The kind of each column (one of the KIND_xyz constants). */
+    private final byte[] m_kinds;
+
+    /** The values per column, a double[], int[], long[] or boolean[] depending on the kind. */
+    private final Object[] m_columns;
+
+    /** Missing value bit sets per column, null for columns without missing values. */
+    private final long[][] m_missing;
+
+    private RowKey[] m_keys;
+
+    private int m_size;
+
+    /**
+     * @param spec a spec for which {@link #isApplicable(DataTableSpec)} returns true
+     */
+    PrimitiveRowList(final DataTableSpec spec) {
+        final int colCount = spec.getNumColumns();
+        m_kinds = new byte[colCount];
+        m_columns = new Object[colCount];
+        m_missing = new long[colCount][];
+        m_keys = new RowKey[INITIAL_CAPACITY];
+        for (int i = 0; i < colCount; i++) {
+            m_kinds[i] = getKind(spec.getColumnSpec(i).getType());
+            m_columns[i] = allocate(m_kinds[i], INITIAL_CAPACITY);
+        }
+    }
+
+    /**
+     * @param spec the spec of a table
+     * @return whether the table has at least one column and only columns of type double, int, long or boolean
+     */
+    static boolean isApplicable(final DataTableSpec spec) {
+        if (spec.getNumColumns() == 0) {
+            return false;
+        }
+        for (int i = 0; i < spec.getNumColumns(); i++) {
+            if (getKind(spec.getColumnSpec(i).getType()) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte getKind(final DataType type) {
+        if (type.equals(DoubleCell.TYPE)) {
+            return KIND_DOUBLE;
+        } else if (type.equals(IntCell.TYPE)) {
+            return KIND_INT;
+        } else if (type.equals(LongCell.TYPE)) {
+            return KIND_LONG;
+        } else if (type.equals(BooleanCell.TYPE)) {
+            return KIND_BOOLEAN;
+        }
+        return -1;
+    }
+
+    private static Class<? extends DataCell> getCellClass(final byte kind) {
+        switch (kind) {
+            case KIND_DOUBLE:
+                return DoubleCell.class;
+            case KIND_INT:
+                return IntCell.class;
+            case KIND_LONG:
+                return LongCell.class;
+            default:
+                return BooleanCell.class;
+        }
+    }
+
+    private static Object allocate(final byte kind, final int capacity) {
+        switch (kind) {
+            case KIND_DOUBLE:
+                return new double[capacity];
+            case KIND_INT:
+                return new int[capacity];
+            case KIND_LONG:
+                return new long[capacity];
+            default:
+                return new boolean[capacity];
+        }
+    }
+
+    private static Object grow(final byte kind, final Object values, final int capacity) {
+        switch (kind) {
+            case KIND_DOUBLE:
+                return Arrays.copyOf((double[])values, capacity);
+            case KIND_INT:
+                return Arrays.copyOf((int[])values, capacity);
+            case KIND_LONG:
+                return Arrays.copyOf((long[])values, capacity);
+            default:
+                return Arrays.copyOf((boolean[])values, capacity);
+        }
+    }
+
+    /**
+     * Adds a row if all its cells can be represented in primitive form.
+     *
+     * @param row the row to add
+     * @return false if the row contains cells of other implementations (the list is not modified then)
+     */
+    boolean tryAdd(final DataRow row) {
+        final int colCount = m_kinds.length;
+        if (row.getNumCells() != colCount) {
+            return false;
+        }
+        for (int i = 0; i < colCount; i++) {
+            DataCell cell = row.getCell(i);
+            if (cell != DataType.getMissingCell() && cell.getClass() != getCellClass(m_kinds[i])) {
+                return false;
+            }
+        }
+        if (m_size == m_keys.length) {
+            final int capacity = m_keys.length + (m_keys.length >> 1);
+            m_keys = Arrays.copyOf(m_keys, capacity);
+            for (int i = 0; i < colCount; i++) {
+                m_columns[i] = grow(m_kinds[i], m_columns[i], capacity);
+                if (m_missing[i] != null) {
+                    m_missing[i] = Arrays.copyOf(m_missing[i], (capacity + 63) >> 6);
+                }
+            }
+        }
+        final int index = m_size;
+        m_keys[index] = row.getKey();
+        for (int i = 0; i < colCount; i++) {
+            DataCell cell = row.getCell(i);
+            if (cell.isMissing()) {
+                if (m_missing[i] == null) {
+                    m_missing[i] = new long[(m_keys.length + 63) >> 6];
+                }
+                m_missing[i][index >> 6] |= 1L << index;
+                continue;
+            }
+            switch (m_kinds[i]) {
+                case KIND_DOUBLE:
+                    ((double[])m_columns[i])[index] = ((DoubleCell)cell).getDoubleValue();
+                    break;
+                case KIND_INT:
+                    ((int[])m_columns[i])[index] = ((IntCell)cell).getIntValue();
+                    break;
+                case KIND_LONG:
+                    ((long[])m_columns[i])[index] = ((LongCell)cell).getLongValue();
+                    break;
+                default:
+                    ((boolean[])m_columns[i])[index] = ((BooleanCell)cell).getBooleanValue();
+            }
+        }
+        m_size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the row can't be represented, see {@link #tryAdd(DataRow)}
+     */
+    @Override
+    public boolean add(final DataRow row) {
+        if (!tryAdd(row)) {
+            throw new IllegalArgumentException("Row \"" + row.getKey() + "\" contains non-primitive cells");
+        }
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataRow get(final int index) {
+        if (index < 0 || index >= m_size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + m_size);
+        }
+        return new PrimitiveDataRow(index);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return m_size;
+    }
+
+    /**
+     * Materializes all rows, used when a row is added that can't be represented in primitive form.
+     *
+     * @return a new modifiable list containing all rows of this list
+     */
+    List<DataRow> toRowList() {
+        final List<DataRow> result = new ArrayList<>(Math.max(INITIAL_CAPACITY, 2 * m_size));
+        for (int r = 0; r < m_size; r++) {
+            DataCell[] cells = new DataCell[m_kinds.length];
+            for (int c = 0; c < cells.length; c++) {
+                cells[c] = getCell(r, c);
+            }
+            result.add(new BlobSupportDataRow(m_keys[r], cells));
+        }
+        return result;
+    }
+
+    private DataCell getCell(final int row, final int col) {
+        final long[] missing = m_missing[col];
+        if (missing != null && (missing[row >> 6] & (1L << row)) != 0L) {
+            return DataType.getMissingCell();
+        }
+        switch (m_kinds[col]) {
+            case KIND_DOUBLE:
+                return new DoubleCell(((double[])m_columns[col])[row]);
+            case KIND_INT:
+                return new IntCell(((int[])m_columns[col])[row]);
+            case KIND_LONG:
+                return new LongCell(((long[])m_columns[col])[row]);
+            default:
+                return BooleanCell.get(((boolean[])m_columns[col])[row]);
+        }
+    }
+
+    /** Row view on the list, cells are created on access. */
+    private final class PrimitiveDataRow implements DataRow {
+
+        private final int m_index;
+
+        PrimitiveDataRow(final int index) {
+            m_index = index;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getNumCells() {
+            return m_kinds.length;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RowKey getKey() {
+            return m_keys[m_index];
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public DataCell getCell(final int index) {
+            return PrimitiveRowList.this.getCell(m_index, index);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Iterator<DataCell> iterator() {
+            return new DefaultCellIterator(this);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            StringBuilder b = new StringBuilder(getKey().toString());
+            b.append(": (");
+            for (int i = 0; i < getNumCells(); i++) {
+                b.append(i > 0 ? ", " : "").append(getCell(i));
+            }
+            return b.append(")").toString();
+        }
+    }
+}
@@ -51,6 +51,7 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
@@ -70,6 +71,8 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.IDataRepository;
 import org.knime.core.data.RowIterator;
+import org.knime.core.data.RowIteratorBuilder;
+import org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder;
 import org.knime.core.data.RowKey;
 import org.knime.core.data.container.ColumnRearranger.SpecAndFactoryObject;
 import org.knime.core.data.def.DefaultRow;
@@ -271,17 +274,46 @@ public DataTableSpec getDataTableSpec() {
      */
     @Override
     public CloseableRowIterator iterator() {
+        return createIterator(null, 0L, Long.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc} Column and row filters are passed on to the underlying tables, i.e. only the cells of selected
+     * columns are read from the reference and the appended table.
+     */
+    @Override
+    public RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder() {
+        return new DefaultRowIteratorBuilder<CloseableRowIterator>(() -> iterator(), m_spec) {
+            @Override
+            public CloseableRowIterator build() {
+                return createIterator(getMaterializeColumnIndices(), getFromRowIndex(), getToRowIndex());
+            }
+        };
+    }
+
+    /**
+     * @param materializeColumnIndices indices of the columns of this table to materialize or null for all columns
+     * @param fromRowIndex index of the first row to return
+     * @param toRowIndex index of the row after the last row to return
+     * @return a new iterator joining the reference and the appended table
+     */
+    private CloseableRowIterator createIterator(final int[] materializeColumnIndices, final long fromRowIndex,
+        final long toRowIndex) {
+        final int[] columns =
+            materializeColumnIndices != null ? materializeColumnIndices : IntStream.range(0, m_map.length).toArray();
         CloseableRowIterator appendIt;
         if (m_appendTable != null) {
             int[] appendIndices =
-                IntStream.range(0, m_map.length).filter(i -> !m_isFromRefTable[i]).map(i -> m_map[i]).toArray();
-            appendIt = m_appendTable.iteratorBuilder().filterColumns(appendIndices).build();
+                Arrays.stream(columns).filter(i -> !m_isFromRefTable[i]).map(i -> m_map[i]).distinct().toArray();
+            appendIt = m_appendTable.iteratorBuilder().filterColumns(appendIndices)
+                .filterRowRange(fromRowIndex, toRowIndex).build();
         } else {
             appendIt = EMPTY_ITERATOR;
         }
         int[] refIndices =
-            IntStream.range(0, m_map.length).filter(i -> m_isFromRefTable[i]).map(i -> m_map[i]).toArray();
-        CloseableRowIterator refIt = m_reference.iteratorBuilder().filterColumns(refIndices).build();
+            Arrays.stream(columns).filter(i -> m_isFromRefTable[i]).map(i -> m_map[i]).distinct().toArray();
+        CloseableRowIterator refIt = m_reference.iteratorBuilder().filterColumns(refIndices)
+            .filterRowRange(fromRowIndex, toRowIndex).build();
         return new JoinTableIterator(refIt, appendIt, m_map, m_isFromRefTable);
     }
 
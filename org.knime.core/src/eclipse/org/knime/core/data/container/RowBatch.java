@@ -0,0 +1,231 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.util.Arrays;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+
+/**
+ * A batch of rows that is added to a {@link DataContainer} as a single unit, see
+ * {@link DataContainer#addRowsToTable(RowBatch)}. The cells are stored column-wise so that the container can run
+ * its sanity checks and domain updates column by column rather than row by row.
+ *
+ * <p>
+ * A batch is filled via {@link #addRow(DataRow)} or {@link #addRow(RowKey, DataCell...)}. Once it has been handed
+ * to a container it is sealed and must not be modified any more; a new batch needs to be created for the next rows.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class RowBatch {
+
+    private final int m_numColumns;
+
+    private RowKey[] m_keys;
+
+    private final DataCell[][] m_columns;
+
+    private int m_size;
+
+    private boolean m_isSealed;
+
+    /**
+     * Creates a new empty batch for rows of the given spec.
+     *
+     * @param spec The spec of the table the rows are added to, not null.
+     * @param capacity The expected number of rows in the batch, the batch grows if more rows are added.
+     * @throws IllegalArgumentException If the capacity is negative.
+     */
+    public RowBatch(final DataTableSpec spec, final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        m_numColumns = spec.getNumColumns();
+        m_keys = new RowKey[capacity];
+        m_columns = new DataCell[m_numColumns][capacity];
+    }
+
+    /**
+     * Appends a row to this batch.
+     *
+     * @param row The row to add, not null.
+     * @throws IllegalArgumentException If the number of cells does not match the spec.
+     * @throws IllegalStateException If the batch has already been added to a container.
+     */
+    public void addRow(final DataRow row) {
+        checkNumCells(row.getKey(), row.getNumCells());
+        ensureCapacity();
+        final int index = m_size;
+        m_keys[index] = row.getKey();
+        if (row instanceof BlobSupportDataRow) {
+            final BlobSupportDataRow blobRow = (BlobSupportDataRow)row;
+            for (int c = 0; c < m_numColumns; c++) {
+                m_columns[c][index] = blobRow.getRawCell(c);
+            }
+        } else {
+            for (int c = 0; c < m_numColumns; c++) {
+                m_columns[c][index] = row.getCell(c);
+            }
+        }
+        m_size++;
+    }
+
+    /**
+     * Appends a row to this batch.
+     *
+     * @param key The key of the row, not null.
+     * @param cells The cells of the row, not null.
+     * @throws IllegalArgumentException If the number of cells does not match the spec.
+     * @throws IllegalStateException If the batch has already been added to a container.
+     */
+    public void addRow(final RowKey key, final DataCell... cells) {
+        if (key == null || cells == null) {
+            throw new NullPointerException("Row key and cells must not be null");
+        }
+        checkNumCells(key, cells.length);
+        ensureCapacity();
+        final int index = m_size;
+        m_keys[index] = key;
+        for (int c = 0; c < m_numColumns; c++) {
+            if (cells[c] == null) {
+                throw new NullPointerException("Cell at index " + c + " in row \"" + key + "\" is null");
+            }
+            m_columns[c][index] = cells[c];
+        }
+        m_size++;
+    }
+
+    private void checkNumCells(final RowKey key, final int numCells) {
+        if (m_isSealed) {
+            throw new IllegalStateException("Batch has already been added to a container and can't be modified");
+        }
+        if (numCells != m_numColumns) {
+            throw new IllegalArgumentException("Cell count in row \"" + key + "\" is not equal to length of column "
+                + "names array: " + numCells + " vs. " + m_numColumns);
+        }
+    }
+
+    private void ensureCapacity() {
+        if (m_size < m_keys.length) {
+            return;
+        }
+        final int newCapacity = Math.max(16, m_keys.length + (m_keys.length >> 1));
+        m_keys = Arrays.copyOf(m_keys, newCapacity);
+        for (int c = 0; c < m_numColumns; c++) {
+            m_columns[c] = Arrays.copyOf(m_columns[c], newCapacity);
+        }
+    }
+
+    /** @return The number of rows in this batch. */
+    public int size() {
+        return m_size;
+    }
+
+    /** @return The number of columns of the rows in this batch. */
+    public int getNumColumns() {
+        return m_numColumns;
+    }
+
+    /**
+     * @param row The index of the row, 0 &lt;= row &lt; {@link #size()}.
+     * @return The key of that row.
+     */
+    public RowKey getKey(final int row) {
+        checkRowIndex(row);
+        return m_keys[row];
+    }
+
+    /**
+     * @param row The index of the row, 0 &lt;= row &lt; {@link #size()}.
+     * @param column The index of the column.
+     * @return The cell at the given position (possibly a {@link BlobWrapperDataCell}).
+     */
+    public DataCell getCell(final int row, final int column) {
+        checkRowIndex(row);
+        return m_columns[column][row];
+    }
+
+    /**
+     * Returns the cells of the given column. The returned array is the internal storage of this batch; only the first
+     * {@link #size()} elements are valid and the array must not be modified.
+     *
+     * @param column The index of the column.
+     * @return The (internal) array containing the cells of the column.
+     */
+    public DataCell[] getColumn(final int column) {
+        return m_columns[column];
+    }
+
+    /**
+     * @param row The index of the row, 0 &lt;= row &lt; {@link #size()}.
+     * @return A new row containing the key and cells of the row at the given index.
+     */
+    public DataRow getRow(final int row) {
+        checkRowIndex(row);
+        final DataCell[] cells = new DataCell[m_numColumns];
+        for (int c = 0; c < m_numColumns; c++) {
+            cells[c] = m_columns[c][row];
+        }
+        return new BlobSupportDataRow(m_keys[row], cells);
+    }
+
+    private void checkRowIndex(final int row) {
+        if (row < 0 || row >= m_size) {
+            throw new IndexOutOfBoundsException("Row index " + row + " out of range [0, " + m_size + ")");
+        }
+    }
+
+    /** Called by the container when the batch is queued, prevents further modifications. */
+    void seal() {
+        m_isSealed = true;
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Base64;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+
+/**
+ * Sparse index of the byte offsets at which rows start in a table stream (offsets in the decompressed data if the
+ * stream is compressed). The offset of every <i>step</i>-th row is recorded, whereby the step is doubled whenever
+ * the index grows beyond {@link #MAX_ENTRIES} entries. The index is stored in the table's meta information as
+ * base64 encoded, variable length differences between consecutive offsets (typically 2-3 bytes per entry). Readers
+ * use it to start reading close to a given row instead of scanning the stream from the beginning; for a table of
+ * 50 million rows at most 1023 rows are skipped after seeking.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RowOffsetIndex {
+
+    /** Config key for the encoded offsets. */
+    static final String CFG_ROW_OFFSETS = "container.rowOffsetDeltas";
+
+    /** Config key for the number of rows between two entries. */
+    static final String CFG_ROW_OFFSET_STEP = "container.rowOffsetStep";
+
+    /** Maximum number of entries, the step is doubled when exceeded. */
+    static final int MAX_ENTRIES = 1 << 16;
+
+    private static final int INITIAL_STEP = 64;
+
+    /** Number of rows between two entries, a power of 2. */
+    private int m_step;
+
+    private long[] m_offsets;
+
+    private int m_size;
+
+    /** Number of rows announced via {@link #onRowStart(long)}. */
+    private long m_rowCount;
+
+    /** Creates an empty index to be filled via {@link #onRowStart(long)}. */
+    RowOffsetIndex() {
+        m_step = INITIAL_STEP;
+        m_offsets = new long[64];
+    }
+
+    private RowOffsetIndex(final int step, final long[] offsets) {
+        m_step = step;
+        m_offsets = offsets;
+        m_size = offsets.length;
+    }
+
+    /**
+     * Called by the writer before a row is written.
+     *
+     * @param offset the offset in the stream at which the row starts
+     */
+    void onRowStart(final long offset) {
+        if ((m_rowCount & (m_step - 1)) == 0) {
+            if (m_size == MAX_ENTRIES) {
+                // keep every other entry
+                for (int i = 0; i < m_size / 2; i++) {
+                    m_offsets[i] = m_offsets[2 * i];
+                }
+                m_size /= 2;
+                m_step *= 2;
+            }
+            if ((m_rowCount & (m_step - 1)) == 0) {
+                if (m_size == m_offsets.length) {
+                    m_offsets = Arrays.copyOf(m_offsets, Math.min(MAX_ENTRIES, 2 * m_size));
+                }
+                m_offsets[m_size++] = offset;
+            }
+        }
+        m_rowCount++;
+    }
+
+    /**
+     * Returns the position of the last entry at or before the argument row.
+     *
+     * @param rowIndex the row to seek to
+     * @return index of the entry, -1 if the index is empty
+     */
+    int findEntry(final long rowIndex) {
+        return (int)Math.min(rowIndex / m_step, m_size - 1);
+    }
+
+    /**
+     * @param entry the entry as per {@link #findEntry(long)}
+     * @return the index of the row the entry points to
+     */
+    long getRowIndex(final int entry) {
+        return (long)entry * m_step;
+    }
+
+    /**
+     * @param entry the entry as per {@link #findEntry(long)}
+     * @return the offset in the stream at which the row starts
+     */
+    long getOffset(final int entry) {
+        return m_offsets[entry];
+    }
+
+    /**
+     * Saves the index.
+     *
+     * @param settings to save to
+     */
+    void save(final NodeSettingsWO settings) {
+        settings.addInt(CFG_ROW_OFFSET_STEP, m_step);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(3 * m_size);
+        long previous = 0L;
+        for (int i = 0; i < m_size; i++) {
+            long delta = m_offsets[i] - previous;
+            previous = m_offsets[i];
+            while ((delta & ~0x7FL) != 0) {
+                bytes.write((int)(delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            bytes.write((int)delta);
+        }
+        settings.addString(CFG_ROW_OFFSETS, Base64.getEncoder().encodeToString(bytes.toByteArray()));
+    }
+
+    /**
+     * Loads an index saved via {@link #save(NodeSettingsWO)}.
+     *
+     * @param settings to load from
+     * @return the index or <code>null</code> if the table has been written without index
+     * @throws InvalidSettingsException if the settings are inconsistent
+     */
+    static RowOffsetIndex load(final NodeSettingsRO settings) throws InvalidSettingsException {
+        if (!settings.containsKey(CFG_ROW_OFFSETS)) {
+            return null;
+        }
+        int step = settings.getInt(CFG_ROW_OFFSET_STEP);
+        if (step <= 0 || Integer.bitCount(step) != 1) {
+            throw new InvalidSettingsException("Invalid row offset step: " + step);
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getDecoder().decode(settings.getString(CFG_ROW_OFFSETS));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSettingsException("Invalid row offsets: " + e.getMessage(), e);
+        }
+        long[] offsets = new long[64];
+        int size = 0;
+        long previous = 0L;
+        for (int i = 0; i < bytes.length;) {
+            long delta = 0L;
+            int shift = 0;
+            int b;
+            do {
+                if (i == bytes.length || shift > 56) {
+                    throw new InvalidSettingsException("Invalid row offsets, truncated entry " + size);
+                }
+                b = bytes[i++];
+                delta |= (long)(b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, 2 * size);
+            }
+            previous += delta;
+            offsets[size++] = previous;
+        }
+        return size == 0 ? null : new RowOffsetIndex(step, Arrays.copyOf(offsets, size));
+    }
+}
@@ -55,6 +55,7 @@
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
 import java.util.WeakHashMap;
@@ -63,6 +64,7 @@
 import org.apache.commons.io.IOUtils;
 import org.eclipse.core.runtime.Platform;
 import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.DataTypeRegistry;
@@ -124,7 +126,8 @@ public abstract class AbstractTableStoreReader implements KNIMEStreamConstants {
     /**
      * Constructs an abstract table store reader.
      *
-     * @param binFile the local file from which to read
+     * @param binFile the local file from which to read, may be null for tables that are not backed by a file (only
+     *            for readers internal to the framework, since 3.8)
      * @param spec Non-null spec of the table being read.
      * @param settings The settings (written by
      *            {@link AbstractTableStoreWriter#writeMetaInfoAfterWrite(org.knime.core.node.NodeSettingsWO)})
@@ -135,7 +138,7 @@ public abstract class AbstractTableStoreReader implements KNIMEStreamConstants {
      */
     protected AbstractTableStoreReader(final File binFile, final DataTableSpec spec, final NodeSettingsRO settings,
         final int version) throws IOException, InvalidSettingsException {
-        m_file = CheckUtils.checkArgumentNotNull(binFile);
+        m_file = binFile;
         m_spec = CheckUtils.checkArgumentNotNull(spec);
         m_openIteratorSet = new WeakHashMap<>();
         m_version = version;
@@ -190,6 +193,27 @@ public final BlobWrapperDataCell createBlobWrapperCell(final BlobAddress address
      */
     public abstract TableStoreCloseableRowIterator iterator();
 
+    /**
+     * Returns a row iterator over a part of the table, used by the {@link #iteratorBuilder()}. The default
+     * implementation returns all columns of each row and skips the leading rows by iterating over them. Subclasses
+     * that are able to skip cells and rows without decoding them should override this method.
+     *
+     * @param materializeColumnIndices the sorted indices of the columns to decode or <code>null</code> for all columns;
+     *            cells of other columns may be returned as {@link org.knime.core.data.UnmaterializedCell}
+     * @param fromRowIndex index of the first row to return, inclusive
+     * @param toRowIndex index of the last row to return, exclusive
+     * @return row iterator, not registered yet
+     * @since 3.8
+     */
+    protected TableStoreCloseableRowIterator iterator(final int[] materializeColumnIndices, final long fromRowIndex,
+        final long toRowIndex) {
+        TableStoreCloseableRowIterator iterator = iterator();
+        if (fromRowIndex == 0L && toRowIndex == Long.MAX_VALUE) {
+            return iterator;
+        }
+        return new RowRangeTableStoreIterator(this, iterator, fromRowIndex, toRowIndex);
+    }
+
     /**
      * Returns a {@link RowIteratorBuilder} that can be used to assemble more complex
      * {@link TableStoreCloseableRowIterator}s that only iterate over parts of a table.
@@ -202,7 +226,8 @@ public RowIteratorBuilder<? extends TableStoreCloseableRowIterator> iteratorBuil
         return new DefaultRowIteratorBuilder<TableStoreCloseableRowIterator>(() -> iterator(), m_spec) {
             @Override
             public TableStoreCloseableRowIterator build() {
-                TableStoreCloseableRowIterator iterator = super.build();
+                TableStoreCloseableRowIterator iterator =
+                    iterator(getMaterializeColumnIndices(), getFromRowIndex(), getToRowIndex());
                 registerNewIteratorInstance(iterator);
                 return iterator;
             }
@@ -277,7 +302,7 @@ protected void readCellClassInfoArrayFromMetaVersion2(final NodeSettingsRO setti
     /**
      * Method for obtaining the {@link File} from which this reader reads.
      *
-     * @return the file from which this reader reads
+     * @return the file from which this reader reads (null if the table isn't backed by a file)
      */
     public File getFile() {
         return m_file;
@@ -415,4 +440,52 @@ public final void close() {
         public abstract boolean performClose() throws IOException;
     }
 
+    /** Restricts a table store iterator to a range of rows. The delegate is closed along with this iterator. */
+    private static final class RowRangeTableStoreIterator extends TableStoreCloseableRowIterator {
+
+        private final TableStoreCloseableRowIterator m_delegate;
+
+        private final long m_toIndex;
+
+        private long m_index;
+
+        RowRangeTableStoreIterator(final AbstractTableStoreReader reader,
+            final TableStoreCloseableRowIterator delegate, final long fromIndex, final long toIndex) {
+            // the delegate closes itself when exhausted, which requires a reader to be set
+            delegate.setReader(reader);
+            m_delegate = delegate;
+            m_toIndex = toIndex;
+            while (m_index < fromIndex && delegate.hasNext()) {
+                delegate.next();
+                m_index++;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasNext() {
+            if (m_index < m_toIndex && m_delegate.hasNext()) {
+                return true;
+            }
+            close();
+            return false;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public DataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Iterator at end");
+            }
+            m_index++;
+            return m_delegate.next();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean performClose() throws IOException {
+            return m_delegate.performClose();
+        }
+    }
+
 }
@@ -51,17 +51,28 @@
 import java.text.NumberFormat;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
@@ -71,6 +82,15 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.DoubleValueComparator;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.IntValueComparator;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.LongValueComparator;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.StringValueComparator;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.container.DataContainer;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.util.memory.MemoryAlertSystem;
@@ -79,6 +99,7 @@
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.NodeContext;
 
 /**
  * Class to sort a table. See <a href="package.html">package description</a> for details.
@@ -131,6 +152,30 @@ abstract class AbstractTableSorter {
 
     private long m_itemCount;
 
+    /** Number of threads used for sorting, see {@link #setParallelism(int)}. */
+    private int m_parallelism = 1;
+
+    /** Guards the creation, closing and clearing of containers, which isn't thread-safe in an execution context. */
+    private final Object m_containerLock = new Object();
+
+    /** Every {@value #SAMPLE_STEP}-th row of the runs generated in parallel mode, used to partition the final merge. */
+    private final Map<Iterable<DataRow>, DataRow[]> m_runSamples = new IdentityHashMap<>();
+
+    /** Maximal number of rows between two samples of a run. */
+    private static final int SAMPLE_STEP = 1 << 12;
+
+    /** Maximal number of open files (runs times partitions) in the parallel final merge. */
+    private static final int MAX_PARALLEL_MERGE_FILES = 256;
+
+    /** Number of leading rows to return or -1 for all rows, see {@link #setTopK(int)}. */
+    private int m_topK = -1;
+
+    /** Whether rows are sorted on precomputed sort keys, see {@link #setUseNormalizedKeys(boolean)}. */
+    private boolean m_useNormalizedKeys = true;
+
+    /** Set if the parallel sort failed or was canceled, pending tasks stop when they see it. */
+    private volatile boolean m_isAborted;
+
     /**
      * Private constructor. Assigns input table, checks argument.
      *
@@ -381,6 +426,87 @@ void setMemService(final MemoryAlertSystem memService) {
         m_memService = memService;
     }
 
+    /**
+     * @return the number of threads used for sorting, see {@link #setParallelism(int)} for details.
+     * @since 3.8
+     */
+    public int getParallelism() {
+        return m_parallelism;
+    }
+
+    /**
+     * Sets the number of threads used to sort the table. If larger than 1, the runs (chunks that fit into memory) are
+     * sorted in parallel and written to disc while the next run is being read. If the table is a
+     * {@link BufferedDataTable}, the final merge is additionally split into key ranges that are merged concurrently
+     * (the result is then a concatenation of these ranges). The sort order, including the order of equal rows, does
+     * not depend on the number of threads.
+     *
+     * <p>
+     * The default value is 1, i.e. single-threaded sorting.
+     *
+     * @param parallelism the number of threads, at least 1
+     * @throws IllegalArgumentException If argument is smaller than 1.
+     * @since 3.8
+     */
+    public void setParallelism(final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+        }
+        m_parallelism = parallelism;
+    }
+
+    /**
+     * @return whether normalized sort keys are used, see {@link #setUseNormalizedKeys(boolean)} for details.
+     * @since 3.8
+     */
+    public boolean getUseNormalizedKeys() {
+        return m_useNormalizedKeys;
+    }
+
+    /**
+     * Whether to precompute an order-preserving 64 bit sort key per row from the first sort column if it contains
+     * int, long, double or string values (or is the row key). Rows are then sorted and merged on these keys and only
+     * rows with equal keys are compared using the column comparators. The key of a string is made of its first four
+     * characters. The option has no effect on the sort order and is ignored if a custom row comparator is set.
+     *
+     * <p>
+     * The default value is <b>true</b>.
+     *
+     * @param useNormalizedKeys whether to use normalized sort keys
+     * @since 3.8
+     */
+    public void setUseNormalizedKeys(final boolean useNormalizedKeys) {
+        m_useNormalizedKeys = useNormalizedKeys;
+    }
+
+    /**
+     * @return the number of leading rows returned, see {@link #setTopK(int)} for details.
+     * @since 3.8
+     */
+    public int getTopK() {
+        return m_topK;
+    }
+
+    /**
+     * Restricts the output to the first <code>k</code> rows of the sorted table. The table is then read once while
+     * the <code>k</code> smallest rows are kept in a bounded heap; nothing is written to disc. This option is meant
+     * for small values of <code>k</code> as all of these rows are held in memory. It takes precedence over
+     * {@link #setSortInMemory(boolean)} and {@link #setParallelism(int)}.
+     *
+     * <p>
+     * The default value is -1, i.e. all rows are returned.
+     *
+     * @param k the number of rows to return or -1 to return all rows
+     * @throws IllegalArgumentException If argument is smaller than -1.
+     * @since 3.8
+     */
+    public void setTopK(final int k) {
+        if (k < -1) {
+            throw new IllegalArgumentException("Invalid number of rows: " + k);
+        }
+        m_topK = k;
+    }
+
     /**
      * @return the sortInMemory field, see {@link #setSortInMemory(boolean)} for details.
      */
@@ -414,7 +540,9 @@ public void setSortInMemory(final boolean sortInMemory) {
      */
     DataTable sortInternal(final ExecutionMonitor exec) throws CanceledExecutionException {
         DataTable result;
-        if (m_sortInMemory && (m_rowsInInputTable <= Integer.MAX_VALUE)) {
+        if (m_topK >= 0) {
+            result = sortTopK(exec);
+        } else if (m_sortInMemory && (m_rowsInInputTable <= Integer.MAX_VALUE)) {
             result = sortInMemory(exec);
         } else {
             if (m_rowsInInputTable > Integer.MAX_VALUE) {
@@ -451,7 +579,7 @@ private DataTable sortInMemory(final ExecutionMonitor exec) throws CanceledExecu
         }
 
         exec.setMessage("Sorting");
-        Collections.sort(rowList, m_rowComparator);
+        sortRows(rowList);
 
         exec.setMessage("Creating sorted table");
 
@@ -472,6 +600,69 @@ private DataTable sortInMemory(final ExecutionMonitor exec) throws CanceledExecu
         return dc.getTable();
     }
 
+    /**
+     * Returns the first {@link #m_topK} rows of the sorted input table, collected in a single pass using a bounded
+     * max-heap. Ties are broken by the position in the input table so that the result is the same as the one of a
+     * full (stable) sort.
+     */
+    private DataTable sortTopK(final ExecutionMonitor exec) throws CanceledExecutionException {
+        final RowComparator keyComparator = getKeyComparator();
+        final Comparator<KeyedRow> comparator = (r1, r2) -> {
+            int value;
+            if (keyComparator != null) {
+                value = Long.compare(r1.m_key, r2.m_key);
+                if (value == 0) {
+                    value = keyComparator.compareEqualKeys(r1.m_row, r2.m_row);
+                }
+            } else {
+                value = m_rowComparator.compare(r1.m_row, r2.m_row);
+            }
+            return value != 0 ? value : Long.compare(r1.m_index, r2.m_index);
+        };
+        // the largest of the rows kept is at the head
+        final PriorityQueue<KeyedRow> heap = new PriorityQueue<>(Math.max(1, Math.min(m_topK, 1 << 16)),
+            comparator.reversed());
+        final long rowCount = m_rowsInInputTable;
+        long index = 0;
+        exec.setMessage("Reading table");
+        ExecutionMonitor readExec = exec.createSubProgress(0.9);
+        for (final DataRow r : m_topK > 0 ? m_inputTable : Collections.<DataRow> emptyList()) {
+            readExec.checkCanceled();
+            if (rowCount > 0) {
+                readExec.setProgress(index / (double)rowCount, () -> "Reading table, row " + r.getKey());
+            }
+            final long key = keyComparator != null ? keyComparator.getSortKey(r) : 0L;
+            if (heap.size() < m_topK) {
+                heap.add(new KeyedRow(key, r, index));
+            } else if (keyComparator == null || key <= heap.peek().m_key) {
+                // a row equal to the head isn't added as it comes later in the table
+                KeyedRow candidate = new KeyedRow(key, r, index);
+                if (comparator.compare(candidate, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(candidate);
+                }
+            }
+            index++;
+        }
+        // if there is 0 or 1 row only, return immediately (can't rely on
+        // "rowCount" as it might not be set)
+        if (m_topK > 0 && index <= 1) {
+            return m_inputTable;
+        }
+
+        exec.setMessage("Creating sorted table");
+        final KeyedRow[] rows = heap.toArray(new KeyedRow[heap.size()]);
+        heap.clear();
+        Arrays.sort(rows, comparator);
+        final DataContainer dc = createDataContainer(m_dataTableSpec, false);
+        for (KeyedRow r : rows) {
+            exec.checkCanceled();
+            dc.addRowToTable(r.m_row);
+        }
+        dc.close();
+        return dc.getTable();
+    }
+
     /**
      * Creates data container, either a buffered data container or a plain one.
      *
@@ -489,6 +680,30 @@ private DataTable sortInMemory(final ExecutionMonitor exec) throws CanceledExecu
      */
     abstract void clearTable(final DataTable table);
 
+    /**
+     * Whether {@link #concatenate(ExecutionMonitor, DataTable[])} is supported, which is required to merge key ranges
+     * in parallel (see {@link #setParallelism(int)}). This implementation returns false, i.e. the final merge is done
+     * single-threaded.
+     *
+     * @return true if tables can be concatenated
+     */
+    boolean isConcatenationSupported() {
+        return false;
+    }
+
+    /**
+     * Creates a table that is the concatenation of the argument tables (which have been created by
+     * {@link #createDataContainer(DataTableSpec, boolean)}). Only called if {@link #isConcatenationSupported()}.
+     *
+     * @param exec for cancellation
+     * @param tables the tables to concatenate, in order
+     * @return the concatenated table
+     * @throws CanceledExecutionException If canceled.
+     */
+    DataTable concatenate(final ExecutionMonitor exec, final DataTable[] tables) throws CanceledExecutionException {
+        throw new UnsupportedOperationException("Concatenation not supported");
+    }
+
     /**
      * Sorts the given data table using a disk-based k-way merge sort.
      *
@@ -501,13 +716,20 @@ private DataTable sortOnDisk(final ExecutionMonitor exec) throws CanceledExecuti
 
         m_progress = 0.0;
         m_incProgress = m_rowsInInputTable <= 0 ? -1.0 : 1.0 / (2.0 * m_rowsInInputTable);
+        if (m_parallelism > 1) {
+            return sortOnDiskParallel(exec);
+        }
         long counter = createInitialChunks(exec, dataTable);
         // no or one row only in input table, can exit immediately
         // (can't rely on global rowCount - might not be set)
         if (counter <= 1) {
             return m_inputTable;
         }
+        return mergeIntoResult(exec);
+    }
 
+    private DataTable mergeIntoResult(final ExecutionMonitor exec) throws CanceledExecutionException {
+        final DataTable dataTable = m_inputTable;
         exec.setMessage("Merging temporary tables");
         // The final output container
         // merge chunks until there are only so much left, as m_maxopencontainers
@@ -524,6 +746,269 @@ private DataTable sortOnDisk(final ExecutionMonitor exec) throws CanceledExecuti
         return resultContainer.getTable();
     }
 
+    /**
+     * Parallel version of the disk based sort. The runs are sorted using all threads of a private fork join pool and
+     * written to disc by a background task while the next run is read. The final merge is split into key ranges if
+     * the runs can be merged in one pass and the resulting tables can be concatenated; otherwise it's done by
+     * {@link #mergeIntoResult(ExecutionMonitor)}.
+     */
+    private DataTable sortOnDiskParallel(final ExecutionMonitor exec) throws CanceledExecutionException {
+        final AtomicInteger threadCounter = new AtomicInteger();
+        final ForkJoinPool pool = new ForkJoinPool(m_parallelism, p -> {
+            ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            t.setName("KNIME-Sorter-" + threadCounter.incrementAndGet());
+            return t;
+        }, null, false);
+        m_isAborted = false;
+        boolean success = false;
+        try {
+            long counter = createInitialChunksParallel(exec, pool);
+            // no or one row only in input table, can exit immediately
+            if (counter <= 1) {
+                success = true;
+                return m_inputTable;
+            }
+            final int runCount = m_chunksContainer.size();
+            DataTable result;
+            if (runCount > 1 && runCount <= m_maxOpenContainers && isConcatenationSupported()) {
+                result = mergeInParallel(exec, pool);
+            } else {
+                result = mergeIntoResult(exec);
+            }
+            success = true;
+            return result;
+        } finally {
+            if (!success) {
+                m_isAborted = true;
+            }
+            pool.shutdown();
+            synchronized (m_runSamples) {
+                m_runSamples.clear();
+            }
+        }
+    }
+
+    private long createInitialChunksParallel(final ExecutionMonitor exec, final ForkJoinPool pool)
+        throws CanceledExecutionException {
+        final NodeContext context = NodeContext.getContext();
+        long counter = 0;
+        ArrayList<DataRow> buffer = new ArrayList<DataRow>();
+        int rowsInCurrentChunk = 0;
+        // at most one run is written while the next one is read
+        Future<DataTable> pendingRun = null;
+
+        MemoryActionIndicator memObservable = m_memService.newIndicator();
+
+        exec.setMessage("Reading table");
+        try {
+            for (Iterator<DataRow> iter = m_inputTable.iterator(); iter.hasNext();) {
+                counter++;
+                rowsInCurrentChunk++;
+                exec.checkCanceled();
+                String message = "Reading table, " + counter + " rows read";
+                if (m_rowsInInputTable > 0) {
+                    m_progress += m_incProgress;
+                    exec.setProgress(m_progress, message);
+                } else {
+                    exec.setMessage(message);
+                }
+                buffer.add(iter.next());
+                if ((memObservable.lowMemoryActionRequired() && (rowsInCurrentChunk >= m_maxOpenContainers))
+                    || (counter % m_maxRowsPerChunk == 0)) {
+                    if (pendingRun != null) {
+                        exec.setMessage("Writing temporary table");
+                        m_chunksContainer.add(waitFor(exec, pendingRun));
+                    }
+                    final DataRow[] run = buffer.toArray(new DataRow[buffer.size()]);
+                    buffer = new ArrayList<DataRow>();
+                    rowsInCurrentChunk = 0;
+                    LOGGER.debug("Writing chunk of " + run.length + " rows - mem usage: " + getMemUsage());
+                    pendingRun = pool.submit(() -> writeRun(run, context));
+                }
+            }
+            if (pendingRun != null) {
+                exec.setMessage("Writing temporary table");
+                m_chunksContainer.add(waitFor(exec, pendingRun));
+                pendingRun = null;
+            }
+        } finally {
+            if (pendingRun != null) {
+                m_isAborted = true;
+                pendingRun.cancel(true);
+            }
+        }
+        // Add buffer to the chunks
+        if (!buffer.isEmpty()) {
+            exec.setMessage("Sorting temporary buffer");
+            final DataRow[] run = buffer.toArray(new DataRow[buffer.size()]);
+            buffer = null;
+            waitFor(exec, pool.submit(() -> sortRows(run, true)));
+            final List<DataRow> list = Arrays.asList(run);
+            synchronized (m_runSamples) {
+                m_runSamples.put(list, sample(run));
+            }
+            m_chunksContainer.add(list);
+        }
+        return counter;
+    }
+
+    /** Sorts the argument rows and writes them to a new temporary table, run in a worker thread. */
+    private DataTable writeRun(final DataRow[] run, final NodeContext context) {
+        NodeContext.pushContext(context);
+        try {
+            // executed in the sorter's pool as called from one of its threads
+            sortRows(run, true);
+            final DataRow[] samples = sample(run);
+            final DataContainer container;
+            synchronized (m_containerLock) {
+                container = createDataContainer(m_dataTableSpec, true);
+            }
+            container.setMaxPossibleValues(0);
+            try {
+                for (int i = 0; i < run.length; i++) {
+                    if (m_isAborted) {
+                        throw new CancellationException();
+                    }
+                    container.addRowToTable(run[i]);
+                    run[i] = null;
+                }
+            } finally {
+                synchronized (m_containerLock) {
+                    container.close();
+                }
+            }
+            final DataTable table = container.getTable();
+            synchronized (m_runSamples) {
+                m_runSamples.put(table, samples);
+            }
+            return table;
+        } finally {
+            NodeContext.removeLastContext();
+        }
+    }
+
+    /** Every {@value #SAMPLE_STEP}-th row of a sorted run (starting with the first). */
+    private static DataRow[] sample(final DataRow[] sortedRun) {
+        DataRow[] samples = new DataRow[(sortedRun.length + SAMPLE_STEP - 1) / SAMPLE_STEP];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = sortedRun[i * SAMPLE_STEP];
+        }
+        return samples;
+    }
+
+    /**
+     * Merges all runs in {@link #m_chunksContainer} by splitting the key space into ranges (using the run samples) that
+     * are merged concurrently and concatenated afterwards. Rows comparing equal always end up in the same range, so
+     * the result is identical to the single-threaded merge.
+     */
+    private DataTable mergeInParallel(final ExecutionMonitor exec, final ForkJoinPool pool)
+        throws CanceledExecutionException {
+        final List<Iterable<DataRow>> runs = new ArrayList<>(m_chunksContainer);
+        final int partitions = Math.min(m_parallelism, Math.max(1, MAX_PARALLEL_MERGE_FILES / runs.size()));
+        final List<DataRow> allSamples = new ArrayList<>();
+        for (Iterable<DataRow> run : runs) {
+            allSamples.addAll(Arrays.asList(m_runSamples.get(run)));
+        }
+        allSamples.sort(m_rowComparator);
+        final DataRow[] splitters = new DataRow[partitions - 1];
+        for (int p = 1; p < partitions; p++) {
+            splitters[p - 1] = allSamples.get((int)((long)allSamples.size() * p / partitions));
+        }
+
+        exec.setMessage("Merging temporary tables in " + partitions + " ranges");
+        final NodeContext context = NodeContext.getContext();
+        final List<Future<DataTable>> futures = new ArrayList<>(partitions);
+        final DataTable[] tables = new DataTable[partitions];
+        boolean success = false;
+        try {
+            for (int p = 0; p < partitions; p++) {
+                final DataRow lower = p == 0 ? null : splitters[p - 1];
+                final DataRow upper = p == partitions - 1 ? null : splitters[p];
+                futures.add(pool.submit(() -> mergeRange(runs, lower, upper, context)));
+            }
+            final double progressStart = m_progress;
+            for (int p = 0; p < partitions; p++) {
+                tables[p] = waitFor(exec, futures.get(p));
+                exec.setProgress(progressStart + (1.0 - progressStart) * (p + 1) / partitions);
+            }
+            success = true;
+        } finally {
+            if (!success) {
+                m_isAborted = true;
+                for (Future<DataTable> f : futures) {
+                    f.cancel(true);
+                }
+            }
+            m_chunksContainer.clear();
+            for (Iterable<DataRow> run : runs) {
+                if (run instanceof DataTable) {
+                    clearTable((DataTable)run);
+                }
+            }
+        }
+        return concatenate(exec, tables);
+    }
+
+    /** Merges the rows of all runs in the key range (lower, upper] into a new table, run in a worker thread. */
+    private DataTable mergeRange(final List<Iterable<DataRow>> runs, final DataRow lower, final DataRow upper,
+        final NodeContext context) {
+        NodeContext.pushContext(context);
+        try {
+            Queue<MergeEntry> containersToMerge = new ArrayDeque<>();
+            for (int i = 0; i < runs.size(); i++) {
+                Iterable<DataRow> run = runs.get(i);
+                containersToMerge.add(new MergeEntry(new RangeIterable(run, m_runSamples.get(run), lower, upper), i,
+                    m_rowComparator));
+            }
+            MergingIterator mergingIterator = new MergingIterator(containersToMerge);
+            final DataContainer container;
+            synchronized (m_containerLock) {
+                container = createDataContainer(m_dataTableSpec, false);
+            }
+            try {
+                for (long i = 1; mergingIterator.hasNext(); i++) {
+                    if ((i & 0x3FF) == 0 && m_isAborted) {
+                        throw new CancellationException();
+                    }
+                    container.addRowToTable(mergingIterator.next());
+                }
+            } finally {
+                for (MergeEntry entry : containersToMerge) {
+                    entry.close();
+                }
+                synchronized (m_containerLock) {
+                    container.close();
+                }
+            }
+            return container.getTable();
+        } finally {
+            NodeContext.removeLastContext();
+        }
+    }
+
+    /** Waits for a task of the sorter's pool, checking for cancellation while doing so. */
+    private static <T> T waitFor(final ExecutionMonitor exec, final Future<T> future)
+        throws CanceledExecutionException {
+        while (true) {
+            exec.checkCanceled();
+            try {
+                return future.get(200, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // check cancellation and wait again
+            } catch (InterruptedException e) {
+                throw new CanceledExecutionException("Interrupted while waiting for sorter thread");
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException)cause;
+                } else if (cause instanceof Error) {
+                    throw (Error)cause;
+                }
+                throw new RuntimeException(cause);
+            }
+        }
+    }
+
     /**
      * @param exec execution context
      * @param mergeCompletely if <code>true</code> the chunks are merged until only one chunk is left, otherwise the
@@ -611,7 +1096,7 @@ private long createInitialChunks(final ExecutionMonitor exec, final DataTable da
                 }
                 exec.setMessage("Sorting temporary buffer");
                 // sort buffer
-                Collections.sort(buffer, m_rowComparator);
+                sortRows(buffer);
                 // write buffer to disk
                 openChunk();
                 final int totalBufferSize = buffer.size();
@@ -638,13 +1123,86 @@ private long createInitialChunks(final ExecutionMonitor exec, final DataTable da
         // Add buffer to the chunks
         if (!buffer.isEmpty()) {
             // sort buffer
-            Collections.sort(buffer, m_rowComparator);
+            sortRows(buffer);
             m_chunksContainer.add(buffer);
         }
         outerCounter = counter;
         return outerCounter;
     }
 
+    /**
+     * @return the comparator providing normalized sort keys or null if they are not used
+     */
+    private RowComparator getKeyComparator() {
+        if (m_useNormalizedKeys && m_rowComparator instanceof RowComparator
+            && ((RowComparator)m_rowComparator).hasSortKeys()) {
+            return (RowComparator)m_rowComparator;
+        }
+        return null;
+    }
+
+    /** Sorts the list (stable), see {@link #sortRows(DataRow[], boolean)}. */
+    private void sortRows(final List<DataRow> rows) {
+        DataRow[] array = rows.toArray(new DataRow[rows.size()]);
+        sortRows(array, false);
+        for (int i = 0; i < array.length; i++) {
+            rows.set(i, array[i]);
+        }
+    }
+
+    /**
+     * Sorts the array (stable) according to the row comparator, using normalized sort keys if available.
+     *
+     * @param rows the rows to sort
+     * @param parallel whether to use {@link Arrays#parallelSort(Object[], Comparator)}
+     */
+    private void sortRows(final DataRow[] rows, final boolean parallel) {
+        final RowComparator keyComparator = getKeyComparator();
+        if (keyComparator == null) {
+            if (parallel) {
+                Arrays.parallelSort(rows, m_rowComparator);
+            } else {
+                Arrays.sort(rows, m_rowComparator);
+            }
+            return;
+        }
+        final KeyedRow[] keyedRows = new KeyedRow[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            keyedRows[i] = new KeyedRow(keyComparator.getSortKey(rows[i]), rows[i]);
+        }
+        final Comparator<KeyedRow> comparator = (r1, r2) -> {
+            int value = Long.compare(r1.m_key, r2.m_key);
+            return value != 0 ? value : keyComparator.compareEqualKeys(r1.m_row, r2.m_row);
+        };
+        if (parallel) {
+            Arrays.parallelSort(keyedRows, comparator);
+        } else {
+            Arrays.sort(keyedRows, comparator);
+        }
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = keyedRows[i].m_row;
+        }
+    }
+
+    /** A row along with its normalized sort key (and its index in the input table if needed). */
+    private static final class KeyedRow {
+        private final long m_key;
+
+        private final DataRow m_row;
+
+        private final long m_index;
+
+        KeyedRow(final long key, final DataRow row) {
+            this(key, row, -1);
+        }
+
+        KeyedRow(final long key, final DataRow row, final long index) {
+            m_key = key;
+            m_row = row;
+            m_index = index;
+        }
+    }
+
     /**
      * Opens a chunk data container to accept rows using {@link #addRowToChunk(DataRow)}, {@link #closeChunk()} closes
      * the current container and adds it to the chunk list.
@@ -704,6 +1262,12 @@ private final class MergeEntry implements Comparable<MergeEntry>, Iterator<DataR
 
         private Comparator<DataRow> m_comparator;
 
+        /** Non-null if normalized sort keys are used. */
+        private final RowComparator m_keyComparator;
+
+        /** The sort key of m_row (if m_keyComparator is set). */
+        private long m_key;
+
         /**
          * @param iterator
          * @param index
@@ -713,17 +1277,25 @@ private final class MergeEntry implements Comparable<MergeEntry>, Iterator<DataR
             m_iterable = iterable;
             m_index = index;
             m_comparator = comparator;
+            m_keyComparator = comparator == m_rowComparator ? getKeyComparator() : null;
         }
 
         private void open() {
             if (m_iterator == null) {
                 m_iterator = m_iterable.iterator();
                 if (m_iterator.hasNext()) {
-                    m_row = m_iterator.next();
+                    setRow(m_iterator.next());
                 }
             }
         }
 
+        private void setRow(final DataRow row) {
+            m_row = row;
+            if (row != null && m_keyComparator != null) {
+                m_key = m_keyComparator.getSortKey(row);
+            }
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -749,10 +1321,17 @@ public DataRow next() {
                 throw new NoSuchElementException();
             }
             DataRow toReturn = m_row;
-            m_row = m_iterator.hasNext() ? m_iterator.next() : null;
+            setRow(m_iterator.hasNext() ? m_iterator.next() : null);
             return toReturn;
         }
 
+        /** Closes the underlying iterator if it was opened but not read to the end. */
+        private void close() {
+            if (m_iterator instanceof CloseableRowIterator) {
+                ((CloseableRowIterator)m_iterator).close();
+            }
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -766,7 +1345,15 @@ public void remove() {
          */
         @Override
         public int compareTo(final MergeEntry that) {
-            int value = m_comparator.compare(this.m_row, that.m_row);
+            int value;
+            if (m_keyComparator != null && this.m_row != null && that.m_row != null) {
+                value = Long.compare(this.m_key, that.m_key);
+                if (value == 0) {
+                    value = m_keyComparator.compareEqualKeys(this.m_row, that.m_row);
+                }
+            } else {
+                value = m_comparator.compare(this.m_row, that.m_row);
+            }
             if (value == 0) {
                 return this.m_index - that.m_index;
             } else {
@@ -832,7 +1419,10 @@ public boolean hasNext() {
                 Queue<MergeEntry> sortedEntries = new PriorityQueue<>();
                 for (MergeEntry entry : m_containerToMerge) {
                     entry.open();
-                    sortedEntries.add(entry);
+                    // runs restricted to a key range may be empty
+                    if (entry.hasNext()) {
+                        sortedEntries.add(entry);
+                    }
                 }
                 m_containerToMerge = sortedEntries;
                 m_opened = true;
@@ -866,6 +1456,108 @@ public void remove() {
         }
     }
 
+    /**
+     * The rows of a sorted run that lie in the key range <code>(lower, upper]</code>, a null bound is unbounded. Rows
+     * before the last sample not larger than the lower bound are skipped without reading them.
+     */
+    private final class RangeIterable implements Iterable<DataRow> {
+        private final Iterable<DataRow> m_run;
+
+        private final DataRow[] m_samples;
+
+        private final DataRow m_lower;
+
+        private final DataRow m_upper;
+
+        RangeIterable(final Iterable<DataRow> run, final DataRow[] samples, final DataRow lower,
+            final DataRow upper) {
+            m_run = run;
+            m_samples = samples;
+            m_lower = lower;
+            m_upper = upper;
+        }
+
+        @Override
+        public Iterator<DataRow> iterator() {
+            long start = 0;
+            if (m_lower != null) {
+                int low = 0;
+                int high = m_samples.length - 1;
+                while (low <= high) {
+                    int mid = (low + high) >>> 1;
+                    if (m_rowComparator.compare(m_samples[mid], m_lower) <= 0) {
+                        start = (long)mid * SAMPLE_STEP;
+                        low = mid + 1;
+                    } else {
+                        high = mid - 1;
+                    }
+                }
+            }
+            final Iterator<DataRow> iterator;
+            if (m_run instanceof List) {
+                final List<DataRow> list = (List<DataRow>)m_run;
+                iterator = list.subList((int)start, list.size()).iterator();
+            } else {
+                iterator = ((DataTable)m_run).iteratorBuilder().filterRowRange(start, Long.MAX_VALUE).build();
+            }
+            return new RangeIterator(iterator, m_lower, m_upper);
+        }
+    }
+
+    /** Iterator for {@link RangeIterable}. */
+    private final class RangeIterator extends CloseableRowIterator {
+        private final Iterator<DataRow> m_iterator;
+
+        private final DataRow m_upper;
+
+        private DataRow m_next;
+
+        RangeIterator(final Iterator<DataRow> iterator, final DataRow lower, final DataRow upper) {
+            m_iterator = iterator;
+            m_upper = upper;
+            DataRow first = null;
+            while (m_iterator.hasNext()) {
+                DataRow row = m_iterator.next();
+                if (lower == null || m_rowComparator.compare(row, lower) > 0) {
+                    first = row;
+                    break;
+                }
+            }
+            setNext(first);
+        }
+
+        private void setNext(final DataRow row) {
+            if (row == null || (m_upper != null && m_rowComparator.compare(row, m_upper) > 0)) {
+                m_next = null;
+                close();
+            } else {
+                m_next = row;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return m_next != null;
+        }
+
+        @Override
+        public DataRow next() {
+            if (m_next == null) {
+                throw new NoSuchElementException();
+            }
+            DataRow result = m_next;
+            setNext(m_iterator.hasNext() ? m_iterator.next() : null);
+            return result;
+        }
+
+        @Override
+        public void close() {
+            if (m_iterator instanceof CloseableRowIterator) {
+                ((CloseableRowIterator)m_iterator).close();
+            }
+        }
+    }
+
     /**
      * The private class RowComparator is used to compare two DataRows. It implements the Comparator-interface, so we
      * can use the Arrays.sort method to sort an array of DataRows.
@@ -893,6 +1585,24 @@ private static final class RowComparator implements Comparator<DataRow> {
          */
         private final boolean m_sortMissingsToEnd;
 
+        /** How the sort key is derived from the first sort column, one of the KEY_XYZ constants. */
+        private final int m_keyType;
+
+        /** The sort key of a missing cell in the first sort column. */
+        private final long m_missingKey;
+
+        private static final int KEY_NONE = 0;
+
+        private static final int KEY_INT = 1;
+
+        private static final int KEY_LONG = 2;
+
+        private static final int KEY_DOUBLE = 3;
+
+        private static final int KEY_STRING = 4;
+
+        private static final int KEY_ROWKEY = 5;
+
         /**
          * @param indices Array of sort column indices.
          * @param sortAscending Sort order.
@@ -914,6 +1624,96 @@ private static final class RowComparator implements Comparator<DataRow> {
             }
             m_sortAscending = sortAscending;
             m_sortMissingsToEnd = sortMissingsToEnd;
+            if (indices.length == 0) {
+                m_keyType = KEY_NONE;
+            } else if (indices[0] == -1) {
+                m_keyType = KEY_ROWKEY;
+            } else {
+                // the key must be consistent with the comparator, subclasses may change the order
+                Class<?> comparatorClass = m_colComparators[0].getClass();
+                if (comparatorClass == IntValueComparator.class) {
+                    m_keyType = KEY_INT;
+                } else if (comparatorClass == LongValueComparator.class) {
+                    m_keyType = KEY_LONG;
+                } else if (comparatorClass == DoubleValueComparator.class) {
+                    m_keyType = KEY_DOUBLE;
+                } else if (comparatorClass == StringValueComparator.class) {
+                    m_keyType = KEY_STRING;
+                } else {
+                    m_keyType = KEY_NONE;
+                }
+            }
+            // missing values are smaller than any other value unless sorted to the end
+            m_missingKey = (sortMissingsToEnd || (indices.length > 0 && !sortAscending[0])) ? Long.MAX_VALUE
+                : Long.MIN_VALUE;
+        }
+
+        /** @return whether {@link #getSortKey(DataRow)} can be used */
+        boolean hasSortKeys() {
+            return m_keyType != KEY_NONE;
+        }
+
+        /**
+         * Computes the normalized sort key of a row. If the key of a row is smaller than the key of another row, the
+         * row is smaller according to {@link #compare(DataRow, DataRow)}. Rows with equal keys need to be compared
+         * using {@link #compareEqualKeys(DataRow, DataRow)}.
+         *
+         * @param row the row
+         * @return the sort key
+         */
+        long getSortKey(final DataRow row) {
+            final long key;
+            if (m_keyType == KEY_ROWKEY) {
+                key = getStringKey(row.getKey().getString());
+            } else {
+                final DataCell cell = row.getCell(m_indices[0]);
+                if (cell.isMissing()) {
+                    return m_missingKey;
+                }
+                switch (m_keyType) {
+                    case KEY_INT:
+                        key = ((IntValue)cell).getIntValue();
+                        break;
+                    case KEY_LONG:
+                        key = ((LongValue)cell).getLongValue();
+                        break;
+                    case KEY_DOUBLE:
+                        // same order as Double#compare, negative values are ordered by inverted magnitude
+                        long bits = Double.doubleToLongBits(((DoubleValue)cell).getDoubleValue());
+                        key = bits < 0 ? bits ^ Long.MAX_VALUE : bits;
+                        break;
+                    default:
+                        key = getStringKey(((StringValue)cell).getStringValue());
+                }
+            }
+            return m_sortAscending[0] ? key : ~key;
+        }
+
+        /** The first four characters (as by {@link String#compareTo(String)}) mapped to signed long order. */
+        private static long getStringKey(final String s) {
+            long key = 0;
+            for (int i = 0; i < 4; i++) {
+                key = (key << 16) | (i < s.length() ? s.charAt(i) : 0);
+            }
+            return key ^ Long.MIN_VALUE;
+        }
+
+        /**
+         * Compares two rows whose {@link #getSortKey(DataRow) sort keys} are equal. Int, long and double keys are
+         * exact so that the first sort column needs to be compared only if a cell is missing.
+         *
+         * @param dr1 the first row
+         * @param dr2 the second row
+         * @return the result as per {@link #compare(DataRow, DataRow)}
+         */
+        int compareEqualKeys(final DataRow dr1, final DataRow dr2) {
+            int start = 0;
+            if (m_keyType == KEY_INT || m_keyType == KEY_LONG || m_keyType == KEY_DOUBLE) {
+                if (!dr1.getCell(m_indices[0]).isMissing() && !dr2.getCell(m_indices[0]).isMissing()) {
+                    start = 1;
+                }
+            }
+            return compare(dr1, dr2, start);
         }
 
         /** {@inheritDoc} */
@@ -930,9 +1730,13 @@ public int compare(final DataRow dr1, final DataRow dr2) {
                 return -1;
             }
 
+            return compare(dr1, dr2, 0);
+        }
+
+        private int compare(final DataRow dr1, final DataRow dr2, final int startIndex) {
             assert (dr1.getNumCells() == dr2.getNumCells());
 
-            for (int i = 0; i < m_indices.length; i++) {
+            for (int i = startIndex; i < m_indices.length; i++) {
 
                 // only if the cell is in the includeList
                 // -1 is RowKey!
@@ -49,6 +49,7 @@
 
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Optional;
 
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTable;
@@ -57,6 +58,7 @@
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.NodeLogger;
 
 /**
@@ -170,4 +172,21 @@ void clearTable(final DataTable table) {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    boolean isConcatenationSupported() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    DataTable concatenate(final ExecutionMonitor exec, final DataTable[] tables) throws CanceledExecutionException {
+        BufferedDataTable[] bdts = new BufferedDataTable[tables.length];
+        for (int i = 0; i < tables.length; i++) {
+            bdts[i] = (BufferedDataTable)tables[i];
+        }
+        // row keys are unique as the ranges partition the input table
+        return m_execContext.createConcatenateTable(exec, Optional.empty(), false, bdts);
+    }
+
 }
@@ -56,6 +56,7 @@
 public final class MemoryAlert {
     private final long m_usedMemory;
     private final long m_maxMemory;
+    private final long m_offHeapMemory;
 
     /**
      * Create a new memory alter.
@@ -64,8 +65,20 @@ public final class MemoryAlert {
      * @param maxMemory the maximum amount of available memory (in bytes)
      */
     MemoryAlert(final long usedMemory, final long maxMemory) {
+        this(usedMemory, maxMemory, -1L);
+    }
+
+    /**
+     * Create a new memory alter.
+     *
+     * @param usedMemory the amount of currently used memory (in bytes)
+     * @param maxMemory the maximum amount of available memory (in bytes)
+     * @param offHeapMemory the amount of currently used direct (off-heap) memory (in bytes) or -1 if unknown
+     */
+    MemoryAlert(final long usedMemory, final long maxMemory, final long offHeapMemory) {
         m_usedMemory = usedMemory;
         m_maxMemory = maxMemory;
+        m_offHeapMemory = offHeapMemory;
     }
 
 
@@ -86,4 +99,15 @@ public long getUsedMemory() {
     public long getMaxMemory() {
         return m_maxMemory;
     }
+
+    /**
+     * Returns the direct (off-heap) memory in use, e.g. by tables kept in memory outside the heap. This memory is not
+     * part of {@link #getUsedMemory()}.
+     *
+     * @return the used off-heap memory in bytes or -1 if unknown
+     * @since 3.8
+     */
+    public long getOffHeapMemory() {
+        return m_offHeapMemory;
+    }
 }
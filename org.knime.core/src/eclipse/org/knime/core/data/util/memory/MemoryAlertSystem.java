@@ -48,6 +48,7 @@
  */
 package org.knime.core.data.util.memory;
 
+import java.lang.management.BufferPoolMXBean;
 import java.lang.management.GarbageCollectorMXBean;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryNotificationInfo;
@@ -322,6 +323,21 @@ public static long getMaximumMemory() {
         return OLD_GEN_POOL.getUsage().getMax();
     }
 
+    /**
+     * Returns the amount of direct (off-heap) memory in use, e.g. by tables that are kept in memory outside the heap.
+     *
+     * @return the used off-heap memory in bytes or -1 if it can't be determined
+     * @since 3.8
+     */
+    public static long getOffHeapMemory() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if ("direct".equals(pool.getName())) {
+                return pool.getMemoryUsed();
+            }
+        }
+        return -1L;
+    }
+
     /**
      * Returns the current memory usage as a fraction between 0 and 1.
      *
@@ -332,7 +348,7 @@ public static double getUsage() {
     }
 
     private void notifyListeners() {
-        MemoryAlert alert = new MemoryAlert(getUsedMemory(), getMaximumMemory());
+        MemoryAlert alert = new MemoryAlert(getUsedMemory(), getMaximumMemory(), getOffHeapMemory());
 
         synchronized (m_listeners) {
             int initialSize = m_listeners.size();
@@ -355,6 +371,9 @@ private void notifyListeners() {
 
             LOGGER.debug(removeCount + "/" + initialSize + " listeners have been removed,  " + m_listeners.size()
                 + " are remaining");
+            if (alert.getOffHeapMemory() >= 0) {
+                LOGGER.debugWithFormat("Off-heap memory in use: %.2fMB", alert.getOffHeapMemory() / (double)(1 << 20));
+            }
         }
     }
 
@@ -354,6 +354,30 @@ public RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder() {
         return m_delegate.iteratorBuilder();
     }
 
+    /**
+     * Returns the row at the given position. Tables kept in memory access the row directly. Tables that have been
+     * written to disc by a {@link DataContainer} seek to the closest row recorded in the row offset index stored along
+     * with the table and skip the rows up to the requested one without decoding their cells (at most 1023 rows for a
+     * table of 50 million rows). For compressed tables only the block (LZ4) or gzip member containing that row is
+     * decompressed; gzip compressed tables written by versions before 3.8 consist of a single member and are
+     * decompressed from the start of the file. Tables whose iterators don't support row ranges natively are
+     * iterated up to the row. Use {@link #iterator()} or {@link #iteratorBuilder()} to read consecutive rows.
+     *
+     * @param index the index of the row, starting at 0
+     * @return the row at the given index
+     * @throws IndexOutOfBoundsException if the index is negative or not smaller than {@link #size()}
+     * @since 3.8
+     */
+    public DataRow getRow(final long index) {
+        final long size = size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Row index " + index + " out of range [0, " + size + ")");
+        }
+        try (CloseableRowIterator it = iteratorBuilder().filterRowRange(index, index + 1).build()) {
+            return it.next();
+        }
+    }
+
     /**
      * Get an iterator instance that will return missing values when the table
      * is cleared as part of a node reset.
@@ -940,7 +964,13 @@ void saveToFile(final File f, final NodeSettingsWO settings,
          */
         @Override
         default RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder() {
-            return new DefaultRowIteratorBuilder<CloseableRowIterator>(() -> iterator(), getDataTableSpec());
+            return new DefaultRowIteratorBuilder<CloseableRowIterator>(() -> iterator(), getDataTableSpec()) {
+                @Override
+                protected CloseableRowIterator createRowRangeIterator(final CloseableRowIterator iterator,
+                    final long fromIndex, final long toIndex) {
+                    return skipToRowRange(iterator, fromIndex, toIndex);
+                }
+            };
         }
 
         /** Reference to the underlying tables, if any. A reference
@@ -165,6 +165,36 @@ public final class KNIMEConstants {
     public static final String PROPERTY_TABLE_GZIP_COMPRESSION =
         "knime.compress.io";
 
+    /** Java property to select the codec used for table stream compression (only if compression is enabled via
+     * {@link #PROPERTY_TABLE_GZIP_COMPRESSION}). Valid values are "gzip" (default, smallest files) and "lz4"
+     * (considerably faster, somewhat larger files). The codec is recorded along with each table so that tables
+     * written with a different codec can still be read.
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_COMPRESSION_CODEC = "knime.compress.io.codec";
+
+    /** Java property to set the number of threads compressing table streams (shared by all tables being written).
+     * Blocks of a table stream are then compressed in parallel and written in order; the file format is not affected.
+     * Defaults to the number of available processors (at most 4); a value of 1 or less compresses on the writing
+     * thread.
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_COMPRESSION_THREADS = "knime.compress.io.threads";
+
+    /** Java property to enable/disable memory mapping of uncompressed table files when reading them. Defaults to
+     * "true", except on Windows where mapped files can't be deleted before the mapping is garbage collected.
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_MEMORY_MAPPING = "knime.table.mmap";
+
+    /** Java property to set the size (in MB) of the off-heap memory used to keep small tables in memory outside of
+     * the java heap (tables exceeding the size are written to disc, least recently used first). Defaults to 1024MB
+     * but at most a quarter of the maximum heap size; 0 disables the off-heap cache, i.e. small tables are kept on
+     * the heap.
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_CACHE_OFF_HEAP_SIZE = "knime.table.cache.offheap";
+
     /** Java property to enable/disable row ID duplicate checks on tables.
      * Tables in KNIME are supposed to have unique IDs, whereby the uniqueness
      * is asserted using a duplicate checker. This property will disable this
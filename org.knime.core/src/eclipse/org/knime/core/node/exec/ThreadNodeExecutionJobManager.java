@@ -56,6 +56,7 @@
 import org.knime.core.node.workflow.NodeContainer;
 import org.knime.core.node.workflow.NodeExecutionJob;
 import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.WorkflowManager;
 import org.knime.core.util.ThreadPool;
 
 /**
@@ -88,11 +89,26 @@ public NodeExecutionJob submitJob(final NodeContainer nc, final PortObject[] dat
                     + " is not able to execute a metanode: " + nc.getNameWithID());
         }
         LocalNodeExecutionJob job = new LocalNodeExecutionJob((SingleNodeContainer)nc, data);
-        Future<?> future = m_pool.enqueue(job);
+        Future<?> future = m_pool.enqueue(job, getPriority(nc));
         job.setFuture(future);
         return job;
     }
 
+    /**
+     * Queue priority of a node job: nodes with a longer estimated path to the end of the workflow start first. All
+     * node jobs are ranked below tasks with the default priority, so that tasks submitted by already running nodes
+     * are not held back by queued nodes.
+     */
+    private static int getPriority(final NodeContainer nc) {
+        WorkflowManager parent = nc.getParent();
+        // only estimate if the workflow lock is already held, acquiring it here may deadlock with the node mutex
+        if (parent == null || !parent.isLockedByCurrentThread()) {
+            return Integer.MIN_VALUE;
+        }
+        long millis = parent.estimateRemainingPathMillis(nc.getID());
+        return (int)(Integer.MIN_VALUE + Math.min(millis, Integer.MAX_VALUE));
+    }
+
     /** {@inheritDoc} */
     @Override
     public String getID() {
@@ -74,4 +74,16 @@ public interface LoopStartParallelizeNode extends LoopStartNode {
      * @param pccm matching @see{ParallelizedChunkContentMaster}
      */
     public void setChunkMaster(final ParallelizedChunkContentMaster pccm);
+
+    /**
+     * Whether the loop is parallelized (and a chunk master is set on this node and its loop end) also if there are
+     * no remote chunks. Loop starts that only optionally hand iterations to copies of the loop body return
+     * <code>false</code>; their loop end nodes treat a missing chunk master as an iteration without copies.
+     *
+     * @return <code>true</code> if a chunk master is required even without remote chunks
+     * @since 3.8
+     */
+    public default boolean isChunkMasterRequired() {
+        return true;
+    }
 }
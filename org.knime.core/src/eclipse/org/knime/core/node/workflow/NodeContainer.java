@@ -128,7 +128,8 @@ public boolean executionInProgress() {
         }
     };
 
-    private InternalNodeContainerState m_state;
+    /** Written under {@link #m_nodeMutex}, volatile so that it can be read without holding any lock. */
+    private volatile InternalNodeContainerState m_state;
 
     private final NodeID m_id;
 
@@ -838,6 +839,11 @@ public boolean removeNodeStateChangeListener(final NodeStateChangeListener liste
     }
 
     /** {@inheritDoc}
+     *
+     * <p>For a {@link WorkflowManager} the state may be stale: if another thread currently holds the workflow lock,
+     * the state most recently published by the workflow is returned without waiting for the lock. Changes made by
+     * that thread become visible when it releases the lock, changes it reverts before are never seen. Callers that
+     * need the state consistent with the node states must hold the workflow lock.
      * @since 2.8 */
     @Override
     public NodeContainerState getNodeContainerState() {
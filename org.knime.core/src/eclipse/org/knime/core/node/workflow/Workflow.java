@@ -47,9 +47,11 @@
  */
 package org.knime.core.node.workflow;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -1559,9 +1561,10 @@ public NodeGraphAnnotation getSingleNodeGraphAnnotation(final NodeID id)
     /** hold graph based annotations for all nodes. */
     private ArrayList<NodeGraphAnnotation> m_nodeAnnotationCache = null;
 
-    /** clean cache - called internally whenever the structure (connections/nodes) are altered. */
+    /** clean caches - called internally whenever the structure (connections/nodes) are altered. */
     private void clearGraphAnnotationCache() {
         m_nodeAnnotationCache = null;
+        m_remainingPathMillisCache = null;
         // also clear cache in parent - changes here may affect the connectivity outside as well.
         if (m_wfm != null && m_wfm.getParent() != null && m_wfm.getParent().getWorkflow() != null) {
             m_wfm.getParent().getWorkflow().clearGraphAnnotationCache();
@@ -1702,4 +1705,74 @@ private void updateGraphAnnotationCache() {
         // and finally sort node again:
         Collections.reverse(m_nodeAnnotationCache);
     }
+
+    /** estimated remaining path durations of all nodes, null if the structure or the node timers changed. */
+    private Map<NodeID, Long> m_remainingPathMillisCache = null;
+
+    /** Drops the remaining path estimates, to be called when the node timers changed (i.e. nodes were executed). */
+    void clearRemainingPathMillisCache() {
+        m_remainingPathMillisCache = null;
+    }
+
+    /**
+     * @param id of a node in this workflow
+     * @return estimated duration in milliseconds of the node and the longest chain of its successors, at least 1
+     * @see WorkflowManager#estimateRemainingPathMillis(NodeID)
+     */
+    long getRemainingPathMillis(final NodeID id) {
+        if (m_remainingPathMillisCache == null) {
+            updateRemainingPathMillisCache();
+        }
+        Long millis = m_remainingPathMillisCache.get(id);
+        return millis == null ? 1L : millis;
+    }
+
+    /** Estimates the remaining path durations of all nodes at once in a depth first search without recursion: a node
+     * is completed once all of its successors are. Successors that are still in progress (loop back edges, which the
+     * workflow doesn't allow) count as zero. */
+    private void updateRemainingPathMillisCache() {
+        final Map<NodeID, Long> result = new HashMap<NodeID, Long>();
+        final Set<NodeID> expanded = new HashSet<NodeID>();
+        final Deque<NodeID> stack = new ArrayDeque<NodeID>();
+        for (NodeID startID : m_nodes.keySet()) {
+            stack.push(startID);
+            while (!stack.isEmpty()) {
+                NodeID id = stack.peek();
+                if (result.containsKey(id)) {
+                    // already completed via another predecessor
+                    stack.pop();
+                } else if (expanded.add(id)) {
+                    // first visit: complete all successors before this node
+                    for (ConnectionContainer cc : m_connectionsBySource.get(id)) {
+                        NodeID destID = cc.getDest();
+                        if (!destID.equals(getID()) && !expanded.contains(destID)) {
+                            stack.push(destID);
+                        }
+                    }
+                } else {
+                    stack.pop();
+                    long longestSuccessor = 0L;
+                    for (ConnectionContainer cc : m_connectionsBySource.get(id)) {
+                        Long successor = result.get(cc.getDest());
+                        if (successor != null) {
+                            longestSuccessor = Math.max(longestSuccessor, successor);
+                        }
+                    }
+                    result.put(id, getAverageExecutionMillis(m_nodes.get(id)) + longestSuccessor);
+                }
+            }
+        }
+        m_remainingPathMillisCache = result;
+    }
+
+    /** Average of the execution durations the node timer recorded, 1 for nodes that were not executed yet. */
+    private static long getAverageExecutionMillis(final NodeContainer nc) {
+        NodeTimer timer = nc.getNodeTimer();
+        int nrExecs = timer.getNrExecsSinceStart();
+        if (nrExecs > 0) {
+            return Math.max(1L, timer.getExecutionDurationSinceStart() / nrExecs);
+        }
+        return 1L;
+    }
+
 }
@@ -3300,6 +3300,12 @@ private void restartLoop(final FlowLoopContext slc) throws IllegalLoopException
      */
     private void parallelizeLoop(final NodeID startID) throws IllegalLoopException {
         try (WorkflowLock lock = lock()) {
+            final LoopStartParallelizeNode start = castNodeModel(startID, LoopStartParallelizeNode.class);
+            if (start.getNrRemoteChunks() == 0 && !start.isChunkMasterRequired()) {
+                // nothing to distribute and the end node doesn't wait for a chunk master, e.g. a loop start
+                // that can run iterations concurrently but has no further iterations in this round
+                return;
+            }
             final NodeID endID = m_workflow.getMatchingLoopEnd(startID);
             LoopEndParallelizeNode endNode;
             LoopStartParallelizeNode startNode;
@@ -5588,6 +5594,8 @@ InternalNodeContainerState computeNewState() {
      * @param propagateChanges Whether to also inform this wfm's parent if done (true always except for loading)
      */
     void setInternalStateAfterLockRelease(final InternalNodeContainerState newState, final boolean propagateChanges) {
+        // node timers may have changed since the last check, estimate the remaining paths anew when asked next time
+        m_workflow.clearRemainingPathMillisCache();
         InternalNodeContainerState oldState = getInternalState();
         setInternalState(newState, propagateChanges);
         boolean wasExecuting = oldState.equals(EXECUTINGREMOTELY) || oldState.equals(EXECUTING);
@@ -6253,6 +6261,24 @@ public Collection<ConnectionContainer> getConnectionContainers() {
         return result;
     }
 
+    /**
+     * Estimates the time needed to execute the given node and the longest chain of its successors in this workflow,
+     * based on the execution durations the node timers recorded so far. Nodes without any recorded execution count as
+     * one millisecond. Used to start nodes on the critical path first when more nodes are queued than threads are
+     * available. The estimates of all nodes are computed at once and kept until the workflow structure changes or the
+     * next state check of this workflow, which follows each node execution.
+     *
+     * @param id the ID of a node in this workflow
+     * @return the estimated duration of the longest downstream path in milliseconds, at least 1
+     * @since 3.8
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public long estimateRemainingPathMillis(final NodeID id) {
+        try (WorkflowLock lock = lock()) {
+            return m_workflow.getRemainingPathMillis(id);
+        }
+    }
+
     /**
      * @param id node ID
      * @return NodeContainer for given ID
@@ -8406,7 +8432,9 @@ public void setDirty() {
 
     /**
      * The up-to-date state of the workflow, not neccarily the one that was most recently set by
-     * {@link #setInternalState(InternalNodeContainerState)}.
+     * {@link #setInternalState(InternalNodeContainerState)}. If another thread currently holds the workflow lock this
+     * returns the most recently set state without waiting for the lock; that thread publishes the new state when it
+     * releases the lock.
      *
      * @return the state.
      * @see NodeContainer#getInternalState()
@@ -8414,6 +8442,11 @@ public void setDirty() {
      */
     @Override
     InternalNodeContainerState getInternalState() {
+        final ReentrantLock reentrantLock = m_workflowLock.getReentrantLock();
+        if (reentrantLock.isLocked() && !reentrantLock.isHeldByCurrentThread()) {
+            // state queries (UI, listeners, loop ends polling their chunks) must not serialize on the lock
+            return getMostRecentInternalState();
+        }
         try (WorkflowLock lock = lock()) {
             return lock.getWFMInternalState();
         }
@@ -169,6 +169,15 @@ public int nrFailedChunks() {
         return count;
     }
 
+    /**
+     * @return true if any node of the chunks is still executing or waiting to be executed, including nodes that were
+     *         canceled but didn't stop yet
+     * @since 3.8
+     */
+    public boolean isExecutionInProgress() {
+        return (m_manager != null) && m_manager.getNodeContainerState().isExecutionInProgress();
+    }
+
     /**
      * Trigger cancelation of chunk execution
      */
@@ -0,0 +1,186 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.util;
+
+/**
+ * Bloom filter whose bits of a key are all in one block of 512 bits (one cache line), one bit in each of the
+ * block's eight words. Keys are represented by 64 bit hashes, which must be well distributed in both halves; use
+ * {@link #hash(long)} to spread weaker hashes such as {@link Object#hashCode()}.
+ *
+ * <p>
+ * A filter never reports a false negative: if {@link #mightContain(long)} returns <code>false</code> the key has
+ * definitely not been {@linkplain #put(long) added}. This makes it suitable for cheaply discarding rows that cannot
+ * have a join partner before they are hashed or buffered (semi-join reduction). Instances are not thread-safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class BlockedBloomFilter {
+
+    /** Size of one block in bytes. */
+    public static final int BLOCK_BYTES = 64;
+
+    private static final int[] SALTS = {0x47b6137b, 0x44974d91, 0x8824ad5b, 0xa2b7289d, 0x705495c7, 0x2df1424b,
+        0x9efc4947, 0x5c6bfb31};
+
+    private final long[] m_words;
+
+    private final int m_blockCount;
+
+    private final long m_capacity;
+
+    /**
+     * Creates a new filter.
+     *
+     * @param blockCount the number of blocks, must be positive
+     * @param capacity the number of keys the filter is sized for (informational only)
+     */
+    public BlockedBloomFilter(final int blockCount, final long capacity) {
+        if (blockCount <= 0 || blockCount > Integer.MAX_VALUE / 8) {
+            throw new IllegalArgumentException("Invalid number of blocks: " + blockCount);
+        }
+        m_blockCount = blockCount;
+        m_words = new long[blockCount * 8];
+        m_capacity = capacity;
+    }
+
+    /**
+     * Creates a filter for the given number of keys.
+     *
+     * @param expectedKeys the number of keys that will be added
+     * @param bitsPerKey the number of bits to reserve per key; 10 bits result in a false positive rate of about 1%,
+     *            16 bits in one well below 0.1%
+     * @return a new filter
+     */
+    public static BlockedBloomFilter create(final long expectedKeys, final int bitsPerKey) {
+        final long blocks = Math.max(1, Math.max(1, expectedKeys) * bitsPerKey / (8L * BLOCK_BYTES));
+        return new BlockedBloomFilter((int)Math.min(Integer.MAX_VALUE / 8, blocks), expectedKeys);
+    }
+
+    /**
+     * Returns the number of bytes a filter for the given number of keys will occupy, see
+     * {@link #create(long, int)}.
+     *
+     * @param expectedKeys the number of keys that will be added
+     * @param bitsPerKey the number of bits to reserve per key
+     * @return the size of the filter in bytes
+     */
+    public static long getByteSize(final long expectedKeys, final int bitsPerKey) {
+        return Math.max(1, Math.max(1, expectedKeys) * bitsPerKey / (8L * BLOCK_BYTES)) * BLOCK_BYTES;
+    }
+
+    /**
+     * Spreads the bits of a (possibly weak) hash code over all 64 bits (finalizer of MurmurHash3). Equal inputs
+     * result in equal hashes.
+     *
+     * @param h a hash code, e.g. the result of {@link Object#hashCode()}
+     * @return a well distributed 64 bit hash
+     */
+    public static long hash(final long h) {
+        long r = h;
+        r ^= r >>> 33;
+        r *= 0xff51afd7ed558ccdL;
+        r ^= r >>> 33;
+        r *= 0xc4ceb9fe1a85ec53L;
+        r ^= r >>> 33;
+        return r;
+    }
+
+    /**
+     * Returns the number of keys the filter was sized for.
+     *
+     * @return the capacity
+     */
+    public long getCapacity() {
+        return m_capacity;
+    }
+
+    /**
+     * Returns the number of bytes used by the filter's bits.
+     *
+     * @return the size in bytes
+     */
+    public long getByteSize() {
+        return (long)m_blockCount * BLOCK_BYTES;
+    }
+
+    /**
+     * Adds a key.
+     *
+     * @param hash the key's 64 bit hash
+     */
+    public void put(final long hash) {
+        final int offset = blockOffset(hash);
+        final int key = (int)hash;
+        for (int i = 0; i < 8; i++) {
+            m_words[offset + i] |= 1L << ((key * SALTS[i]) >>> 26);
+        }
+    }
+
+    /**
+     * Checks whether a key may have been added.
+     *
+     * @param hash the key's 64 bit hash
+     * @return <code>false</code> if the key has definitely not been added, <code>true</code> if it probably has
+     */
+    public boolean mightContain(final long hash) {
+        final int offset = blockOffset(hash);
+        final int key = (int)hash;
+        for (int i = 0; i < 8; i++) {
+            if ((m_words[offset + i] & (1L << ((key * SALTS[i]) >>> 26))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int blockOffset(final long hash) {
+        // multiply-shift maps the upper 32 bits uniformly to [0, blockCount)
+        return (int)(((hash >>> 32) * m_blockCount) >>> 32) * 8;
+    }
+}
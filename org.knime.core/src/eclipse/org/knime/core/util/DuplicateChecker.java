@@ -70,9 +70,14 @@
  * This can be used to check for e.g. unique row keys. The checking is done in
  * two stages: first new keys are added to a set. If the set already contains a
  * key an exception is thrown. If the set gets bigger than the maximum chunk
- * size it is written to disk and the set is cleared. If then after adding all
- * keys {@link #checkForDuplicates()} is called all created chunks are processed
- * and sorted by a merge sort like algorithm. If any duplicate keys are detected
+ * size it is written to disk and the set is cleared. The keys written to disk
+ * are recorded in a (memory bounded) blocked Bloom filter; keys that are
+ * added afterwards and that may be contained in the filter are remembered as
+ * candidates (by their 64 bit hash). If then after adding all keys
+ * {@link #checkForDuplicates()} is called, only the candidates are verified by
+ * reading the chunks once - if there are no candidates, the chunks are not
+ * read at all. Only if there are too many candidates all chunks are sorted and
+ * merged by a merge sort like algorithm. If any duplicate keys are detected
  * during this process an exception is thrown.
  *
  * <p>Note: This implementation is not thread-safe, it's supposed to be used
@@ -85,21 +90,58 @@ private static class Chunk {
         private final File m_file;
         private DataOutputStream m_out;
         private long m_count = 0;
+        /** Whether each key is preceded by its {@link DuplicateChecker#hash(String)}. */
+        private final boolean m_hasHashes;
 
         public Chunk() throws IOException {
+            this(false);
+        }
+
+        public Chunk(final boolean hasHashes) throws IOException {
             m_file = FileUtil.createTempFile("KNIME_DuplicateChecker", ".bin", false);
             m_out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(m_file)));
+            m_hasHashes = hasHashes;
         }
 
-        public void addKeys(final Set<String> keys) throws IOException {
+        public void addKey(final long hash, final String key) throws IOException {
             if (m_out == null) {
                 throw new IllegalStateException("Chunck has already been closed");
             }
+            assert m_hasHashes;
+            m_out.writeLong(hash);
+            m_out.writeUTF(key);
+            m_count++;
+        }
+
+        /**
+         * Reads the hashes of all keys in this chunk; if a hash is contained in the given candidates the key
+         * is read and added to <code>seen</code>, which fails if the key has been seen before.
+         */
+        public void verifyCandidates(final CandidateSet candidates, final Set<String> seen)
+            throws IOException, DuplicateKeyException {
+            assert m_hasHashes && m_out == null;
+            try (DataInputStream in =
+                new DataInputStream(new BufferedInputStream(new FileInputStream(m_file), 1 << 16))) {
+                for (long i = 0; i < m_count; i++) {
+                    final long hash = in.readLong();
+                    if (candidates.contains(hash)) {
+                        final String key = in.readUTF();
+                        if (!seen.add(key)) {
+                            throw new DuplicateKeyException(key);
+                        }
+                    } else {
+                        in.skipBytes(in.readUnsignedShort());
+                    }
+                }
+            }
+        }
 
-            String[] sorted = keys.toArray(new String[keys.size()]);
-            Arrays.sort(sorted);
+        public void addKeys(final Collection<String> keys) throws IOException {
+            if (m_out == null) {
+                throw new IllegalStateException("Chunck has already been closed");
+            }
 
-            for (String s : sorted) {
+            for (String s : keys) {
                 m_out.writeUTF(s);
                 m_count++;
             }
@@ -155,6 +197,9 @@ public String next() {
                     }
                     try {
                         m_read++;
+                        if (m_hasHashes) {
+                            m_in.readLong();
+                        }
                         return m_in.readUTF();
                     } catch (IOException ex) {
                         throw new RuntimeException(ex);
@@ -183,6 +228,12 @@ public boolean dispose() {
     /** The default number of streams open during merging. */
     public static final int MAX_STREAMS = 50;
 
+    /** Maximum number of passes over the chunks to verify candidates, more candidates trigger a sort and merge. */
+    private static final int MAX_VERIFY_PASSES = 4;
+
+    /** Maximum memory used by the Bloom filter of a single checker. */
+    private static final long MAX_FILTER_BYTES = Math.min(256L << 20, Runtime.getRuntime().maxMemory() / 16);
+
     private final int m_maxChunkSize;
 
     private final int m_maxStreams;
@@ -191,6 +242,17 @@ public boolean dispose() {
 
     private List<Chunk> m_storedChunks = new ArrayList<Chunk>();
 
+    /** Contains the keys written to disc, null as long as no chunk has been written. */
+    private ScalableBloomFilter m_filter;
+
+    /** Hashes of keys that were possibly added before (as per filter), first {@link #m_candidateCount} are valid. */
+    private long[] m_candidates = new long[0];
+
+    private int m_candidateCount;
+
+    /** Set when there are too many candidates to verify, {@link #checkForDuplicates()} then sorts and merges. */
+    private boolean m_isMergeRequired;
+
     private static final boolean DISABLE_DUPLICATE_CHECK =
         Boolean.getBoolean(
                 KNIMEConstants.PROPERTY_DISABLE_ROWID_DUPLICATE_CHECK);
@@ -251,16 +313,55 @@ public void addKey(final String s) throws DuplicateKeyException,
         if (DISABLE_DUPLICATE_CHECK) {
             return;
         }
-        // bug fix #1737: keys may be just wrappers of very large strings ...
-        // we make a copy, which consist of the important characters only
-        if (!m_currentChunk.add(new String(s))) {
+        // bug fix #1737 (copying the string) is obsolete - substrings don't share their parent's chars any more
+        if (!m_currentChunk.add(s)) {
             throw new DuplicateKeyException(s);
         }
+        if (m_filter != null && !m_isMergeRequired) {
+            final long hash = hash(s);
+            if (m_filter.mightContain(hash)) {
+                addCandidate(hash);
+            }
+        }
         if (m_currentChunk.size() >= m_maxChunkSize) {
             writeChunk();
         }
     }
 
+    private void addCandidate(final long hash) {
+        if (m_candidateCount == m_candidates.length) {
+            final long maxCandidates = (long)MAX_VERIFY_PASSES * Math.max(m_maxChunkSize, 1);
+            if (m_candidateCount >= maxCandidates) {
+                // too many to verify, sort and merge instead
+                m_isMergeRequired = true;
+                m_filter = null;
+                m_candidates = new long[0];
+                m_candidateCount = 0;
+                return;
+            }
+            m_candidates = Arrays.copyOf(m_candidates,
+                (int)Math.min(maxCandidates, Math.max(16, 2L * m_candidates.length)));
+        }
+        m_candidates[m_candidateCount++] = hash;
+    }
+
+    /**
+     * 64 bit hash of the characters of a string, computed without allocating any memory (FNV-1a followed by the
+     * finalizer of MurmurHash3).
+     *
+     * @param s the string to hash
+     * @return its hash
+     */
+    static long hash(final String s) {
+        long h = 0xcbf29ce484222325L;
+        final int length = s.length();
+        for (int i = 0; i < length; i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return BlockedBloomFilter.hash(h);
+    }
+
     /**
      * Checks for duplicates in all added keys. This method must only be called once after all keys have been added!
      * Multiple calls may lead to exceptions and excessive resource usage.
@@ -275,10 +376,107 @@ public void checkForDuplicates() throws DuplicateKeyException, IOException {
             // been done in addKey
             return;
         }
+        if (!m_isMergeRequired) {
+            verifyCandidates();
+            return;
+        }
         writeChunk();
+        // chunks are written unsorted, sort them for the merge
+        for (int i = 0; i < m_storedChunks.size(); i++) {
+            m_storedChunks.set(i, sortChunk(m_storedChunks.get(i)));
+        }
         checkForDuplicates(m_storedChunks);
     }
 
+    /**
+     * Reads all keys (stored chunks and current chunk) and checks whether a key whose hash is a candidate occurs
+     * twice. In order to bound the memory the candidates are split into several passes, if necessary.
+     */
+    private void verifyCandidates() throws DuplicateKeyException, IOException {
+        if (m_candidateCount == 0) {
+            return;
+        }
+        final int chunkSize = Math.max(m_maxChunkSize, 1);
+        final int passes = (m_candidateCount + chunkSize - 1) / chunkSize;
+        for (int pass = 0; pass < passes; pass++) {
+            final CandidateSet candidates = new CandidateSet(m_candidateCount / passes + 1);
+            for (int i = 0; i < m_candidateCount; i++) {
+                if (Math.floorMod(m_candidates[i], passes) == pass) {
+                    candidates.add(m_candidates[i]);
+                }
+            }
+            final Set<String> seen = new HashSet<String>();
+            for (Chunk c : m_storedChunks) {
+                c.verifyCandidates(candidates, seen);
+            }
+            for (String s : m_currentChunk) {
+                if (candidates.contains(hash(s)) && !seen.add(s)) {
+                    throw new DuplicateKeyException(s);
+                }
+            }
+        }
+    }
+
+    /** Open addressing hash set of (candidate) hashes. */
+    private static final class CandidateSet {
+
+        private final long[] m_table;
+
+        private final int m_mask;
+
+        /** Whether 0 (used as marker for empty slots) is contained. */
+        private boolean m_containsZero;
+
+        CandidateSet(final int expectedSize) {
+            final int capacity = Integer.highestOneBit(Math.max(expectedSize, 4) * 4 - 1) << 1;
+            m_table = new long[capacity];
+            m_mask = capacity - 1;
+        }
+
+        void add(final long hash) {
+            if (hash == 0L) {
+                m_containsZero = true;
+                return;
+            }
+            int i = slot(hash);
+            while (m_table[i] != 0L && m_table[i] != hash) {
+                i = (i + 1) & m_mask;
+            }
+            m_table[i] = hash;
+        }
+
+        boolean contains(final long hash) {
+            if (hash == 0L) {
+                return m_containsZero;
+            }
+            for (int i = slot(hash); m_table[i] != 0L; i = (i + 1) & m_mask) {
+                if (m_table[i] == hash) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int slot(final long hash) {
+            return (int)(hash ^ (hash >>> 32)) & m_mask;
+        }
+    }
+
+    /** Reads the argument chunk, sorts its keys and writes them to a new chunk. The argument chunk is disposed. */
+    private static Chunk sortChunk(final Chunk chunk) throws IOException {
+        final String[] keys = new String[(int)chunk.size()];
+        int i = 0;
+        for (Iterator<String> it = chunk.iterator(); it.hasNext();) {
+            keys[i++] = it.next();
+        }
+        chunk.dispose();
+        Arrays.sort(keys);
+        final Chunk sorted = new Chunk();
+        sorted.addKeys(Arrays.asList(keys));
+        sorted.close();
+        return sorted;
+    }
+
     /**
      * Clears the checker, i.e. removes all temporary files and all keys in
      * memory.
@@ -290,6 +488,10 @@ public void clear() {
         synchronized (ALL_CHUNKS) { ALL_CHUNKS.removeAll(m_storedChunks); }
         m_storedChunks.clear();
         m_currentChunk.clear();
+        m_filter = null;
+        m_candidates = new long[0];
+        m_candidateCount = 0;
+        m_isMergeRequired = false;
     }
 
     /**
@@ -374,13 +576,75 @@ private void writeChunk() throws IOException {
         if (m_currentChunk.isEmpty()) {
             return;
         }
-        Chunk c = new Chunk();
-        c.addKeys(m_currentChunk);
+        Chunk c;
+        if (m_isMergeRequired) {
+            c = new Chunk();
+            c.addKeys(m_currentChunk);
+        } else {
+            if (m_filter == null) {
+                m_filter = new ScalableBloomFilter(m_maxChunkSize);
+            }
+            c = new Chunk(true);
+            for (String s : m_currentChunk) {
+                final long hash = hash(s);
+                m_filter.put(hash);
+                c.addKey(hash, s);
+            }
+        }
         c.close();
         m_storedChunks.add(c);
         m_currentChunk.clear();
     }
 
+    /**
+     * Bloom filter that grows with the number of keys: it consists of a list of blocked Bloom filters, each twice as
+     * large as the previous one; a new one is added once the current one holds as many keys as it was sized for. Once
+     * {@link DuplicateChecker#MAX_FILTER_BYTES} are used, keys are added to the last filter (increasing the false
+     * positive rate).
+     */
+    private static final class ScalableBloomFilter {
+
+        /** Bits per key, resulting in a false positive rate well below 1%. */
+        private static final int BITS_PER_KEY = 16;
+
+        private final List<BlockedBloomFilter> m_filters = new ArrayList<BlockedBloomFilter>();
+
+        private long m_usedBytes;
+
+        private long m_keysInLast;
+
+        ScalableBloomFilter(final int initialCapacity) {
+            addFilter(Math.max(initialCapacity, 1 << 10));
+        }
+
+        private void addFilter(final long capacity) {
+            final long bytes = Math.min(capacity * BITS_PER_KEY / 8, MAX_FILTER_BYTES - m_usedBytes);
+            final BlockedBloomFilter filter = new BlockedBloomFilter(
+                (int)Math.max(1, Math.min(Integer.MAX_VALUE, bytes / BlockedBloomFilter.BLOCK_BYTES)), capacity);
+            m_filters.add(filter);
+            m_usedBytes += filter.getByteSize();
+            m_keysInLast = 0;
+        }
+
+        void put(final long hash) {
+            final BlockedBloomFilter last = m_filters.get(m_filters.size() - 1);
+            if (m_keysInLast >= last.getCapacity() && m_usedBytes < MAX_FILTER_BYTES) {
+                addFilter(2 * last.getCapacity());
+            }
+            m_filters.get(m_filters.size() - 1).put(hash);
+            m_keysInLast++;
+        }
+
+        boolean mightContain(final long hash) {
+            for (int i = m_filters.size() - 1; i >= 0; i--) {
+                if (m_filters.get(i).mightContain(hash)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
     /**
      * Container to hold a string and the stream index where the string
      * was read from.
@@ -51,6 +51,7 @@
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.ListIterator;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.Callable;
@@ -77,12 +78,15 @@ public class ThreadPool {
     private class MyFuture<T> extends FutureTask<T> {
         private final CountDownLatch m_startWaiter = new CountDownLatch(1);
         private final ClassLoader m_contextClassloader = Thread.currentThread().getContextClassLoader();
+        private final int m_priority;
 
         /**
+         * @param priority the priority in the queue
          * @see FutureTask#FutureTask(Callable)
          */
-        public MyFuture(final Callable<T> callable) {
+        public MyFuture(final Callable<T> callable, final int priority) {
             super(ThreadUtils.callableWithContext(callable, false));
+            m_priority = priority;
         }
 
         /**
@@ -95,10 +99,12 @@ public MyFuture(final Callable<T> callable) {
          *            don't need a particular result, consider using
          *            constructions of the form: <tt>Future&lt;?&gt; f =
          *            new FutureTask&lt;Object&gt;(runnable, null)</tt>
+         * @param priority the priority in the queue
          * @throws NullPointerException if runnable is null
          */
-        public MyFuture(final Runnable runnable, final T result) {
+        public MyFuture(final Runnable runnable, final T result, final int priority) {
             super(ThreadUtils.runnableWithContext(runnable, false), result);
+            m_priority = priority;
         }
 
         /**
@@ -301,7 +307,8 @@ public boolean wakeup(final MyFuture<?> r, final ThreadPool pool) {
 
     private final ThreadPool m_parent;
 
-    private final Queue<MyFuture<?>> m_queuedFutures;
+    /** Ordered by descending priority, tasks of equal priority in the order they were enqueued. */
+    private final LinkedList<MyFuture<?>> m_queuedFutures;
 
     private final Set<Worker> m_runningWorkers = new HashSet<Worker>();
 
@@ -400,22 +407,50 @@ public ThreadPool createSubPool(final int maxThreads) {
      * @see #submit(Callable)
      */
     public <T> Future<T> enqueue(final Callable<T> task) {
+        return enqueue(task, 0);
+    }
+
+    /**
+     * Submits a value-returning task for execution like {@link #enqueue(Callable)}. If the task has to be queued
+     * because no thread is available, it is started before all queued tasks with a lower priority. Tasks of equal
+     * priority are started in the order they were enqueued; tasks enqueued without a priority have priority 0.
+     *
+     * @param task the task to submit
+     * @param priority the priority of the task, higher values are started first
+     * @param <T> any result type
+     * @return a Future representing pending completion of the task
+     * @throws NullPointerException if <code>task</code> null
+     * @since 3.8
+     */
+    public <T> Future<T> enqueue(final Callable<T> task, final int priority) {
         if (task == null) {
             throw new IllegalArgumentException("Task must not be null");
         }
 
-        MyFuture<T> ftask = new MyFuture<T>(task);
+        MyFuture<T> ftask = new MyFuture<T>(task, priority);
 
         synchronized (m_queuedFutures) {
             incrementPendingJobs();
             if (wakeupWorker(ftask, this) == null) {
-                m_queuedFutures.add(ftask);
+                addToQueue(ftask);
             }
         }
 
         return ftask;
     }
 
+    /** Inserts the task behind all queued tasks with the same or a higher priority. Caller must sync on the queue. */
+    private void addToQueue(final MyFuture<?> ftask) {
+        ListIterator<MyFuture<?>> it = m_queuedFutures.listIterator(m_queuedFutures.size());
+        while (it.hasPrevious()) {
+            if (it.previous().m_priority >= ftask.m_priority) {
+                it.next();
+                break;
+            }
+        }
+        it.add(ftask);
+    }
+
     private void incrementPendingJobs() {
         m_pendingJobs.incrementAndGet();
         if (m_parent != null) {
@@ -446,12 +481,28 @@ private void decrementPendingJobs() {
      * @see #submit(Runnable)
      */
     public Future<?> enqueue(final Runnable r) {
-        MyFuture<?> ftask = new MyFuture<Object>(r, null);
+        return enqueue(r, 0);
+    }
+
+    /**
+     * Submits a Runnable task for execution like {@link #enqueue(Runnable)}. If the task has to be queued because no
+     * thread is available, it is started before all queued tasks with a lower priority. Tasks of equal priority are
+     * started in the order they were enqueued; tasks enqueued without a priority have priority 0.
+     *
+     * @param r the task to submit
+     * @param priority the priority of the task, higher values are started first
+     * @return a Future representing pending completion of the task, and whose
+     *         <tt>get()</tt> method will return <tt>null</tt> upon completion.
+     * @throws NullPointerException if <code>task</code> null
+     * @since 3.8
+     */
+    public Future<?> enqueue(final Runnable r, final int priority) {
+        MyFuture<?> ftask = new MyFuture<Object>(r, null, priority);
 
         synchronized (m_queuedFutures) {
             incrementPendingJobs();
             if (wakeupWorker(ftask, this) == null) {
-                m_queuedFutures.add(ftask);
+                addToQueue(ftask);
             }
         }
 
@@ -483,7 +534,7 @@ public Future<?> enqueue(final Runnable r) {
      * @see #submit(Callable)
      */
     public <T> Future<T> trySubmit(final Callable<T> t) {
-        MyFuture<T> ftask = new MyFuture<T>(t);
+        MyFuture<T> ftask = new MyFuture<T>(t, 0);
 
         synchronized (m_queuedFutures) {
             incrementPendingJobs();
@@ -509,7 +560,7 @@ public <T> Future<T> trySubmit(final Callable<T> t) {
      * @see #submit(Runnable)
      */
     public Future<?> trySubmit(final Runnable r) {
-        MyFuture<?> ftask = new MyFuture<Object>(r, null);
+        MyFuture<?> ftask = new MyFuture<Object>(r, null, 0);
 
         synchronized (m_queuedFutures) {
             incrementPendingJobs();